@@ -17,9 +17,12 @@ import io.dapr.actors.client.ActorClient;
 import io.dapr.actors.runtime.ActorRuntime;
 import io.dapr.client.DaprClient;
 import io.dapr.client.DaprClientBuilder;
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.config.Properties;
 import io.dapr.workflows.client.DaprWorkflowClient;
 import io.dapr.workflows.runtime.WorkflowRuntimeBuilder;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -42,8 +45,14 @@ public class DaprClientAutoConfiguration {
 
   @Bean
   @ConditionalOnMissingBean
-  DaprClientBuilder daprClientBuilder(DaprConnectionDetails daprConnectionDetails) {
-    DaprClientBuilder builder = new DaprClientBuilder();
+  DaprMetrics daprMetrics(ObjectProvider<ObservationRegistry> observationRegistry) {
+    return new ObservationDaprMetrics(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+  }
+
+  @Bean
+  @ConditionalOnMissingBean
+  DaprClientBuilder daprClientBuilder(DaprConnectionDetails daprConnectionDetails, DaprMetrics daprMetrics) {
+    DaprClientBuilder builder = new DaprClientBuilder().withMetrics(daprMetrics);
     if (daprConnectionDetails.httpEndpoint() != null) {
       builder.withPropertyOverride(Properties.HTTP_ENDPOINT, daprConnectionDetails.httpEndpoint());
     }
@@ -74,23 +83,26 @@ public class DaprClientAutoConfiguration {
 
   @Bean
   @ConditionalOnMissingBean
-  ActorClient daprActorClient(DaprConnectionDetails daprConnectionDetails) {
+  ActorClient daprActorClient(DaprConnectionDetails daprConnectionDetails, DaprMetrics daprMetrics) {
     Properties properties = createPropertiesFromConnectionDetails(daprConnectionDetails);
-    return new ActorClient(properties);
+    return new ActorClient(properties, null, null, daprMetrics);
   }
 
   @Bean
   @ConditionalOnMissingBean
-  ActorRuntime daprActorRuntime(DaprConnectionDetails daprConnectionDetails) {
+  ActorRuntime daprActorRuntime(DaprConnectionDetails daprConnectionDetails, DaprMetrics daprMetrics) {
     Properties properties = createPropertiesFromConnectionDetails(daprConnectionDetails);
-    return ActorRuntime.getInstance(properties);
+    ActorRuntime actorRuntime = ActorRuntime.getInstance(properties);
+    actorRuntime.getConfig().setMetrics(daprMetrics);
+    return actorRuntime;
   }
 
   @Bean
   @ConditionalOnMissingBean
-  WorkflowRuntimeBuilder daprWorkflowRuntimeBuilder(DaprConnectionDetails daprConnectionDetails) {
+  WorkflowRuntimeBuilder daprWorkflowRuntimeBuilder(DaprConnectionDetails daprConnectionDetails,
+                                                    DaprMetrics daprMetrics) {
     Properties properties = createPropertiesFromConnectionDetails(daprConnectionDetails);
-    return new WorkflowRuntimeBuilder(properties);
+    return new WorkflowRuntimeBuilder(properties).withMetrics(daprMetrics);
   }
 
   private Properties createPropertiesFromConnectionDetails(DaprConnectionDetails daprConnectionDetails) {
@@ -13,6 +13,7 @@ limitations under the License.
 
 package io.dapr.spring.boot.autoconfigure.client;
 
+import io.dapr.client.DaprClient;
 import io.dapr.spring.data.DaprKeyValueAdapterResolver;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -22,6 +23,7 @@ public class DaprClientProperties {
   private String grpcEndpoint;
   private Integer httpPort;
   private Integer grpcPort;
+  private boolean metadataWarmUp = true;
 
 
   /**
@@ -75,4 +77,16 @@ public class DaprClientProperties {
   public void setGrpcPort(Integer grpcPort) {
     this.grpcPort = grpcPort;
   }
+
+  /**
+   * Whether the sidecar metadata is fetched in the background as soon as the {@link DaprClient} is created.
+   * @return true if the metadata is warmed up
+   */
+  public boolean isMetadataWarmUp() {
+    return metadataWarmUp;
+  }
+
+  public void setMetadataWarmUp(boolean metadataWarmUp) {
+    this.metadataWarmUp = metadataWarmUp;
+  }
 }
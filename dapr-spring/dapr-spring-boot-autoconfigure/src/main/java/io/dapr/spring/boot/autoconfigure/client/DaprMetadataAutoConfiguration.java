@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.boot.autoconfigure.client;
+
+import io.dapr.client.DaprClient;
+import io.dapr.spring.data.DaprMetadataCache;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Exposes a shared {@link DaprMetadataCache}, warmed up in the background so that adapter resolution at startup
+ * does not wait for the sidecar.
+ */
+@AutoConfiguration(after = DaprClientAutoConfiguration.class)
+@ConditionalOnClass(DaprMetadataCache.class)
+@ConditionalOnBean(DaprClient.class)
+@EnableConfigurationProperties(DaprClientProperties.class)
+public class DaprMetadataAutoConfiguration {
+
+  @Bean
+  @ConditionalOnMissingBean
+  DaprMetadataCache daprMetadataCache(DaprClient daprClient, DaprClientProperties properties) {
+    DaprMetadataCache metadataCache = new DaprMetadataCache(daprClient);
+
+    if (properties.isMetadataWarmUp()) {
+      metadataCache.warmUp();
+    }
+
+    return metadataCache;
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.boot.autoconfigure.client;
+
+import io.dapr.client.metrics.DaprMetrics;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * {@link DaprMetrics} backed by Micrometer's {@link ObservationRegistry}. Each call is an observation, so the
+ * registered handlers turn it into latency timers, in-flight gauges and, through the Micrometer Tracing bridges,
+ * OpenTelemetry spans. Payload sizes are attached as high cardinality key values.
+ */
+public class ObservationDaprMetrics implements DaprMetrics {
+
+  /**
+   * Name of the observation for a call made by the SDK.
+   */
+  public static final String CALL_OBSERVATION = "dapr.client.calls";
+
+  /**
+   * Name of the observation for a retried call.
+   */
+  public static final String RETRY_OBSERVATION = "dapr.client.retries";
+
+  static final String TRANSPORT = "dapr.transport";
+
+  static final String API = "dapr.api";
+
+  static final String COMPONENT = "dapr.component";
+
+  static final String STATUS = "dapr.status";
+
+  static final String REQUEST_SIZE = "dapr.request.size";
+
+  static final String RESPONSE_SIZE = "dapr.response.size";
+
+  private final ObservationRegistry registry;
+
+  /**
+   * Creates a new {@link ObservationDaprMetrics}.
+   *
+   * @param registry the registry the observations are reported to
+   */
+  public ObservationDaprMetrics(ObservationRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public Call start(String transport, String api) {
+    if (registry.isNoop()) {
+      return Call.NOOP;
+    }
+
+    Observation observation = Observation.createNotStarted(CALL_OBSERVATION, registry)
+        .lowCardinalityKeyValue(TRANSPORT, transport)
+        .lowCardinalityKeyValue(API, api)
+        .start();
+
+    return new Call() {
+      @Override
+      public void component(String name) {
+        observation.lowCardinalityKeyValue(COMPONENT, name);
+      }
+
+      @Override
+      public void requestSize(long bytes) {
+        observation.highCardinalityKeyValue(REQUEST_SIZE, String.valueOf(bytes));
+      }
+
+      @Override
+      public void responseSize(long bytes) {
+        observation.highCardinalityKeyValue(RESPONSE_SIZE, String.valueOf(bytes));
+      }
+
+      @Override
+      public void end(String status) {
+        observation.lowCardinalityKeyValue(STATUS, status).stop();
+      }
+    };
+  }
+
+  @Override
+  public void retry(String status) {
+    if (registry.isNoop()) {
+      return;
+    }
+
+    Observation.createNotStarted(RETRY_OBSERVATION, registry)
+        .lowCardinalityKeyValue(STATUS, status)
+        .start()
+        .stop();
+  }
+}
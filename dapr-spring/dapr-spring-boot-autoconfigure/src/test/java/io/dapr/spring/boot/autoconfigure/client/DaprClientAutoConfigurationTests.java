@@ -15,6 +15,7 @@ package io.dapr.spring.boot.autoconfigure.client;
 
 import io.dapr.client.DaprClient;
 import io.dapr.client.DaprClientBuilder;
+import io.dapr.client.metrics.DaprMetrics;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
@@ -39,4 +40,10 @@ class DaprClientAutoConfigurationTests {
     contextRunner.run(context -> assertThat(context).hasSingleBean(DaprClient.class));
   }
 
+  @Test
+  void daprMetrics() {
+    contextRunner.run(context -> assertThat(context).getBean(DaprMetrics.class)
+        .isInstanceOf(ObservationDaprMetrics.class));
+  }
+
 }
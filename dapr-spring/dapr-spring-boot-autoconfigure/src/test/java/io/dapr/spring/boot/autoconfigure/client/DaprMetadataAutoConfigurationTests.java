@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.boot.autoconfigure.client;
+
+import io.dapr.client.DaprClient;
+import io.dapr.spring.data.DaprMetadataCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link DaprMetadataAutoConfiguration}.
+ */
+class DaprMetadataAutoConfigurationTests {
+
+  private final DaprClient daprClient = mock(DaprClient.class);
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+      .withBean(DaprClient.class, () -> daprClient)
+      .withConfiguration(AutoConfigurations.of(DaprMetadataAutoConfiguration.class));
+
+  @Test
+  void metadataCacheIsWarmedUp() {
+    when(daprClient.getMetadata()).thenReturn(Mono.empty());
+
+    contextRunner.run(context -> {
+      assertThat(context).hasSingleBean(DaprMetadataCache.class);
+      verify(daprClient).getMetadata();
+    });
+  }
+
+  @Test
+  void metadataWarmUpCanBeDisabled() {
+    contextRunner.withPropertyValues("dapr.client.metadata-warm-up=false").run(context -> {
+      assertThat(context).hasSingleBean(DaprMetadataCache.class);
+      verify(daprClient, never()).getMetadata();
+    });
+  }
+
+}
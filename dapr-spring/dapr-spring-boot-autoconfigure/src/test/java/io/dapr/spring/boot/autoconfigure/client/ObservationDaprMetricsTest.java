@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.boot.autoconfigure.client;
+
+import io.dapr.client.metrics.DaprMetrics;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ObservationDaprMetrics}.
+ */
+class ObservationDaprMetricsTest {
+
+  @Test
+  void callIsStoppedWithLowCardinalityTags() {
+    List<Observation.Context> stopped = new ArrayList<>();
+    ObservationRegistry registry = ObservationRegistry.create();
+    registry.observationConfig().observationHandler(new ObservationHandler<>() {
+      @Override
+      public void onStop(Observation.Context context) {
+        stopped.add(context);
+      }
+
+      @Override
+      public boolean supportsContext(Observation.Context context) {
+        return true;
+      }
+    });
+    ObservationDaprMetrics metrics = new ObservationDaprMetrics(registry);
+
+    DaprMetrics.Call call = metrics.start("grpc", "SaveState");
+    call.component("statestore");
+    call.requestSize(42);
+    call.end("OK");
+    metrics.retry("UNAVAILABLE");
+
+    assertThat(stopped).hasSize(2);
+    assertThat(stopped.get(0).getName()).isEqualTo(ObservationDaprMetrics.CALL_OBSERVATION);
+    assertThat(stopped.get(0).getLowCardinalityKeyValues()).containsExactlyInAnyOrder(
+        KeyValue.of(ObservationDaprMetrics.TRANSPORT, "grpc"),
+        KeyValue.of(ObservationDaprMetrics.API, "SaveState"),
+        KeyValue.of(ObservationDaprMetrics.COMPONENT, "statestore"),
+        KeyValue.of(ObservationDaprMetrics.STATUS, "OK"));
+    assertThat(stopped.get(0).getHighCardinalityKeyValue(ObservationDaprMetrics.REQUEST_SIZE).getValue())
+        .isEqualTo("42");
+    assertThat(stopped.get(1).getName()).isEqualTo(ObservationDaprMetrics.RETRY_OBSERVATION);
+  }
+
+  @Test
+  void noopRegistryRecordsNothing() {
+    assertThat(new ObservationDaprMetrics(ObservationRegistry.NOOP).start("grpc", "GetState"))
+        .isSameAs(DaprMetrics.Call.NOOP);
+  }
+}
@@ -14,25 +14,46 @@ limitations under the License.
 package io.dapr.spring.data;
 
 import io.dapr.client.DaprClient;
+import io.dapr.client.domain.ExecuteStateTransactionRequest;
 import io.dapr.client.domain.GetStateRequest;
 import io.dapr.client.domain.SaveStateRequest;
 import io.dapr.client.domain.State;
+import io.dapr.client.domain.TransactionalStateOperation;
 import io.dapr.utils.TypeRef;
 import org.springframework.data.keyvalue.core.KeyValueAdapter;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-
-public abstract class AbstractDaprKeyValueAdapter implements KeyValueAdapter {
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Base class for the Dapr key-value adapters. Every operation is available both as a blocking
+ * {@link KeyValueAdapter} method and as a non-blocking {@link ReactiveDaprKeyValueAdapter} one; the blocking methods
+ * wait for their reactive counterparts.
+ */
+public abstract class AbstractDaprKeyValueAdapter implements KeyValueAdapter, ReactiveDaprKeyValueAdapter {
   private static final Map<String, String> CONTENT_TYPE_META = Map.of(
       "contentType", "application/json");
+  private static final int DEFAULT_PAGE_SIZE = 500;
+  private static final int DEFAULT_BULK_CHUNK_SIZE = 100;
+  private static final int DEFAULT_BULK_CONCURRENCY = 4;
 
   private final DaprClient daprClient;
   private final String stateStoreName;
 
+  private int pageSize = DEFAULT_PAGE_SIZE;
+  private int bulkChunkSize = DEFAULT_BULK_CHUNK_SIZE;
+  private int bulkConcurrency = DEFAULT_BULK_CONCURRENCY;
+  private boolean blindDelete;
+
   protected AbstractDaprKeyValueAdapter(DaprClient daprClient, String stateStoreName) {
     Assert.notNull(daprClient, "DaprClient must not be null");
     Assert.hasText(stateStoreName, "State store name must not be empty");
@@ -41,6 +62,121 @@ public abstract class AbstractDaprKeyValueAdapter implements KeyValueAdapter {
     this.stateStoreName = stateStoreName;
   }
 
+  /**
+   * Sets the maximum number of entries read per query when streaming a keyspace.
+   *
+   * @param pageSize The page size, must be positive.
+   */
+  public void setPageSize(int pageSize) {
+    Assert.isTrue(pageSize > 0, "Page size must be positive");
+
+    this.pageSize = pageSize;
+  }
+
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Sets the maximum number of entries sent to the state store in a single bulk save or transaction.
+   *
+   * @param bulkChunkSize The chunk size, must be positive.
+   */
+  public void setBulkChunkSize(int bulkChunkSize) {
+    Assert.isTrue(bulkChunkSize > 0, "Bulk chunk size must be positive");
+
+    this.bulkChunkSize = bulkChunkSize;
+  }
+
+  /**
+   * Sets the maximum number of bulk requests in flight at the same time.
+   *
+   * @param bulkConcurrency The number of concurrent requests, must be positive.
+   */
+  public void setBulkConcurrency(int bulkConcurrency) {
+    Assert.isTrue(bulkConcurrency > 0, "Bulk concurrency must be positive");
+
+    this.bulkConcurrency = bulkConcurrency;
+  }
+
+  /**
+   * Sets whether deletes skip reading the current value first. A blind delete saves a round trip per entity, but
+   * the delete methods then return {@literal null} instead of the removed value.
+   *
+   * @param blindDelete true to delete without reading the value first.
+   */
+  public void setBlindDelete(boolean blindDelete) {
+    this.blindDelete = blindDelete;
+  }
+
+  /**
+   * Saves many items at once, in chunked bulk saves sent with bounded parallelism. Existing items are overwritten.
+   *
+   * @param items    The items to save, keyed by id.
+   * @param keyspace The keyspace.
+   */
+  public void putAll(Map<?, ?> items, String keyspace) {
+    Assert.notNull(items, "Items must not be null");
+    Assert.hasText(keyspace, "Keyspace must not be empty");
+
+    List<State<?>> states = new ArrayList<>(items.size());
+
+    for (Map.Entry<?, ?> item : items.entrySet()) {
+      Assert.notNull(item.getKey(), "Id must not be null");
+      Assert.notNull(item.getValue(), "Item must not be null");
+
+      states.add(new State<>(resolveKey(keyspace, item.getKey()), item.getValue(), null, CONTENT_TYPE_META, null));
+    }
+
+    Flux.fromIterable(chunk(states))
+        .flatMap(chunk -> daprClient.saveBulkState(new SaveStateRequest(stateStoreName).setStates(chunk)),
+            bulkConcurrency)
+        .blockLast();
+  }
+
+  /**
+   * Deletes many items at once, without reading them first. The ids are grouped into chunked state transactions
+   * sent with bounded parallelism; each chunk is atomic, the whole call is not.
+   *
+   * @param ids      The ids of the items to delete.
+   * @param keyspace The keyspace.
+   */
+  public void deleteAll(Iterable<?> ids, String keyspace) {
+    Assert.notNull(ids, "Ids must not be null");
+    Assert.hasText(keyspace, "Keyspace must not be empty");
+
+    List<TransactionalStateOperation<?>> operations = new ArrayList<>();
+
+    for (Object id : ids) {
+      Assert.notNull(id, "Id must not be null");
+
+      State<Object> state = new State<>(resolveKey(keyspace, id));
+
+      operations.add(new TransactionalStateOperation<>(TransactionalStateOperation.OperationType.DELETE, state));
+    }
+
+    Flux.fromIterable(chunk(operations))
+        .flatMap(chunk -> daprClient.executeStateTransaction(
+            new ExecuteStateTransactionRequest(stateStoreName).setOperations(chunk)), bulkConcurrency)
+        .blockLast();
+  }
+
+  /**
+   * Streams the values matching a query. Adapters that can page through the store override this to keep memory
+   * bounded; the default runs the query and streams its result.
+   *
+   * <p>The returned stream may hold resources and should be closed once consumed.
+   *
+   * @param query    The query.
+   * @param keyspace The keyspace.
+   * @param type     The value type.
+   * @param <T>      The value type.
+   * @return The matching values.
+   */
+  public <T> Stream<T> stream(KeyValueQuery<?> query, String keyspace, Class<T> type) {
+    return StreamSupport.stream(find(query, keyspace, type).spliterator(), false);
+  }
+
   @Override
   public void destroy() throws Exception {
     daprClient.close();
@@ -52,7 +188,7 @@ public abstract class AbstractDaprKeyValueAdapter implements KeyValueAdapter {
   }
 
   @Override
-  public Object put(Object id, Object item, String keyspace) {
+  public Mono<Void> save(Object id, Object item, String keyspace) {
     Assert.notNull(id, "Id must not be null");
     Assert.notNull(item, "Item must not be null");
     Assert.hasText(keyspace, "Keyspace must not be empty");
@@ -61,66 +197,77 @@ public abstract class AbstractDaprKeyValueAdapter implements KeyValueAdapter {
     State<Object> state = new State<>(key, item, null, CONTENT_TYPE_META, null);
     SaveStateRequest request = new SaveStateRequest(stateStoreName).setStates(state);
 
-    daprClient.saveBulkState(request).block();
-
-    return item;
+    return daprClient.saveBulkState(request);
   }
 
   @Override
-  public boolean contains(Object id, String keyspace) {
-    return get(id, keyspace) != null;
+  public Mono<Boolean> existsById(Object id, String keyspace) {
+    return findById(id, keyspace, Object.class).hasElement();
   }
 
   @Override
-  public Object get(Object id, String keyspace) {
+  public <T> Mono<T> findById(Object id, String keyspace, Class<T> type) {
     Assert.notNull(id, "Id must not be null");
     Assert.hasText(keyspace, "Keyspace must not be empty");
+    Assert.notNull(type, "Type must not be null");
 
     String key = resolveKey(keyspace, id);
+    GetStateRequest stateRequest = new GetStateRequest(stateStoreName, key).setMetadata(CONTENT_TYPE_META);
 
-    return resolveValue(daprClient.getState(stateStoreName, key, Object.class));
+    return daprClient.getState(stateRequest, TypeRef.get(type))
+        .flatMap(state -> Mono.justOrEmpty(state.getValue()));
   }
 
   @Override
-  public <T> T get(Object id, String keyspace, Class<T> type) {
+  public <T> Mono<T> deleteById(Object id, String keyspace, Class<T> type) {
     Assert.notNull(id, "Id must not be null");
     Assert.hasText(keyspace, "Keyspace must not be empty");
-    Assert.notNull(type, "Type must not be null");
 
     String key = resolveKey(keyspace, id);
-    GetStateRequest stateRequest = new GetStateRequest(stateStoreName, key).setMetadata(CONTENT_TYPE_META);
-
-    return resolveValue(daprClient.getState(stateRequest, TypeRef.get(type)));
-  }
 
-  @Override
-  public Object delete(Object id, String keyspace) {
-    Object result = get(id, keyspace);
-
-    if (result == null) {
-      return null;
+    if (blindDelete) {
+      return daprClient.deleteState(stateStoreName, key).then(Mono.empty());
     }
 
-    String key = resolveKey(keyspace, id);
+    return findById(id, keyspace, type)
+        .flatMap(result -> daprClient.deleteState(stateStoreName, key).thenReturn(result));
+  }
 
-    daprClient.deleteState(stateStoreName, key).block();
+  @Override
+  public Object put(Object id, Object item, String keyspace) {
+    save(id, item, keyspace).block();
 
-    return result;
+    return item;
   }
 
   @Override
-  public <T> T delete(Object id, String keyspace, Class<T> type) {
-    T result = get(id, keyspace, type);
+  public boolean contains(Object id, String keyspace) {
+    return get(id, keyspace) != null;
+  }
 
-    if (result == null) {
-      return null;
-    }
+  @Override
+  public Object get(Object id, String keyspace) {
+    Assert.notNull(id, "Id must not be null");
+    Assert.hasText(keyspace, "Keyspace must not be empty");
 
     String key = resolveKey(keyspace, id);
 
-    daprClient.deleteState(stateStoreName, key).block();
+    return resolveValue(daprClient.getState(stateStoreName, key, Object.class));
+  }
 
-    return result;
+  @Override
+  public <T> T get(Object id, String keyspace, Class<T> type) {
+    return findById(id, keyspace, type).block();
+  }
+
+  @Override
+  public Object delete(Object id, String keyspace) {
+    return deleteById(id, keyspace, Object.class).block();
+  }
+
+  @Override
+  public <T> T delete(Object id, String keyspace, Class<T> type) {
+    return deleteById(id, keyspace, type).block();
   }
 
   @Override
@@ -133,6 +280,16 @@ public abstract class AbstractDaprKeyValueAdapter implements KeyValueAdapter {
     throw new UnsupportedOperationException("'entries' method is not supported");
   }
 
+  private <E> List<List<E>> chunk(List<E> items) {
+    List<List<E>> chunks = new ArrayList<>();
+
+    for (int i = 0; i < items.size(); i += bulkChunkSize) {
+      chunks.add(items.subList(i, Math.min(i + bulkChunkSize, items.size())));
+    }
+
+    return chunks;
+  }
+
   private String resolveKey(String keyspace, Object id) {
     return String.format("%s-%s", keyspace, id);
   }
@@ -16,16 +16,16 @@ package io.dapr.spring.data;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dapr.client.DaprClient;
 import io.dapr.client.domain.ComponentMetadata;
-import io.dapr.client.domain.DaprMetadata;
 import org.springframework.data.keyvalue.core.KeyValueAdapter;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 public class DaprKeyValueAdapterResolver implements KeyValueAdapterResolver {
   private static final Set<String> MYSQL_MARKERS = Set.of("state.mysql-v1", "bindings.mysql-v1");
   private static final Set<String> POSTGRESQL_MARKERS = Set.of("state.postgresql-v1", "bindings.postgresql-v1");
   private final DaprClient daprClient;
+  private final DaprMetadataCache metadataCache;
   private final ObjectMapper mapper;
   private final String stateStoreName;
   private final String bindingName;
@@ -40,55 +40,59 @@ public class DaprKeyValueAdapterResolver implements KeyValueAdapterResolver {
    */
   public DaprKeyValueAdapterResolver(DaprClient daprClient, ObjectMapper mapper, String stateStoreName,
                                      String bindingName) {
+    this(daprClient, new DaprMetadataCache(daprClient), mapper, stateStoreName, bindingName);
+  }
+
+  /**
+   * Constructs a {@link DaprKeyValueAdapterResolver} sharing the sidecar metadata with other resolvers.
+   *
+   * @param daprClient     The Dapr client.
+   * @param metadataCache  The shared metadata cache.
+   * @param mapper         The object mapper.
+   * @param stateStoreName The state store name.
+   * @param bindingName    The binding name.
+   */
+  public DaprKeyValueAdapterResolver(DaprClient daprClient, DaprMetadataCache metadataCache, ObjectMapper mapper,
+                                     String stateStoreName, String bindingName) {
     this.daprClient = daprClient;
+    this.metadataCache = metadataCache;
     this.mapper = mapper;
     this.stateStoreName = stateStoreName;
     this.bindingName = bindingName;
   }
 
+  /**
+   * Resolves the adapter matching the state store and binding components. The adapter can be used both as a
+   * blocking {@link KeyValueAdapter} and as a {@link ReactiveDaprKeyValueAdapter}.
+   *
+   * @return The adapter.
+   */
   @Override
-  public KeyValueAdapter resolve() {
-    DaprMetadata metadata = daprClient.getMetadata().block();
-
-    if (metadata == null) {
-      throw new IllegalStateException("No Dapr metadata found");
-    }
-
-    List<ComponentMetadata> components = metadata.getComponents();
+  public AbstractDaprKeyValueAdapter resolve() {
+    return createAdapter(metadataCache.getComponents().block());
+  }
 
-    if (components == null || components.isEmpty()) {
+  private AbstractDaprKeyValueAdapter createAdapter(Map<String, ComponentMetadata> components) {
+    if (components.isEmpty()) {
       throw new IllegalStateException("No components found in Dapr metadata");
     }
 
-    if (shouldUseMySQL(components, stateStoreName, bindingName)) {
+    ComponentMetadata stateStore = components.get(stateStoreName);
+    ComponentMetadata binding = components.get(bindingName);
+
+    if (matches(stateStore, MYSQL_MARKERS) && matches(binding, MYSQL_MARKERS)) {
       return new MySQLDaprKeyValueAdapter(daprClient, mapper, stateStoreName, bindingName);
     }
 
-    if (shouldUsePostgreSQL(components, stateStoreName, bindingName)) {
+    if (matches(stateStore, POSTGRESQL_MARKERS) && matches(binding, POSTGRESQL_MARKERS)) {
       return new PostgreSQLDaprKeyValueAdapter(daprClient, mapper, stateStoreName, bindingName);
     }
 
     throw new IllegalStateException("Could find any adapter matching the given state store and binding");
   }
 
-  @SuppressWarnings("AbbreviationAsWordInName")
-  private boolean shouldUseMySQL(List<ComponentMetadata> components, String stateStoreName, String bindingName) {
-    boolean stateStoreMatched = components.stream().anyMatch(x -> matchBy(stateStoreName, MYSQL_MARKERS, x));
-    boolean bindingMatched = components.stream().anyMatch(x -> matchBy(bindingName, MYSQL_MARKERS, x));
-
-    return stateStoreMatched && bindingMatched;
-  }
-
-  @SuppressWarnings("AbbreviationAsWordInName")
-  private boolean shouldUsePostgreSQL(List<ComponentMetadata> components, String stateStoreName, String bindingName) {
-    boolean stateStoreMatched = components.stream().anyMatch(x -> matchBy(stateStoreName, POSTGRESQL_MARKERS, x));
-    boolean bindingMatched = components.stream().anyMatch(x -> matchBy(bindingName, POSTGRESQL_MARKERS, x));
-
-    return stateStoreMatched && bindingMatched;
-  }
-
-  private boolean matchBy(String name, Set<String> markers, ComponentMetadata componentMetadata) {
-    return componentMetadata.getName().equals(name) && markers.contains(getTypeAndVersion(componentMetadata));
+  private boolean matches(ComponentMetadata component, Set<String> markers) {
+    return component != null && markers.contains(getTypeAndVersion(component));
   }
 
   private String getTypeAndVersion(ComponentMetadata component) {
@@ -38,9 +38,13 @@ import org.springframework.util.CollectionUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class DaprKeyValueTemplate implements KeyValueOperations, ApplicationEventPublisherAware {
 
@@ -196,6 +200,54 @@ public class DaprKeyValueTemplate implements KeyValueOperations, ApplicationEven
     return objectToUpdate;
   }
 
+  /**
+   * Saves many objects with chunked bulk writes, generating ids where missing. Unlike {@link #insert(Object)} this
+   * does not check for existing objects, so it overwrites them like {@link #update(Object)}.
+   *
+   * @param objectsToSave must not be {@literal null}.
+   * @param <T>           The object type.
+   * @return the saved objects.
+   */
+  public <T> List<T> saveAll(Iterable<T> objectsToSave) {
+    Assert.notNull(objectsToSave, "Objects to be saved must not be null");
+
+    List<T> saved = new ArrayList<>();
+    Map<String, Map<Object, Object>> itemsByKeyspace = new LinkedHashMap<>();
+
+    for (T objectToSave : objectsToSave) {
+      Assert.notNull(objectToSave, "Object to be saved must not be null");
+
+      KeyValuePersistentEntity<?, ?> entity = getKeyValuePersistentEntity(objectToSave);
+      Object id = new GeneratingIdAccessor(entity.getPropertyAccessor(objectToSave), entity.getIdProperty(),
+          identifierGenerator).getOrGenerateIdentifier();
+      String keyspace = resolveKeySpace(objectToSave.getClass());
+
+      potentiallyPublishEvent(KeyValueEvent.beforeUpdate(id, keyspace, objectToSave.getClass(), objectToSave));
+
+      itemsByKeyspace.computeIfAbsent(keyspace, k -> new LinkedHashMap<>()).put(id, objectToSave);
+      saved.add(objectToSave);
+    }
+
+    execute((KeyValueCallback<Void>) adapter -> {
+      for (Map.Entry<String, Map<Object, Object>> items : itemsByKeyspace.entrySet()) {
+        putAll(adapter, items.getValue(), items.getKey());
+      }
+
+      return null;
+    });
+
+    for (Map.Entry<String, Map<Object, Object>> items : itemsByKeyspace.entrySet()) {
+      for (Map.Entry<Object, Object> item : items.getValue().entrySet()) {
+        Object object = item.getValue();
+
+        potentiallyPublishEvent(
+            KeyValueEvent.afterUpdate(item.getKey(), items.getKey(), object.getClass(), object, null));
+      }
+    }
+
+    return saved;
+  }
+
   @Override
   public <T> Optional<T> findById(Object id, Class<T> type) {
     Assert.notNull(id, "Id for object to be found must not be null");
@@ -269,6 +321,41 @@ public class DaprKeyValueTemplate implements KeyValueOperations, ApplicationEven
     return result;
   }
 
+  /**
+   * Deletes many objects by id with chunked state transactions, without reading them first.
+   *
+   * @param ids  must not be {@literal null}.
+   * @param type must not be {@literal null}.
+   */
+  public void deleteAllById(Iterable<?> ids, Class<?> type) {
+    Assert.notNull(ids, "Ids for objects to be deleted must not be null");
+    Assert.notNull(type, "Type to delete must not be null");
+
+    String keyspace = resolveKeySpace(type);
+    List<Object> idsToDelete = new ArrayList<>();
+
+    for (Object id : ids) {
+      Assert.notNull(id, "Id for object to be deleted must not be null");
+
+      potentiallyPublishEvent(KeyValueEvent.beforeDelete(id, keyspace, type));
+      idsToDelete.add(id);
+    }
+
+    execute((KeyValueCallback<Void>) adapter -> {
+      if (adapter instanceof AbstractDaprKeyValueAdapter) {
+        ((AbstractDaprKeyValueAdapter) adapter).deleteAll(idsToDelete, keyspace);
+      } else {
+        idsToDelete.forEach(id -> adapter.delete(id, keyspace, type));
+      }
+
+      return null;
+    });
+
+    for (Object id : idsToDelete) {
+      potentiallyPublishEvent(KeyValueEvent.afterDelete(id, keyspace, type, null));
+    }
+  }
+
   @Nullable
   @Override
   public <T> T execute(KeyValueCallback<T> action) {
@@ -344,6 +431,47 @@ public class DaprKeyValueTemplate implements KeyValueOperations, ApplicationEven
     return find(new KeyValueQuery(sort).skip(offset).limit(rows), type);
   }
 
+  /**
+   * Streams all values of the given type. Values are read from the store in bounded pages as the stream is consumed,
+   * so the whole keyspace is never held in memory.
+   *
+   * <p>The returned stream should be closed once consumed, e.g. with a try-with-resources block.
+   *
+   * @param type must not be {@literal null}.
+   * @param <T>  The value type.
+   * @return The values.
+   */
+  public <T> Stream<T> stream(Class<T> type) {
+    return stream(new KeyValueQuery<>(), type);
+  }
+
+  /**
+   * Streams the values of the given type matching the query. Values are read from the store in bounded pages as the
+   * stream is consumed, so large results are never held in memory.
+   *
+   * <p>The returned stream should be closed once consumed, e.g. with a try-with-resources block.
+   *
+   * @param query must not be {@literal null}.
+   * @param type  must not be {@literal null}.
+   * @param <T>   The value type.
+   * @return The matching values.
+   */
+  public <T> Stream<T> stream(KeyValueQuery<?> query, Class<T> type) {
+    Assert.notNull(query, "Query must not be null");
+    Assert.notNull(type, "Type to fetch must not be null");
+
+    return executeRequired(adapter -> {
+      String keyspace = resolveKeySpace(type);
+      Stream<?> values = adapter instanceof AbstractDaprKeyValueAdapter
+          ? ((AbstractDaprKeyValueAdapter) adapter).stream(query, keyspace, type)
+          : StreamSupport.stream(adapter.find(query, keyspace, type).spliterator(), false);
+
+      return values
+          .filter(candidate -> typeCheck(type, candidate))
+          .map(type::cast);
+    });
+  }
+
   @Override
   public long count(Class<?> type) {
     Assert.notNull(type, "Type for count must not be null");
@@ -375,6 +503,14 @@ public class DaprKeyValueTemplate implements KeyValueOperations, ApplicationEven
     this.adapter.destroy();
   }
 
+  private static void putAll(KeyValueAdapter adapter, Map<Object, Object> items, String keyspace) {
+    if (adapter instanceof AbstractDaprKeyValueAdapter) {
+      ((AbstractDaprKeyValueAdapter) adapter).putAll(items, keyspace);
+    } else {
+      items.forEach((id, item) -> adapter.put(id, item, keyspace));
+    }
+  }
+
   private KeyValuePersistentEntity<?, ?> getKeyValuePersistentEntity(Object objectToInsert) {
     return this.mappingContext.getRequiredPersistentEntity(ClassUtils.getUserClass(objectToInsert));
   }
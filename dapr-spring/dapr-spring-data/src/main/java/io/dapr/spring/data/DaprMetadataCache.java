@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.domain.ComponentMetadata;
+import io.dapr.client.domain.DaprMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Shared cache of the Dapr sidecar metadata. The metadata is fetched once, on the first access or on
+ * {@link #warmUp()}, and shared by every caller until {@link #refresh()} is invoked, e.g. after components were
+ * added to the sidecar. Failed lookups are only cached for a short error time to live, so that callers arriving
+ * while the sidecar is unavailable share one failed lookup instead of each hitting the sidecar again.
+ */
+public class DaprMetadataCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DaprMetadataCache.class);
+
+  /**
+   * Default time a failed lookup is cached before the sidecar is asked again.
+   */
+  public static final Duration DEFAULT_ERROR_TTL = Duration.ofSeconds(1);
+
+  private final DaprClient daprClient;
+
+  private final Duration errorTtl;
+
+  private final AtomicReference<Mono<Snapshot>> snapshot = new AtomicReference<>();
+
+  /**
+   * Constructs a {@link DaprMetadataCache}.
+   *
+   * @param daprClient The Dapr client.
+   */
+  public DaprMetadataCache(DaprClient daprClient) {
+    this(daprClient, DEFAULT_ERROR_TTL);
+  }
+
+  /**
+   * Constructs a {@link DaprMetadataCache}.
+   *
+   * @param daprClient The Dapr client.
+   * @param errorTtl   How long a failed lookup is cached, must be positive.
+   */
+  public DaprMetadataCache(DaprClient daprClient, Duration errorTtl) {
+    if (errorTtl == null || errorTtl.isNegative() || errorTtl.isZero()) {
+      throw new IllegalArgumentException("Error TTL must be positive");
+    }
+
+    this.daprClient = daprClient;
+    this.errorTtl = errorTtl;
+    this.snapshot.set(load());
+  }
+
+  /**
+   * Starts fetching the metadata in the background, so that later lookups do not wait for the sidecar.
+   */
+  public void warmUp() {
+    snapshot.get().subscribe(
+        ignore -> LOGGER.debug("Dapr metadata loaded"),
+        err -> LOGGER.debug("Could not load Dapr metadata, it will be fetched again on a later use", err));
+  }
+
+  /**
+   * Discards the cached metadata; the next lookup fetches it again from the sidecar.
+   *
+   * @return A Mono emitting the refreshed metadata.
+   */
+  public Mono<DaprMetadata> refresh() {
+    Mono<Snapshot> refreshed = load();
+    snapshot.set(refreshed);
+    return refreshed.map(Snapshot::getMetadata);
+  }
+
+  /**
+   * Gets the sidecar metadata.
+   *
+   * @return A Mono emitting the cached metadata.
+   */
+  public Mono<DaprMetadata> getMetadata() {
+    return Mono.defer(snapshot::get).map(Snapshot::getMetadata);
+  }
+
+  /**
+   * Gets the components loaded by the sidecar, indexed by name.
+   *
+   * @return A Mono emitting the components by name.
+   */
+  public Mono<Map<String, ComponentMetadata>> getComponents() {
+    return Mono.defer(snapshot::get).map(Snapshot::getComponents);
+  }
+
+  private Mono<Snapshot> load() {
+    return Mono.defer(daprClient::getMetadata)
+        .switchIfEmpty(Mono.error(() -> new IllegalStateException("No Dapr metadata found")))
+        .map(Snapshot::new)
+        .cache(value -> Duration.ofMillis(Long.MAX_VALUE), err -> errorTtl, () -> Duration.ZERO);
+  }
+
+  private static final class Snapshot {
+
+    private final DaprMetadata metadata;
+
+    private final Map<String, ComponentMetadata> components;
+
+    private Snapshot(DaprMetadata metadata) {
+      List<ComponentMetadata> list = metadata.getComponents();
+
+      this.metadata = metadata;
+      this.components = list == null ? Map.of() : list.stream()
+          .collect(Collectors.toUnmodifiableMap(ComponentMetadata::getName, Function.identity(), (a, b) -> a));
+    }
+
+    private DaprMetadata getMetadata() {
+      return metadata;
+    }
+
+    private Map<String, ComponentMetadata> getComponents() {
+      return components;
+    }
+  }
+}
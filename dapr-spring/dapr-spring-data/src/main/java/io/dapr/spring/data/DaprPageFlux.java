@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The non-blocking counterpart of {@link DaprPageIterator}: publishes the entries of a keyspace one bounded page at
+ * a time. Pages are read lazily as the subscriber requests entries, at most one page ahead of it, so a slow
+ * subscriber never causes more than a couple of pages to be buffered.
+ */
+final class DaprPageFlux {
+
+  /**
+   * Reads one page of entries, ordered by key for keyset pagination.
+   *
+   * @param <T> The value type.
+   */
+  @FunctionalInterface
+  interface PageReader<T> {
+
+    /**
+     * Reads a page.
+     *
+     * @param afterId The id to continue after, or null to start from the offset.
+     * @param offset  The number of entries to skip.
+     * @param limit   The maximum number of entries to return.
+     * @return The entries of the page, keyed by id.
+     */
+    Mono<List<Map.Entry<Object, T>>> read(Object afterId, long offset, int limit);
+  }
+
+  private DaprPageFlux() {
+  }
+
+  /**
+   * Creates a flux of the entries read by the given reader.
+   *
+   * @param reader   Reads the pages.
+   * @param keyset   Whether pages are read after the last id instead of at an offset.
+   * @param offset   The number of entries to skip, or a negative value to skip none.
+   * @param rows     The maximum number of entries, or a negative value for no limit.
+   * @param pageSize The maximum number of entries per page.
+   * @param <T>      The value type.
+   * @return The entries.
+   */
+  static <T> Flux<Map.Entry<Object, T>> create(PageReader<T> reader, boolean keyset, long offset, long rows,
+                                               int pageSize) {
+    Cursor start = new Cursor(Math.max(offset, 0), rows < 0 ? Long.MAX_VALUE : rows, null, false);
+
+    return read(reader, keyset, pageSize, start)
+        .expand(page -> page.cursor.isDone() ? Mono.empty() : read(reader, keyset, pageSize, page.cursor))
+        .concatMapIterable(page -> page.entries, 1);
+  }
+
+  private static <T> Mono<Page<T>> read(PageReader<T> reader, boolean keyset, int pageSize, Cursor cursor) {
+    if (cursor.isDone()) {
+      return Mono.empty();
+    }
+
+    int limit = (int) Math.min(pageSize, cursor.remaining);
+    Mono<List<Map.Entry<Object, T>>> entries = Mono.defer(() -> keyset && cursor.lastId != null
+        ? reader.read(cursor.lastId, 0, limit)
+        : reader.read(null, cursor.offset, limit));
+
+    return entries.map(page -> {
+      Object lastId = page.isEmpty() ? cursor.lastId : page.get(page.size() - 1).getKey();
+      Cursor next = new Cursor(cursor.offset + page.size(), cursor.remaining - page.size(), lastId,
+          page.size() < limit);
+
+      return new Page<>(page, next);
+    });
+  }
+
+  private static final class Cursor {
+
+    private final long offset;
+    private final long remaining;
+    private final Object lastId;
+    private final boolean exhausted;
+
+    private Cursor(long offset, long remaining, Object lastId, boolean exhausted) {
+      this.offset = offset;
+      this.remaining = remaining;
+      this.lastId = lastId;
+      this.exhausted = exhausted;
+    }
+
+    private boolean isDone() {
+      return exhausted || remaining <= 0;
+    }
+  }
+
+  private static final class Page<T> {
+
+    private final List<Map.Entry<Object, T>> entries;
+    private final Cursor cursor;
+
+    private Page(List<Map.Entry<Object, T>> entries, Cursor cursor) {
+      this.entries = entries;
+      this.cursor = cursor;
+    }
+  }
+}
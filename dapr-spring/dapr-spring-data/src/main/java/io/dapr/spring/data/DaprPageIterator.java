@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import org.springframework.data.util.CloseableIterator;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over the entries of a keyspace one bounded page at a time, so only a single page is held in memory and
+ * the first results are available before the whole keyspace has been read.
+ *
+ * <p>Unsorted iteration uses keyset pagination: each page continues after the last key of the previous one, which
+ * keeps every page query cheap regardless of how deep into the keyspace it is. Sorted iteration cannot continue
+ * from a key, so it pages with offsets instead.
+ *
+ * @param <T> The value type.
+ */
+final class DaprPageIterator<T> implements CloseableIterator<Map.Entry<Object, T>> {
+
+  /**
+   * Reads one page of entries, ordered by key for keyset pagination.
+   *
+   * @param <T> The value type.
+   */
+  @FunctionalInterface
+  interface PageReader<T> {
+
+    /**
+     * Reads a page.
+     *
+     * @param afterId The id to continue after, or null to start from the offset.
+     * @param offset  The number of entries to skip.
+     * @param limit   The maximum number of entries to return.
+     * @return The entries of the page, keyed by id.
+     */
+    List<Map.Entry<Object, T>> read(Object afterId, long offset, int limit);
+  }
+
+  private final PageReader<T> reader;
+  private final boolean keyset;
+  private final long offset;
+  private final int pageSize;
+
+  private long remaining;
+  private long consumed;
+  private Object lastId;
+  private Iterator<Map.Entry<Object, T>> page = Collections.emptyIterator();
+  private boolean exhausted;
+
+  /**
+   * Creates a new {@link DaprPageIterator}.
+   *
+   * @param reader   Reads the pages.
+   * @param keyset   Whether pages are read after the last id instead of at an offset.
+   * @param offset   The number of entries to skip, or a negative value to skip none.
+   * @param rows     The maximum number of entries, or a negative value for no limit.
+   * @param pageSize The maximum number of entries per page.
+   */
+  DaprPageIterator(PageReader<T> reader, boolean keyset, long offset, long rows, int pageSize) {
+    this.reader = reader;
+    this.keyset = keyset;
+    this.offset = Math.max(offset, 0);
+    this.remaining = rows < 0 ? Long.MAX_VALUE : rows;
+    this.pageSize = pageSize;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (page.hasNext()) {
+      return true;
+    }
+
+    if (exhausted || remaining == 0) {
+      return false;
+    }
+
+    int limit = (int) Math.min(pageSize, remaining);
+    List<Map.Entry<Object, T>> entries = keyset && lastId != null
+        ? reader.read(lastId, 0, limit)
+        : reader.read(null, offset + consumed, limit);
+
+    if (entries.size() < limit) {
+      exhausted = true;
+    }
+
+    page = entries.iterator();
+
+    return page.hasNext();
+  }
+
+  @Override
+  public Map.Entry<Object, T> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    Map.Entry<Object, T> entry = page.next();
+
+    lastId = entry.getKey();
+    consumed++;
+    remaining--;
+
+    return entry;
+  }
+
+  @Override
+  public void close() {
+    exhausted = true;
+    page = Collections.emptyIterator();
+  }
+}
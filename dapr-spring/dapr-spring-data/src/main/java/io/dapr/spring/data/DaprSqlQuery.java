@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A SQL statement, or a fragment of one, together with the values bound to its placeholders.
+ */
+final class DaprSqlQuery {
+
+  private final String sql;
+  private final List<Object> params;
+
+  DaprSqlQuery(String sql, List<Object> params) {
+    this.sql = sql;
+    this.params = Collections.unmodifiableList(params);
+  }
+
+  String getSql() {
+    return sql;
+  }
+
+  List<Object> getParams() {
+    return params;
+  }
+
+  /**
+   * Creates the metadata for a SQL binding request: the statement, and its parameters as a JSON array.
+   *
+   * @param mapper The object mapper used to serialize the parameters.
+   * @return The binding metadata.
+   */
+  Map<String, String> toBindingMetadata(ObjectMapper mapper) {
+    if (params.isEmpty()) {
+      return Map.of("sql", sql);
+    }
+
+    try {
+      return Map.of("sql", sql, "params", mapper.writeValueAsString(params));
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Unable to serialize query parameters: " + params, e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return sql + " " + params;
+  }
+}
@@ -0,0 +1,720 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dapr.spring.data.repository.query.DaprCompositePredicate;
+import io.dapr.spring.data.repository.query.DaprPredicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.expression.spel.SpelNode;
+import org.springframework.expression.spel.ast.Literal;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.ObjectUtils;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Translates {@link KeyValueQuery} criteria, sorting and paging into SQL for the state store bindings, so that
+ * filtering, ordering and paging happen in the database instead of in the application.
+ *
+ * <p>Every value is bound as a parameter, so a query method produces the same SQL text whatever its arguments are
+ * and the database can reuse its statement plan. The SQL for a criteria shape (its operators, properties and the
+ * number of IN values) is compiled once and cached, repeated calls only bind their values. Values are compared as
+ * JSON, serialized with the same {@link ObjectMapper} used for the stored entities.
+ *
+ * <p>Criteria that cannot be expressed in SQL (such as regular expressions or custom predicates) are reported as
+ * untranslatable so the caller can fall back to filtering in memory.
+ */
+final class DaprSqlQueryTranslator {
+
+  private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+  private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+  private static final int MAX_CACHED_QUERIES = 1024;
+  private static final Template UNTRANSLATABLE = new Template(null, (criteria, params) -> { });
+
+  private final Dialect dialect;
+  private final ObjectMapper mapper;
+  private final Map<String, Template> templates = new ConcurrentHashMap<>();
+  private final Map<String, Optional<DaprSqlQuery>> spelQueries = new ConcurrentHashMap<>();
+
+  DaprSqlQueryTranslator(Dialect dialect, ObjectMapper mapper) {
+    this.dialect = dialect;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Creates a select statement for the values of a keyspace.
+   *
+   * @param keyspaceFilter The LIKE pattern matching the keys of the keyspace.
+   * @param where          The translated criteria, or null to select the whole keyspace.
+   * @param sort           The sort order.
+   * @param offset         The number of rows to skip, or a negative value to skip none.
+   * @param rows           The maximum number of rows, or a negative value for no limit.
+   * @return The SQL statement.
+   */
+  DaprSqlQuery select(String keyspaceFilter, DaprSqlQuery where, Sort sort, long offset, int rows) {
+    return render(false, keyspaceFilter, where, null, sort, offset, rows);
+  }
+
+  /**
+   * Creates a select statement for one page of the keys and values of a keyspace. Unsorted pages are ordered by key
+   * and continue after the given key; sorted pages use the key as a tie-breaker so offsets stay stable.
+   *
+   * @param keyspaceFilter The LIKE pattern matching the keys of the keyspace.
+   * @param where          The translated criteria, or null to select the whole keyspace.
+   * @param sort           The sort order.
+   * @param afterKey       The key to continue after, or null to start at the offset.
+   * @param offset         The number of rows to skip.
+   * @param rows           The maximum number of rows.
+   * @return The SQL statement.
+   */
+  DaprSqlQuery selectPage(String keyspaceFilter, DaprSqlQuery where, Sort sort, String afterKey, long offset,
+                          int rows) {
+    return render(true, keyspaceFilter, where, afterKey, sort, offset, rows);
+  }
+
+  /**
+   * Creates a count statement for a keyspace.
+   *
+   * @param keyspaceFilter The LIKE pattern matching the keys of the keyspace.
+   * @param where          The translated criteria, or null to count the whole keyspace.
+   * @return The SQL statement.
+   */
+  DaprSqlQuery count(String keyspaceFilter, DaprSqlQuery where) {
+    List<Object> params = new ArrayList<>();
+    StringBuilder sql = new StringBuilder("select count(*) as value from state where ")
+        .append(keyspaceCondition(keyspaceFilter, params));
+
+    appendWhere(sql, where, params);
+
+    return statement(sql, params);
+  }
+
+  /**
+   * Creates a delete statement for a keyspace.
+   *
+   * @param keyspaceFilter The LIKE pattern matching the keys of the keyspace.
+   * @return The SQL statement.
+   */
+  DaprSqlQuery delete(String keyspaceFilter) {
+    List<Object> params = new ArrayList<>();
+    StringBuilder sql = new StringBuilder("delete from state where ")
+        .append(keyspaceCondition(keyspaceFilter, params));
+
+    return statement(sql, params);
+  }
+
+  /**
+   * Translates query criteria into a SQL condition with {@code ?} placeholders.
+   *
+   * @param criteria The criteria, either a SpEL equality expression or a predicate built by the query creator.
+   * @return The SQL condition, or null if the criteria cannot be expressed in SQL.
+   */
+  DaprSqlQuery where(Object criteria) {
+    if (criteria instanceof String) {
+      return spelEquality((String) criteria);
+    }
+
+    String shape = shape(criteria);
+
+    if (shape == null) {
+      return null;
+    }
+
+    Template template = templates.get(shape);
+
+    if (template == null) {
+      template = compile(criteria);
+
+      if (template == null) {
+        template = UNTRANSLATABLE;
+      }
+
+      if (templates.size() < MAX_CACHED_QUERIES) {
+        templates.putIfAbsent(shape, template);
+      }
+    }
+
+    if (template == UNTRANSLATABLE) {
+      return null;
+    }
+
+    List<Object> params = new ArrayList<>();
+
+    template.binder.accept(criteria, params);
+
+    return new DaprSqlQuery(template.sql, params);
+  }
+
+  /**
+   * Translates a sort into a SQL order by list.
+   *
+   * @param sort The sort order.
+   * @return The order by list, or an empty string if unsorted.
+   */
+  String orderBy(Sort sort) {
+    if (sort == null || sort.isUnsorted()) {
+      return "";
+    }
+
+    List<String> orders = new ArrayList<>();
+
+    for (Sort.Order order : sort) {
+      List<String> segments = segments(order.getProperty());
+      String expression = order.isIgnoreCase()
+          ? "LOWER(" + dialect.textPath(segments) + ")"
+          : dialect.jsonPath(segments);
+
+      orders.add(dialect.order(expression, order.getDirection(), order.getNullHandling()));
+    }
+
+    return String.join(", ", orders);
+  }
+
+  /**
+   * Applies criteria, offset and limit in memory, for criteria that could not be translated.
+   *
+   * @param values The values of the keyspace, already sorted.
+   * @param query  The query.
+   * @param <T>    The value type.
+   * @return The matching values.
+   */
+  static <T> Stream<T> filter(Stream<T> values, KeyValueQuery<?> query) {
+    long offset = Math.max(query.getOffset(), 0);
+    long rows = query.getRows() < 0 ? Long.MAX_VALUE : query.getRows();
+
+    return values
+        .filter(predicate(query))
+        .skip(offset)
+        .limit(rows);
+  }
+
+  /**
+   * Applies criteria, offset and limit to a flux of values, for criteria that could not be translated.
+   *
+   * @param values The values of the keyspace, already sorted.
+   * @param query  The query.
+   * @param <T>    The value type.
+   * @return The matching values.
+   */
+  static <T> Flux<T> filter(Flux<T> values, KeyValueQuery<?> query) {
+    long offset = Math.max(query.getOffset(), 0);
+    long rows = query.getRows() < 0 ? Long.MAX_VALUE : query.getRows();
+
+    return values
+        .filter(predicate(query))
+        .skip(offset)
+        .take(rows);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Predicate<Object> predicate(KeyValueQuery<?> query) {
+    Object criteria = query.getCriteria();
+
+    if (!(criteria instanceof Predicate)) {
+      throw new IllegalArgumentException("Unsupported query criteria: " + criteria);
+    }
+
+    return (Predicate<Object>) criteria;
+  }
+
+  private DaprSqlQuery render(boolean withKey, String keyspaceFilter, DaprSqlQuery where, String afterKey, Sort sort,
+                              long offset, int rows) {
+    List<Object> params = new ArrayList<>();
+    String columns = withKey ? dialect.keyColumn() + ", value" : "value";
+    StringBuilder sql = new StringBuilder("select ").append(columns).append(" from state where ")
+        .append(keyspaceCondition(keyspaceFilter, params));
+
+    appendWhere(sql, where, params);
+
+    if (afterKey != null) {
+      sql.append(" and ").append(dialect.keyColumn()).append(" > ?");
+      params.add(afterKey);
+    }
+
+    boolean paged = offset > 0 || rows >= 0;
+    String orderBy = orderBy(sort);
+
+    if (!orderBy.isEmpty()) {
+      sql.append(" order by ").append(orderBy);
+
+      if (withKey) {
+        sql.append(", ").append(dialect.keyColumn());
+      }
+    } else if (paged || withKey) {
+      // Without an explicit order the pages would not be stable across queries.
+      sql.append(" order by ").append(dialect.keyColumn());
+    }
+
+    if (paged) {
+      sql.append(' ').append(dialect.limit(Math.max(offset, 0), rows));
+    }
+
+    return statement(sql, params);
+  }
+
+  private String keyspaceCondition(String keyspaceFilter, List<Object> params) {
+    params.add(keyspaceFilter);
+
+    return dialect.keyColumn() + " LIKE ?";
+  }
+
+  private static void appendWhere(StringBuilder sql, DaprSqlQuery where, List<Object> params) {
+    if (where != null) {
+      sql.append(" and (").append(where.getSql()).append(')');
+      params.addAll(where.getParams());
+    }
+  }
+
+  private DaprSqlQuery statement(StringBuilder sql, List<Object> params) {
+    return new DaprSqlQuery(dialect.placeholders(sql.toString()), params);
+  }
+
+  private DaprSqlQuery spelEquality(String criteria) {
+    Optional<DaprSqlQuery> cached = spelQueries.get(criteria);
+
+    if (cached == null) {
+      cached = Optional.of(parseSpelEquality(criteria));
+
+      if (spelQueries.size() < MAX_CACHED_QUERIES) {
+        spelQueries.putIfAbsent(criteria, cached);
+      }
+    }
+
+    return cached.get();
+  }
+
+  private DaprSqlQuery parseSpelEquality(String criteria) {
+    SpelExpression expression = PARSER.parseRaw(criteria);
+    SpelNode leftNode = expression.getAST().getChild(0);
+    SpelNode rightNode = expression.getAST().getChild(1);
+
+    if (!(rightNode instanceof Literal)) {
+      throw new IllegalArgumentException("Only comparisons with a literal value are supported: " + criteria);
+    }
+
+    Object value = ((Literal) rightNode).getLiteralValue().getValue();
+    String sql = dialect.jsonPath(segments(leftNode.toStringAST())) + " = " + dialect.jsonLiteral("?");
+
+    return new DaprSqlQuery(sql, List.of(toJson(value)));
+  }
+
+  /**
+   * Describes everything the SQL of a criteria depends on, but none of its values.
+   */
+  private static String shape(Object criteria) {
+    if (criteria instanceof DaprCompositePredicate) {
+      DaprCompositePredicate composite = (DaprCompositePredicate) criteria;
+      StringBuilder shape = new StringBuilder(composite.getOperator().name()).append('(');
+
+      for (Predicate<? super Object> child : composite.getPredicates()) {
+        String childShape = shape(child);
+
+        if (childShape == null) {
+          return null;
+        }
+
+        shape.append(childShape).append(';');
+      }
+
+      return shape.append(')').toString();
+    }
+
+    if (criteria instanceof DaprPredicate) {
+      DaprPredicate predicate = (DaprPredicate) criteria;
+
+      if (predicate.getType() == null) {
+        return null;
+      }
+
+      PropertyPath path = predicate.getPath();
+
+      return predicate.getType() + ":" + path.getOwningType().getType().getName() + "." + path.toDotPath()
+          + ":" + predicate.isIgnoreCase() + ":" + valueShape(predicate.getValue());
+    }
+
+    return null;
+  }
+
+  private static String valueShape(Object value) {
+    if (value == null) {
+      return "null";
+    }
+
+    Collection<?> candidates = candidates(value);
+
+    if (candidates == null) {
+      return "value";
+    }
+
+    return candidates.stream()
+        .map(candidate -> candidate == null ? "null" : "value")
+        .collect(Collectors.joining(",", "[", "]"));
+  }
+
+  private Template compile(Object criteria) {
+    if (criteria instanceof DaprCompositePredicate) {
+      return compileComposite((DaprCompositePredicate) criteria);
+    }
+
+    return compilePredicate((DaprPredicate) criteria);
+  }
+
+  private Template compileComposite(DaprCompositePredicate predicate) {
+    String operator = predicate.getOperator() == DaprCompositePredicate.Operator.AND ? " and " : " or ";
+    List<Template> children = new ArrayList<>();
+
+    for (Predicate<? super Object> child : predicate.getPredicates()) {
+      Template template = compile(child);
+
+      if (template == null) {
+        return null;
+      }
+
+      children.add(template);
+    }
+
+    String sql = children.stream()
+        .map(child -> "(" + child.sql + ")")
+        .collect(Collectors.joining(operator));
+
+    return new Template(sql, (criteria, params) -> {
+      List<Predicate<? super Object>> predicates = ((DaprCompositePredicate) criteria).getPredicates();
+
+      for (int i = 0; i < children.size(); i++) {
+        children.get(i).binder.accept(predicates.get(i), params);
+      }
+    });
+  }
+
+  private Template compilePredicate(DaprPredicate predicate) {
+    PropertyPath path = predicate.getPath();
+    List<String> segments = segments(path.toDotPath());
+    boolean text = CharSequence.class.isAssignableFrom(propertyType(path));
+    boolean ignoreCase = predicate.isIgnoreCase();
+    Object value = predicate.getValue();
+
+    switch (predicate.getType()) {
+      case SIMPLE_PROPERTY:
+        if (value == null) {
+          return constant(dialect.isNull(segments));
+        }
+
+        return compare(segments, "=", text && ignoreCase);
+      case IS_NULL:
+        return constant(dialect.isNull(segments));
+      case IS_NOT_NULL:
+        return constant("not (" + dialect.isNull(segments) + ")");
+      case LESS_THAN:
+        return value == null ? null : compare(segments, "<", false);
+      case LESS_THAN_EQUAL:
+        return value == null ? null : compare(segments, "<=", false);
+      case GREATER_THAN:
+        return value == null ? null : compare(segments, ">", false);
+      case GREATER_THAN_EQUAL:
+        return value == null ? null : compare(segments, ">=", false);
+      case LIKE:
+        return text && value != null ? like(segments, "%", "%", ignoreCase) : null;
+      case STARTING_WITH:
+        return text && value != null ? like(segments, "", "%", ignoreCase) : null;
+      case ENDING_WITH:
+        return text && value != null ? like(segments, "%", "", ignoreCase) : null;
+      case IN:
+        return in(path, segments, value);
+      default:
+        return null;
+    }
+  }
+
+  private static Template constant(String sql) {
+    return new Template(sql, (criteria, params) -> { });
+  }
+
+  private Template compare(List<String> segments, String operator, boolean ignoreCase) {
+    if (ignoreCase) {
+      return new Template("LOWER(" + dialect.textPath(segments) + ") " + operator + " LOWER(?)",
+          (criteria, params) -> params.add(valueOf(criteria).toString()));
+    }
+
+    return new Template(dialect.jsonPath(segments) + " " + operator + " " + dialect.jsonLiteral("?"),
+        (criteria, params) -> params.add(toJson(valueOf(criteria))));
+  }
+
+  private Template like(List<String> segments, String prefix, String suffix, boolean ignoreCase) {
+    String sql = ignoreCase
+        ? "LOWER(" + dialect.textPath(segments) + ") LIKE LOWER(?)"
+        : dialect.textPath(segments) + " LIKE ?";
+
+    return new Template(sql, (criteria, params) -> params.add(prefix + escapeLike(valueOf(criteria)) + suffix));
+  }
+
+  private Template in(PropertyPath path, List<String> segments, Object value) {
+    Class<?> type = propertyType(path);
+    Collection<?> candidates = candidates(value);
+
+    if (Collection.class.isAssignableFrom(type) || type.isArray() || candidates == null) {
+      return null;
+    }
+
+    if (candidates.isEmpty()) {
+      return constant("1 = 0");
+    }
+
+    String equals = dialect.jsonPath(segments) + " = " + dialect.jsonLiteral("?");
+    String sql = candidates.stream()
+        .map(candidate -> "(" + (candidate == null ? dialect.isNull(segments) : equals) + ")")
+        .collect(Collectors.joining(" or "));
+
+    return new Template(sql, (criteria, params) -> {
+      for (Object candidate : candidates(valueOf(criteria))) {
+        if (candidate != null) {
+          params.add(toJson(candidate));
+        }
+      }
+    });
+  }
+
+  private String toJson(Object value) {
+    try {
+      return mapper.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Unable to serialize query value: " + value, e);
+    }
+  }
+
+  private static Object valueOf(Object criteria) {
+    return ((DaprPredicate) criteria).getValue();
+  }
+
+  private static Collection<?> candidates(Object value) {
+    if (value instanceof Collection) {
+      return (Collection<?>) value;
+    }
+
+    if (ObjectUtils.isArray(value)) {
+      return Arrays.asList(ObjectUtils.toObjectArray(value));
+    }
+
+    return null;
+  }
+
+  private static Class<?> propertyType(PropertyPath path) {
+    // PropertyPath#getType unwraps collections to their element type, the declared type is needed here.
+    return path.getLeafProperty().getTypeInformation().getType();
+  }
+
+  private static String escapeLike(Object value) {
+    return value.toString()
+        .replace("\\", "\\\\")
+        .replace("%", "\\%")
+        .replace("_", "\\_");
+  }
+
+  private static List<String> segments(String dotPath) {
+    List<String> segments = Arrays.asList(dotPath.split("\\."));
+
+    for (String segment : segments) {
+      // Property names end up inside the statement, so reject anything that is not a plain identifier.
+      if (!IDENTIFIER.matcher(segment).matches()) {
+        throw new IllegalArgumentException("Invalid property path: " + dotPath);
+      }
+    }
+
+    return segments;
+  }
+
+  /**
+   * The compiled SQL of a criteria shape, and how to bind the values of a criteria with that shape.
+   */
+  private static final class Template {
+
+    private final String sql;
+    private final BiConsumer<Object, List<Object>> binder;
+
+    private Template(String sql, BiConsumer<Object, List<Object>> binder) {
+      this.sql = sql;
+      this.binder = binder;
+    }
+  }
+
+  /**
+   * The SQL flavour of the database behind the state store.
+   */
+  enum Dialect {
+    POSTGRESQL {
+      @Override
+      String keyColumn() {
+        return "key";
+      }
+
+      @Override
+      String jsonPath(List<String> segments) {
+        return "JSONB_EXTRACT_PATH(value, " + quoteSegments(segments) + ")";
+      }
+
+      @Override
+      String textPath(List<String> segments) {
+        return "JSONB_EXTRACT_PATH_TEXT(value, " + quoteSegments(segments) + ")";
+      }
+
+      @Override
+      String isNull(List<String> segments) {
+        // The text accessor maps both a missing property and a JSON null to SQL NULL.
+        return textPath(segments) + " IS NULL";
+      }
+
+      @Override
+      String jsonLiteral(String literal) {
+        return literal + "::jsonb";
+      }
+
+      @Override
+      String placeholders(String sql) {
+        // PostgreSQL numbers its parameters, the statements are built with positional markers.
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int index = 0;
+
+        for (int i = 0; i < sql.length(); i++) {
+          char c = sql.charAt(i);
+
+          if (c == '?') {
+            numbered.append('$').append(++index);
+          } else {
+            numbered.append(c);
+          }
+        }
+
+        return numbered.toString();
+      }
+
+      @Override
+      String order(String expression, Sort.Direction direction, Sort.NullHandling nullHandling) {
+        String order = expression + " " + direction.name();
+
+        if (nullHandling == Sort.NullHandling.NULLS_FIRST) {
+          return order + " NULLS FIRST";
+        }
+
+        if (nullHandling == Sort.NullHandling.NULLS_LAST) {
+          return order + " NULLS LAST";
+        }
+
+        return order;
+      }
+
+      @Override
+      String limit(long offset, int rows) {
+        String limit = rows >= 0 ? "LIMIT " + rows : "";
+        String skip = offset > 0 ? "OFFSET " + offset : "";
+
+        return (limit + " " + skip).trim();
+      }
+    },
+
+    MYSQL {
+      @Override
+      String keyColumn() {
+        return "id";
+      }
+
+      @Override
+      String jsonPath(List<String> segments) {
+        return "JSON_EXTRACT(value, '$." + String.join(".", segments) + "')";
+      }
+
+      @Override
+      String textPath(List<String> segments) {
+        return "JSON_UNQUOTE(" + jsonPath(segments) + ")";
+      }
+
+      @Override
+      String isNull(List<String> segments) {
+        // JSON_TYPE is NULL for a missing property and 'NULL' for a JSON null.
+        return "COALESCE(JSON_TYPE(" + jsonPath(segments) + "), 'NULL') = 'NULL'";
+      }
+
+      @Override
+      String jsonLiteral(String literal) {
+        return "CAST(" + literal + " AS JSON)";
+      }
+
+      @Override
+      String placeholders(String sql) {
+        return sql;
+      }
+
+      @Override
+      String order(String expression, Sort.Direction direction, Sort.NullHandling nullHandling) {
+        // MySQL has no NULLS FIRST/LAST, so order on the null check first.
+        String order = expression + " " + direction.name();
+
+        if (nullHandling == Sort.NullHandling.NULLS_FIRST) {
+          return expression + " IS NULL DESC, " + order;
+        }
+
+        if (nullHandling == Sort.NullHandling.NULLS_LAST) {
+          return expression + " IS NULL ASC, " + order;
+        }
+
+        return order;
+      }
+
+      @Override
+      String limit(long offset, int rows) {
+        // MySQL requires a row count with an offset, the documented way to say "all rows" is the largest BIGINT.
+        String count = rows >= 0 ? String.valueOf(rows) : "18446744073709551615";
+
+        return offset > 0 ? "LIMIT " + offset + ", " + count : "LIMIT " + count;
+      }
+    };
+
+    abstract String keyColumn();
+
+    abstract String jsonPath(List<String> segments);
+
+    abstract String textPath(List<String> segments);
+
+    abstract String isNull(List<String> segments);
+
+    abstract String jsonLiteral(String literal);
+
+    abstract String placeholders(String sql);
+
+    abstract String order(String expression, Sort.Direction direction, Sort.NullHandling nullHandling);
+
+    abstract String limit(long offset, int rows);
+
+    private static String quoteSegments(List<String> segments) {
+      return segments.stream()
+          .map(segment -> "'" + segment + "'")
+          .collect(Collectors.joining(", "));
+    }
+  }
+}
@@ -18,42 +18,39 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dapr.client.DaprClient;
 import io.dapr.utils.TypeRef;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
-import org.springframework.expression.spel.SpelNode;
-import org.springframework.expression.spel.standard.SpelExpression;
-import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * A {@link org.springframework.data.keyvalue.core.KeyValueAdapter} implementation for MySQL.
+ * A {@link org.springframework.data.keyvalue.core.KeyValueAdapter} and {@link ReactiveDaprKeyValueAdapter}
+ * implementation for MySQL.
  */
 @SuppressWarnings("AbbreviationAsWordInName")
 public class MySQLDaprKeyValueAdapter extends AbstractDaprKeyValueAdapter {
-  private static final String DELETE_BY_KEYSPACE_PATTERN = "delete from state where id LIKE '%s'";
-  private static final String SELECT_BY_KEYSPACE_PATTERN = "select value from state where id LIKE '%s'";
-  private static final String SELECT_BY_FILTER_PATTERN =
-      "select value from state where id LIKE '%s' and JSON_EXTRACT(value, %s) = %s";
-  private static final String COUNT_BY_KEYSPACE_PATTERN = "select count(*) as value from state where id LIKE '%s'";
-  private static final String COUNT_BY_FILTER_PATTERN =
-      "select count(*) as value from state where id LIKE '%s' and JSON_EXTRACT(value, %s) = %s";
-
   private static final TypeRef<List<JsonNode>> FILTER_TYPE_REF = new TypeRef<>() {
   };
   private static final TypeRef<List<JsonNode>> COUNT_TYPE_REF = new TypeRef<>() {
   };
-  private static final SpelExpressionParser PARSER = new SpelExpressionParser();
   private static final JsonPointer VALUE_POINTER = JsonPointer.compile("/value");
+  private static final JsonPointer ID_POINTER = JsonPointer.compile("/id");
 
   private final DaprClient daprClient;
   private final ObjectMapper mapper;
   private final String stateStoreName;
   private final String bindingName;
+  private final DaprSqlQueryTranslator translator;
 
   /**
    * Constructs a {@link MySQLDaprKeyValueAdapter}.
@@ -74,6 +71,7 @@ public class MySQLDaprKeyValueAdapter extends AbstractDaprKeyValueAdapter {
     this.mapper = mapper;
     this.stateStoreName = stateStoreName;
     this.bindingName = bindingName;
+    this.translator = new DaprSqlQueryTranslator(DaprSqlQueryTranslator.Dialect.MYSQL, mapper);
   }
 
 
@@ -82,19 +80,24 @@ public class MySQLDaprKeyValueAdapter extends AbstractDaprKeyValueAdapter {
     Assert.hasText(keyspace, "Keyspace must not be empty");
     Assert.notNull(type, "Type must not be null");
 
-    String sql = createSql(SELECT_BY_KEYSPACE_PATTERN, keyspace);
-    List<JsonNode> result = queryUsingBinding(sql, FILTER_TYPE_REF);
+    DaprSqlQuery sql = translator.select(getKeyspaceFilter(keyspace), null, Sort.unsorted(), -1, -1);
+    List<JsonNode> result = queryUsingBinding(sql, FILTER_TYPE_REF).block();
 
     return convertValues(result, type);
   }
 
   @Override
   public void deleteAllOf(String keyspace) {
+    deleteKeyspace(keyspace).block();
+  }
+
+  @Override
+  public Mono<Void> deleteKeyspace(String keyspace) {
     Assert.hasText(keyspace, "Keyspace must not be empty");
 
-    String sql = createSql(DELETE_BY_KEYSPACE_PATTERN, keyspace);
+    DaprSqlQuery sql = translator.delete(getKeyspaceFilter(keyspace));
 
-    execUsingBinding(sql);
+    return execUsingBinding(sql);
   }
 
   @Override
@@ -103,76 +106,149 @@ public class MySQLDaprKeyValueAdapter extends AbstractDaprKeyValueAdapter {
     Assert.hasText(keyspace, "Keyspace must not be empty");
     Assert.notNull(type, "Type must not be null");
 
+    String keyspaceFilter = getKeyspaceFilter(keyspace);
     Object criteria = query.getCriteria();
+    DaprSqlQuery where = criteria == null ? null : translator.where(criteria);
+
+    if (criteria != null && where == null) {
+      // The criteria cannot be expressed in SQL: sort in the database, then filter and page the rows here.
+      DaprSqlQuery sql = translator.select(keyspaceFilter, null, query.getSort(), -1, -1);
+      List<JsonNode> result = queryUsingBinding(sql, FILTER_TYPE_REF).block();
 
-    if (criteria == null) {
-      return getAllOf(keyspace, type);
+      return DaprSqlQueryTranslator.filter(convertValues(result, type).stream(), query)
+          .collect(Collectors.toList());
     }
 
-    String sql = createSql(SELECT_BY_FILTER_PATTERN, keyspace, criteria);
-    List<JsonNode> result = queryUsingBinding(sql, FILTER_TYPE_REF);
+    DaprSqlQuery sql = translator.select(keyspaceFilter, where, query.getSort(), query.getOffset(), query.getRows());
+    List<JsonNode> result = queryUsingBinding(sql, FILTER_TYPE_REF).block();
 
     return convertValues(result, type);
   }
 
   @Override
-  public long count(String keyspace) {
+  public <T> Stream<T> stream(KeyValueQuery<?> query, String keyspace, Class<T> type) {
+    Assert.notNull(query, "Query must not be null");
     Assert.hasText(keyspace, "Keyspace must not be empty");
+    Assert.notNull(type, "Type must not be null");
+
+    Object criteria = query.getCriteria();
+    DaprSqlQuery where = criteria == null ? null : translator.where(criteria);
+    Sort sort = query.getSort();
 
-    String sql = createSql(COUNT_BY_KEYSPACE_PATTERN, keyspace);
-    List<JsonNode> result = queryUsingBinding(sql, COUNT_TYPE_REF);
+    if (criteria != null && where == null) {
+      DaprPageIterator<T> iterator = new DaprPageIterator<>(
+          (afterId, offset, limit) -> readPage(keyspace, null, sort, afterId, offset, limit, type).block(),
+          sort.isUnsorted(), -1, -1, getPageSize());
 
-    return extractCount(result);
+      return DaprSqlQueryTranslator.filter(iterator.stream().map(Map.Entry::getValue), query);
+    }
+
+    DaprPageIterator<T> iterator = new DaprPageIterator<>(
+        (afterId, offset, limit) -> readPage(keyspace, where, sort, afterId, offset, limit, type).block(),
+        sort.isUnsorted(), query.getOffset(), query.getRows(), getPageSize());
+
+    return iterator.stream().map(Map.Entry::getValue);
   }
 
   @Override
-  public long count(KeyValueQuery<?> query, String keyspace) {
+  public <T> Flux<T> findAll(KeyValueQuery<?> query, String keyspace, Class<T> type) {
     Assert.notNull(query, "Query must not be null");
     Assert.hasText(keyspace, "Keyspace must not be empty");
+    Assert.notNull(type, "Type must not be null");
 
     Object criteria = query.getCriteria();
+    DaprSqlQuery where = criteria == null ? null : translator.where(criteria);
+    Sort sort = query.getSort();
+
+    if (criteria != null && where == null) {
+      Flux<Map.Entry<Object, T>> entries = DaprPageFlux.create(
+          (afterId, offset, limit) -> readPage(keyspace, null, sort, afterId, offset, limit, type),
+          sort.isUnsorted(), -1, -1, getPageSize());
 
-    if (criteria == null) {
-      return count(keyspace);
+      return DaprSqlQueryTranslator.filter(entries.map(Map.Entry::getValue), query);
     }
 
-    String sql = createSql(COUNT_BY_FILTER_PATTERN, keyspace, criteria);
-    List<JsonNode> result = queryUsingBinding(sql, COUNT_TYPE_REF);
+    return DaprPageFlux.create(
+        (afterId, offset, limit) -> readPage(keyspace, where, sort, afterId, offset, limit, type),
+        sort.isUnsorted(), query.getOffset(), query.getRows(), getPageSize())
+        .map(Map.Entry::getValue);
+  }
 
-    return extractCount(result);
+  @Override
+  public CloseableIterator<Map.Entry<Object, Object>> entries(String keyspace) {
+    Assert.hasText(keyspace, "Keyspace must not be empty");
+
+    return new DaprPageIterator<>(
+        (afterId, offset, limit) -> readPage(keyspace, null, Sort.unsorted(), afterId, offset, limit, Object.class)
+            .block(),
+        true, -1, -1, getPageSize());
   }
 
-  private String getKeyspaceFilter(String keyspace) {
-    return String.format("%s||%s-%%", stateStoreName, keyspace);
+  @Override
+  public long count(String keyspace) {
+    return count(new KeyValueQuery<>(), keyspace);
   }
 
-  private String createSql(String sqlPattern, String keyspace) {
-    String keyspaceFilter = getKeyspaceFilter(keyspace);
+  @Override
+  public long count(KeyValueQuery<?> query, String keyspace) {
+    Long count = countAll(query, keyspace).block();
 
-    return String.format(sqlPattern, keyspaceFilter);
+    return count == null ? 0 : count;
   }
 
-  private String createSql(String sqlPattern, String keyspace, Object criteria) {
-    String keyspaceFilter = getKeyspaceFilter(keyspace);
-    SpelExpression expression = PARSER.parseRaw(criteria.toString());
-    SpelNode leftNode = expression.getAST().getChild(0);
-    SpelNode rightNode = expression.getAST().getChild(1);
-    String left = String.format("'$.%s'", leftNode.toStringAST());
-    String right = rightNode.toStringAST();
+  @Override
+  public Mono<Long> countAll(KeyValueQuery<?> query, String keyspace) {
+    Assert.notNull(query, "Query must not be null");
+    Assert.hasText(keyspace, "Keyspace must not be empty");
+
+    Object criteria = query.getCriteria();
+    DaprSqlQuery where = criteria == null ? null : translator.where(criteria);
+
+    if (criteria != null && where == null) {
+      // Filtering in memory needs the entity type, which is not known when counting.
+      return Mono.error(
+          new InvalidDataAccessApiUsageException("Query criteria cannot be translated to SQL: " + criteria));
+    }
+
+    DaprSqlQuery sql = translator.count(getKeyspaceFilter(keyspace), where);
+
+    return queryUsingBinding(sql, COUNT_TYPE_REF)
+        .map(this::extractCount)
+        .defaultIfEmpty(0L);
+  }
+
+  private String getKeyPrefix(String keyspace) {
+    return String.format("%s||%s-", stateStoreName, keyspace);
+  }
+
+  private String getKeyspaceFilter(String keyspace) {
+    return getKeyPrefix(keyspace) + "%";
+  }
 
-    return String.format(sqlPattern, keyspaceFilter, left, right);
+  private <T> Mono<List<Map.Entry<Object, T>>> readPage(String keyspace, DaprSqlQuery where, Sort sort,
+                                                        Object afterId, long offset, int limit, Class<T> type) {
+    String keyPrefix = getKeyPrefix(keyspace);
+    String afterKey = afterId == null ? null : keyPrefix + afterId;
+    DaprSqlQuery sql = translator.selectPage(keyPrefix + "%", where, sort, afterKey, offset, limit);
+
+    return queryUsingBinding(sql, FILTER_TYPE_REF)
+        .map(result -> result.stream()
+            .map(row -> Map.entry((Object) row.at(ID_POINTER).asText().substring(keyPrefix.length()),
+                convertValue(row, type)))
+            .collect(Collectors.toList()))
+        .defaultIfEmpty(Collections.emptyList());
   }
 
-  private void execUsingBinding(String sql) {
-    Map<String, String> meta = Map.of("sql", sql);
+  private Mono<Void> execUsingBinding(DaprSqlQuery sql) {
+    Map<String, String> meta = sql.toBindingMetadata(mapper);
 
-    daprClient.invokeBinding(bindingName, "exec", null, meta).block();
+    return daprClient.invokeBinding(bindingName, "exec", null, meta).then();
   }
 
-  private <T> T queryUsingBinding(String sql, TypeRef<T> typeRef) {
-    Map<String, String> meta = Map.of("sql", sql);
+  private <T> Mono<T> queryUsingBinding(DaprSqlQuery sql, TypeRef<T> typeRef) {
+    Map<String, String> meta = sql.toBindingMetadata(mapper);
 
-    return daprClient.invokeBinding(bindingName, "query", null, meta, typeRef).block();
+    return daprClient.invokeBinding(bindingName, "query", null, meta, typeRef);
   }
 
   private <T> List<T> convertValues(List<JsonNode> values, Class<T> type) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to the entries of a Dapr state store, organized in keyspaces. Every operation is a lazy
+ * {@link Mono} or {@link Flux} backed directly by the {@link io.dapr.client.DaprClient} APIs, nothing happens until
+ * it is subscribed to.
+ */
+public interface ReactiveDaprKeyValueAdapter {
+
+  /**
+   * Saves an item, overwriting any existing item with the same id.
+   *
+   * @param id       The id.
+   * @param item     The item.
+   * @param keyspace The keyspace.
+   * @return Completes once the item is saved.
+   */
+  Mono<Void> save(Object id, Object item, String keyspace);
+
+  /**
+   * Checks whether an item exists.
+   *
+   * @param id       The id.
+   * @param keyspace The keyspace.
+   * @return Whether an item with the id exists.
+   */
+  Mono<Boolean> existsById(Object id, String keyspace);
+
+  /**
+   * Reads an item.
+   *
+   * @param id       The id.
+   * @param keyspace The keyspace.
+   * @param type     The item type.
+   * @param <T>      The item type.
+   * @return The item, or empty if it does not exist.
+   */
+  <T> Mono<T> findById(Object id, String keyspace, Class<T> type);
+
+  /**
+   * Deletes an item.
+   *
+   * @param id       The id.
+   * @param keyspace The keyspace.
+   * @param type     The item type.
+   * @param <T>      The item type.
+   * @return The deleted item, or empty if it did not exist or deletes are blind.
+   */
+  <T> Mono<T> deleteById(Object id, String keyspace, Class<T> type);
+
+  /**
+   * Deletes every item of a keyspace.
+   *
+   * @param keyspace The keyspace.
+   * @return Completes once the items are deleted.
+   */
+  Mono<Void> deleteKeyspace(String keyspace);
+
+  /**
+   * Reads the items matching a query. Adapters that can page through the store read one bounded page at a time,
+   * as the items are requested.
+   *
+   * @param query    The query.
+   * @param keyspace The keyspace.
+   * @param type     The item type.
+   * @param <T>      The item type.
+   * @return The matching items.
+   */
+  <T> Flux<T> findAll(KeyValueQuery<?> query, String keyspace, Class<T> type);
+
+  /**
+   * Counts the items matching a query.
+   *
+   * @param query    The query.
+   * @param keyspace The keyspace.
+   * @return The number of matching items.
+   */
+  Mono<Long> countAll(KeyValueQuery<?> query, String keyspace);
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.mapping.context.MappingContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link org.springframework.data.keyvalue.core.KeyValueOperations}. Every operation
+ * returns a lazy {@link Mono} or {@link Flux} that does nothing until subscribed to.
+ */
+public interface ReactiveDaprKeyValueOperations {
+
+  /**
+   * Adds a given object. Object needs to have id property to which a generated value will be assigned.
+   *
+   * @param objectToInsert must not be {@literal null}.
+   * @param <T>            The object type.
+   * @return the inserted object.
+   */
+  <T> Mono<T> insert(T objectToInsert);
+
+  /**
+   * Add object with given id.
+   *
+   * @param id             must not be {@literal null}.
+   * @param objectToInsert must not be {@literal null}.
+   * @param <T>            The object type.
+   * @return the inserted object, or a {@link org.springframework.dao.DuplicateKeyException} if it already exists.
+   */
+  <T> Mono<T> insert(Object id, T objectToInsert);
+
+  /**
+   * Saves an object, overwriting any existing object with the same id.
+   *
+   * @param objectToUpdate must not be {@literal null}.
+   * @param <T>            The object type.
+   * @return the updated object.
+   */
+  <T> Mono<T> update(T objectToUpdate);
+
+  /**
+   * Saves an object with the given id, overwriting any existing object with the same id.
+   *
+   * @param id             must not be {@literal null}.
+   * @param objectToUpdate must not be {@literal null}.
+   * @param <T>            The object type.
+   * @return the updated object.
+   */
+  <T> Mono<T> update(Object id, T objectToUpdate);
+
+  /**
+   * Get element of given type with given id.
+   *
+   * @param id   must not be {@literal null}.
+   * @param type must not be {@literal null}.
+   * @param <T>  The object type.
+   * @return the object, or empty if not found.
+   */
+  <T> Mono<T> findById(Object id, Class<T> type);
+
+  /**
+   * Get all elements of given type, read from the store one bounded page at a time.
+   *
+   * @param type must not be {@literal null}.
+   * @param <T>  The object type.
+   * @return all objects of the type.
+   */
+  <T> Flux<T> findAll(Class<T> type);
+
+  /**
+   * Get all elements of given type ordered by sort.
+   *
+   * @param sort must not be {@literal null}.
+   * @param type must not be {@literal null}.
+   * @param <T>  The object type.
+   * @return all objects of the type, sorted.
+   */
+  <T> Flux<T> findAll(Sort sort, Class<T> type);
+
+  /**
+   * Get all elements matching the given query, read from the store one bounded page at a time.
+   *
+   * @param query must not be {@literal null}.
+   * @param type  must not be {@literal null}.
+   * @param <T>   The object type.
+   * @return the matching objects.
+   */
+  <T> Flux<T> find(KeyValueQuery<?> query, Class<T> type);
+
+  /**
+   * Delete all elements of given type.
+   *
+   * @param type must not be {@literal null}.
+   * @return completes once the objects are deleted.
+   */
+  Mono<Void> delete(Class<?> type);
+
+  /**
+   * Delete given object.
+   *
+   * @param objectToDelete must not be {@literal null}.
+   * @param <T>            The object type.
+   * @return the deleted object, or empty if it did not exist.
+   */
+  <T> Mono<T> delete(T objectToDelete);
+
+  /**
+   * Delete element of given type with given id.
+   *
+   * @param id   must not be {@literal null}.
+   * @param type must not be {@literal null}.
+   * @param <T>  The object type.
+   * @return the deleted object, or empty if it did not exist.
+   */
+  <T> Mono<T> delete(Object id, Class<T> type);
+
+  /**
+   * Total number of elements with given type available.
+   *
+   * @param type must not be {@literal null}.
+   * @return the number of objects.
+   */
+  Mono<Long> count(Class<?> type);
+
+  /**
+   * Total number elements matching given query.
+   *
+   * @param query must not be {@literal null}.
+   * @param type  must not be {@literal null}.
+   * @return the number of matching objects.
+   */
+  Mono<Long> count(KeyValueQuery<?> query, Class<?> type);
+
+  /**
+   * Check whether there are elements matching the given query.
+   *
+   * @param query must not be {@literal null}.
+   * @param type  must not be {@literal null}.
+   * @return whether a matching object exists.
+   */
+  Mono<Boolean> exists(KeyValueQuery<?> query, Class<?> type);
+
+  /**
+   * Get the mapping context used.
+   *
+   * @return never {@literal null}.
+   */
+  MappingContext<?, ?> getMappingContext();
+
+  /**
+   * Get the adapter used.
+   *
+   * @return never {@literal null}.
+   */
+  ReactiveDaprKeyValueAdapter getKeyValueAdapter();
+}
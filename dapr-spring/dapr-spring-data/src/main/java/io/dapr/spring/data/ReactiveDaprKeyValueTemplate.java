@@ -0,0 +1,273 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.IdentifierGenerator;
+import org.springframework.data.keyvalue.core.KeyValuePersistenceExceptionTranslator;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentProperty;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive template for Dapr state stores, built directly on the non-blocking {@link ReactiveDaprKeyValueAdapter}
+ * so no calling thread is ever blocked. Unlike {@link DaprKeyValueTemplate} it does not publish
+ * {@link org.springframework.data.keyvalue.core.event.KeyValueEvent}s, which are delivered synchronously.
+ */
+public class ReactiveDaprKeyValueTemplate implements ReactiveDaprKeyValueOperations {
+
+  private static final PersistenceExceptionTranslator DEFAULT_PERSISTENCE_EXCEPTION_TRANSLATOR =
+      new KeyValuePersistenceExceptionTranslator();
+
+  private final ReactiveDaprKeyValueAdapter adapter;
+  private final MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>>
+      mappingContext;
+  private final IdentifierGenerator identifierGenerator;
+
+  private PersistenceExceptionTranslator exceptionTranslator = DEFAULT_PERSISTENCE_EXCEPTION_TRANSLATOR;
+
+  /**
+   * Create new {@link ReactiveDaprKeyValueTemplate} using the given {@link ReactiveDaprKeyValueAdapter} with a
+   * default {@link KeyValueMappingContext}.
+   *
+   * @param adapter must not be {@literal null}.
+   */
+  public ReactiveDaprKeyValueTemplate(ReactiveDaprKeyValueAdapter adapter) {
+    this(adapter, new KeyValueMappingContext<>());
+  }
+
+  /**
+   * Create new {@link ReactiveDaprKeyValueTemplate} using the given {@link ReactiveDaprKeyValueAdapter} and
+   * {@link MappingContext}.
+   *
+   * @param adapter        must not be {@literal null}.
+   * @param mappingContext must not be {@literal null}.
+   */
+  @SuppressWarnings("LineLength")
+  public ReactiveDaprKeyValueTemplate(ReactiveDaprKeyValueAdapter adapter,
+                                      MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext) {
+    this(adapter, mappingContext, DefaultIdentifierGenerator.INSTANCE);
+  }
+
+  /**
+   * Create new {@link ReactiveDaprKeyValueTemplate} using the given {@link ReactiveDaprKeyValueAdapter} and
+   * {@link MappingContext}.
+   *
+   * @param adapter             must not be {@literal null}.
+   * @param mappingContext      must not be {@literal null}.
+   * @param identifierGenerator must not be {@literal null}.
+   */
+  @SuppressWarnings("LineLength")
+  public ReactiveDaprKeyValueTemplate(ReactiveDaprKeyValueAdapter adapter,
+                                      MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext,
+                                      IdentifierGenerator identifierGenerator) {
+    Assert.notNull(adapter, "Adapter must not be null");
+    Assert.notNull(mappingContext, "MappingContext must not be null");
+    Assert.notNull(identifierGenerator, "IdentifierGenerator must not be null");
+
+    this.adapter = adapter;
+    this.mappingContext = mappingContext;
+    this.identifierGenerator = identifierGenerator;
+  }
+
+  private static boolean typeCheck(Class<?> requiredType, @Nullable Object candidate) {
+    return candidate == null || ClassUtils.isAssignable(requiredType, candidate.getClass());
+  }
+
+  public void setExceptionTranslator(PersistenceExceptionTranslator exceptionTranslator) {
+    Assert.notNull(exceptionTranslator, "ExceptionTranslator must not be null");
+    this.exceptionTranslator = exceptionTranslator;
+  }
+
+  @Override
+  public <T> Mono<T> insert(T objectToInsert) {
+    KeyValuePersistentEntity<?, ?> entity = getKeyValuePersistentEntity(objectToInsert);
+    GeneratingIdAccessor generatingIdAccessor = new GeneratingIdAccessor(
+        entity.getPropertyAccessor(objectToInsert),
+        entity.getIdProperty(),
+        identifierGenerator
+    );
+    Object id = generatingIdAccessor.getOrGenerateIdentifier();
+
+    return insert(id, objectToInsert);
+  }
+
+  @Override
+  public <T> Mono<T> insert(Object id, T objectToInsert) {
+    Assert.notNull(id, "Id for object to be inserted must not be null");
+    Assert.notNull(objectToInsert, "Object to be inserted must not be null");
+
+    String keyspace = resolveKeySpace(objectToInsert.getClass());
+    Mono<T> result = adapter.existsById(id, keyspace)
+        .flatMap(exists -> {
+          if (exists) {
+            return Mono.error(new DuplicateKeyException(
+                String.format("Cannot insert existing object with id %s; Please use update", id)));
+          }
+
+          return adapter.save(id, objectToInsert, keyspace).thenReturn(objectToInsert);
+        });
+
+    return translate(result);
+  }
+
+  @Override
+  public <T> Mono<T> update(T objectToUpdate) {
+    KeyValuePersistentEntity<?, ?> entity = getKeyValuePersistentEntity(objectToUpdate);
+
+    if (!entity.hasIdProperty()) {
+      return Mono.error(new InvalidDataAccessApiUsageException(
+          String.format("Cannot determine id for type %s", ClassUtils.getUserClass(objectToUpdate))));
+    }
+
+    return update(entity.getIdentifierAccessor(objectToUpdate).getRequiredIdentifier(), objectToUpdate);
+  }
+
+  @Override
+  public <T> Mono<T> update(Object id, T objectToUpdate) {
+    Assert.notNull(id, "Id for object to be inserted must not be null");
+    Assert.notNull(objectToUpdate, "Object to be updated must not be null");
+
+    String keyspace = resolveKeySpace(objectToUpdate.getClass());
+
+    return translate(adapter.save(id, objectToUpdate, keyspace).thenReturn(objectToUpdate));
+  }
+
+  @Override
+  public <T> Mono<T> findById(Object id, Class<T> type) {
+    Assert.notNull(id, "Id for object to be found must not be null");
+    Assert.notNull(type, "Type to fetch must not be null");
+
+    String keyspace = resolveKeySpace(type);
+    Mono<T> result = adapter.findById(id, keyspace, type)
+        .filter(candidate -> typeCheck(type, candidate))
+        .map(type::cast);
+
+    return translate(result);
+  }
+
+  @Override
+  public <T> Flux<T> findAll(Class<T> type) {
+    return find(new KeyValueQuery<>(), type);
+  }
+
+  @Override
+  public <T> Flux<T> findAll(Sort sort, Class<T> type) {
+    Assert.notNull(sort, "Sort must not be null");
+
+    return find(new KeyValueQuery<>(sort), type);
+  }
+
+  @Override
+  public <T> Flux<T> find(KeyValueQuery<?> query, Class<T> type) {
+    Assert.notNull(query, "Query must not be null");
+    Assert.notNull(type, "Type to fetch must not be null");
+
+    Flux<T> result = adapter.findAll(query, resolveKeySpace(type), type)
+        .filter(candidate -> typeCheck(type, candidate))
+        .map(type::cast);
+
+    return result.onErrorMap(RuntimeException.class, this::resolveExceptionIfPossible);
+  }
+
+  @Override
+  public Mono<Void> delete(Class<?> type) {
+    Assert.notNull(type, "Type to delete must not be null");
+
+    return translate(adapter.deleteKeyspace(resolveKeySpace(type)));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> Mono<T> delete(T objectToDelete) {
+    Assert.notNull(objectToDelete, "Object to be deleted must not be null");
+
+    Class<T> type = (Class<T>) ClassUtils.getUserClass(objectToDelete);
+    KeyValuePersistentEntity<?, ?> entity = getKeyValuePersistentEntity(objectToDelete);
+    Object id = entity.getIdentifierAccessor(objectToDelete).getIdentifier();
+
+    if (id == null) {
+      String error = String.format("Cannot determine id for type %s", ClassUtils.getUserClass(objectToDelete));
+
+      return Mono.error(new InvalidDataAccessApiUsageException(error));
+    }
+
+    return delete(id, type);
+  }
+
+  @Override
+  public <T> Mono<T> delete(Object id, Class<T> type) {
+    Assert.notNull(id, "Id for object to be deleted must not be null");
+    Assert.notNull(type, "Type to delete must not be null");
+
+    return translate(adapter.deleteById(id, resolveKeySpace(type), type));
+  }
+
+  @Override
+  public Mono<Long> count(Class<?> type) {
+    return count(new KeyValueQuery<>(), type);
+  }
+
+  @Override
+  public Mono<Long> count(KeyValueQuery<?> query, Class<?> type) {
+    Assert.notNull(query, "Query must not be null");
+    Assert.notNull(type, "Type for count must not be null");
+
+    return translate(adapter.countAll(query, resolveKeySpace(type)));
+  }
+
+  @Override
+  public Mono<Boolean> exists(KeyValueQuery<?> query, Class<?> type) {
+    return count(query, type).map(count -> count > 0);
+  }
+
+  @Override
+  public MappingContext<?, ?> getMappingContext() {
+    return this.mappingContext;
+  }
+
+  @Override
+  public ReactiveDaprKeyValueAdapter getKeyValueAdapter() {
+    return adapter;
+  }
+
+  private KeyValuePersistentEntity<?, ?> getKeyValuePersistentEntity(Object objectToInsert) {
+    return this.mappingContext.getRequiredPersistentEntity(ClassUtils.getUserClass(objectToInsert));
+  }
+
+  private String resolveKeySpace(Class<?> type) {
+    return this.mappingContext.getRequiredPersistentEntity(type).getKeySpace();
+  }
+
+  private <T> Mono<T> translate(Mono<T> result) {
+    return result.onErrorMap(RuntimeException.class, this::resolveExceptionIfPossible);
+  }
+
+  private RuntimeException resolveExceptionIfPossible(RuntimeException e) {
+    DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
+
+    return translatedException != null ? translatedException : e;
+  }
+}
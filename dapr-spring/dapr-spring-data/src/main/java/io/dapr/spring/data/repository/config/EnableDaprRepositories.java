@@ -14,13 +14,13 @@ limitations under the License.
 package io.dapr.spring.data.repository.config;
 
 import io.dapr.spring.data.repository.query.DaprPredicateQueryCreator;
+import io.dapr.spring.data.repository.support.SimpleDaprRepository;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.context.annotation.ComponentScan.Filter;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.keyvalue.repository.config.QueryCreatorType;
 import org.springframework.data.keyvalue.repository.support.KeyValueRepositoryFactoryBean;
-import org.springframework.data.repository.config.DefaultRepositoryBaseClass;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 
@@ -117,10 +117,11 @@ public @interface EnableDaprRepositories {
 
   /**
    * Configure the repository base class to be used to create repository proxies for this particular configuration.
+   * Defaults to {@link SimpleDaprRepository}, which sends bulk saves and deletes in chunks.
    *
    * @return repository base class
    */
-  Class<?> repositoryBaseClass() default DefaultRepositoryBaseClass.class;
+  Class<?> repositoryBaseClass() default SimpleDaprRepository.class;
 
   /**
    * Configures the name of the {@link KeyValueOperations} bean to be used with the repositories detected.
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data.repository.config;
+
+import io.dapr.spring.data.ReactiveDaprKeyValueOperations;
+import io.dapr.spring.data.repository.support.ReactiveDaprRepositoryFactoryBean;
+import io.dapr.spring.data.repository.support.SimpleReactiveDaprRepository;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.context.annotation.ComponentScan.Filter;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to activate reactive Dapr repositories, backed by a {@link ReactiveDaprKeyValueOperations} bean. If no
+ * base package is configured through either {@link #value()}, {@link #basePackages()} or {@link #basePackageClasses()}
+ * it will trigger scanning of the package of annotated class. Only repositories extending a reactive repository
+ * interface are picked up, blocking ones are left to {@link EnableDaprRepositories}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@Import(ReactiveDaprRepositoriesRegistrar.class)
+public @interface EnableReactiveDaprRepositories {
+
+  /**
+   * Alias for the {@link #basePackages()} attribute. Allows for more concise annotation declarations e.g.:
+   * {@code @EnableJpaRepositories("org.my.pkg")} instead of {@code @EnableJpaRepositories(basePackages="org.my.pkg")}.
+   *
+   * @return alias of the base package
+   */
+  String[] value() default {};
+
+  /**
+   * Base packages to scan for annotated components. {@link #value()} is an alias for (and mutually exclusive with) this
+   * attribute. Use {@link #basePackageClasses()} for a type-safe alternative to String-based package names.
+   *
+   * @return array of base packages
+   */
+  String[] basePackages() default {};
+
+  /**
+   * Type-safe alternative to {@link #basePackages()} for specifying the packages to scan for annotated components. The
+   * package of each class specified will be scanned. Consider creating a special no-op marker class or interface in
+   * each package that serves no purpose other than being referenced by this attribute.
+   *
+   * @return array of base classes
+   */
+  Class<?>[] basePackageClasses() default {};
+
+  /**
+   * Specifies which types are not eligible for component scanning.
+   *
+   * @return array of exclusion filters
+   */
+  Filter[] excludeFilters() default {};
+
+  /**
+   * Specifies which types are eligible for component scanning. Further narrows the set of candidate components from
+   * everything in {@link #basePackages()} to everything in the base packages that matches the given filter or filters.
+   *
+   * @return array of inclusion filters
+   */
+  Filter[] includeFilters() default {};
+
+  /**
+   * Returns the postfix to be used when looking up custom repository implementations. Defaults to {@literal Impl}. So
+   * for a repository named {@code PersonRepository} the corresponding implementation class will be looked up scanning
+   * for {@code PersonRepositoryImpl}.
+   *
+   * @return repository implementation post fix
+   */
+  String repositoryImplementationPostfix() default "Impl";
+
+  /**
+   * Configures the location of where to find the Spring Data named queries properties file.
+   *
+   * @return named queries location
+   */
+  String namedQueriesLocation() default "";
+
+  /**
+   * Returns the key of the {@link QueryLookupStrategy} to be used for lookup queries for query methods. Defaults to
+   * {@link Key#CREATE_IF_NOT_FOUND}.
+   *
+   * @return key lookup strategy
+   */
+  Key queryLookupStrategy() default Key.CREATE_IF_NOT_FOUND;
+
+  /**
+   * Returns the {@link FactoryBean} class to be used for each repository instance. Defaults to
+   * {@link ReactiveDaprRepositoryFactoryBean}.
+   *
+   * @return repository factory bean class
+   */
+  Class<?> repositoryFactoryBeanClass() default ReactiveDaprRepositoryFactoryBean.class;
+
+  /**
+   * Configure the repository base class to be used to create repository proxies for this particular configuration.
+   * Defaults to {@link SimpleReactiveDaprRepository}.
+   *
+   * @return repository base class
+   */
+  Class<?> repositoryBaseClass() default SimpleReactiveDaprRepository.class;
+
+  /**
+   * Configures the name of the {@link ReactiveDaprKeyValueOperations} bean to be used with the repositories detected.
+   *
+   * @return the reactive key value template bean name
+   */
+  String reactiveKeyValueTemplateRef() default "reactiveDaprKeyValueTemplate";
+
+  /**
+   * Configures whether nested repository-interfaces (e.g. defined as inner classes) should be discovered by the
+   * repositories infrastructure.
+   *
+   * @return whether to consider nested repository interfaces
+   */
+  boolean considerNestedRepositories() default false;
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data.repository.config;
+
+import io.dapr.spring.data.repository.support.ReactiveDaprRepositoryFactoryBean;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+/**
+ * {@link RepositoryConfigurationExtension} for reactive Dapr-based repositories.
+ */
+public class ReactiveDaprRepositoryConfigurationExtension extends RepositoryConfigurationExtensionSupport {
+
+  @Override
+  public String getModuleName() {
+    return "Reactive Dapr";
+  }
+
+  @Override
+  protected String getModulePrefix() {
+    return "dapr";
+  }
+
+  @Override
+  public String getRepositoryFactoryBeanClassName() {
+    return ReactiveDaprRepositoryFactoryBean.class.getName();
+  }
+
+  @Override
+  public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
+    String templateRef = config.getAttributes().getString("reactiveKeyValueTemplateRef");
+
+    builder.addPropertyReference("reactiveKeyValueOperations", templateRef);
+  }
+
+  @Override
+  protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+    return metadata.isReactiveRepository();
+  }
+}
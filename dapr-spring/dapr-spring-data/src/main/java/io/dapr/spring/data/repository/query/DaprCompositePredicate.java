@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A conjunction or disjunction of predicates that keeps its structure, so it can be translated into a store query.
+ */
+public class DaprCompositePredicate implements Predicate<Object> {
+
+  /**
+   * The boolean operator joining the predicates.
+   */
+  public enum Operator {
+    AND,
+    OR
+  }
+
+  private final Operator operator;
+  private final List<Predicate<? super Object>> predicates;
+
+  private DaprCompositePredicate(Operator operator, List<Predicate<? super Object>> predicates) {
+    this.operator = operator;
+    this.predicates = Collections.unmodifiableList(predicates);
+  }
+
+  /**
+   * Creates a conjunction of two predicates.
+   *
+   * @param left  The first predicate.
+   * @param right The second predicate.
+   * @return The combined predicate.
+   */
+  public static DaprCompositePredicate allOf(Predicate<? super Object> left, Predicate<? super Object> right) {
+    return combine(Operator.AND, left, right);
+  }
+
+  /**
+   * Creates a disjunction of two predicates.
+   *
+   * @param left  The first predicate.
+   * @param right The second predicate.
+   * @return The combined predicate.
+   */
+  public static DaprCompositePredicate anyOf(Predicate<? super Object> left, Predicate<? super Object> right) {
+    return combine(Operator.OR, left, right);
+  }
+
+  public Operator getOperator() {
+    return operator;
+  }
+
+  public List<Predicate<? super Object>> getPredicates() {
+    return predicates;
+  }
+
+  @Override
+  public boolean test(Object o) {
+    if (operator == Operator.AND) {
+      return predicates.stream().allMatch(predicate -> predicate.test(o));
+    }
+
+    return predicates.stream().anyMatch(predicate -> predicate.test(o));
+  }
+
+  @Override
+  public Predicate<Object> and(Predicate<? super Object> other) {
+    return allOf(this, other);
+  }
+
+  @Override
+  public Predicate<Object> or(Predicate<? super Object> other) {
+    return anyOf(this, other);
+  }
+
+  private static DaprCompositePredicate combine(Operator operator, Predicate<? super Object> left,
+                                                Predicate<? super Object> right) {
+    List<Predicate<? super Object>> predicates = new ArrayList<>();
+
+    addFlattened(predicates, operator, left);
+    addFlattened(predicates, operator, right);
+
+    return new DaprCompositePredicate(operator, predicates);
+  }
+
+  private static void addFlattened(List<Predicate<? super Object>> predicates, Operator operator,
+                                   Predicate<? super Object> predicate) {
+    if (predicate instanceof DaprCompositePredicate && ((DaprCompositePredicate) predicate).operator == operator) {
+      predicates.addAll(((DaprCompositePredicate) predicate).predicates);
+    } else {
+      predicates.add(predicate);
+    }
+  }
+}
@@ -2,6 +2,7 @@ package io.dapr.spring.data.repository.query;
 
 import org.springframework.beans.BeanWrapper;
 import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 import org.springframework.util.ObjectUtils;
 
@@ -13,9 +14,12 @@ public class DaprPredicate implements Predicate<Object> {
   private final PropertyPath path;
   private final Function<Object, Boolean> check;
   private final Object value;
+  private final Part.Type type;
+  private final boolean ignoreCase;
 
   public DaprPredicate(PropertyPath path, Object expected) {
-    this(path, expected, (valueToCompare) -> ObjectUtils.nullSafeEquals(valueToCompare, expected));
+    this(path, expected, Part.Type.SIMPLE_PROPERTY, false,
+        (valueToCompare) -> ObjectUtils.nullSafeEquals(valueToCompare, expected));
   }
 
 
@@ -27,9 +31,25 @@ public class DaprPredicate implements Predicate<Object> {
    * @param check The function to check the value.
    */
   public DaprPredicate(PropertyPath path, Object value, Function<Object, Boolean> check) {
+    this(path, value, null, false, check);
+  }
+
+  /**
+   * Creates a new {@link DaprPredicate} that describes its comparison, so it can be translated into a store query.
+   *
+   * @param path       The path to the property to compare.
+   * @param value      The value to compare.
+   * @param type       The comparison performed by the check, or null if it is opaque.
+   * @param ignoreCase Whether string comparisons ignore case.
+   * @param check      The function to check the value.
+   */
+  public DaprPredicate(PropertyPath path, Object value, Part.Type type, boolean ignoreCase,
+                       Function<Object, Boolean> check) {
     this.path = path;
     this.check = check;
     this.value = value;
+    this.type = type;
+    this.ignoreCase = ignoreCase;
   }
 
   public PropertyPath getPath() {
@@ -40,12 +60,35 @@ public class DaprPredicate implements Predicate<Object> {
     return value;
   }
 
+  /**
+   * Gets the comparison performed by this predicate.
+   *
+   * @return The comparison type, or null if the check is opaque.
+   */
+  public Part.Type getType() {
+    return type;
+  }
+
+  public boolean isIgnoreCase() {
+    return ignoreCase;
+  }
+
   @Override
   public boolean test(Object o) {
     Object value = getValueByPath(o, path);
     return check.apply(value);
   }
 
+  @Override
+  public Predicate<Object> and(Predicate<? super Object> other) {
+    return DaprCompositePredicate.allOf(this, other);
+  }
+
+  @Override
+  public Predicate<Object> or(Predicate<? super Object> other) {
+    return DaprCompositePredicate.anyOf(this, other);
+  }
+
   private Object getValueByPath(Object root, PropertyPath path) {
     Object currentValue = root;
 
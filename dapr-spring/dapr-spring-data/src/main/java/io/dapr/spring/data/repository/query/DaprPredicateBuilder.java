@@ -20,6 +20,7 @@ import org.springframework.util.comparator.Comparators;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -44,7 +45,7 @@ class DaprPredicateBuilder {
   }
 
   public Predicate<Object> isEqualTo(Object value) {
-    return new DaprPredicate(part.getProperty(), value, o -> {
+    return predicate(value, Part.Type.SIMPLE_PROPERTY, o -> {
       if (!ObjectUtils.nullSafeEquals(Part.IgnoreCaseType.NEVER, part.shouldIgnoreCase())) {
         if ((o instanceof String) && (value instanceof String)) {
           var s1 = (String)o;
@@ -58,31 +59,31 @@ class DaprPredicateBuilder {
   }
 
   public Predicate<Object> isNull() {
-    return new DaprPredicate(part.getProperty(), null, Objects::isNull);
+    return predicate(null, Part.Type.IS_NULL, Objects::isNull);
   }
 
   public Predicate<Object> isNotNull() {
-    return isNull().negate();
+    return predicate(null, Part.Type.IS_NOT_NULL, Objects::nonNull);
   }
 
   public Predicate<Object> isLessThan(Object value) {
-    return new DaprPredicate(part.getProperty(), value, o -> Comparators.nullsHigh().compare(o, value) < 0);
+    return predicate(value, Part.Type.LESS_THAN, o -> Comparators.nullsHigh().compare(o, value) < 0);
   }
 
   public Predicate<Object> isLessThanEqual(Object value) {
-    return new DaprPredicate(part.getProperty(), value, o -> Comparators.nullsHigh().compare(o, value) <= 0);
+    return predicate(value, Part.Type.LESS_THAN_EQUAL, o -> Comparators.nullsHigh().compare(o, value) <= 0);
   }
 
   public Predicate<Object> isGreaterThan(Object value) {
-    return new DaprPredicate(part.getProperty(), value, o -> Comparators.nullsHigh().compare(o, value) > 0);
+    return predicate(value, Part.Type.GREATER_THAN, o -> Comparators.nullsHigh().compare(o, value) > 0);
   }
 
   public Predicate<Object> isGreaterThanEqual(Object value) {
-    return new DaprPredicate(part.getProperty(), value, o -> Comparators.nullsHigh().compare(o, value) >= 0);
+    return predicate(value, Part.Type.GREATER_THAN_EQUAL, o -> Comparators.nullsHigh().compare(o, value) >= 0);
   }
 
   public Predicate<Object> matches(Object value) {
-    return new DaprPredicate(part.getProperty(), value, o -> {
+    return predicate(value, Part.Type.REGEX, o -> {
       if (o == null || value == null) {
         return ObjectUtils.nullSafeEquals(o, value);
       }
@@ -97,7 +98,7 @@ class DaprPredicateBuilder {
   }
 
   public Predicate<Object> in(Object value) {
-    return new DaprPredicate(part.getProperty(), value, o -> {
+    return predicate(value, Part.Type.IN, o -> {
       if (value instanceof Collection<?>) {
         var collection = (Collection<?>)value;
         if (o instanceof Collection<?>) {
@@ -117,7 +118,7 @@ class DaprPredicateBuilder {
   }
 
   public Predicate<Object> contains(Object value) {
-    return new DaprPredicate(part.getProperty(), value, o -> {
+    return predicate(value, Part.Type.LIKE, o -> {
       if (o == null) {
         return false;
       }
@@ -151,7 +152,7 @@ class DaprPredicateBuilder {
   }
 
   public Predicate<Object> startsWith(Object value) {
-    return new DaprPredicate(part.getProperty(), value, o -> {
+    return predicate(value, Part.Type.STARTING_WITH, o -> {
       if (!(o instanceof String)) {
         return false;
       }
@@ -166,7 +167,7 @@ class DaprPredicateBuilder {
   }
 
   public Predicate<Object> endsWith(Object value) {
-    return new DaprPredicate(part.getProperty(), value, o -> {
+    return predicate(value, Part.Type.ENDING_WITH, o -> {
       if (!(o instanceof String)) {
         return false;
       }
@@ -179,4 +180,10 @@ class DaprPredicateBuilder {
       return s.toLowerCase().endsWith(value.toString().toLowerCase());
     });
   }
+
+  private Predicate<Object> predicate(Object value, Part.Type type, Function<Object, Boolean> check) {
+    boolean ignoreCase = !ObjectUtils.nullSafeEquals(Part.IgnoreCaseType.NEVER, part.shouldIgnoreCase());
+
+    return new DaprPredicate(part.getProperty(), value, type, ignoreCase, check);
+  }
 }
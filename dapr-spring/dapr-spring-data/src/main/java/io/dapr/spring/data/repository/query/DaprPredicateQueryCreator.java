@@ -94,7 +94,8 @@ public class DaprPredicateQueryCreator extends AbstractQueryCreator<KeyValueQuer
   @Override
   protected KeyValueQuery<Predicate<?>> complete(@Nullable Predicate<?> criteria, Sort sort) {
     if (criteria == null) {
-      return new KeyValueQuery<>(it -> true, sort);
+      // No criteria lets the adapter select the whole keyspace in the store instead of filtering every row.
+      return new KeyValueQuery<>(sort);
     }
     return new KeyValueQuery<>(criteria, sort);
   }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data.repository.query;
+
+import io.dapr.spring.data.ReactiveDaprKeyValueOperations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link RepositoryQuery} for derived query methods of reactive Dapr repositories. The method name is parsed once,
+ * when the repository is created; each invocation only binds its arguments and returns a {@link Flux} for
+ * collection queries and a {@link reactor.core.publisher.Mono} otherwise.
+ */
+public class ReactiveDaprPartTreeQuery implements RepositoryQuery {
+
+  private final QueryMethod queryMethod;
+  private final ReactiveDaprKeyValueOperations operations;
+  private final PartTree tree;
+
+  /**
+   * Creates a new {@link ReactiveDaprPartTreeQuery}.
+   *
+   * @param queryMethod The query method.
+   * @param operations  The reactive key value operations.
+   */
+  public ReactiveDaprPartTreeQuery(QueryMethod queryMethod, ReactiveDaprKeyValueOperations operations) {
+    Assert.notNull(queryMethod, "QueryMethod must not be null");
+    Assert.notNull(operations, "ReactiveDaprKeyValueOperations must not be null");
+
+    this.queryMethod = queryMethod;
+    this.operations = operations;
+    this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
+  }
+
+  @Override
+  public Object execute(Object[] parameters) {
+    KeyValueQuery<?> query = createQuery(new ParametersParameterAccessor(queryMethod.getParameters(), parameters));
+    Class<?> type = queryMethod.getEntityInformation().getJavaType();
+
+    if (tree.isCountProjection()) {
+      return operations.count(query, type);
+    }
+
+    if (tree.isExistsProjection()) {
+      return operations.exists(query, type);
+    }
+
+    Flux<?> results = operations.find(query, type);
+
+    if (tree.isDelete()) {
+      Flux<?> deleted = results.concatMap(entity -> operations.delete((Object) entity));
+
+      if (queryMethod.isCollectionQuery()) {
+        return deleted;
+      }
+
+      return Long.class.equals(queryMethod.getReturnedObjectType()) ? deleted.count() : deleted.then();
+    }
+
+    return queryMethod.isCollectionQuery() ? results : results.next();
+  }
+
+  /**
+   * Creates the query for the given arguments.
+   *
+   * @param accessor The arguments.
+   * @return The query.
+   */
+  public KeyValueQuery<?> createQuery(ParameterAccessor accessor) {
+    KeyValueQuery<?> query = new DaprPredicateQueryCreator(tree, accessor).createQuery();
+    Pageable pageable = accessor.getPageable();
+
+    if (pageable.isPaged()) {
+      query.setOffset(pageable.getOffset());
+      query.setRows(pageable.getPageSize());
+    }
+
+    Integer maxResults = tree.getMaxResults();
+
+    if (maxResults != null && (query.getRows() < 0 || maxResults < query.getRows())) {
+      query.setRows(maxResults);
+    }
+
+    return query;
+  }
+
+  @Override
+  public QueryMethod getQueryMethod() {
+    return queryMethod;
+  }
+}
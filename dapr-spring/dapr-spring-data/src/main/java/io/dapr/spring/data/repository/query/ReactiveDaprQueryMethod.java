@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data.repository.query;
+
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.util.ReactiveWrappers;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link QueryMethod} of a reactive Dapr repository, where a {@link reactor.core.publisher.Flux} (or any other
+ * multi-value publisher) return type makes a collection query.
+ */
+public class ReactiveDaprQueryMethod extends QueryMethod {
+
+  private final boolean multiValue;
+
+  /**
+   * Creates a new {@link ReactiveDaprQueryMethod}.
+   *
+   * @param method   The repository method.
+   * @param metadata The repository metadata.
+   * @param factory  The projection factory.
+   */
+  public ReactiveDaprQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
+    super(method, metadata, factory);
+
+    this.multiValue = ReactiveWrappers.isMultiValueType(method.getReturnType());
+  }
+
+  @Override
+  public boolean isCollectionQuery() {
+    return multiValue;
+  }
+}
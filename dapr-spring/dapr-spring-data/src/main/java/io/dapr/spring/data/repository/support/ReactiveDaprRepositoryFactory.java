@@ -0,0 +1,79 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data.repository.support;
+
+import io.dapr.spring.data.ReactiveDaprKeyValueOperations;
+import io.dapr.spring.data.repository.query.ReactiveDaprPartTreeQuery;
+import io.dapr.spring.data.repository.query.ReactiveDaprQueryMethod;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.PersistentEntityInformation;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.util.Assert;
+
+import java.util.Optional;
+
+/**
+ * Factory to create reactive Dapr repository instances.
+ */
+public class ReactiveDaprRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+  private final ReactiveDaprKeyValueOperations operations;
+  private final MappingContext<?, ?> context;
+
+  /**
+   * Creates a new {@link ReactiveDaprRepositoryFactory}.
+   *
+   * @param operations The reactive key value operations.
+   */
+  public ReactiveDaprRepositoryFactory(ReactiveDaprKeyValueOperations operations) {
+    Assert.notNull(operations, "ReactiveDaprKeyValueOperations must not be null");
+
+    this.operations = operations;
+    this.context = operations.getMappingContext();
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T, K> EntityInformation<T, K> getEntityInformation(Class<T> domainClass) {
+    PersistentEntity<T, ?> entity = (PersistentEntity<T, ?>) context.getRequiredPersistentEntity(domainClass);
+
+    return new PersistentEntityInformation<>(entity);
+  }
+
+  @Override
+  protected Object getTargetRepository(RepositoryInformation repositoryInformation) {
+    EntityInformation<?, ?> entityInformation = getEntityInformation(repositoryInformation.getDomainType());
+
+    return getTargetRepositoryViaReflection(repositoryInformation, entityInformation, operations);
+  }
+
+  @Override
+  protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+    return SimpleReactiveDaprRepository.class;
+  }
+
+  @Override
+  protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
+                                                                 QueryMethodEvaluationContextProvider provider) {
+    return Optional.of((method, metadata, factory, namedQueries) ->
+        new ReactiveDaprPartTreeQuery(new ReactiveDaprQueryMethod(method, metadata, factory), operations));
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data.repository.support;
+
+import io.dapr.spring.data.ReactiveDaprKeyValueOperations;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.beans.factory.FactoryBean} to create reactive Dapr repositories.
+ *
+ * @param <T> The repository type.
+ * @param <S> The entity type.
+ * @param <K> The id type.
+ */
+public class ReactiveDaprRepositoryFactoryBean<T extends Repository<S, K>, S, K>
+    extends RepositoryFactoryBeanSupport<T, S, K> {
+
+  private ReactiveDaprKeyValueOperations operations;
+
+  /**
+   * Creates a new {@link ReactiveDaprRepositoryFactoryBean} for the given repository interface.
+   *
+   * @param repositoryInterface must not be {@literal null}.
+   */
+  public ReactiveDaprRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+    super(repositoryInterface);
+  }
+
+  /**
+   * Configures the {@link ReactiveDaprKeyValueOperations} to be used for the repositories.
+   *
+   * @param operations must not be {@literal null}.
+   */
+  public void setReactiveKeyValueOperations(ReactiveDaprKeyValueOperations operations) {
+    Assert.notNull(operations, "ReactiveDaprKeyValueOperations must not be null");
+
+    this.operations = operations;
+    setMappingContext(operations.getMappingContext());
+  }
+
+  @Override
+  protected RepositoryFactorySupport createRepositoryFactory() {
+    return new ReactiveDaprRepositoryFactory(operations);
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    Assert.notNull(operations, "ReactiveDaprKeyValueOperations must not be null");
+
+    super.afterPropertiesSet();
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data.repository.support;
+
+import io.dapr.spring.data.DaprKeyValueTemplate;
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.repository.support.SimpleKeyValueRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repository base class for Dapr repositories. Bulk operations are sent to the state store as chunked bulk saves
+ * and state transactions instead of one blocking round trip per entity.
+ *
+ * <p>{@link #saveAll(Iterable)} does not check whether new entities already exist, it overwrites them.
+ *
+ * @param <T>  The entity type.
+ * @param <K> The id type.
+ */
+public class SimpleDaprRepository<T, K> extends SimpleKeyValueRepository<T, K> {
+
+  private final EntityInformation<T, K> entityInformation;
+  private final KeyValueOperations operations;
+
+  /**
+   * Creates a new {@link SimpleDaprRepository}.
+   *
+   * @param metadata   The entity information.
+   * @param operations The key value operations.
+   */
+  public SimpleDaprRepository(EntityInformation<T, K> metadata, KeyValueOperations operations) {
+    super(metadata, operations);
+
+    this.entityInformation = metadata;
+    this.operations = operations;
+  }
+
+  @Override
+  public <S extends T> List<S> saveAll(Iterable<S> entities) {
+    Assert.notNull(entities, "The given Iterable of entities must not be null");
+
+    if (!(operations instanceof DaprKeyValueTemplate)) {
+      return super.saveAll(entities);
+    }
+
+    return ((DaprKeyValueTemplate) operations).saveAll(entities);
+  }
+
+  @Override
+  public void deleteAllById(Iterable<? extends K> ids) {
+    Assert.notNull(ids, "The given Iterable of ids must not be null");
+
+    if (!(operations instanceof DaprKeyValueTemplate)) {
+      super.deleteAllById(ids);
+      return;
+    }
+
+    ((DaprKeyValueTemplate) operations).deleteAllById(ids, entityInformation.getJavaType());
+  }
+
+  @Override
+  public void deleteAll(Iterable<? extends T> entities) {
+    Assert.notNull(entities, "The given Iterable of entities must not be null");
+
+    List<K> ids = new ArrayList<>();
+
+    for (T entity : entities) {
+      ids.add(entityInformation.getRequiredId(entity));
+    }
+
+    deleteAllById(ids);
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data.repository.support;
+
+import io.dapr.spring.data.ReactiveDaprKeyValueOperations;
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repository base class for reactive Dapr repositories, backed by a {@link ReactiveDaprKeyValueOperations}.
+ *
+ * @param <T> The entity type.
+ * @param <K> The id type.
+ */
+public class SimpleReactiveDaprRepository<T, K> implements ReactiveCrudRepository<T, K>,
+    ReactiveSortingRepository<T, K> {
+
+  private final EntityInformation<T, K> entityInformation;
+  private final ReactiveDaprKeyValueOperations operations;
+
+  /**
+   * Creates a new {@link SimpleReactiveDaprRepository}.
+   *
+   * @param metadata   The entity information.
+   * @param operations The reactive key value operations.
+   */
+  public SimpleReactiveDaprRepository(EntityInformation<T, K> metadata, ReactiveDaprKeyValueOperations operations) {
+    Assert.notNull(metadata, "EntityInformation must not be null");
+    Assert.notNull(operations, "ReactiveDaprKeyValueOperations must not be null");
+
+    this.entityInformation = metadata;
+    this.operations = operations;
+  }
+
+  @Override
+  public <S extends T> Mono<S> save(S entity) {
+    Assert.notNull(entity, "Entity must not be null");
+
+    if (entityInformation.isNew(entity)) {
+      return operations.insert(entity);
+    }
+
+    return operations.update(entityInformation.getRequiredId(entity), entity);
+  }
+
+  @Override
+  public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+    Assert.notNull(entities, "The given Iterable of entities must not be null");
+
+    return Flux.fromIterable(entities).concatMap(this::save);
+  }
+
+  @Override
+  public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+    Assert.notNull(entityStream, "The given Publisher of entities must not be null");
+
+    return Flux.from(entityStream).concatMap(this::save);
+  }
+
+  @Override
+  public Mono<T> findById(K id) {
+    Assert.notNull(id, "The given id must not be null");
+
+    return operations.findById(id, entityInformation.getJavaType());
+  }
+
+  @Override
+  public Mono<T> findById(Publisher<K> id) {
+    Assert.notNull(id, "The given id must not be null");
+
+    return Mono.from(id).flatMap(this::findById);
+  }
+
+  @Override
+  public Mono<Boolean> existsById(K id) {
+    return findById(id).hasElement();
+  }
+
+  @Override
+  public Mono<Boolean> existsById(Publisher<K> id) {
+    return findById(id).hasElement();
+  }
+
+  @Override
+  public Flux<T> findAll() {
+    return operations.findAll(entityInformation.getJavaType());
+  }
+
+  @Override
+  public Flux<T> findAll(Sort sort) {
+    Assert.notNull(sort, "Sort must not be null");
+
+    return operations.findAll(sort, entityInformation.getJavaType());
+  }
+
+  @Override
+  public Flux<T> findAllById(Iterable<K> ids) {
+    Assert.notNull(ids, "The given Iterable of ids must not be null");
+
+    return Flux.fromIterable(ids).concatMap(this::findById);
+  }
+
+  @Override
+  public Flux<T> findAllById(Publisher<K> ids) {
+    Assert.notNull(ids, "The given Publisher of ids must not be null");
+
+    return Flux.from(ids).concatMap(this::findById);
+  }
+
+  @Override
+  public Mono<Long> count() {
+    return operations.count(entityInformation.getJavaType());
+  }
+
+  @Override
+  public Mono<Void> deleteById(K id) {
+    Assert.notNull(id, "The given id must not be null");
+
+    return operations.delete(id, entityInformation.getJavaType()).then();
+  }
+
+  @Override
+  public Mono<Void> deleteById(Publisher<K> id) {
+    Assert.notNull(id, "The given id must not be null");
+
+    return Mono.from(id).flatMap(this::deleteById);
+  }
+
+  @Override
+  public Mono<Void> delete(T entity) {
+    Assert.notNull(entity, "The given entity must not be null");
+
+    return deleteById(entityInformation.getRequiredId(entity));
+  }
+
+  @Override
+  public Mono<Void> deleteAllById(Iterable<? extends K> ids) {
+    Assert.notNull(ids, "The given Iterable of ids must not be null");
+
+    return Flux.fromIterable(ids).concatMap(this::deleteById).then();
+  }
+
+  @Override
+  public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+    Assert.notNull(entities, "The given Iterable of entities must not be null");
+
+    return Flux.fromIterable(entities).concatMap(this::delete).then();
+  }
+
+  @Override
+  public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+    Assert.notNull(entityStream, "The given Publisher of entities must not be null");
+
+    return Flux.from(entityStream).concatMap(this::delete).then();
+  }
+
+  @Override
+  public Mono<Void> deleteAll() {
+    return operations.delete(entityInformation.getJavaType());
+  }
+}
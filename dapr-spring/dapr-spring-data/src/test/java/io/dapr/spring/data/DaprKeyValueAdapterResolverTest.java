@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dapr.client.DaprClient;
+import io.dapr.client.domain.ComponentMetadata;
+import io.dapr.client.domain.DaprMetadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DaprKeyValueAdapterResolverTest {
+
+  private final AtomicInteger metadataCalls = new AtomicInteger();
+
+  private DaprClient daprClient;
+
+  private DaprMetadataCache metadataCache;
+
+  @BeforeEach
+  public void setUp() {
+    daprClient = mock(DaprClient.class);
+    when(daprClient.getMetadata()).thenReturn(Mono.fromCallable(() -> {
+      metadataCalls.incrementAndGet();
+      return metadata(
+          new ComponentMetadata("pg-store", "state.postgresql", "v1", List.of()),
+          new ComponentMetadata("pg-binding", "bindings.postgresql", "v1", List.of()),
+          new ComponentMetadata("mysql-store", "state.mysql", "v1", List.of()),
+          new ComponentMetadata("mysql-binding", "bindings.mysql", "v1", List.of()));
+    }));
+    metadataCache = new DaprMetadataCache(daprClient);
+  }
+
+  @Test
+  public void resolversShareOneMetadataLookup() {
+    DaprKeyValueAdapterResolver postgres =
+        new DaprKeyValueAdapterResolver(daprClient, metadataCache, new ObjectMapper(), "pg-store", "pg-binding");
+    DaprKeyValueAdapterResolver mysql =
+        new DaprKeyValueAdapterResolver(daprClient, metadataCache, new ObjectMapper(), "mysql-store",
+            "mysql-binding");
+
+    assertInstanceOf(PostgreSQLDaprKeyValueAdapter.class, postgres.resolve());
+    assertInstanceOf(MySQLDaprKeyValueAdapter.class, mysql.resolve());
+    assertInstanceOf(PostgreSQLDaprKeyValueAdapter.class, postgres.resolve());
+    assertEquals(1, metadataCalls.get());
+  }
+
+  @Test
+  public void refreshFetchesMetadataAgain() {
+    metadataCache.getMetadata().block();
+    metadataCache.refresh().block();
+    metadataCache.getComponents().block();
+
+    assertEquals(2, metadataCalls.get());
+  }
+
+  @Test
+  public void failedLookupIsSharedUntilErrorTtlExpires() throws InterruptedException {
+    when(daprClient.getMetadata()).thenReturn(Mono.fromCallable(() -> {
+      if (metadataCalls.incrementAndGet() == 1) {
+        throw new IllegalStateException("sidecar not ready");
+      }
+      return metadata();
+    }));
+    DaprMetadataCache cache = new DaprMetadataCache(daprClient, Duration.ofMillis(50));
+    DaprKeyValueAdapterResolver resolver =
+        new DaprKeyValueAdapterResolver(daprClient, cache, new ObjectMapper(), "pg-store", "pg-binding");
+
+    IllegalStateException notReady = assertThrows(IllegalStateException.class, resolver::resolve);
+    assertEquals("sidecar not ready", notReady.getMessage());
+    assertThrows(IllegalStateException.class, resolver::resolve);
+    assertEquals(1, metadataCalls.get());
+
+    Thread.sleep(200);
+
+    IllegalStateException noComponents = assertThrows(IllegalStateException.class, resolver::resolve);
+    assertEquals("No components found in Dapr metadata", noComponents.getMessage());
+    assertEquals(2, metadataCalls.get());
+  }
+
+  @Test
+  public void refreshDoesNotWaitForErrorTtl() {
+    when(daprClient.getMetadata()).thenReturn(Mono.fromCallable(() -> {
+      if (metadataCalls.incrementAndGet() == 1) {
+        throw new IllegalStateException("sidecar not ready");
+      }
+      return metadata();
+    }));
+    DaprMetadataCache cache = new DaprMetadataCache(daprClient, Duration.ofHours(1));
+
+    assertThrows(IllegalStateException.class, () -> cache.getMetadata().block());
+    cache.refresh().block();
+
+    assertEquals(Map.of(), cache.getComponents().block());
+    assertEquals(2, metadataCalls.get());
+  }
+
+  @Test
+  public void errorTtlMustBePositive() {
+    assertThrows(IllegalArgumentException.class, () -> new DaprMetadataCache(daprClient, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class, () -> new DaprMetadataCache(daprClient, null));
+  }
+
+  private static DaprMetadata metadata(ComponentMetadata... components) {
+    return new DaprMetadata("app", "1.14", List.of(), List.of(), Map.of(), List.of(components), List.of(), List.of(),
+        null);
+  }
+}
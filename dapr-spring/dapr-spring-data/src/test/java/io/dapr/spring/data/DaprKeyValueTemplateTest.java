@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dapr.client.DaprClient;
+import io.dapr.client.domain.ExecuteStateTransactionRequest;
+import io.dapr.client.domain.SaveStateRequest;
+import io.dapr.client.domain.TransactionalStateOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.annotation.KeySpace;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DaprKeyValueTemplateTest {
+
+  private DaprClient daprClient;
+
+  private PostgreSQLDaprKeyValueAdapter adapter;
+
+  private DaprKeyValueTemplate template;
+
+  @KeySpace("person")
+  public static class Person {
+    @Id
+    public String id;
+    public String name;
+
+    public Person(String id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+  }
+
+  @BeforeEach
+  public void setUp() {
+    daprClient = mock(DaprClient.class);
+    when(daprClient.saveBulkState(any(SaveStateRequest.class))).thenReturn(Mono.empty());
+    when(daprClient.executeStateTransaction(any(ExecuteStateTransactionRequest.class))).thenReturn(Mono.empty());
+    when(daprClient.deleteState(anyString(), anyString())).thenReturn(Mono.empty());
+    adapter = new PostgreSQLDaprKeyValueAdapter(daprClient, new ObjectMapper(), "store", "binding");
+    adapter.setBulkChunkSize(2);
+    template = new DaprKeyValueTemplate(() -> adapter);
+  }
+
+  @Test
+  public void saveAllSendsChunkedBulkSaves() {
+    List<Person> people = IntStream.range(0, 5)
+        .mapToObj(i -> new Person(i == 4 ? null : String.valueOf(i), "name-" + i))
+        .collect(Collectors.toList());
+
+    List<Person> saved = template.saveAll(people);
+
+    assertEquals(5, saved.size());
+    assertNotNull(saved.get(4).id);
+    ArgumentCaptor<SaveStateRequest> requests = ArgumentCaptor.forClass(SaveStateRequest.class);
+    verify(daprClient, times(3)).saveBulkState(requests.capture());
+    List<String> keys = requests.getAllValues().stream()
+        .flatMap(request -> request.getStates().stream())
+        .map(state -> state.getKey())
+        .collect(Collectors.toList());
+    assertEquals(List.of("person-0", "person-1", "person-2", "person-3", "person-" + saved.get(4).id), keys);
+  }
+
+  @Test
+  public void deleteAllByIdSendsChunkedTransactions() {
+    template.deleteAllById(List.of("1", "2", "3"), Person.class);
+
+    ArgumentCaptor<ExecuteStateTransactionRequest> requests =
+        ArgumentCaptor.forClass(ExecuteStateTransactionRequest.class);
+    verify(daprClient, times(2)).executeStateTransaction(requests.capture());
+    List<String> keys = requests.getAllValues().stream()
+        .flatMap(request -> request.getOperations().stream())
+        .peek(operation -> assertEquals(TransactionalStateOperation.OperationType.DELETE, operation.getOperation()))
+        .map(operation -> operation.getRequest().getKey())
+        .collect(Collectors.toList());
+    assertEquals(List.of("person-1", "person-2", "person-3"), keys);
+    verify(daprClient, never()).getState(any(), any());
+  }
+
+  @Test
+  public void blindDeleteSkipsRead() {
+    adapter.setBlindDelete(true);
+
+    assertNull(template.delete("1", Person.class));
+
+    verify(daprClient).deleteState("store", "person-1");
+    verify(daprClient, never()).getState(any(), any());
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dapr.client.DaprClient;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.util.CloseableIterator;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DaprPageIteratorTest {
+
+  private static final List<Integer> KEYSPACE = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+  private final List<String> reads = new ArrayList<>();
+
+  @Test
+  public void keysetPagesContinueAfterLastId() {
+    DaprPageIterator<Integer> iterator = new DaprPageIterator<>(this::read, true, 2, -1, 3);
+
+    assertEquals(List.of(2, 3, 4, 5, 6, 7, 8, 9), values(iterator));
+    assertEquals(List.of("null/2/3", "4/0/3", "7/0/3"), reads);
+  }
+
+  @Test
+  public void offsetPagesAdvanceByConsumedEntries() {
+    DaprPageIterator<Integer> iterator = new DaprPageIterator<>(this::read, false, 1, 5, 2);
+
+    assertEquals(List.of(1, 2, 3, 4, 5), values(iterator));
+    assertEquals(List.of("null/1/2", "null/3/2", "null/5/1"), reads);
+  }
+
+  @Test
+  public void closeStopsIteration() {
+    DaprPageIterator<Integer> iterator = new DaprPageIterator<>(this::read, true, -1, -1, 3);
+
+    iterator.next();
+    iterator.close();
+
+    assertFalse(iterator.hasNext());
+    assertEquals(1, reads.size());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void adapterEntriesReadKeysetPages() {
+    DaprClient daprClient = mock(DaprClient.class);
+    List<List<Object>> firstPage = List.of(List.of("store||person-1", Map.of("name", "a")),
+        List.of("store||person-2", Map.of("name", "b")));
+    List<List<Object>> secondPage = List.of(List.of("store||person-3", Map.of("name", "c")));
+    when(daprClient.invokeBinding(eq("binding"), eq("query"), any(), any(Map.class), any(TypeRef.class)))
+        .thenReturn(Mono.just(firstPage), Mono.just(secondPage));
+    PostgreSQLDaprKeyValueAdapter adapter =
+        new PostgreSQLDaprKeyValueAdapter(daprClient, new ObjectMapper(), "store", "binding");
+    adapter.setPageSize(2);
+
+    List<Object> ids = new ArrayList<>();
+    try (CloseableIterator<Map.Entry<Object, Object>> entries = adapter.entries("person")) {
+      entries.forEachRemaining(entry -> ids.add(entry.getKey()));
+    }
+
+    assertEquals(List.of("1", "2", "3"), ids);
+    verify(daprClient).invokeBinding(eq("binding"), eq("query"), any(),
+        eq(Map.of("sql", "select key, value from state where key LIKE $1 order by key LIMIT 2",
+            "params", "[\"store||person-%\"]")),
+        any(TypeRef.class));
+    verify(daprClient).invokeBinding(eq("binding"), eq("query"), any(),
+        eq(Map.of("sql", "select key, value from state where key LIKE $1 and key > $2 order by key LIMIT 2",
+            "params", "[\"store||person-%\",\"store||person-2\"]")),
+        any(TypeRef.class));
+  }
+
+  private List<Map.Entry<Object, Integer>> read(Object afterId, long offset, int limit) {
+    reads.add(afterId + "/" + offset + "/" + limit);
+
+    return KEYSPACE.stream()
+        .filter(value -> afterId == null || value > (Integer) afterId)
+        .skip(offset)
+        .limit(limit)
+        .map(value -> Map.entry((Object) value, value))
+        .collect(Collectors.toList());
+  }
+
+  private static List<Integer> values(CloseableIterator<Map.Entry<Object, Integer>> iterator) {
+    return iterator.stream().map(Map.Entry::getValue).collect(Collectors.toList());
+  }
+}
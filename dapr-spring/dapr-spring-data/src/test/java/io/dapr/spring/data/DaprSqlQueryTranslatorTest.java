@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dapr.client.DaprClient;
+import io.dapr.spring.data.repository.query.DaprPredicateQueryCreator;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.parser.PartTree;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DaprSqlQueryTranslatorTest {
+
+  private static final String KEYSPACE_FILTER = "store||person-%";
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  private final DaprSqlQueryTranslator postgres =
+      new DaprSqlQueryTranslator(DaprSqlQueryTranslator.Dialect.POSTGRESQL, mapper);
+
+  private final DaprSqlQueryTranslator mysql =
+      new DaprSqlQueryTranslator(DaprSqlQueryTranslator.Dialect.MYSQL, mapper);
+
+  public static class Person {
+    public String name;
+    public int age;
+    public List<String> tags;
+  }
+
+  @Test
+  public void selectPushesDownSortAndPaging() {
+    Sort sort = Sort.by(Sort.Order.desc("age"), Sort.Order.asc("name").ignoreCase());
+
+    assertQuery("select value from state where key LIKE $1 order by JSONB_EXTRACT_PATH(value, 'age') DESC, "
+            + "LOWER(JSONB_EXTRACT_PATH_TEXT(value, 'name')) ASC LIMIT 10 OFFSET 20", List.of(KEYSPACE_FILTER),
+        postgres.select(KEYSPACE_FILTER, null, sort, 20, 10));
+    assertQuery("select value from state where id LIKE ? order by JSON_EXTRACT(value, '$.age') DESC, "
+            + "LOWER(JSON_UNQUOTE(JSON_EXTRACT(value, '$.name'))) ASC LIMIT 20, 10", List.of(KEYSPACE_FILTER),
+        mysql.select(KEYSPACE_FILTER, null, sort, 20, 10));
+  }
+
+  @Test
+  public void pagingWithoutSortOrdersByKey() {
+    assertQuery("select value from state where key LIKE $1 order by key OFFSET 5", List.of(KEYSPACE_FILTER),
+        postgres.select(KEYSPACE_FILTER, null, Sort.unsorted(), 5, -1));
+    assertQuery("select value from state where id LIKE ? order by id LIMIT 5, 18446744073709551615",
+        List.of(KEYSPACE_FILTER), mysql.select(KEYSPACE_FILTER, null, Sort.unsorted(), 5, -1));
+    assertQuery("select value from state where id LIKE ?", List.of(KEYSPACE_FILTER),
+        mysql.select(KEYSPACE_FILTER, null, Sort.unsorted(), -1, -1));
+  }
+
+  @Test
+  public void pagesUseKeyAsTieBreaker() {
+    assertQuery("select id, value from state where id LIKE ? and id > ? order by id LIMIT 100",
+        List.of(KEYSPACE_FILTER, "store||person-7"),
+        mysql.selectPage(KEYSPACE_FILTER, null, Sort.unsorted(), "store||person-7", 0, 100));
+    assertQuery("select key, value from state where key LIKE $1 "
+            + "order by JSONB_EXTRACT_PATH(value, 'age') ASC, key LIMIT 100 OFFSET 200", List.of(KEYSPACE_FILTER),
+        postgres.selectPage(KEYSPACE_FILTER, null, Sort.by("age"), null, 200, 100));
+  }
+
+  @Test
+  public void compoundCriteriaAreTranslated() {
+    Object criteria = criteria("findByNameStartingWithAndAgeBetweenOrAgeIn", "A_%", 18, 65, List.of(1, 2));
+    List<Object> params = List.of("A\\_\\%%", "18", "65", "1", "2");
+
+    assertQuery("((JSONB_EXTRACT_PATH_TEXT(value, 'name') LIKE ?) "
+            + "and (JSONB_EXTRACT_PATH(value, 'age') > ?::jsonb) "
+            + "and (JSONB_EXTRACT_PATH(value, 'age') < ?::jsonb)) "
+            + "or ((JSONB_EXTRACT_PATH(value, 'age') = ?::jsonb) or (JSONB_EXTRACT_PATH(value, 'age') = ?::jsonb))",
+        params, postgres.where(criteria));
+    assertQuery("((JSON_UNQUOTE(JSON_EXTRACT(value, '$.name')) LIKE ?) "
+            + "and (JSON_EXTRACT(value, '$.age') > CAST(? AS JSON)) "
+            + "and (JSON_EXTRACT(value, '$.age') < CAST(? AS JSON))) "
+            + "or ((JSON_EXTRACT(value, '$.age') = CAST(? AS JSON)) "
+            + "or (JSON_EXTRACT(value, '$.age') = CAST(? AS JSON)))",
+        params, mysql.where(criteria));
+  }
+
+  @Test
+  public void valuesAreBoundAsParameters() {
+    assertQuery("JSONB_EXTRACT_PATH(value, 'name') = ?::jsonb", List.of("\"O'Brien\""),
+        postgres.where(criteria("findByName", "O'Brien")));
+    assertQuery("LOWER(JSON_UNQUOTE(JSON_EXTRACT(value, '$.name'))) = LOWER(?)", List.of("bob"),
+        mysql.where(criteria("findByNameIgnoreCase", "bob")));
+    assertQuery("not (JSONB_EXTRACT_PATH_TEXT(value, 'name') IS NULL)", List.of(),
+        postgres.where(criteria("findByNameIsNotNull")));
+    assertQuery("JSON_EXTRACT(value, '$.content') = CAST(? AS JSON)", List.of("\"test\""),
+        mysql.where("content == 'test'"));
+    assertQuery("(JSONB_EXTRACT_PATH(value, 'age') = ?::jsonb) or (JSONB_EXTRACT_PATH_TEXT(value, 'age') IS NULL)",
+        List.of("1"), postgres.where(criteria("findByAgeIn", Arrays.asList(1, null))));
+  }
+
+  @Test
+  public void statementsNumberPostgresParameters() {
+    DaprSqlQuery where = postgres.where(criteria("findByNameAndAge", "bob", 42));
+    DaprSqlQuery count = postgres.count(KEYSPACE_FILTER, where);
+
+    assertQuery("select count(*) as value from state where key LIKE $1 "
+            + "and ((JSONB_EXTRACT_PATH(value, 'name') = $2::jsonb) and (JSONB_EXTRACT_PATH(value, 'age') = $3::jsonb))",
+        List.of(KEYSPACE_FILTER, "\"bob\"", "42"), count);
+    assertEquals(Map.of("sql", count.getSql(), "params", "[\"store||person-%\",\"\\\"bob\\\"\",\"42\"]"),
+        count.toBindingMetadata(mapper));
+    assertEquals(Map.of("sql", "delete from state where id LIKE ?", "params", "[\"store||person-%\"]"),
+        mysql.delete(KEYSPACE_FILTER).toBindingMetadata(mapper));
+  }
+
+  @Test
+  public void sameShapeReusesTheSameStatement() {
+    DaprSqlQuery first = postgres.where(criteria("findByNameAndAgeGreaterThan", "alice", 18));
+    DaprSqlQuery second = postgres.where(criteria("findByNameAndAgeGreaterThan", "bob", 65));
+    DaprSqlQuery otherArity = postgres.where(criteria("findByAgeIn", List.of(1, 2, 3)));
+
+    assertSame(first.getSql(), second.getSql());
+    assertEquals(List.of("\"alice\"", "18"), first.getParams());
+    assertEquals(List.of("\"bob\"", "65"), second.getParams());
+    assertEquals(3, otherArity.getParams().size());
+    assertNotSame(otherArity.getSql(), postgres.where(criteria("findByAgeIn", List.of(1, 2))).getSql());
+    assertSame(mysql.where("name == 'bob'"), mysql.where("name == 'bob'"));
+  }
+
+  @Test
+  public void nonLiteralSpelComparisonIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> mysql.where("name == other"));
+  }
+
+  @Test
+  public void untranslatableCriteriaReturnNull() {
+    assertNull(postgres.where(criteria("findByNameMatches", "^a.*")));
+    assertNull(postgres.where(criteria("findByTagsLike", "x")));
+    assertNull(postgres.where(criteria("findByNameOrNameMatches", "a", "^a.*")));
+    assertNull(postgres.where((Predicate<Object>) o -> true));
+  }
+
+  @Test
+  public void invalidSortPropertyIsRejected() {
+    Sort sort = Sort.by("name') desc; drop table state; --");
+
+    assertThrows(IllegalArgumentException.class, () -> postgres.orderBy(sort));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void adapterFiltersInMemoryWhenCriteriaCannotBeTranslated() {
+    DaprClient daprClient = mock(DaprClient.class);
+    List<List<Object>> rows = new ArrayList<>();
+    for (String name : Arrays.asList("alice", "bob", "anna", "albert")) {
+      rows.add(List.of(Map.of("name", name, "age", 1)));
+    }
+    when(daprClient.invokeBinding(eq("binding"), eq("query"), any(), any(Map.class), any(TypeRef.class)))
+        .thenReturn(Mono.just(rows));
+    PostgreSQLDaprKeyValueAdapter adapter = new PostgreSQLDaprKeyValueAdapter(daprClient, mapper, "store", "binding");
+
+    KeyValueQuery<Object> query = new KeyValueQuery<>(criteria("findByNameMatches", "a.*"), Sort.by("name"))
+        .skip(1)
+        .limit(1);
+    Iterable<Person> result = adapter.find(query, "person", Person.class);
+
+    List<Person> people = new ArrayList<>();
+    result.forEach(people::add);
+    assertEquals(1, people.size());
+    assertEquals("anna", people.get(0).name);
+    verify(daprClient).invokeBinding(eq("binding"), eq("query"), any(),
+        eq(Map.of("sql", "select value from state where key LIKE $1 order by JSONB_EXTRACT_PATH(value, 'name') ASC",
+            "params", "[\"store||person-%\"]")), any(TypeRef.class));
+    assertThrows(InvalidDataAccessApiUsageException.class, () -> adapter.count(query, "person"));
+  }
+
+  private static void assertQuery(String sql, List<Object> params, DaprSqlQuery query) {
+    assertEquals(sql, query.getSql());
+    assertEquals(params, query.getParams());
+  }
+
+  private static Object criteria(String methodName, Object... parameters) {
+    ParameterAccessor accessor = mock(ParameterAccessor.class);
+    when(accessor.iterator()).thenAnswer(invocation -> Arrays.asList(parameters).iterator());
+
+    return new DaprPredicateQueryCreator(new PartTree(methodName, Person.class), accessor)
+        .createQuery()
+        .getCriteria();
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dapr.client.DaprClient;
+import io.dapr.client.domain.GetStateRequest;
+import io.dapr.client.domain.SaveStateRequest;
+import io.dapr.client.domain.State;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.annotation.KeySpace;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReactiveDaprKeyValueTemplateTest {
+
+  private DaprClient daprClient;
+
+  private PostgreSQLDaprKeyValueAdapter adapter;
+
+  private ReactiveDaprKeyValueTemplate template;
+
+  @KeySpace("person")
+  public static class Person {
+    @Id
+    public String id;
+    public String name;
+  }
+
+  @BeforeEach
+  public void setUp() {
+    daprClient = mock(DaprClient.class);
+    when(daprClient.saveBulkState(any(SaveStateRequest.class))).thenReturn(Mono.empty());
+    adapter = new PostgreSQLDaprKeyValueAdapter(daprClient, new ObjectMapper(), "store", "binding");
+    adapter.setPageSize(2);
+    template = new ReactiveDaprKeyValueTemplate(adapter);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void findAllReadsPagesOnDemand() {
+    when(daprClient.invokeBinding(eq("binding"), eq("query"), any(), any(Map.class), any(TypeRef.class)))
+        .thenReturn(Mono.just(List.of(row("1"), row("2"))), Mono.just(List.of(row("3"))));
+
+    Flux<Person> people = template.findAll(Person.class);
+
+    verify(daprClient, never()).invokeBinding(eq("binding"), eq("query"), any(), any(Map.class), any(TypeRef.class));
+
+    List<String> ids = people
+        .map(person -> person.id)
+        .collectList()
+        .block();
+
+    assertEquals(List.of("1", "2", "3"), ids);
+    verify(daprClient, times(2)).invokeBinding(eq("binding"), eq("query"), any(), any(Map.class), any(TypeRef.class));
+    verify(daprClient).invokeBinding(eq("binding"), eq("query"), any(),
+        eq(Map.of("sql", "select key, value from state where key LIKE $1 and key > $2 order by key LIMIT 2",
+            "params", "[\"store||person-%\",\"store||person-2\"]")), any(TypeRef.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void insertFailsWhenEntityExists() {
+    Person person = new Person();
+    person.id = "1";
+    when(daprClient.getState(any(GetStateRequest.class), any(TypeRef.class)))
+        .thenReturn(Mono.just(new State<>("person-1", person, null)));
+
+    assertThrows(DuplicateKeyException.class, () -> template.insert(person).block());
+    verify(daprClient, never()).saveBulkState(any(SaveStateRequest.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void insertSavesNewEntity() {
+    when(daprClient.getState(any(GetStateRequest.class), any(TypeRef.class))).thenReturn(Mono.empty());
+    Person person = new Person();
+    person.name = "alice";
+
+    Person inserted = template.insert(person).block();
+
+    assertSame(person, inserted);
+    assertNotNull(person.id);
+    ArgumentCaptor<SaveStateRequest> request = ArgumentCaptor.forClass(SaveStateRequest.class);
+    verify(daprClient).saveBulkState(request.capture());
+    assertEquals("person-" + person.id, request.getValue().getStates().get(0).getKey());
+  }
+
+  private static List<Object> row(String id) {
+    return List.of("store||person-" + id, Map.of("id", id, "name", "name-" + id));
+  }
+}
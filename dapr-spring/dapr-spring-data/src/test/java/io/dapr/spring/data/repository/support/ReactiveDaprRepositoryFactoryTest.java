@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.data.repository.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dapr.client.DaprClient;
+import io.dapr.spring.data.PostgreSQLDaprKeyValueAdapter;
+import io.dapr.spring.data.ReactiveDaprKeyValueTemplate;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.annotation.KeySpace;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReactiveDaprRepositoryFactoryTest {
+
+  private DaprClient daprClient;
+
+  private PersonRepository repository;
+
+  @KeySpace("person")
+  public static class Person {
+    @Id
+    public String id;
+    public String name;
+  }
+
+  public interface PersonRepository extends ReactiveCrudRepository<Person, String> {
+
+    Flux<Person> findByName(String name);
+
+    Mono<Person> findFirstByName(String name);
+
+    Mono<Long> countByName(String name);
+  }
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    daprClient = mock(DaprClient.class);
+    when(daprClient.invokeBinding(eq("binding"), eq("query"), any(), any(Map.class), any(TypeRef.class)))
+        .thenAnswer(invocation -> {
+          Map<String, String> metadata = invocation.getArgument(3);
+
+          if (metadata.get("sql").startsWith("select count")) {
+            return Mono.just(List.of(List.of(2L)));
+          }
+
+          return Mono.just(List.of(
+              List.of("store||person-1", Map.of("id", "1", "name", "bob")),
+              List.of("store||person-2", Map.of("id", "2", "name", "bob"))));
+        });
+
+    PostgreSQLDaprKeyValueAdapter adapter =
+        new PostgreSQLDaprKeyValueAdapter(daprClient, new ObjectMapper(), "store", "binding");
+    repository = new ReactiveDaprRepositoryFactory(new ReactiveDaprKeyValueTemplate(adapter))
+        .getRepository(PersonRepository.class);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void derivedQueriesArePushedDown() {
+    List<Person> people = repository.findByName("bob").collectList().block();
+
+    assertEquals(2, people.size());
+    verify(daprClient).invokeBinding(eq("binding"), eq("query"), any(),
+        eq(Map.of("sql", "select key, value from state where key LIKE $1 "
+                + "and (JSONB_EXTRACT_PATH(value, 'name') = $2::jsonb) order by key LIMIT 500",
+            "params", "[\"store||person-%\",\"\\\"bob\\\"\"]")), any(TypeRef.class));
+  }
+
+  @Test
+  public void singleResultAndCountQueriesReturnMono() {
+    assertEquals("1", repository.findFirstByName("bob").block().id);
+    assertEquals(2L, repository.countByName("bob").block());
+  }
+}
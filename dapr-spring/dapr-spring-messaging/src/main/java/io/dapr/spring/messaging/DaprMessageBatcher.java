@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Buffers messages per topic and hands them to a bulk publisher once either the maximum batch size is reached or
+ * the linger time has elapsed, whichever comes first. Batches of the same topic are published one after the other,
+ * so the order of the messages is preserved.
+ *
+ * @param <T> message type
+ */
+final class DaprMessageBatcher<T> {
+
+  private final BiFunction<String, List<T>, Mono<Void>> publisher;
+  private final int maxBatchSize;
+  private final Duration linger;
+  private final Map<String, TopicBuffer> buffers = new ConcurrentHashMap<>();
+
+  private volatile boolean closed;
+
+  /**
+   * Creates a new batcher.
+   *
+   * @param publisher    publishes one batch of messages to a topic
+   * @param maxBatchSize maximum number of messages in a batch
+   * @param linger       maximum time a message waits for its batch to fill up
+   */
+  DaprMessageBatcher(BiFunction<String, List<T>, Mono<Void>> publisher, int maxBatchSize, Duration linger) {
+    this.publisher = publisher;
+    this.maxBatchSize = maxBatchSize;
+    this.linger = linger;
+  }
+
+  /**
+   * Adds a message to the buffer of its topic.
+   *
+   * @param topic   the topic to send the message to
+   * @param message the message to send
+   * @return a Mono that completes once the batch containing the message has been published
+   */
+  Mono<Void> add(String topic, T message) {
+    return Mono.defer(() -> {
+      if (closed) {
+        return Mono.error(new IllegalStateException("DaprMessagingTemplate has been shut down"));
+      }
+
+      PendingMessage<T> pending = new PendingMessage<>(message);
+      buffers.computeIfAbsent(topic, TopicBuffer::new).emit(pending);
+      return pending.result.asMono();
+    });
+  }
+
+  /**
+   * Stops accepting new messages and publishes the ones still buffered.
+   *
+   * @return a Mono that completes once every buffered message has been published
+   */
+  Mono<Void> close() {
+    closed = true;
+    return Flux.fromIterable(buffers.values())
+        .flatMap(TopicBuffer::complete)
+        .then();
+  }
+
+  private final class TopicBuffer {
+
+    private final Sinks.Many<PendingMessage<T>> sink = Sinks.many().unicast().onBackpressureBuffer();
+    private final Sinks.Empty<Void> drained = Sinks.empty();
+
+    private TopicBuffer(String topic) {
+      sink.asFlux()
+          .bufferTimeout(maxBatchSize, linger, true)
+          .concatMap(batch -> publish(topic, batch))
+          .doFinally(signal -> drained.tryEmitEmpty())
+          .subscribe();
+    }
+
+    private Mono<Void> publish(String topic, List<PendingMessage<T>> batch) {
+      List<T> messages = batch.stream().map(pending -> pending.message).collect(Collectors.toList());
+
+      return Mono.defer(() -> publisher.apply(topic, messages))
+          .doOnSuccess(ignore -> batch.forEach(pending -> pending.result.tryEmitEmpty()))
+          .onErrorResume(err -> {
+            batch.forEach(pending -> pending.result.tryEmitError(err));
+            return Mono.empty();
+          });
+    }
+
+    private void emit(PendingMessage<T> pending) {
+      Sinks.EmitResult result;
+
+      // The unicast sink does not accept concurrent emissions, serialize the producers.
+      synchronized (this) {
+        result = sink.tryEmitNext(pending);
+      }
+
+      if (result.isFailure()) {
+        pending.result.tryEmitError(new IllegalStateException("Could not buffer message: " + result));
+      }
+    }
+
+    private Mono<Void> complete() {
+      synchronized (this) {
+        sink.tryEmitComplete();
+      }
+
+      return drained.asMono();
+    }
+  }
+
+  private static final class PendingMessage<T> {
+
+    private final T message;
+    private final Sinks.Empty<Void> result = Sinks.empty();
+
+    private PendingMessage(T message) {
+      this.message = message;
+    }
+  }
+}
@@ -15,6 +15,8 @@ package io.dapr.spring.messaging;
 
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface DaprMessagingOperations<T> {
 
   /**
@@ -26,6 +28,40 @@ public interface DaprMessagingOperations<T> {
    */
   void send(String topic, T message);
 
+  /**
+   * Sends a message to the specified topic in a non-blocking manner. Use {@link Mono#toFuture()} to obtain a
+   * {@link java.util.concurrent.CompletableFuture} instead.
+   *
+   * @param topic   the topic to send the message to or {@code null} to send to the
+   *                default topic
+   * @param message the message to send
+   * @return a Mono that completes when the message has been sent
+   */
+  default Mono<Void> sendAsync(String topic, T message) {
+    return Mono.fromRunnable(() -> send(topic, message));
+  }
+
+  /**
+   * Sends several messages to the specified topic in a single bulk publish request, in a blocking manner.
+   *
+   * @param topic    the topic to send the messages to
+   * @param messages the messages to send
+   */
+  default void sendBatch(String topic, List<T> messages) {
+    messages.forEach(message -> send(topic, message));
+  }
+
+  /**
+   * Sends several messages to the specified topic in a single bulk publish request, in a non-blocking manner.
+   *
+   * @param topic    the topic to send the messages to
+   * @param messages the messages to send
+   * @return a Mono that completes when every message has been sent, or errors if any of them was rejected
+   */
+  default Mono<Void> sendBatchAsync(String topic, List<T> messages) {
+    return Mono.fromRunnable(() -> sendBatch(topic, messages));
+  }
+
   /**
    * Create a {@link SendMessageBuilder builder} for configuring and sending a message.
    *
@@ -14,6 +14,11 @@ limitations under the License.
 package io.dapr.spring.messaging;
 
 import io.dapr.client.DaprClient;
+import io.dapr.client.DaprPreviewClient;
+import io.dapr.client.domain.BulkPublishEntry;
+import io.dapr.client.domain.BulkPublishRequest;
+import io.dapr.client.domain.BulkPublishResponse;
+import io.dapr.client.domain.BulkPublishResponseFailedEntry;
 import io.dapr.client.domain.Metadata;
 import io.dapr.spring.messaging.observation.DaprMessagingObservationConvention;
 import io.dapr.spring.messaging.observation.DaprMessagingObservationDocumentation;
@@ -23,22 +28,33 @@ import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanNameAware;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.context.Context;
 
 import javax.annotation.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Create a new DaprMessagingTemplate.
+ *
+ * <p>Messages are published one by one unless a batch linger is configured with {@link #setBatchLinger(Duration)},
+ * in which case {@code sendAsync} buffers messages per topic and publishes them with a single bulk request once
+ * {@link #setMaxBatchSize(int) the maximum batch size} is reached or the linger time has elapsed. The blocking
+ * {@code send} always publishes right away, so callers never wait for the linger time.
  * @param <T> templated message type
  */
 public class DaprMessagingTemplate<T> implements DaprMessagingOperations<T>, ApplicationContextAware, BeanNameAware,
-    SmartInitializingSingleton {
+    SmartInitializingSingleton, DisposableBean {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DaprMessagingTemplate.class);
   private static final String MESSAGE_TTL_IN_SECONDS = "10";
@@ -50,6 +66,13 @@ public class DaprMessagingTemplate<T> implements DaprMessagingOperations<T>, App
   private final Map<String, String> metadata;
   private final boolean observationEnabled;
 
+  private volatile int maxBatchSize = 100;
+
+  private volatile Duration batchLinger = Duration.ZERO;
+
+  @Nullable
+  private volatile DaprMessageBatcher<T> batcher;
+
   @Nullable
   private ApplicationContext applicationContext;
 
@@ -69,12 +92,49 @@ public class DaprMessagingTemplate<T> implements DaprMessagingOperations<T>, App
    * @param observationEnabled whether to enable observations
    */
   public DaprMessagingTemplate(DaprClient daprClient, String pubsubName, boolean observationEnabled) {
+    this(daprClient, pubsubName, observationEnabled, Map.of(Metadata.TTL_IN_SECONDS, MESSAGE_TTL_IN_SECONDS));
+  }
+
+  /**
+   * Constructs a new DaprMessagingTemplate.
+   * @param daprClient Dapr client
+   * @param pubsubName pubsub name
+   * @param observationEnabled whether to enable observations
+   * @param metadata metadata sent with every publish request, e.g. {@link Metadata#TTL_IN_SECONDS}
+   */
+  public DaprMessagingTemplate(DaprClient daprClient, String pubsubName, boolean observationEnabled,
+                               Map<String, String> metadata) {
     this.daprClient = daprClient;
     this.pubsubName = pubsubName;
-    this.metadata = Map.of(Metadata.TTL_IN_SECONDS, MESSAGE_TTL_IN_SECONDS);
+    this.metadata = metadata == null ? Map.of() : Map.copyOf(metadata);
     this.observationEnabled = observationEnabled;
   }
 
+  /**
+   * Sets the maximum number of buffered messages published in a single bulk request. Defaults to 100.
+   * @param maxBatchSize maximum batch size
+   */
+  public void setMaxBatchSize(int maxBatchSize) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Max batch size must be positive");
+    }
+
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Sets how long a message sent with {@code sendAsync} waits for other messages to the same topic before its
+   * batch is published. Defaults to zero, which disables buffering.
+   * @param batchLinger linger time
+   */
+  public void setBatchLinger(Duration batchLinger) {
+    if (batchLinger == null || batchLinger.isNegative()) {
+      throw new IllegalArgumentException("Batch linger must not be null or negative");
+    }
+
+    this.batchLinger = batchLinger;
+  }
+
   @Override
   public void setApplicationContext(ApplicationContext applicationContext) {
     this.applicationContext = applicationContext;
@@ -107,30 +167,98 @@ public class DaprMessagingTemplate<T> implements DaprMessagingOperations<T>, App
         .getIfUnique(() -> observationConvention);
   }
 
+  /**
+   * Publishes the messages still buffered before the template is discarded.
+   */
+  @Override
+  public void destroy() {
+    DaprMessageBatcher<T> current = batcher;
+
+    if (current != null) {
+      current.close().block();
+    }
+  }
+
   @Override
   public void send(String topic, T message) {
     doSend(topic, message);
   }
 
+  @Override
+  public Mono<Void> sendAsync(String topic, T message) {
+    return doSendAsync(topic, message);
+  }
+
+  @Override
+  public void sendBatch(String topic, List<T> messages) {
+    doSendBatchAsync(topic, messages).block();
+  }
+
+  @Override
+  public Mono<Void> sendBatchAsync(String topic, List<T> messages) {
+    return doSendBatchAsync(topic, messages);
+  }
+
   @Override
   public SendMessageBuilder<T> newMessage(T message) {
     return new DefaultSendMessageBuilder<>(this, message);
   }
 
   private void doSend(String topic, T message) {
-    doSendAsync(topic, message).block();
+    doPublishAsync(topic, message).block();
   }
 
   private Mono<Void> doSendAsync(String topic, T message) {
+    if (!batchLinger.isZero()) {
+      LOGGER.trace("Buffering message to '{}' topic", topic);
+
+      return getBatcher().add(topic, message);
+    }
+
+    return doPublishAsync(topic, message);
+  }
+
+  private Mono<Void> doPublishAsync(String topic, T message) {
     LOGGER.trace("Sending message to '{}' topic", topic);
 
     if (canUseObservation()) {
-      return publishEventWithObservation(pubsubName, topic, message);
+      return publishWithObservation(topic, () -> publishEvent(pubsubName, topic, message));
     }
 
     return publishEvent(pubsubName, topic, message);
   }
 
+  private Mono<Void> doSendBatchAsync(String topic, List<T> messages) {
+    if (messages == null || messages.isEmpty()) {
+      return Mono.empty();
+    }
+
+    LOGGER.trace("Sending {} messages to '{}' topic", messages.size(), topic);
+
+    if (canUseObservation()) {
+      return publishWithObservation(topic, () -> publishEvents(pubsubName, topic, messages));
+    }
+
+    return publishEvents(pubsubName, topic, messages);
+  }
+
+  private DaprMessageBatcher<T> getBatcher() {
+    DaprMessageBatcher<T> current = batcher;
+
+    if (current == null) {
+      synchronized (this) {
+        current = batcher;
+
+        if (current == null) {
+          current = new DaprMessageBatcher<>(this::doSendBatchAsync, maxBatchSize, batchLinger);
+          batcher = current;
+        }
+      }
+    }
+
+    return current;
+  }
+
   private boolean canUseObservation() {
     return observationEnabled && observationRegistry != null && beanName != null;
   }
@@ -139,25 +267,60 @@ public class DaprMessagingTemplate<T> implements DaprMessagingOperations<T>, App
     return daprClient.publishEvent(pubsubName, topic, message, metadata);
   }
 
-  private Mono<Void> publishEventWithObservation(String pubsubName, String topic, T message) {
-    DaprMessagingSenderContext senderContext = DaprMessagingSenderContext.newContext(topic, this.beanName);
-    Observation observation = createObservation(senderContext);
+  /**
+   * Publishes the messages with a single bulk request when the client supports it, otherwise one after the other.
+   */
+  private Mono<Void> publishEvents(String pubsubName, String topic, List<T> messages) {
+    if (!(daprClient instanceof DaprPreviewClient)) {
+      return Flux.fromIterable(messages)
+          .concatMap(message -> publishEvent(pubsubName, topic, message))
+          .then();
+    }
+
+    List<BulkPublishEntry<T>> entries = new ArrayList<>(messages.size());
+
+    for (int i = 0; i < messages.size(); i++) {
+      entries.add(new BulkPublishEntry<>(String.valueOf(i), messages.get(i), null));
+    }
+
+    BulkPublishRequest<T> request = new BulkPublishRequest<>(pubsubName, topic, entries, metadata);
+
+    return ((DaprPreviewClient) daprClient).publishEvents(request)
+        .flatMap(response -> checkFailedEntries(topic, response));
+  }
+
+  private Mono<Void> checkFailedEntries(String topic, BulkPublishResponse<T> response) {
+    List<BulkPublishResponseFailedEntry<T>> failedEntries = response.getFailedEntries();
+
+    if (failedEntries == null || failedEntries.isEmpty()) {
+      return Mono.empty();
+    }
+
+    return Mono.error(new IllegalStateException(String.format("Failed to send %d messages to '%s' topic: %s",
+        failedEntries.size(), topic, failedEntries.get(0).getErrorMessage())));
+  }
+
+  private Mono<Void> publishWithObservation(String topic, Supplier<Mono<Void>> publish) {
+    return Mono.defer(() -> {
+      DaprMessagingSenderContext senderContext = DaprMessagingSenderContext.newContext(topic, this.beanName);
+      Observation observation = createObservation(senderContext);
 
-    observation.start();
+      observation.start();
 
-    return publishEvent(pubsubName, topic, message)
-      .contextWrite(getReactorContext(senderContext))
-      .doOnError(err -> {
-        LOGGER.error("Failed to send msg to '{}' topic", topic, err);
+      return publish.get()
+        .contextWrite(getReactorContext(senderContext))
+        .doOnError(err -> {
+          LOGGER.error("Failed to send msg to '{}' topic", topic, err);
 
-        observation.error(err);
-        observation.stop();
-      })
-      .doOnSuccess(ignore -> {
-        LOGGER.trace("Sent msg to '{}' topic", topic);
+          observation.error(err);
+          observation.stop();
+        })
+        .doOnSuccess(ignore -> {
+          LOGGER.trace("Sent msg to '{}' topic", topic);
 
-        observation.stop();
-      });
+          observation.stop();
+        });
+    });
   }
 
   private Context getReactorContext(DaprMessagingSenderContext senderContext) {
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.listener;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method as the target of a Dapr streaming subscription. The method is invoked by a
+ * {@link DaprListenerContainer} and must take a single parameter, one of:
+ * <ul>
+ *   <li>the event payload, e.g. {@code Order};</li>
+ *   <li>the whole event, e.g. {@code CloudEvent<Order>};</li>
+ *   <li>a batch of payloads or events, e.g. {@code List<Order>} or {@code List<CloudEvent<Order>>}.</li>
+ * </ul>
+ * The method may return {@code void}, in which case the events are acknowledged when it returns, or a
+ * {@link io.dapr.client.SubscriptionListener.Status}. Events are retried when the method throws.
+ *
+ * <p>Listeners are registered by {@link EnableDaprListeners}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DaprListener {
+
+  /**
+   * Topic to subscribe to. Supports property placeholders.
+   *
+   * @return the topic
+   */
+  String topic();
+
+  /**
+   * Name of the pubsub component. Supports property placeholders. Defaults to the {@code dapr.pubsub.name}
+   * property.
+   *
+   * @return the pubsub name
+   */
+  String pubsubName() default "";
+
+  /**
+   * Id of the listener, used in logs and observations. Defaults to the bean class and method name.
+   *
+   * @return the listener id
+   */
+  String id() default "";
+
+  /**
+   * Number of events or batches processed in parallel.
+   *
+   * @return the concurrency
+   */
+  int concurrency() default 1;
+
+  /**
+   * Maximum number of events handed to a batch listener at once. Only batch listeners may set it above one.
+   *
+   * @return the maximum batch size
+   */
+  int batchSize() default 1;
+
+  /**
+   * Maximum time, in milliseconds, a batch listener waits for its batch to fill up.
+   *
+   * @return the batch timeout
+   */
+  long batchTimeoutMillis() default 100;
+
+  /**
+   * Name of a {@link DaprListenerKeyExtractor} bean. When set, events sharing a key are processed one at a time, in
+   * the order they were received, while events with different keys are still processed in parallel.
+   *
+   * @return the key extractor bean name
+   */
+  String keyExtractor() default "";
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.listener;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprPreviewClient;
+import io.dapr.spring.messaging.observation.DaprMessagingListenerObservationConvention;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.annotation.Nullable;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Detects {@link DaprListener} annotated methods and runs a {@link DaprListenerContainer} for each of them. The
+ * containers are started once the application context is refreshed and stopped when it is closed.
+ */
+public class DaprListenerAnnotationBeanPostProcessor implements BeanPostProcessor, ApplicationContextAware,
+    SmartLifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DaprListenerAnnotationBeanPostProcessor.class);
+
+  /**
+   * Property holding the pubsub name used by listeners that do not set one.
+   */
+  static final String PUBSUB_NAME_PROPERTY = "dapr.pubsub.name";
+
+  private final List<Endpoint> endpoints = new CopyOnWriteArrayList<>();
+
+  private final List<DaprListenerContainer<Object>> containers = new CopyOnWriteArrayList<>();
+
+  @Nullable
+  private ApplicationContext applicationContext;
+
+  private volatile boolean running;
+
+  @Override
+  public void setApplicationContext(ApplicationContext applicationContext) {
+    this.applicationContext = applicationContext;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    Class<?> targetClass = AopUtils.getTargetClass(bean);
+    Map<Method, DaprListener> methods = MethodIntrospector.selectMethods(targetClass,
+        (MethodIntrospector.MetadataLookup<DaprListener>) method ->
+            AnnotatedElementUtils.findMergedAnnotation(method, DaprListener.class));
+
+    methods.forEach((method, listener) -> {
+      Method invocableMethod = AopUtils.selectInvocableMethod(method, bean.getClass());
+      endpoints.add(new Endpoint(bean, invocableMethod, listener,
+          targetClass.getSimpleName() + "#" + method.getName()));
+    });
+
+    return bean;
+  }
+
+  /**
+   * Containers created for the detected listeners.
+   * @return the running containers
+   */
+  public List<DaprListenerContainer<Object>> getContainers() {
+    return List.copyOf(containers);
+  }
+
+  @Override
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+
+    if (!endpoints.isEmpty()) {
+      ApplicationContext context = getApplicationContext();
+      DaprClient daprClient = context.getBean(DaprClient.class);
+
+      if (!(daprClient instanceof DaprPreviewClient)) {
+        throw new IllegalStateException("@DaprListener requires a DaprClient supporting streaming subscriptions");
+      }
+
+      ObservationRegistry observationRegistry = context.getBeanProvider(ObservationRegistry.class).getIfUnique();
+      DaprMessagingListenerObservationConvention observationConvention =
+          context.getBeanProvider(DaprMessagingListenerObservationConvention.class).getIfUnique();
+
+      for (Endpoint endpoint : endpoints) {
+        DaprListenerContainer<Object> container = createContainer(endpoint, (DaprPreviewClient) daprClient);
+        container.setObservationRegistry(observationRegistry);
+        container.setObservationConvention(observationConvention);
+        containers.add(container);
+        container.start();
+      }
+    }
+
+    running = true;
+  }
+
+  @Override
+  public synchronized void stop() {
+    for (DaprListenerContainer<Object> container : containers) {
+      container.stop();
+    }
+
+    containers.clear();
+    running = false;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private DaprListenerContainer<Object> createContainer(Endpoint endpoint, DaprPreviewClient daprClient) {
+    DaprListener listener = endpoint.listener;
+    Environment environment = getApplicationContext().getEnvironment();
+    String topic = environment.resolveRequiredPlaceholders(listener.topic());
+    String pubsubName = StringUtils.hasText(listener.pubsubName())
+        ? environment.resolveRequiredPlaceholders(listener.pubsubName())
+        : environment.getProperty(PUBSUB_NAME_PROPERTY);
+
+    if (!StringUtils.hasText(pubsubName)) {
+      throw new IllegalStateException("No pubsub name for @DaprListener " + endpoint.defaultId
+          + ", set pubsubName or the '" + PUBSUB_NAME_PROPERTY + "' property");
+    }
+
+    MethodDaprMessageHandler handler = new MethodDaprMessageHandler(endpoint.bean, endpoint.method);
+
+    if (listener.batchSize() > 1 && !handler.isBatch()) {
+      throw new IllegalStateException("@DaprListener " + endpoint.defaultId
+          + " sets a batch size but does not take a List");
+    }
+
+    DaprListenerContainer<Object> container =
+        new DaprListenerContainer<>(daprClient, pubsubName, topic, handler.getPayloadType(), handler);
+    container.setId(StringUtils.hasText(listener.id()) ? listener.id() : endpoint.defaultId);
+    container.setConcurrency(listener.concurrency());
+    container.setBatchSize(listener.batchSize());
+    container.setBatchTimeout(Duration.ofMillis(listener.batchTimeoutMillis()));
+
+    if (StringUtils.hasText(listener.keyExtractor())) {
+      container.setKeyExtractor(
+          getApplicationContext().getBean(listener.keyExtractor(), DaprListenerKeyExtractor.class));
+    }
+
+    LOGGER.info("Dapr listener '{}' registered for '{}' topic", container.getId(), topic);
+    return container;
+  }
+
+  private ApplicationContext getApplicationContext() {
+    if (applicationContext == null) {
+      throw new IllegalStateException("Application context not set");
+    }
+
+    return applicationContext;
+  }
+
+  private static final class Endpoint {
+
+    private final Object bean;
+    private final Method method;
+    private final DaprListener listener;
+    private final String defaultId;
+
+    private Endpoint(Object bean, Method method, DaprListener listener, String defaultId) {
+      this.bean = bean;
+      this.method = method;
+      this.listener = listener;
+      this.defaultId = defaultId;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.listener;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+@Configuration(proxyBeanMethods = false)
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class DaprListenerConfiguration {
+
+  /**
+   * Name of the bean post processor registering the {@link DaprListener} annotated methods.
+   */
+  public static final String LISTENER_POST_PROCESSOR_BEAN_NAME = "daprListenerAnnotationBeanPostProcessor";
+
+  @Bean(name = LISTENER_POST_PROCESSOR_BEAN_NAME)
+  @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+  static DaprListenerAnnotationBeanPostProcessor daprListenerAnnotationBeanPostProcessor() {
+    return new DaprListenerAnnotationBeanPostProcessor();
+  }
+}
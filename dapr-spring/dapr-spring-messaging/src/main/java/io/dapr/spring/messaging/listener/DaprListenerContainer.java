@@ -0,0 +1,430 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.listener;
+
+import io.dapr.client.DaprPreviewClient;
+import io.dapr.client.Subscription;
+import io.dapr.client.SubscriptionListener;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.spring.messaging.observation.DaprMessagingListenerObservationConvention;
+import io.dapr.spring.messaging.observation.DaprMessagingObservationDocumentation;
+import io.dapr.spring.messaging.observation.DaprMessagingReceiverContext;
+import io.dapr.utils.TypeRef;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.Lifecycle;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Consumes a topic through a Dapr streaming subscription and hands the received events to a
+ * {@link DaprMessageHandler}.
+ *
+ * <p>Events are spread over {@link #setConcurrency(int) concurrency} lanes, each lane processing one batch at a
+ * time. Without a {@link #setKeyExtractor(DaprListenerKeyExtractor) key extractor} events are assigned to lanes in
+ * turn; with one, events sharing a key always go to the same lane and are therefore processed in order. Every event
+ * is acknowledged with the status returned by the handler, or retried if the handler throws.
+ *
+ * <p>Each processed batch is recorded as an {@link Observation}, which times the processing, and the consumer lag
+ * and number of pending events are available through {@link #getLag()} and {@link #getPendingEvents()}.
+ *
+ * @param <T> event payload type
+ */
+public class DaprListenerContainer<T> implements SubscriptionListener<T>, Lifecycle {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DaprListenerContainer.class);
+  private static final DaprMessagingListenerObservationConvention DEFAULT_OBSERVATION_CONVENTION =
+      DaprMessagingListenerObservationConvention.getDefault();
+
+  private final DaprPreviewClient daprClient;
+  private final String pubsubName;
+  private final String topic;
+  private final TypeRef<T> type;
+  private final DaprMessageHandler<T> handler;
+  private final AtomicInteger nextLane = new AtomicInteger();
+  private final AtomicInteger pendingEvents = new AtomicInteger();
+
+  private volatile String id;
+  private volatile int concurrency = 1;
+  private volatile int batchSize = 1;
+  private volatile Duration batchTimeout = Duration.ofMillis(100);
+  private volatile Duration shutdownTimeout = Duration.ofSeconds(10);
+
+  @Nullable
+  private volatile DaprListenerKeyExtractor keyExtractor;
+
+  @Nullable
+  private volatile ObservationRegistry observationRegistry;
+
+  @Nullable
+  private volatile DaprMessagingListenerObservationConvention observationConvention;
+
+  @Nullable
+  private volatile List<Lane> lanes;
+
+  @Nullable
+  private volatile Subscription subscription;
+
+  @Nullable
+  private Scheduler scheduler;
+
+  private volatile long lagMillis;
+
+  /**
+   * Constructs a new DaprListenerContainer.
+   * @param daprClient Dapr client used to subscribe
+   * @param pubsubName pubsub name
+   * @param topic topic to subscribe to
+   * @param type payload type of the events
+   * @param handler handler of the received events
+   */
+  public DaprListenerContainer(DaprPreviewClient daprClient, String pubsubName, String topic, TypeRef<T> type,
+                               DaprMessageHandler<T> handler) {
+    this.daprClient = daprClient;
+    this.pubsubName = pubsubName;
+    this.topic = topic;
+    this.type = type;
+    this.handler = handler;
+    this.id = pubsubName + "/" + topic;
+  }
+
+  /**
+   * Sets the id of the listener, used in logs and observations. Defaults to {@code pubsubName/topic}.
+   * @param id listener id
+   */
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  /**
+   * Sets the number of batches processed in parallel. Defaults to 1.
+   * @param concurrency concurrency
+   */
+  public void setConcurrency(int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be positive");
+    }
+
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Sets the maximum number of events handed to the handler at once. Defaults to 1.
+   * @param batchSize maximum batch size
+   */
+  public void setBatchSize(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Sets how long a lane waits for its batch to fill up before handing it to the handler. Defaults to 100ms.
+   * @param batchTimeout batch timeout
+   */
+  public void setBatchTimeout(Duration batchTimeout) {
+    if (batchTimeout == null || batchTimeout.isNegative() || batchTimeout.isZero()) {
+      throw new IllegalArgumentException("Batch timeout must be positive");
+    }
+
+    this.batchTimeout = batchTimeout;
+  }
+
+  /**
+   * Sets how long {@link #stop()} waits for the buffered and in-flight batches to be processed and acknowledged
+   * before giving up on them. Defaults to 10s.
+   * @param shutdownTimeout shutdown timeout
+   */
+  public void setShutdownTimeout(Duration shutdownTimeout) {
+    if (shutdownTimeout == null || shutdownTimeout.isNegative()) {
+      throw new IllegalArgumentException("Shutdown timeout must not be null or negative");
+    }
+
+    this.shutdownTimeout = shutdownTimeout;
+  }
+
+  /**
+   * Sets the extractor of the key used to process related events in order.
+   * @param keyExtractor key extractor, or {@code null} to process events in any order
+   */
+  public void setKeyExtractor(@Nullable DaprListenerKeyExtractor keyExtractor) {
+    this.keyExtractor = keyExtractor;
+  }
+
+  /**
+   * Sets the registry used to record an observation for every processed batch.
+   * @param observationRegistry observation registry, or {@code null} to disable observations
+   */
+  public void setObservationRegistry(@Nullable ObservationRegistry observationRegistry) {
+    this.observationRegistry = observationRegistry;
+  }
+
+  /**
+   * Sets a custom observation convention.
+   * @param observationConvention observation convention, or {@code null} to use the default one
+   */
+  public void setObservationConvention(@Nullable DaprMessagingListenerObservationConvention observationConvention) {
+    this.observationConvention = observationConvention;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * Time elapsed between the publication of the oldest event of the last processed batch and the start of its
+   * processing.
+   * @return the consumer lag
+   */
+  public Duration getLag() {
+    return Duration.ofMillis(lagMillis);
+  }
+
+  /**
+   * Number of events received but not yet acknowledged.
+   * @return the pending events
+   */
+  public int getPendingEvents() {
+    return pendingEvents.get();
+  }
+
+  @Override
+  public synchronized void start() {
+    if (isRunning()) {
+      return;
+    }
+
+    LOGGER.info("Starting Dapr listener '{}' on '{}' topic", id, topic);
+
+    Scheduler lanesScheduler = Schedulers.newBoundedElastic(concurrency, Integer.MAX_VALUE, "dapr-listener-" + id);
+    List<Lane> newLanes = new ArrayList<>(concurrency);
+
+    for (int i = 0; i < concurrency; i++) {
+      newLanes.add(new Lane(lanesScheduler));
+    }
+
+    this.scheduler = lanesScheduler;
+    this.lanes = newLanes;
+    this.subscription = daprClient.subscribeToEvents(pubsubName, topic, this, type);
+  }
+
+  @Override
+  public synchronized void stop() {
+    Subscription current = subscription;
+
+    if (current == null) {
+      return;
+    }
+
+    LOGGER.info("Stopping Dapr listener '{}' on '{}' topic", id, topic);
+
+    // New events are sent back for retry, the ones already received are processed and acknowledged before the
+    // subscription is closed.
+    List<Lane> currentLanes = lanes;
+    lanes = null;
+
+    if (currentLanes != null) {
+      drain(currentLanes);
+    }
+
+    current.close();
+    subscription = null;
+
+    if (scheduler != null) {
+      scheduler.dispose();
+      scheduler = null;
+    }
+  }
+
+  private void drain(List<Lane> currentLanes) {
+    try {
+      Flux.fromIterable(currentLanes)
+          .flatMap(Lane::complete)
+          .then()
+          .block(shutdownTimeout);
+    } catch (IllegalStateException e) {
+      LOGGER.warn("Dapr listener '{}' did not process its pending events within {}, they will be redelivered",
+          id, shutdownTimeout);
+      currentLanes.forEach(Lane::dispose);
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return subscription != null;
+  }
+
+  @Override
+  public Mono<Status> onEvent(CloudEvent<T> event) {
+    return Mono.defer(() -> {
+      List<Lane> currentLanes = lanes;
+
+      if (currentLanes == null) {
+        return Mono.just(Status.RETRY);
+      }
+
+      PendingEvent<T> pending = new PendingEvent<>(event);
+      pendingEvents.incrementAndGet();
+      currentLanes.get(laneIndex(event, currentLanes.size())).emit(pending);
+      return pending.status.asMono();
+    });
+  }
+
+  @Override
+  public void onError(RuntimeException exception) {
+    LOGGER.warn("Dapr listener '{}' failed to receive events from '{}' topic", id, topic, exception);
+  }
+
+  private int laneIndex(CloudEvent<T> event, int laneCount) {
+    String key = keyExtractor == null ? null : keyExtractor.extractKey(event);
+
+    if (key == null) {
+      return Math.floorMod(nextLane.getAndIncrement(), laneCount);
+    }
+
+    return Math.floorMod(key.hashCode(), laneCount);
+  }
+
+  private Status process(List<PendingEvent<T>> batch) {
+    List<CloudEvent<T>> events = batch.stream().map(pending -> pending.event).collect(Collectors.toList());
+    Duration lag = lagOf(events);
+    lagMillis = lag.toMillis();
+
+    if (observationRegistry == null) {
+      return invokeHandler(events);
+    }
+
+    DaprMessagingReceiverContext receiverContext =
+        DaprMessagingReceiverContext.newContext(events.get(0), id, topic, events.size(), lag);
+    Observation observation = DaprMessagingObservationDocumentation.LISTENER_OBSERVATION.observation(
+        observationConvention,
+        DEFAULT_OBSERVATION_CONVENTION,
+        () -> receiverContext,
+        observationRegistry
+    );
+
+    return observation.observe(() -> invokeHandler(events));
+  }
+
+  private Status invokeHandler(List<CloudEvent<T>> events) {
+    try {
+      Status status = handler.handle(events);
+      return status == null ? Status.SUCCESS : status;
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static Duration lagOf(List<? extends CloudEvent<?>> events) {
+    OffsetDateTime oldest = null;
+
+    for (CloudEvent<?> event : events) {
+      OffsetDateTime time = event.getTime();
+
+      if (time != null && (oldest == null || time.isBefore(oldest))) {
+        oldest = time;
+      }
+    }
+
+    if (oldest == null) {
+      return Duration.ZERO;
+    }
+
+    Duration lag = Duration.between(oldest, OffsetDateTime.now());
+    return lag.isNegative() ? Duration.ZERO : lag;
+  }
+
+  private final class Lane {
+
+    private final Sinks.Many<PendingEvent<T>> sink = Sinks.many().unicast().onBackpressureBuffer();
+    private final Sinks.Empty<Void> drained = Sinks.empty();
+    private final Disposable disposable;
+
+    private Lane(Scheduler scheduler) {
+      disposable = sink.asFlux()
+          .bufferTimeout(batchSize, batchTimeout, true)
+          .concatMap(batch -> Mono.fromCallable(() -> process(batch))
+              .subscribeOn(scheduler)
+              .onErrorResume(err -> {
+                LOGGER.error("Dapr listener '{}' failed to process events from '{}' topic", id, topic, err);
+                return Mono.just(Status.RETRY);
+              })
+              .doOnNext(status -> acknowledge(batch, status)))
+          .doFinally(signal -> drained.tryEmitEmpty())
+          .subscribe();
+    }
+
+    private void acknowledge(List<PendingEvent<T>> batch, Status status) {
+      for (PendingEvent<T> pending : batch) {
+        pendingEvents.decrementAndGet();
+        pending.status.tryEmitValue(status);
+      }
+    }
+
+    private void emit(PendingEvent<T> pending) {
+      Sinks.EmitResult result;
+
+      // The unicast sink does not accept concurrent emissions, serialize the receivers.
+      synchronized (this) {
+        result = sink.tryEmitNext(pending);
+      }
+
+      if (result.isFailure()) {
+        pendingEvents.decrementAndGet();
+        pending.status.tryEmitValue(Status.RETRY);
+      }
+    }
+
+    private Mono<Void> complete() {
+      synchronized (this) {
+        sink.tryEmitComplete();
+      }
+
+      return drained.asMono();
+    }
+
+    private void dispose() {
+      disposable.dispose();
+    }
+  }
+
+  private static final class PendingEvent<T> {
+
+    private final CloudEvent<T> event;
+    private final Sinks.One<Status> status = Sinks.one();
+
+    private PendingEvent(CloudEvent<T> event) {
+      this.event = event;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.listener;
+
+import io.dapr.client.domain.CloudEvent;
+
+/**
+ * Extracts the ordering key of an event, e.g. the partition key of the message or an entity id carried in the
+ * payload. Events with the same key are processed in order by a {@link DaprListenerContainer}.
+ */
+@FunctionalInterface
+public interface DaprListenerKeyExtractor {
+
+  /**
+   * Extracts the ordering key of an event.
+   *
+   * @param event the received event
+   * @return the key, or {@code null} if the event can be processed in any order
+   */
+  String extractKey(CloudEvent<?> event);
+}
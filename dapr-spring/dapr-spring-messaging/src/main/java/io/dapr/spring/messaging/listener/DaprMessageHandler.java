@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.listener;
+
+import io.dapr.client.SubscriptionListener;
+import io.dapr.client.domain.CloudEvent;
+
+import java.util.List;
+
+/**
+ * Processes the events received by a {@link DaprListenerContainer}.
+ *
+ * @param <T> event payload type
+ */
+@FunctionalInterface
+public interface DaprMessageHandler<T> {
+
+  /**
+   * Processes a batch of events. The batch contains a single event unless the container has a batch size greater
+   * than one.
+   *
+   * @param events the received events
+   * @return the status used to acknowledge every event of the batch
+   * @throws Exception if the events could not be processed, they are then retried
+   */
+  SubscriptionListener.Status handle(List<CloudEvent<T>> events) throws Exception;
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.listener;
+
+import io.dapr.client.SubscriptionListener;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.utils.TypeRef;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@link DaprMessageHandler} invoking a {@link DaprListener} annotated method.
+ */
+final class MethodDaprMessageHandler implements DaprMessageHandler<Object> {
+
+  private final Object bean;
+  private final Method method;
+  private final boolean batch;
+  private final boolean wholeEvent;
+  private final TypeRef<Object> payloadType;
+
+  MethodDaprMessageHandler(Object bean, Method method) {
+    if (method.getParameterCount() != 1) {
+      throw new IllegalStateException("@DaprListener method must take a single parameter: " + method);
+    }
+
+    Class<?> returnType = method.getReturnType();
+
+    if (returnType != void.class && returnType != SubscriptionListener.Status.class) {
+      throw new IllegalStateException("@DaprListener method must return void or Status: " + method);
+    }
+
+    ResolvableType parameterType = ResolvableType.forMethodParameter(new MethodParameter(method, 0));
+    this.batch = List.class.equals(parameterType.resolve());
+
+    if (this.batch) {
+      parameterType = parameterType.getGeneric(0);
+    }
+
+    this.wholeEvent = CloudEvent.class.equals(parameterType.resolve());
+
+    if (this.wholeEvent) {
+      parameterType = parameterType.getGeneric(0);
+    }
+
+    Type type = parameterType.resolve() == null ? Object.class : parameterType.getType();
+    this.payloadType = TypeRef.get(type);
+    this.bean = bean;
+    this.method = method;
+    ReflectionUtils.makeAccessible(method);
+  }
+
+  boolean isBatch() {
+    return batch;
+  }
+
+  TypeRef<Object> getPayloadType() {
+    return payloadType;
+  }
+
+  @Override
+  public SubscriptionListener.Status handle(List<CloudEvent<Object>> events) throws Exception {
+    if (batch) {
+      return invoke(wholeEvent ? events : events.stream().map(CloudEvent::getData).collect(Collectors.toList()));
+    }
+
+    SubscriptionListener.Status result = SubscriptionListener.Status.SUCCESS;
+
+    for (CloudEvent<Object> event : events) {
+      SubscriptionListener.Status status = invoke(wholeEvent ? event : event.getData());
+
+      if (status != SubscriptionListener.Status.SUCCESS) {
+        result = status;
+      }
+    }
+
+    return result;
+  }
+
+  private SubscriptionListener.Status invoke(Object argument) throws Exception {
+    try {
+      SubscriptionListener.Status status = (SubscriptionListener.Status) method.invoke(bean, argument);
+      return status == null ? SubscriptionListener.Status.SUCCESS : status;
+    } catch (InvocationTargetException e) {
+      Throwable cause = e.getTargetException();
+
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.observation;
+
+import io.micrometer.observation.Observation.Context;
+import io.micrometer.observation.ObservationConvention;
+
+/**
+ * {@link ObservationConvention} for Dapr listener containers.
+ *
+ */
+public interface DaprMessagingListenerObservationConvention
+    extends ObservationConvention<DaprMessagingReceiverContext> {
+
+  @Override
+  default boolean supportsContext(Context context) {
+    return context instanceof DaprMessagingReceiverContext;
+  }
+
+  @Override
+  default String getName() {
+    return "spring.dapr.messaging.listener";
+  }
+
+  static DaprMessagingListenerObservationConvention getDefault() {
+    return DefaultDaprMessagingListenerObservationConvention.INSTANCE;
+  }
+
+}
@@ -20,7 +20,8 @@ import io.micrometer.observation.ObservationConvention;
 import io.micrometer.observation.docs.ObservationDocumentation;
 
 /**
- * An {@link Observation} for {@link io.dapr.spring.messaging.DaprMessagingTemplate}.
+ * {@link Observation Observations} for {@link io.dapr.spring.messaging.DaprMessagingTemplate} and Dapr listener
+ * containers.
  *
  */
 public enum DaprMessagingObservationDocumentation implements ObservationDocumentation {
@@ -44,6 +45,27 @@ public enum DaprMessagingObservationDocumentation implements ObservationDocument
     public KeyName[] getLowCardinalityKeyNames() {
       return TemplateLowCardinalityTags.values();
     }
+  },
+
+  /**
+   * Observation created when a Dapr listener container processes a batch of events.
+   */
+  LISTENER_OBSERVATION {
+
+    @Override
+    public Class<? extends ObservationConvention<? extends Context>> getDefaultConvention() {
+      return DefaultDaprMessagingListenerObservationConvention.class;
+    }
+
+    @Override
+    public String getPrefix() {
+      return "spring.dapr.messaging.listener";
+    }
+
+    @Override
+    public KeyName[] getLowCardinalityKeyNames() {
+      return ListenerLowCardinalityTags.values();
+    }
   };
 
   /**
@@ -61,4 +83,31 @@ public enum DaprMessagingObservationDocumentation implements ObservationDocument
       }
     }
   }
+
+  /**
+   * Low cardinality tags of the listener observation.
+   */
+  public enum ListenerLowCardinalityTags implements KeyName {
+    /**
+     * Id of the listener that processed the events.
+     */
+    LISTENER_ID {
+
+      @Override
+      public String asString() {
+        return "spring.dapr.messaging.listener.id";
+      }
+    },
+
+    /**
+     * Topic the events were received from.
+     */
+    TOPIC {
+
+      @Override
+      public String asString() {
+        return "spring.dapr.messaging.listener.topic";
+      }
+    }
+  }
 }
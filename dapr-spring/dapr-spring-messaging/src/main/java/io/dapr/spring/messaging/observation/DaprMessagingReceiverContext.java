@@ -0,0 +1,108 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.observation;
+
+import io.dapr.client.domain.CloudEvent;
+import io.micrometer.observation.transport.ReceiverContext;
+
+import java.time.Duration;
+
+/**
+ * {@link ReceiverContext} for Dapr listener containers. The trace context is extracted from the first event of the
+ * processed batch.
+ *
+ */
+public final class DaprMessagingReceiverContext extends ReceiverContext<CloudEvent<?>> {
+
+  private static final String TRACEPARENT = "traceparent";
+
+  private static final String TRACESTATE = "tracestate";
+
+  private final String listenerId;
+
+  private final String source;
+
+  private final int batchSize;
+
+  private final Duration lag;
+
+  private DaprMessagingReceiverContext(CloudEvent<?> event, String listenerId, String topic, int batchSize,
+                                       Duration lag) {
+    super(DaprMessagingReceiverContext::getHeader);
+    setCarrier(event);
+    this.listenerId = listenerId;
+    this.source = topic;
+    this.batchSize = batchSize;
+    this.lag = lag;
+  }
+
+  /**
+   * Create a new context.
+   * @param event first event of the batch being processed
+   * @param listenerId id of the listener processing the events
+   * @param topic topic the events were received from
+   * @param batchSize number of events being processed
+   * @param lag time elapsed between the publication of the oldest event and the start of its processing
+   * @return DaprMessagingReceiverContext
+   */
+  public static DaprMessagingReceiverContext newContext(CloudEvent<?> event, String listenerId, String topic,
+                                                        int batchSize, Duration lag) {
+    return new DaprMessagingReceiverContext(event, listenerId, topic, batchSize, lag);
+  }
+
+  private static String getHeader(CloudEvent<?> event, String key) {
+    if (TRACEPARENT.equals(key)) {
+      return event.getTraceParent();
+    }
+
+    if (TRACESTATE.equals(key)) {
+      return event.getTraceState();
+    }
+
+    return null;
+  }
+
+  /**
+   * The id of the listener processing the events.
+   * @return the listener id
+   */
+  public String getListenerId() {
+    return this.listenerId;
+  }
+
+  /**
+   * The topic the events were received from.
+   * @return the topic
+   */
+  public String getSource() {
+    return this.source;
+  }
+
+  /**
+   * The number of events processed together.
+   * @return the batch size
+   */
+  public int getBatchSize() {
+    return this.batchSize;
+  }
+
+  /**
+   * Time elapsed between the publication of the oldest event of the batch and the start of its processing, or
+   * {@link Duration#ZERO} when the events carry no timestamp.
+   * @return the consumer lag
+   */
+  public Duration getLag() {
+    return this.lag;
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.observation;
+
+import io.micrometer.common.KeyValues;
+
+/**
+ * Default {@link DaprMessagingListenerObservationConvention} for Dapr listener key values.
+ *
+ */
+class DefaultDaprMessagingListenerObservationConvention implements DaprMessagingListenerObservationConvention {
+  /**
+   * A singleton instance of the convention.
+   */
+  public static final DefaultDaprMessagingListenerObservationConvention INSTANCE =
+      new DefaultDaprMessagingListenerObservationConvention();
+
+  @Override
+  public KeyValues getLowCardinalityKeyValues(DaprMessagingReceiverContext context) {
+    return KeyValues.of(
+        DaprMessagingObservationDocumentation.ListenerLowCardinalityTags.LISTENER_ID.asString(),
+        context.getListenerId(),
+        DaprMessagingObservationDocumentation.ListenerLowCardinalityTags.TOPIC.asString(),
+        context.getSource());
+  }
+
+  @Override
+  public String getName() {
+    return "spring.dapr.messaging.listener";
+  }
+
+  @Override
+  public String getContextualName(DaprMessagingReceiverContext context) {
+    return context.getSource() + " receive";
+  }
+
+}
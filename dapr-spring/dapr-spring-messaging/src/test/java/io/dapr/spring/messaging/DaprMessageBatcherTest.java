@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DaprMessageBatcherTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+  private Mono<Void> record(String topic, List<String> messages) {
+    batches.add(messages);
+    return Mono.empty();
+  }
+
+  @Test
+  public void fullBatchesArePublishedWithoutWaitingForLinger() {
+    DaprMessageBatcher<String> batcher = new DaprMessageBatcher<>(this::record, 2, Duration.ofHours(1));
+
+    Mono.when(batcher.add("orders", "1"), batcher.add("orders", "2")).block(TIMEOUT);
+
+    assertEquals(List.of(List.of("1", "2")), batches);
+  }
+
+  @Test
+  public void partialBatchesArePublishedAfterLinger() {
+    DaprMessageBatcher<String> batcher = new DaprMessageBatcher<>(this::record, 100, Duration.ofMillis(50));
+
+    Mono.when(batcher.add("orders", "1"), batcher.add("orders", "2")).block(TIMEOUT);
+
+    assertEquals(List.of(List.of("1", "2")), batches);
+  }
+
+  @Test
+  public void messagesKeepTheirOrderAcrossBatches() {
+    DaprMessageBatcher<String> batcher = new DaprMessageBatcher<>(this::record, 3, Duration.ofMillis(50));
+
+    Flux.range(0, 10)
+        .concatMap(i -> Mono.just(batcher.add("orders", String.valueOf(i)).cache()))
+        .collectList()
+        .flatMap(results -> Mono.when(results))
+        .block(TIMEOUT);
+
+    List<String> published = new CopyOnWriteArrayList<>();
+    batches.forEach(published::addAll);
+    assertEquals(List.of("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"), published);
+    assertTrue(batches.stream().allMatch(batch -> batch.size() <= 3));
+  }
+
+  @Test
+  public void topicsAreBatchedSeparately() {
+    List<String> topics = new CopyOnWriteArrayList<>();
+    DaprMessageBatcher<String> batcher = new DaprMessageBatcher<>((topic, messages) -> {
+      topics.add(topic);
+      return record(topic, messages);
+    }, 2, Duration.ofHours(1));
+
+    Mono.when(batcher.add("orders", "1"), batcher.add("payments", "2"),
+        batcher.add("orders", "3"), batcher.add("payments", "4")).block(TIMEOUT);
+
+    assertEquals(2, topics.size());
+    assertTrue(batches.contains(List.of("1", "3")));
+    assertTrue(batches.contains(List.of("2", "4")));
+  }
+
+  @Test
+  public void publishErrorsFailEveryMessageOfTheBatch() {
+    IllegalStateException failure = new IllegalStateException("unavailable");
+    DaprMessageBatcher<String> batcher = new DaprMessageBatcher<>((topic, messages) -> Mono.error(failure), 2,
+        Duration.ofHours(1));
+
+    Mono<Void> first = batcher.add("orders", "1").cache();
+    Mono<Void> second = batcher.add("orders", "2").cache();
+    first.onErrorResume(e -> Mono.empty()).subscribe();
+
+    assertSame(failure, assertThrows(IllegalStateException.class, () -> second.block(TIMEOUT)));
+    assertSame(failure, assertThrows(IllegalStateException.class, () -> first.block(TIMEOUT)));
+  }
+
+  @Test
+  public void failedBatchesDoNotStopLaterOnes() {
+    DaprMessageBatcher<String> batcher = new DaprMessageBatcher<>((topic, messages) -> messages.contains("bad")
+        ? Mono.error(new IllegalStateException("rejected"))
+        : record(topic, messages), 1, Duration.ofHours(1));
+
+    assertThrows(IllegalStateException.class, () -> batcher.add("orders", "bad").block(TIMEOUT));
+    batcher.add("orders", "good").block(TIMEOUT);
+
+    assertEquals(List.of(List.of("good")), batches);
+  }
+
+  @Test
+  public void closePublishesBufferedMessagesAndRejectsNewOnes() {
+    DaprMessageBatcher<String> batcher = new DaprMessageBatcher<>(this::record, 100, Duration.ofHours(1));
+    Mono<Void> pending = batcher.add("orders", "1").cache();
+    pending.subscribe();
+
+    batcher.close().block(TIMEOUT);
+
+    pending.block(TIMEOUT);
+    assertEquals(List.of(List.of("1")), batches);
+    assertThrows(IllegalStateException.class, () -> batcher.add("orders", "2").block(TIMEOUT));
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprPreviewClient;
+import io.dapr.client.domain.BulkPublishEntry;
+import io.dapr.client.domain.BulkPublishRequest;
+import io.dapr.client.domain.BulkPublishResponse;
+import io.dapr.client.domain.BulkPublishResponseFailedEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class DaprMessagingTemplateTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private static final Map<String, String> METADATA = Map.of("ttlInSeconds", "10");
+
+  private DaprClient daprClient;
+
+  private DaprMessagingTemplate<String> template;
+
+  @BeforeEach
+  public void setUp() {
+    daprClient = mock(DaprClient.class, withSettings().extraInterfaces(DaprPreviewClient.class));
+    when(daprClient.publishEvent(anyString(), anyString(), any(), anyMap())).thenReturn(Mono.empty());
+    when(((DaprPreviewClient) daprClient).publishEvents(any(BulkPublishRequest.class)))
+        .thenReturn(Mono.just(new BulkPublishResponse<>()));
+    template = new DaprMessagingTemplate<>(daprClient, "pubsub", false);
+  }
+
+  @Test
+  public void sendAsyncPublishesEvent() {
+    template.sendAsync("orders", "order-1").block(TIMEOUT);
+
+    verify(daprClient).publishEvent("pubsub", "orders", "order-1", METADATA);
+  }
+
+  @Test
+  public void sendPublishesRightAwayWhenBuffering() {
+    template.setBatchLinger(Duration.ofHours(1));
+
+    assertTimeoutPreemptively(TIMEOUT, () -> template.send("orders", "order-1"));
+
+    verify(daprClient).publishEvent("pubsub", "orders", "order-1", METADATA);
+    verify((DaprPreviewClient) daprClient, never()).publishEvents(any(BulkPublishRequest.class));
+  }
+
+  @Test
+  public void builderSendPublishesRightAwayWhenBuffering() {
+    template.setBatchLinger(Duration.ofHours(1));
+
+    assertTimeoutPreemptively(TIMEOUT, () -> template.newMessage("order-1").withTopic("orders").send());
+
+    verify(daprClient).publishEvent("pubsub", "orders", "order-1", METADATA);
+  }
+
+  @Test
+  public void sendBatchPublishesSingleBulkRequest() {
+    template.sendBatch("orders", List.of("order-1", "order-2"));
+
+    BulkPublishRequest<String> request = captureBulkRequest();
+    assertEquals("pubsub", request.getPubsubName());
+    assertEquals("orders", request.getTopic());
+    assertEquals(METADATA, request.getMetadata());
+    assertEquals(List.of("order-1", "order-2"), events(request));
+    verify(daprClient, never()).publishEvent(anyString(), anyString(), any(), anyMap());
+  }
+
+  @Test
+  public void sendBatchAsyncFailsOnRejectedEntries() {
+    BulkPublishEntry<String> entry = new BulkPublishEntry<>("1", "order-2", null);
+    when(((DaprPreviewClient) daprClient).publishEvents(any(BulkPublishRequest.class)))
+        .thenReturn(Mono.just(new BulkPublishResponse<>(
+            List.of(new BulkPublishResponseFailedEntry<>(entry, "rejected")))));
+
+    IllegalStateException error = assertThrows(IllegalStateException.class,
+        () -> template.sendBatchAsync("orders", List.of("order-1", "order-2")).block(TIMEOUT));
+
+    assertTrue(error.getMessage().contains("rejected"));
+  }
+
+  @Test
+  public void sendBatchAsyncIgnoresEmptyBatches() {
+    template.sendBatchAsync("orders", List.of()).block(TIMEOUT);
+
+    verify((DaprPreviewClient) daprClient, never()).publishEvents(any(BulkPublishRequest.class));
+  }
+
+  @Test
+  public void sendBatchPublishesOneByOneWithoutBulkSupport() {
+    DaprClient plainClient = mock(DaprClient.class);
+    when(plainClient.publishEvent(anyString(), anyString(), any(), anyMap())).thenReturn(Mono.empty());
+    DaprMessagingTemplate<String> plainTemplate = new DaprMessagingTemplate<>(plainClient, "pubsub", false);
+
+    plainTemplate.sendBatch("orders", List.of("order-1", "order-2"));
+
+    verify(plainClient).publishEvent("pubsub", "orders", "order-1", METADATA);
+    verify(plainClient).publishEvent("pubsub", "orders", "order-2", METADATA);
+  }
+
+  @Test
+  public void sendAsyncBuffersUntilBatchIsFull() {
+    template.setBatchLinger(Duration.ofHours(1));
+    template.setMaxBatchSize(2);
+
+    Mono.when(template.sendAsync("orders", "order-1"), template.sendAsync("orders", "order-2")).block(TIMEOUT);
+
+    assertEquals(List.of("order-1", "order-2"), events(captureBulkRequest()));
+    verify(daprClient, never()).publishEvent(anyString(), anyString(), any(), anyMap());
+  }
+
+  @Test
+  public void destroyPublishesBufferedMessages() {
+    template.setBatchLinger(Duration.ofHours(1));
+    Mono<Void> result = template.sendAsync("orders", "order-1").cache();
+    result.subscribe();
+
+    template.destroy();
+
+    result.block(TIMEOUT);
+    assertEquals(List.of("order-1"), events(captureBulkRequest()));
+    assertThrows(IllegalStateException.class, () -> template.sendAsync("orders", "order-2").block(TIMEOUT));
+  }
+
+  @Test
+  public void invalidBatchSettingsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> template.setMaxBatchSize(0));
+    assertThrows(IllegalArgumentException.class, () -> template.setBatchLinger(Duration.ofMillis(-1)));
+    assertThrows(IllegalArgumentException.class, () -> template.setBatchLinger(null));
+  }
+
+  @SuppressWarnings("unchecked")
+  private BulkPublishRequest<String> captureBulkRequest() {
+    ArgumentCaptor<BulkPublishRequest<String>> captor = ArgumentCaptor.forClass(BulkPublishRequest.class);
+    verify((DaprPreviewClient) daprClient, times(1)).publishEvents(captor.capture());
+    return captor.getValue();
+  }
+
+  private static List<String> events(BulkPublishRequest<String> request) {
+    return request.getEntries().stream().map(BulkPublishEntry::getEvent).collect(Collectors.toList());
+  }
+}
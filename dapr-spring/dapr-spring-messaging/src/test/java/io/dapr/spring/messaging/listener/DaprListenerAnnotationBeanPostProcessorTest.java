@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.listener;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprPreviewClient;
+import io.dapr.client.Subscription;
+import io.dapr.client.SubscriptionListener.Status;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+public class DaprListenerAnnotationBeanPostProcessorTest {
+
+  private DaprClient daprClient;
+
+  private Subscription subscription;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    daprClient = mock(DaprClient.class, withSettings().extraInterfaces(DaprPreviewClient.class));
+    subscription = mock(Subscription.class);
+    when(((DaprPreviewClient) daprClient).subscribeToEvents(anyString(), anyString(), any(), any(TypeRef.class)))
+        .thenReturn(subscription);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void listenersAreStartedOnRefreshAndStoppedOnClose() {
+    OrderListener listener = new OrderListener();
+    DaprListenerAnnotationBeanPostProcessor postProcessor;
+
+    try (AnnotationConfigApplicationContext context = newContext(OrderListener.class, () -> listener)) {
+      postProcessor = context.getBean(DaprListenerAnnotationBeanPostProcessor.class);
+      List<DaprListenerContainer<Object>> containers = postProcessor.getContainers();
+
+      assertEquals(2, containers.size());
+      assertTrue(containers.stream().allMatch(DaprListenerContainer::isRunning));
+      assertTrue(containers.stream().anyMatch(container -> container.getId().equals("orders-listener")));
+      assertTrue(containers.stream().anyMatch(container -> container.getId().equals("OrderListener#onPayment")));
+      verify((DaprPreviewClient) daprClient).subscribeToEvents(eq("pubsub"), eq("orders"), any(),
+          any(TypeRef.class));
+      verify((DaprPreviewClient) daprClient).subscribeToEvents(eq("default-pubsub"), eq("payments"), any(),
+          any(TypeRef.class));
+
+      DaprListenerContainer<Object> orders = containers.stream()
+          .filter(container -> container.getId().equals("orders-listener"))
+          .findFirst().get();
+      CloudEvent<Object> event = new CloudEvent<>();
+      event.setData("order-1");
+      assertEquals(Status.SUCCESS, orders.onEvent(event).block());
+      assertEquals(List.of("order-1"), listener.orders);
+    }
+
+    assertTrue(postProcessor.getContainers().isEmpty());
+    verify(subscription, times(2)).close();
+  }
+
+  @Test
+  public void batchSizeRequiresBatchListener() {
+    Exception e = assertThrows(Exception.class,
+        () -> newContext(InvalidBatchListener.class, InvalidBatchListener::new).close());
+
+    assertInstanceOf(IllegalStateException.class, NestedExceptionUtils.getMostSpecificCause(e));
+    assertTrue(NestedExceptionUtils.getMostSpecificCause(e).getMessage().contains("batch size"));
+  }
+
+  @Test
+  public void streamingSubscriptionsAreRequired() {
+    daprClient = mock(DaprClient.class);
+
+    Exception e = assertThrows(Exception.class,
+        () -> newContext(OrderListener.class, OrderListener::new).close());
+
+    assertInstanceOf(IllegalStateException.class, NestedExceptionUtils.getMostSpecificCause(e));
+  }
+
+  private <T> AnnotationConfigApplicationContext newContext(Class<T> listenerType,
+                                                            Supplier<T> listener) {
+    AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+    context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test",
+        Map.of(DaprListenerAnnotationBeanPostProcessor.PUBSUB_NAME_PROPERTY, "default-pubsub",
+            "orders.topic", "orders")));
+    context.register(DaprListenerConfiguration.class);
+    context.registerBean(DaprClient.class, () -> daprClient);
+    context.registerBean(listenerType, listener);
+    context.refresh();
+    return context;
+  }
+
+  static class OrderListener {
+
+    private final List<Object> orders = new CopyOnWriteArrayList<>();
+
+    @DaprListener(topic = "${orders.topic}", pubsubName = "pubsub", id = "orders-listener")
+    public void onOrder(String order) {
+      orders.add(order);
+    }
+
+    @DaprListener(topic = "payments")
+    public Status onPayment(String payment) {
+      return Status.SUCCESS;
+    }
+  }
+
+  static class InvalidBatchListener {
+
+    @DaprListener(topic = "orders", batchSize = 10)
+    public void onOrder(String order) {
+    }
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.listener;
+
+import io.dapr.client.DaprPreviewClient;
+import io.dapr.client.Subscription;
+import io.dapr.client.SubscriptionListener.Status;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DaprListenerContainerTest {
+
+  private DaprPreviewClient daprClient;
+
+  private Subscription subscription;
+
+  private DaprListenerContainer<String> container;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    daprClient = mock(DaprPreviewClient.class);
+    subscription = mock(Subscription.class);
+    when(daprClient.subscribeToEvents(eq("pubsub"), eq("orders"), any(), any(TypeRef.class)))
+        .thenReturn(subscription);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    container.stop();
+    verify(subscription).close();
+  }
+
+  @Test
+  public void eventsWithSameKeyAreProcessedInOrder() {
+    Map<String, List<String>> processed = new ConcurrentHashMap<>();
+    container = new DaprListenerContainer<>(daprClient, "pubsub", "orders", TypeRef.STRING, events -> {
+      Thread.sleep(1);
+      events.forEach(event ->
+          processed.computeIfAbsent(event.getSource(), key -> new CopyOnWriteArrayList<>()).add(event.getData()));
+      return Status.SUCCESS;
+    });
+    container.setConcurrency(4);
+    container.setKeyExtractor(CloudEvent::getSource);
+    container.start();
+
+    List<Status> statuses = Flux.range(0, 40)
+        .flatMap(i -> container.onEvent(event("key-" + (i % 5), String.valueOf(i))))
+        .collectList()
+        .block();
+
+    assertEquals(Collections.nCopies(40, Status.SUCCESS), statuses);
+    assertEquals(5, processed.size());
+    processed.forEach((key, values) -> {
+      List<Integer> numbers = values.stream().map(Integer::valueOf).collect(Collectors.toList());
+      List<Integer> sorted = new ArrayList<>(numbers);
+      Collections.sort(sorted);
+      assertEquals(sorted, numbers);
+    });
+    assertEquals(0, container.getPendingEvents());
+  }
+
+  @Test
+  public void eventsAreHandedOverInBatches() {
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    container = new DaprListenerContainer<>(daprClient, "pubsub", "orders", TypeRef.STRING, events -> {
+      batchSizes.add(events.size());
+      return Status.SUCCESS;
+    });
+    container.setBatchSize(10);
+    container.setBatchTimeout(Duration.ofMillis(50));
+    container.start();
+
+    Flux.range(0, 25)
+        .flatMap(i -> container.onEvent(event(null, String.valueOf(i))))
+        .blockLast();
+
+    assertEquals(25, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    assertTrue(batchSizes.stream().allMatch(size -> size <= 10));
+    assertTrue(batchSizes.size() < 25);
+  }
+
+  @Test
+  public void failedEventsAreRetried() {
+    container = new DaprListenerContainer<>(daprClient, "pubsub", "orders", TypeRef.STRING, events -> {
+      throw new IllegalArgumentException("boom");
+    });
+    container.start();
+
+    assertEquals(Status.RETRY, container.onEvent(event(null, "1")).block());
+    assertEquals(0, container.getPendingEvents());
+  }
+
+  @Test
+  public void stopProcessesBufferedEventsBeforeClosingTheSubscription() {
+    List<String> processed = new CopyOnWriteArrayList<>();
+    List<Integer> processedWhenClosed = new CopyOnWriteArrayList<>();
+    doAnswer(invocation -> processedWhenClosed.add(processed.size())).when(subscription).close();
+    container = new DaprListenerContainer<>(daprClient, "pubsub", "orders", TypeRef.STRING, events -> {
+      Thread.sleep(100);
+      events.forEach(event -> processed.add(event.getData()));
+      return Status.SUCCESS;
+    });
+    container.setBatchSize(2);
+    container.setBatchTimeout(Duration.ofHours(1));
+    container.start();
+
+    List<Mono<Status>> statuses = Flux.range(0, 3)
+        .map(i -> container.onEvent(event(null, String.valueOf(i))).cache())
+        .doOnNext(Mono::subscribe)
+        .collectList()
+        .block();
+
+    container.stop();
+
+    assertEquals(List.of(3), processedWhenClosed);
+    assertEquals(List.of("0", "1", "2"), processed);
+    statuses.forEach(status -> assertEquals(Status.SUCCESS, status.block(Duration.ofSeconds(5))));
+    assertEquals(Status.RETRY, container.onEvent(event(null, "3")).block());
+  }
+
+  @Test
+  public void stopGivesUpOnSlowBatchesAfterShutdownTimeout() {
+    CountDownLatch release = new CountDownLatch(1);
+    container = new DaprListenerContainer<>(daprClient, "pubsub", "orders", TypeRef.STRING, events -> {
+      release.await();
+      return Status.SUCCESS;
+    });
+    container.setShutdownTimeout(Duration.ofMillis(100));
+    container.start();
+    container.onEvent(event(null, "1")).subscribe();
+
+    long start = System.nanoTime();
+    container.stop();
+    release.countDown();
+
+    assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+    assertFalse(container.isRunning());
+  }
+
+  private static CloudEvent<String> event(String source, String data) {
+    CloudEvent<String> event = new CloudEvent<>();
+    event.setId(data);
+    event.setSource(source);
+    event.setData(data);
+    return event;
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.spring.messaging.listener;
+
+import io.dapr.client.SubscriptionListener.Status;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MethodDaprMessageHandlerTest {
+
+  private final Listener listener = new Listener();
+
+  @Test
+  public void payloadListenerReceivesEventData() throws Exception {
+    MethodDaprMessageHandler handler = handler("onPayload", String.class);
+
+    assertFalse(handler.isBatch());
+    assertEquals(TypeRef.STRING.getType(), handler.getPayloadType().getType());
+    assertEquals(Status.SUCCESS, handler.handle(List.of(event("1"), event("2"))));
+    assertEquals(List.of("1", "2"), listener.received);
+  }
+
+  @Test
+  public void eventListenerReceivesWholeEvent() throws Exception {
+    MethodDaprMessageHandler handler = handler("onEvent", CloudEvent.class);
+
+    assertEquals(TypeRef.STRING.getType(), handler.getPayloadType().getType());
+    assertEquals(Status.SUCCESS, handler.handle(List.of(event("1"))));
+    assertEquals(List.of("event-1"), listener.received);
+  }
+
+  @Test
+  public void batchListenerReceivesWholeBatch() throws Exception {
+    MethodDaprMessageHandler handler = handler("onBatch", List.class);
+
+    assertTrue(handler.isBatch());
+    assertEquals(TypeRef.STRING.getType(), handler.getPayloadType().getType());
+    assertEquals(Status.SUCCESS, handler.handle(List.of(event("1"), event("2"))));
+    assertEquals(List.of("[1, 2]"), listener.received);
+  }
+
+  @Test
+  public void eventBatchListenerReceivesWholeEvents() throws Exception {
+    MethodDaprMessageHandler handler = handler("onEventBatch", List.class);
+
+    assertTrue(handler.isBatch());
+    assertEquals(TypeRef.STRING.getType(), handler.getPayloadType().getType());
+    assertEquals(Status.DROP, handler.handle(List.of(event("1"), event("2"))));
+    assertEquals(List.of("events-2"), listener.received);
+  }
+
+  @Test
+  public void failedStatusIsKeptForTheBatch() throws Exception {
+    MethodDaprMessageHandler handler = handler("onStatus", String.class);
+
+    assertEquals(Status.RETRY, handler.handle(List.of(event("retry"), event("1"))));
+  }
+
+  @Test
+  public void listenerExceptionsAreRethrown() {
+    MethodDaprMessageHandler handler = handler("onFailure", String.class);
+
+    assertThrows(IllegalArgumentException.class, () -> handler.handle(List.of(event("1"))));
+  }
+
+  @Test
+  public void invalidSignaturesAreRejected() {
+    assertThrows(IllegalStateException.class, () -> handler("onTwoArguments", String.class, String.class));
+    assertThrows(IllegalStateException.class, () -> handler("onInvalidReturnType", String.class));
+  }
+
+  private MethodDaprMessageHandler handler(String name, Class<?>... parameterTypes) {
+    try {
+      Method method = Listener.class.getDeclaredMethod(name, parameterTypes);
+      return new MethodDaprMessageHandler(listener, method);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static CloudEvent<Object> event(String data) {
+    CloudEvent<String> event = new CloudEvent<>();
+    event.setId(data);
+    event.setData(data);
+    return (CloudEvent<Object>) (CloudEvent<?>) event;
+  }
+
+  static class Listener {
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+
+    void onPayload(String payload) {
+      received.add(payload);
+    }
+
+    void onEvent(CloudEvent<String> event) {
+      received.add("event-" + event.getId());
+    }
+
+    void onBatch(List<String> payloads) {
+      received.add(payloads.toString());
+    }
+
+    Status onEventBatch(List<CloudEvent<String>> events) {
+      received.add("events-" + events.size());
+      return Status.DROP;
+    }
+
+    Status onStatus(String payload) {
+      return "retry".equals(payload) ? Status.RETRY : null;
+    }
+
+    void onFailure(String payload) {
+      throw new IllegalArgumentException(payload);
+    }
+
+    void onTwoArguments(String first, String second) {
+    }
+
+    String onInvalidReturnType(String payload) {
+      return payload;
+    }
+  }
+}
@@ -7,18 +7,34 @@ import io.dapr.workflows.runtime.WorkflowRuntimeBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 @Configuration
-public class DaprWorkflowsConfiguration implements ApplicationContextAware {
+public class DaprWorkflowsConfiguration implements ApplicationContextAware, DisposableBean {
   private static final Logger LOGGER = LoggerFactory.getLogger(DaprWorkflowsConfiguration.class);
 
+  /**
+   * Name of an optional {@link ExecutorService} bean used to run workflow and activity work items.
+   */
+  public static final String WORKFLOW_EXECUTOR_BEAN_NAME = "daprWorkflowExecutorService";
+
+  static final String MAX_CONCURRENT_WORKFLOWS_PROPERTY = "dapr.workflows.max-concurrent-workflows";
+
+  static final String MAX_CONCURRENT_ACTIVITIES_PROPERTY = "dapr.workflows.max-concurrent-activities";
+
+  static final String VIRTUAL_THREADS_PROPERTY = "dapr.workflows.virtual-threads";
+
   private final WorkflowRuntimeBuilder workflowRuntimeBuilder;
 
+  private WorkflowRuntime workflowRuntime;
+
   public DaprWorkflowsConfiguration(WorkflowRuntimeBuilder workflowRuntimeBuilder) {
     this.workflowRuntimeBuilder = workflowRuntimeBuilder;
   }
@@ -46,9 +62,38 @@ public class DaprWorkflowsConfiguration implements ApplicationContextAware {
       workflowRuntimeBuilder.registerActivity(activity);
     }
 
-    try (WorkflowRuntime runtime = workflowRuntimeBuilder.build()) {
-      LOGGER.info("Starting workflow runtime ... ");
-      runtime.start(false);
+    configureConcurrency(applicationContext);
+
+    // The runtime keeps processing work items in the background until the application context is closed.
+    workflowRuntime = workflowRuntimeBuilder.build();
+    LOGGER.info("Starting workflow runtime ... ");
+    workflowRuntime.start(false);
+  }
+
+  /**
+   * Applies the work item concurrency settings from the environment to the workflowRuntimeBuilder.
+   * @param applicationContext Spring Application Context
+   */
+  private void configureConcurrency(ApplicationContext applicationContext) {
+    Environment environment = applicationContext.getEnvironment();
+
+    Integer maxConcurrentWorkflows = environment.getProperty(MAX_CONCURRENT_WORKFLOWS_PROPERTY, Integer.class);
+    if (maxConcurrentWorkflows != null) {
+      workflowRuntimeBuilder.withMaxConcurrentWorkflows(maxConcurrentWorkflows);
+    }
+
+    Integer maxConcurrentActivities = environment.getProperty(MAX_CONCURRENT_ACTIVITIES_PROPERTY, Integer.class);
+    if (maxConcurrentActivities != null) {
+      workflowRuntimeBuilder.withMaxConcurrentActivities(maxConcurrentActivities);
+    }
+
+    if (applicationContext.containsBean(WORKFLOW_EXECUTOR_BEAN_NAME)) {
+      LOGGER.info("Running Dapr Workflow work items on executor '{}'", WORKFLOW_EXECUTOR_BEAN_NAME);
+      workflowRuntimeBuilder.withExecutorService(
+          applicationContext.getBean(WORKFLOW_EXECUTOR_BEAN_NAME, ExecutorService.class));
+    } else if (environment.getProperty(VIRTUAL_THREADS_PROPERTY, Boolean.class, false)) {
+      LOGGER.info("Running Dapr Workflow work items on virtual threads");
+      workflowRuntimeBuilder.withVirtualThreads();
     }
   }
 
@@ -56,4 +101,16 @@ public class DaprWorkflowsConfiguration implements ApplicationContextAware {
   public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
     registerWorkflowsAndActivities(applicationContext);
   }
+
+  /**
+   * Stops the workflow runtime, so its worker and executor threads do not outlive the application context.
+   */
+  @Override
+  public void destroy() {
+    if (workflowRuntime != null) {
+      LOGGER.info("Stopping workflow runtime ... ");
+      workflowRuntime.close();
+      workflowRuntime = null;
+    }
+  }
 }
@@ -13,6 +13,7 @@ limitations under the License.
 
 package io.dapr.actors.client;
 
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.config.Properties;
 import io.dapr.utils.NetworkUtils;
@@ -84,10 +85,27 @@ public class ActorClient implements AutoCloseable {
    * @param resiliencyOptions Client resiliency options.
    */
   public ActorClient(Properties overrideProperties, Map<String, String> metadata, ResiliencyOptions resiliencyOptions) {
+    this(overrideProperties, metadata, resiliencyOptions, DaprMetrics.NOOP);
+  }
+
+  /**
+   * Instantiates a new channel for Dapr sidecar communication.
+   *
+   * @param overrideProperties Override properties.
+   * @param metadata gRPC metadata or HTTP headers for actor invocation.
+   * @param resiliencyOptions Client resiliency options.
+   * @param metrics Metrics recorder for actor invocations.
+   */
+  public ActorClient(
+      Properties overrideProperties,
+      Map<String, String> metadata,
+      ResiliencyOptions resiliencyOptions,
+      DaprMetrics metrics) {
     this(NetworkUtils.buildGrpcManagedChannel(overrideProperties),
         metadata,
         resiliencyOptions,
-        overrideProperties.getValue(Properties.API_TOKEN));
+        overrideProperties.getValue(Properties.API_TOKEN),
+        metrics);
   }
 
   /**
@@ -97,14 +115,16 @@ public class ActorClient implements AutoCloseable {
    * @param metadata gRPC metadata or HTTP headers for actor invocation.
    * @param resiliencyOptions Client resiliency options.
    * @param daprApiToken Dapr API token.
+   * @param metrics Metrics recorder for actor invocations.
    */
   private ActorClient(
       ManagedChannel grpcManagedChannel,
       Map<String, String> metadata,
       ResiliencyOptions resiliencyOptions,
-      String daprApiToken) {
+      String daprApiToken,
+      DaprMetrics metrics) {
     this.grpcManagedChannel = grpcManagedChannel;
-    this.daprClient = buildDaprClient(grpcManagedChannel, metadata, resiliencyOptions, daprApiToken);
+    this.daprClient = buildDaprClient(grpcManagedChannel, metadata, resiliencyOptions, daprApiToken, metrics);
   }
 
   /**
@@ -141,11 +161,13 @@ public class ActorClient implements AutoCloseable {
       Channel grpcManagedChannel,
       Map<String, String> metadata,
       ResiliencyOptions resiliencyOptions,
-      String daprApiToken) {
+      String daprApiToken,
+      DaprMetrics metrics) {
     return new DaprClientImpl(
         DaprGrpc.newStub(grpcManagedChannel),
         metadata == null ? null : Collections.unmodifiableMap(metadata),
         resiliencyOptions,
-        daprApiToken);
+        daprApiToken,
+        metrics);
   }
 }
@@ -14,10 +14,15 @@ limitations under the License.
 package io.dapr.actors.client;
 
 import com.google.protobuf.ByteString;
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.config.Properties;
 import io.dapr.exceptions.DaprException;
 import io.dapr.internal.grpc.DaprClientGrpcInterceptors;
+import io.dapr.internal.resiliency.AdaptiveConcurrencyLimiter;
+import io.dapr.internal.resiliency.BulkheadPolicy;
+import io.dapr.internal.resiliency.CircuitBreakerPolicy;
+import io.dapr.internal.resiliency.RetryBudget;
 import io.dapr.internal.resiliency.RetryPolicy;
 import io.dapr.internal.resiliency.TimeoutPolicy;
 import io.dapr.v1.DaprGrpc;
@@ -49,7 +54,7 @@ class DaprClientImpl implements DaprClient {
   private final RetryPolicy retryPolicy;
 
   /**
-   * The async gRPC stub.
+   * The async gRPC stub, with the Dapr interceptor already installed.
    */
   private final DaprGrpc.DaprStub client;
 
@@ -76,11 +81,35 @@ class DaprClientImpl implements DaprClient {
       Map<String, String> metadata,
       ResiliencyOptions resiliencyOptions,
       String daprApiToken) {
-    this.client = grpcClient;
+    this(grpcClient, metadata, resiliencyOptions, daprApiToken, DaprMetrics.NOOP);
+  }
+
+  /**
+   * Internal constructor.
+   *
+   * @param grpcClient Dapr's GRPC client.
+   * @param metadata gRPC metadata or HTTP headers for actor server to receive.
+   * @param resiliencyOptions Client resiliency options (optional).
+   * @param daprApiToken Dapr API token (optional).
+   * @param metrics Metrics recorder for every call.
+   */
+  DaprClientImpl(
+      DaprGrpc.DaprStub grpcClient,
+      Map<String, String> metadata,
+      ResiliencyOptions resiliencyOptions,
+      String daprApiToken,
+      DaprMetrics metrics) {
     this.grpcInterceptors = new DaprClientGrpcInterceptors(daprApiToken,
-        new TimeoutPolicy(resiliencyOptions == null ? null : resiliencyOptions.getTimeout()));
+        new TimeoutPolicy(resiliencyOptions == null ? null : resiliencyOptions.getTimeout()),
+        metrics,
+        CircuitBreakerPolicy.fromOptions(resiliencyOptions),
+        BulkheadPolicy.fromOptions(resiliencyOptions),
+        AdaptiveConcurrencyLimiter.fromOptions(resiliencyOptions, metrics));
+    this.client = this.grpcInterceptors.install(grpcClient);
     this.retryPolicy = new RetryPolicy(
-        resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries());
+        resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries(),
+        metrics,
+        RetryBudget.fromOptions(resiliencyOptions));
     this.metadata = metadata == null ? Map.of() : metadata;
   }
 
@@ -99,7 +128,7 @@ class DaprClientImpl implements DaprClient {
             .build();
     return Mono.deferContextual(
         context -> this.<DaprProtos.InvokeActorResponse>createMono(
-            it -> this.grpcInterceptors.intercept(client, context).invokeActor(req, it)
+            it -> this.grpcInterceptors.withCallOptions(client, null, context, null).invokeActor(req, it)
         )
     ).map(r -> r.getData().toByteArray());
   }
@@ -15,6 +15,7 @@ package io.dapr.actors.runtime;
 
 import io.dapr.actors.ActorId;
 import io.dapr.actors.ActorTrace;
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.config.Properties;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
@@ -48,6 +49,11 @@ public class ActorRuntime implements Closeable {
    */
   private static final ActorTrace ACTOR_TRACE = new ActorTrace();
 
+  /**
+   * Transport tag for metrics of the calls received from Dapr.
+   */
+  private static final String METRICS_TRANSPORT = "actor";
+
   /**
    * Gets an instance to the ActorRuntime. There is only 1.
    */
@@ -259,8 +265,8 @@ public class ActorRuntime implements Closeable {
    * @return Async void task.
    */
   public Mono<Void> deactivate(String actorTypeName, String actorId) {
-    return Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
-        .flatMap(m -> m.deactivateActor(new ActorId(actorId)));
+    return observe("deactivate", actorTypeName, Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
+        .flatMap(m -> m.deactivateActor(new ActorId(actorId))));
   }
 
   /**
@@ -275,9 +281,9 @@ public class ActorRuntime implements Closeable {
    */
   public Mono<byte[]> invoke(String actorTypeName, String actorId, String actorMethodName, byte[] payload) {
     ActorId id = new ActorId(actorId);
-    return Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
+    return observe("invoke", actorTypeName, Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
         .flatMap(m -> m.activateActor(id).thenReturn(m))
-        .flatMap(m -> ((ActorManager) m).invokeMethod(id, actorMethodName, payload));
+        .flatMap(m -> ((ActorManager) m).invokeMethod(id, actorMethodName, payload)));
   }
 
   /**
@@ -291,9 +297,9 @@ public class ActorRuntime implements Closeable {
    */
   public Mono<Void> invokeReminder(String actorTypeName, String actorId, String reminderName, byte[] params) {
     ActorId id = new ActorId(actorId);
-    return Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
+    return observe("reminder", actorTypeName, Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
         .flatMap(m -> m.activateActor(id).thenReturn(m))
-        .flatMap(m -> ((ActorManager) m).invokeReminder(new ActorId(actorId), reminderName, params));
+        .flatMap(m -> ((ActorManager) m).invokeReminder(new ActorId(actorId), reminderName, params)));
   }
 
   /**
@@ -307,9 +313,34 @@ public class ActorRuntime implements Closeable {
    */
   public Mono<Void> invokeTimer(String actorTypeName, String actorId, String timerName, byte[] params) {
     ActorId id = new ActorId(actorId);
-    return Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
+    return observe("timer", actorTypeName, Mono.fromSupplier(() -> this.getActorManager(actorTypeName))
         .flatMap(m -> m.activateActor(id).thenReturn(m))
-        .flatMap(m -> ((ActorManager) m).invokeTimer(new ActorId(actorId), timerName, params));
+        .flatMap(m -> ((ActorManager) m).invokeTimer(new ActorId(actorId), timerName, params)));
+  }
+
+  /**
+   * Records the latency and outcome of a call received from Dapr.
+   *
+   * @param api           Name of the actor API.
+   * @param actorTypeName Actor type, used as the component of the call.
+   * @param action        Call to be recorded.
+   * @param <T>           Type of the call's result.
+   * @return The call, recorded when subscribed.
+   */
+  private <T> Mono<T> observe(String api, String actorTypeName, Mono<T> action) {
+    DaprMetrics metrics = this.config.getMetrics();
+    if (metrics == DaprMetrics.NOOP) {
+      return action;
+    }
+
+    return Mono.defer(() -> {
+      DaprMetrics.Call call = metrics.start(METRICS_TRANSPORT, api);
+      call.component(actorTypeName);
+      return action
+          .doOnSuccess(r -> call.end("OK"))
+          .doOnError(e -> call.end(e.getClass().getSimpleName()))
+          .doOnCancel(() -> call.end("CANCELLED"));
+    });
   }
 
   /**
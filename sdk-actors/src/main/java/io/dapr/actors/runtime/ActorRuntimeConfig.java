@@ -13,6 +13,8 @@ limitations under the License.
 
 package io.dapr.actors.runtime;
 
+import io.dapr.client.metrics.DaprMetrics;
+
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
@@ -38,6 +40,8 @@ public class ActorRuntimeConfig {
 
   private volatile List<ActorTypeConfig> actorTypeConfigs = new CopyOnWriteArrayList<>();
 
+  private volatile DaprMetrics metrics = DaprMetrics.NOOP;
+
   /**
    * Instantiates a new config for the Actor Runtime.
    */
@@ -191,4 +195,25 @@ public class ActorRuntimeConfig {
   Collection<ActorTypeConfig> getActorTypeConfigs() {
     return Collections.unmodifiableCollection(actorTypeConfigs);
   }
+
+  /**
+   * Gets the metrics recorder for the actor invocations, reminders and timers received from Dapr.
+   * It is not part of the configuration sent to Dapr.
+   *
+   * @return Metrics recorder.
+   */
+  public DaprMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Sets the metrics recorder for the actor invocations, reminders and timers received from Dapr.
+   *
+   * @param metrics Metrics recorder, or null to record nothing.
+   * @return This instance.
+   */
+  public ActorRuntimeConfig setMetrics(DaprMetrics metrics) {
+    this.metrics = metrics == null ? DaprMetrics.NOOP : metrics;
+    return this;
+  }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.springboot;
+
+import io.dapr.client.domain.BulkSubscribeAppResponseStatus;
+import io.dapr.client.domain.BulkSubscribeMessageEntry;
+
+/**
+ * Processes a single entry of a bulk subscribe message, see {@link DaprBulkSubscribeProcessor}.
+ *
+ * @param <T> Type of the entry's event.
+ */
+@FunctionalInterface
+public interface BulkSubscribeEntryHandler<T> {
+
+  /**
+   * Processes an entry.
+   *
+   * @param entry The entry, with its event already deserialized.
+   * @return The status of the entry, {@code null} meaning {@link BulkSubscribeAppResponseStatus#SUCCESS}.
+   * @throws Exception If the entry could not be processed, it is then retried.
+   */
+  BulkSubscribeAppResponseStatus handle(BulkSubscribeMessageEntry<T> entry) throws Exception;
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.springboot;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dapr.client.domain.BulkSubscribeAppResponse;
+import io.dapr.client.domain.BulkSubscribeAppResponseEntry;
+import io.dapr.client.domain.BulkSubscribeAppResponseStatus;
+import io.dapr.client.domain.BulkSubscribeMessage;
+import io.dapr.client.domain.BulkSubscribeMessageEntry;
+import io.dapr.utils.TypeRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Processes the entries of a bulk subscribe message in parallel and aggregates their statuses into the response
+ * expected by the sidecar. Typical use in a {@link io.dapr.springboot.annotations.BulkSubscribe} endpoint:
+ * <pre>{@code
+ * public Mono<BulkSubscribeAppResponse> handle(@RequestBody BulkSubscribeMessage<Object> message) {
+ *   return processor.process(message, new TypeRef<CloudEvent<Order>>() {}, entry -> {
+ *     orders.save(entry.getEvent().getData());
+ *     return BulkSubscribeAppResponseStatus.SUCCESS;
+ *   });
+ * }
+ * }</pre>
+ * Declaring the request body with a loose event type, such as {@code Object}, defers the deserialization of each
+ * event to the worker processing it. Entries whose event cannot be deserialized are dropped, entries whose handler
+ * throws are retried.
+ */
+public class DaprBulkSubscribeProcessor {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DaprBulkSubscribeProcessor.class);
+
+  private static final ObjectMapper DEFAULT_MAPPER = new ObjectMapper()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+  private final int concurrency;
+
+  private final ObjectMapper mapper;
+
+  private final Scheduler scheduler;
+
+  /**
+   * Creates a processor handling as many entries in parallel as there are available processors.
+   */
+  public DaprBulkSubscribeProcessor() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a processor.
+   *
+   * @param concurrency Maximum number of entries processed in parallel.
+   */
+  public DaprBulkSubscribeProcessor(int concurrency) {
+    this(concurrency, DEFAULT_MAPPER, Schedulers.boundedElastic());
+  }
+
+  /**
+   * Creates a processor.
+   *
+   * @param concurrency Maximum number of entries processed in parallel.
+   * @param mapper      Mapper used to deserialize the events.
+   * @param scheduler   Scheduler the entries are processed on.
+   */
+  public DaprBulkSubscribeProcessor(int concurrency, ObjectMapper mapper, Scheduler scheduler) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("Concurrency must be positive");
+    }
+
+    this.concurrency = concurrency;
+    this.mapper = mapper;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Processes every entry of a bulk subscribe message.
+   *
+   * @param message   The bulk subscribe message.
+   * @param eventType Type the events are deserialized to.
+   * @param handler   Handler invoked for each entry.
+   * @param <T>       Type of the events.
+   * @return The response listing the status of every entry.
+   */
+  public <T> Mono<BulkSubscribeAppResponse> process(BulkSubscribeMessage<?> message, Class<T> eventType,
+                                                    BulkSubscribeEntryHandler<T> handler) {
+    return process(message, TypeRef.get(eventType), handler);
+  }
+
+  /**
+   * Processes every entry of a bulk subscribe message.
+   *
+   * @param message   The bulk subscribe message.
+   * @param eventType Type the events are deserialized to.
+   * @param handler   Handler invoked for each entry.
+   * @param <T>       Type of the events.
+   * @return The response listing the status of every entry.
+   */
+  public <T> Mono<BulkSubscribeAppResponse> process(BulkSubscribeMessage<?> message, TypeRef<T> eventType,
+                                                    BulkSubscribeEntryHandler<T> handler) {
+    if (message == null || message.getEntries() == null || message.getEntries().isEmpty()) {
+      return Mono.just(new BulkSubscribeAppResponse(List.of()));
+    }
+
+    JavaType javaType = mapper.constructType(eventType.getType());
+
+    return Flux.fromIterable(message.getEntries())
+        .flatMapSequential(entry -> Mono.fromCallable(() -> processEntry(entry, javaType, handler))
+            .subscribeOn(scheduler), concurrency)
+        .collectList()
+        .map(BulkSubscribeAppResponse::new);
+  }
+
+  private <T> BulkSubscribeAppResponseEntry processEntry(BulkSubscribeMessageEntry<?> entry, JavaType javaType,
+                                                         BulkSubscribeEntryHandler<T> handler) {
+    BulkSubscribeMessageEntry<T> typedEntry;
+
+    try {
+      typedEntry = new BulkSubscribeMessageEntry<>(entry.getEntryId(), convert(entry.getEvent(), javaType),
+          entry.getContentType(), entry.getMetadata());
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn("Dropping bulk subscribe entry {}: could not deserialize its event", entry.getEntryId(), e);
+      return new BulkSubscribeAppResponseEntry(entry.getEntryId(), BulkSubscribeAppResponseStatus.DROP);
+    }
+
+    try {
+      BulkSubscribeAppResponseStatus status = handler.handle(typedEntry);
+      return new BulkSubscribeAppResponseEntry(entry.getEntryId(),
+          status == null ? BulkSubscribeAppResponseStatus.SUCCESS : status);
+    } catch (Exception e) {
+      LOGGER.warn("Retrying bulk subscribe entry {}: processing failed", entry.getEntryId(), e);
+      return new BulkSubscribeAppResponseEntry(entry.getEntryId(), BulkSubscribeAppResponseStatus.RETRY);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T convert(Object event, JavaType javaType) {
+    if (event == null) {
+      return null;
+    }
+
+    if (!javaType.hasGenericTypes() && javaType.getRawClass().isInstance(event)) {
+      return (T) event;
+    }
+
+    return mapper.convertValue(event, javaType);
+  }
+}
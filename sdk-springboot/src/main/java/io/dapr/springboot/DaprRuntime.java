@@ -13,10 +13,13 @@ limitations under the License.
 
 package io.dapr.springboot;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /**
  * Internal Singleton to handle Dapr configuration.
@@ -29,9 +32,14 @@ class DaprRuntime {
   private static volatile DaprRuntime instance;
 
   /**
-   * Map of subscription builders.
+   * Immutable snapshot of the subscription builders, replaced as a whole on every change.
    */
-  private final Map<DaprTopicKey, DaprSubscriptionBuilder> subscriptionBuilders = new HashMap<>();
+  private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+  /**
+   * Listeners notified when a topic is subscribed or unsubscribed.
+   */
+  private final List<DaprSubscriptionChangeListener> listeners = new CopyOnWriteArrayList<>();
 
   /**
    * DaprRuntime should be used as a singleton, using {@link DaprRuntime#getInstance()}. The
@@ -67,12 +75,12 @@ class DaprRuntime {
    * @param route      Destination route for requests.
    * @param metadata   Metadata for extended subscription functionality.
    */
-  public synchronized void addSubscribedTopic(String pubSubName,
-                                              String topicName,
-                                              String match,
-                                              int priority,
-                                              String route,
-                                              Map<String, String> metadata) {
+  public void addSubscribedTopic(String pubSubName,
+                                 String topicName,
+                                 String match,
+                                 int priority,
+                                 String route,
+                                 Map<String, String> metadata) {
     this.addSubscribedTopic(pubSubName, topicName, match, priority, route, metadata, null);
   }
 
@@ -87,13 +95,13 @@ class DaprRuntime {
    * @param metadata      Metadata for extended subscription functionality.
    * @param bulkSubscribe Bulk subscribe configuration.
    */
-  public synchronized void addSubscribedTopic(String pubSubName,
-                                              String topicName,
-                                              String match,
-                                              int priority,
-                                              String route,
-                                              Map<String, String> metadata,
-                                              DaprTopicBulkSubscribe bulkSubscribe) {
+  public void addSubscribedTopic(String pubSubName,
+                                 String topicName,
+                                 String match,
+                                 int priority,
+                                 String route,
+                                 Map<String, String> metadata,
+                                 DaprTopicBulkSubscribe bulkSubscribe) {
     this.addSubscribedTopic(pubSubName, topicName, match, priority, route, null,
         metadata, bulkSubscribe);
   }
@@ -109,13 +117,13 @@ class DaprRuntime {
    * @param deadLetterTopic Name of topic to forward undeliverable messages.
    * @param metadata        Metadata for extended subscription functionality.
    */
-  public synchronized void addSubscribedTopic(String pubSubName,
-                                              String topicName,
-                                              String match,
-                                              int priority,
-                                              String route,
-                                              String deadLetterTopic,
-                                              Map<String, String> metadata) {
+  public void addSubscribedTopic(String pubSubName,
+                                 String topicName,
+                                 String match,
+                                 int priority,
+                                 String route,
+                                 String deadLetterTopic,
+                                 Map<String, String> metadata) {
     this.addSubscribedTopic(pubSubName, topicName, match, priority, route, deadLetterTopic,
         metadata, null);
   }
@@ -132,44 +140,163 @@ class DaprRuntime {
    * @param metadata        Metadata for extended subscription functionality.
    * @param bulkSubscribe   Bulk subscribe configuration.
    */
-  public synchronized void addSubscribedTopic(String pubSubName,
-                                              String topicName,
-                                              String match,
-                                              int priority,
-                                              String route,
-                                              String deadLetterTopic,
-                                              Map<String, String> metadata,
-                                              DaprTopicBulkSubscribe bulkSubscribe) {
+  public void addSubscribedTopic(String pubSubName,
+                                 String topicName,
+                                 String match,
+                                 int priority,
+                                 String route,
+                                 String deadLetterTopic,
+                                 Map<String, String> metadata,
+                                 DaprTopicBulkSubscribe bulkSubscribe) {
     DaprTopicKey topicKey = new DaprTopicKey(pubSubName, topicName);
 
-    DaprSubscriptionBuilder builder = subscriptionBuilders.get(topicKey);
-    if (builder == null) {
-      builder = new DaprSubscriptionBuilder(pubSubName, topicName);
-      subscriptionBuilders.put(topicKey, builder);
-    }
+    update(topicKey, current -> {
+      DaprSubscriptionBuilder builder = current == null
+          ? new DaprSubscriptionBuilder(pubSubName, topicName)
+          : new DaprSubscriptionBuilder(current);
 
-    if (match.length() > 0) {
-      builder.addRule(route, match, priority);
-    } else {
-      builder.setDefaultPath(route);
-    }
+      if (match.length() > 0) {
+        builder.addRule(route, match, priority);
+      } else {
+        builder.setDefaultPath(route);
+      }
 
-    if (metadata != null && !metadata.isEmpty()) {
-      builder.setMetadata(metadata);
-    }
+      if (metadata != null && !metadata.isEmpty()) {
+        builder.setMetadata(metadata);
+      }
+
+      if (deadLetterTopic != null && !deadLetterTopic.isEmpty()) {
+        builder.setDeadLetterTopic(deadLetterTopic);
+      }
+
+      if (bulkSubscribe != null) {
+        builder.setBulkSubscribe(bulkSubscribe);
+      }
+
+      return builder;
+    });
+  }
+
+  /**
+   * Removes a route from a subscribed topic. The topic is unsubscribed once it has no route left.
+   *
+   * @param pubSubName PubSub name the topic belongs to.
+   * @param topicName  Name of the subscribed topic.
+   * @param route      Route to remove.
+   * @return true if the topic was subscribed.
+   */
+  public boolean removeTopicRoute(String pubSubName, String topicName, String route) {
+    return update(new DaprTopicKey(pubSubName, topicName), current -> {
+      if (current == null) {
+        return null;
+      }
+
+      DaprSubscriptionBuilder builder = new DaprSubscriptionBuilder(current);
+      return builder.removeRoute(route) ? null : builder;
+    });
+  }
+
+  /**
+   * Removes a topic, with all its routes, from the list of subscribed topics.
+   *
+   * @param pubSubName PubSub name the topic belongs to.
+   * @param topicName  Name of the subscribed topic.
+   * @return true if the topic was subscribed.
+   */
+  public boolean removeSubscribedTopic(String pubSubName, String topicName) {
+    return update(new DaprTopicKey(pubSubName, topicName), current -> null);
+  }
+
+  /**
+   * Lists the subscribed topics. The subscriptions are built once per change, not on every call.
+   *
+   * @return The subscribed topics.
+   */
+  public DaprTopicSubscription[] listSubscribedTopics() {
+    return snapshot.get().subscriptions.clone();
+  }
 
-    if (deadLetterTopic != null && !deadLetterTopic.isEmpty()) {
-      builder.setDeadLetterTopic(deadLetterTopic);
+  /**
+   * Registers a listener notified when a topic is subscribed or unsubscribed.
+   *
+   * @param listener The listener.
+   */
+  public void addSubscriptionChangeListener(DaprSubscriptionChangeListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Unregisters a listener.
+   *
+   * @param listener The listener.
+   */
+  public void removeSubscriptionChangeListener(DaprSubscriptionChangeListener listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Applies a change to the builder of a topic and publishes a new snapshot, retrying if another thread published
+   * one in the meantime. The change works on a copy of the builder, so it can safely run more than once.
+   *
+   * @param topicKey The topic to change.
+   * @param change   Returns the new builder of the topic, or null to remove it.
+   * @return false if the topic was not subscribed and the change did not add it.
+   */
+  private boolean update(DaprTopicKey topicKey, UnaryOperator<DaprSubscriptionBuilder> change) {
+    while (true) {
+      Snapshot current = snapshot.get();
+      DaprSubscriptionBuilder before = current.builders.get(topicKey);
+      DaprSubscriptionBuilder after = change.apply(before);
+
+      if (before == null && after == null) {
+        return false;
+      }
+
+      if (snapshot.compareAndSet(current, current.with(topicKey, after))) {
+        notifyListeners(topicKey, before == null, after == null);
+        return true;
+      }
     }
+  }
 
-    if (bulkSubscribe != null) {
-      builder.setBulkSubscribe(bulkSubscribe);
+  private void notifyListeners(DaprTopicKey topicKey, boolean added, boolean removed) {
+    for (DaprSubscriptionChangeListener listener : listeners) {
+      if (added) {
+        listener.onTopicSubscribed(topicKey.getPubsubName(), topicKey.getTopic());
+      } else if (removed) {
+        listener.onTopicUnsubscribed(topicKey.getPubsubName(), topicKey.getTopic());
+      }
     }
   }
 
-  public synchronized DaprTopicSubscription[] listSubscribedTopics() {
-    List<DaprTopicSubscription> values = subscriptionBuilders.values().stream()
-        .map(b -> b.build()).collect(Collectors.toList());
-    return values.toArray(new DaprTopicSubscription[0]);
+  /**
+   * Immutable view of the subscribed topics, together with the subscriptions returned to the sidecar.
+   */
+  private static final class Snapshot {
+
+    private static final Snapshot EMPTY = new Snapshot(Collections.emptyMap());
+
+    private final Map<DaprTopicKey, DaprSubscriptionBuilder> builders;
+
+    private final DaprTopicSubscription[] subscriptions;
+
+    private Snapshot(Map<DaprTopicKey, DaprSubscriptionBuilder> builders) {
+      this.builders = builders;
+      this.subscriptions = builders.values().stream()
+          .map(DaprSubscriptionBuilder::build)
+          .toArray(DaprTopicSubscription[]::new);
+    }
+
+    private Snapshot with(DaprTopicKey topicKey, DaprSubscriptionBuilder builder) {
+      Map<DaprTopicKey, DaprSubscriptionBuilder> next = new LinkedHashMap<>(builders);
+
+      if (builder == null) {
+        next.remove(topicKey);
+      } else {
+        next.put(topicKey, builder);
+      }
+
+      return new Snapshot(Collections.unmodifiableMap(next));
+    }
   }
 }
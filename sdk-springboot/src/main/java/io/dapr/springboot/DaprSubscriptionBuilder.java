@@ -46,6 +46,21 @@ class DaprSubscriptionBuilder {
     this.metadata = Collections.emptyMap();
   }
 
+  /**
+   * Copies a subscription topic, so that it can be changed without affecting the original.
+   *
+   * @param other The subscription topic to copy.
+   */
+  DaprSubscriptionBuilder(DaprSubscriptionBuilder other) {
+    this.pubsubName = other.pubsubName;
+    this.topic = other.topic;
+    this.rules = new ArrayList<>(other.rules);
+    this.deadLetterTopic = other.deadLetterTopic;
+    this.defaultPath = other.defaultPath;
+    this.metadata = other.metadata;
+    this.bulkSubscribe = other.bulkSubscribe;
+  }
+
   /**
    * Sets the default path for the subscription.
    *
@@ -103,6 +118,22 @@ class DaprSubscriptionBuilder {
     return this;
   }
 
+  /**
+   * Removes the default path and every rule routing to the given path.
+   *
+   * @param path The path to remove.
+   * @return true if the subscription has no route left.
+   */
+  boolean removeRoute(String path) {
+    rules.removeIf(rule -> rule.path.equals(path));
+
+    if (path.equals(defaultPath)) {
+      defaultPath = null;
+    }
+
+    return rules.isEmpty() && defaultPath == null;
+  }
+
   /**
    * Sets the metadata for the subscription.
    *
@@ -135,8 +166,8 @@ class DaprSubscriptionBuilder {
     DaprTopicRoutes routes = null;
 
     if (!rules.isEmpty()) {
-      Collections.sort(rules, Comparator.comparingInt(TopicRule::getPriority));
       List<DaprTopicRule> topicRules = rules.stream()
+          .sorted(Comparator.comparingInt(TopicRule::getPriority))
           .map(e -> new DaprTopicRule(e.match, e.path)).collect(Collectors.toList());
       routes = new DaprTopicRoutes(topicRules, defaultPath);
     } else {
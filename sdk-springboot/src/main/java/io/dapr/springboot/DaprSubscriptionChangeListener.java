@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.springboot;
+
+/**
+ * Listener notified when topics are subscribed or unsubscribed after the application started. The sidecar only
+ * reads the programmatic subscriptions returned by {@code /dapr/subscribe} when the application starts, so topics
+ * added later can be consumed by opening a streaming subscription from here, e.g. with
+ * {@link io.dapr.client.DaprPreviewClient#subscribeToEvents}, and closing it again when the topic is removed.
+ */
+public interface DaprSubscriptionChangeListener {
+
+  /**
+   * Called when the first route of a topic is registered.
+   *
+   * @param pubsubName PubSub name the topic belongs to.
+   * @param topic      Name of the topic.
+   */
+  default void onTopicSubscribed(String pubsubName, String topic) {
+  }
+
+  /**
+   * Called when the last route of a topic is removed.
+   *
+   * @param pubsubName PubSub name the topic belongs to.
+   * @param topic      Name of the topic.
+   */
+  default void onTopicUnsubscribed(String pubsubName, String topic) {
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.springboot;
+
+import java.util.Collections;
+
+/**
+ * Adds and removes topic routes at runtime, next to the ones declared with {@link io.dapr.Topic}. Changes never
+ * block the sidecar reading {@code /dapr/subscribe}, which always sees a consistent snapshot.
+ */
+public final class DaprSubscriptionRegistry {
+
+  private DaprSubscriptionRegistry() {
+  }
+
+  /**
+   * Routes every event of a topic to the given path.
+   *
+   * @param pubsubName PubSub name the topic belongs to.
+   * @param topic      Name of the topic.
+   * @param route      Path the events are delivered to.
+   */
+  public static void addTopicRoute(String pubsubName, String topic, String route) {
+    addTopicRoute(pubsubName, topic, route, "", 0);
+  }
+
+  /**
+   * Routes the events of a topic matching the given expression to the given path.
+   *
+   * @param pubsubName PubSub name the topic belongs to.
+   * @param topic      Name of the topic.
+   * @param route      Path the events are delivered to.
+   * @param match      CEL expression the events must match, or an empty string for the default route.
+   * @param priority   Priority of this rule relative to the other rules of the topic.
+   */
+  public static void addTopicRoute(String pubsubName, String topic, String route, String match, int priority) {
+    DaprRuntime.getInstance().addSubscribedTopic(pubsubName, topic, match, priority, route, Collections.emptyMap());
+  }
+
+  /**
+   * Removes a route of a topic. The topic is unsubscribed once it has no route left.
+   *
+   * @param pubsubName PubSub name the topic belongs to.
+   * @param topic      Name of the topic.
+   * @param route      Path to remove.
+   * @return true if the topic was subscribed.
+   */
+  public static boolean removeTopicRoute(String pubsubName, String topic, String route) {
+    return DaprRuntime.getInstance().removeTopicRoute(pubsubName, topic, route);
+  }
+
+  /**
+   * Unsubscribes a topic with all its routes.
+   *
+   * @param pubsubName PubSub name the topic belongs to.
+   * @param topic      Name of the topic.
+   * @return true if the topic was subscribed.
+   */
+  public static boolean removeTopic(String pubsubName, String topic) {
+    return DaprRuntime.getInstance().removeSubscribedTopic(pubsubName, topic);
+  }
+
+  /**
+   * Registers a listener notified when topics are subscribed or unsubscribed.
+   *
+   * @param listener The listener.
+   */
+  public static void addChangeListener(DaprSubscriptionChangeListener listener) {
+    DaprRuntime.getInstance().addSubscriptionChangeListener(listener);
+  }
+
+  /**
+   * Unregisters a listener.
+   *
+   * @param listener The listener.
+   */
+  public static void removeChangeListener(DaprSubscriptionChangeListener listener) {
+    DaprRuntime.getInstance().removeSubscriptionChangeListener(listener);
+  }
+}
@@ -29,6 +29,7 @@ import java.lang.annotation.Target;
  * This will require handling multiple messages using {@link BulkSubscribeMessage
  * DaprBulkMessage}
  * and returning a {@link BulkSubscribeAppResponse DaprBulkAppResponse}.
+ * {@link io.dapr.springboot.DaprBulkSubscribeProcessor} can process the entries in parallel and build the response.
  */
 @Documented
 @Target(ElementType.METHOD)
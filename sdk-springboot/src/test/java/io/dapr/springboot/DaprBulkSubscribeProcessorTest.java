@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.springboot;
+
+import io.dapr.client.domain.BulkSubscribeAppResponse;
+import io.dapr.client.domain.BulkSubscribeAppResponseEntry;
+import io.dapr.client.domain.BulkSubscribeAppResponseStatus;
+import io.dapr.client.domain.BulkSubscribeMessage;
+import io.dapr.client.domain.BulkSubscribeMessageEntry;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DaprBulkSubscribeProcessorTest {
+
+  @Test
+  public void entriesAreProcessedInParallelAndStatusesAggregated() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<BulkSubscribeMessageEntry<Object>> entries = IntStream.range(0, 8)
+        .mapToObj(i -> new BulkSubscribeMessageEntry<Object>(String.valueOf(i),
+            Map.of("id", String.valueOf(i), "data", "payload-" + i), "application/cloudevents+json", null))
+        .collect(Collectors.toList());
+
+    BulkSubscribeAppResponse response = new DaprBulkSubscribeProcessor(4)
+        .process(new BulkSubscribeMessage<>(entries, "topic", Map.of()), new TypeRef<CloudEvent<String>>() {},
+            entry -> {
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              try {
+                Thread.sleep(50);
+              } finally {
+                running.decrementAndGet();
+              }
+
+              int id = Integer.parseInt(entry.getEntryId());
+              assertEquals("payload-" + id, entry.getEvent().getData());
+              if (id == 5) {
+                throw new IllegalStateException("boom");
+              }
+              return id == 6 ? BulkSubscribeAppResponseStatus.DROP : null;
+            })
+        .block();
+
+    List<String> statuses = response.getStatuses().stream()
+        .map(status -> status.getEntryId() + ":" + status.getStatus())
+        .collect(Collectors.toList());
+    assertEquals(List.of("0:SUCCESS", "1:SUCCESS", "2:SUCCESS", "3:SUCCESS", "4:SUCCESS", "5:RETRY", "6:DROP",
+        "7:SUCCESS"), statuses);
+    assertTrue(maxRunning.get() > 1);
+    assertTrue(maxRunning.get() <= 4);
+  }
+
+  @Test
+  public void undeserializableEntriesAreDropped() {
+    List<BulkSubscribeMessageEntry<Object>> entries = List.of(
+        new BulkSubscribeMessageEntry<>("1", "not a number", "text/plain", null),
+        new BulkSubscribeMessageEntry<>("2", 42, "text/plain", null));
+
+    BulkSubscribeAppResponse response = new DaprBulkSubscribeProcessor(2)
+        .process(new BulkSubscribeMessage<>(entries, "topic", Map.of()), Integer.class, entry -> null)
+        .block();
+
+    assertEquals(List.of(BulkSubscribeAppResponseStatus.DROP, BulkSubscribeAppResponseStatus.SUCCESS),
+        response.getStatuses().stream().map(BulkSubscribeAppResponseEntry::getStatus).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void emptyMessageHasNoStatuses() {
+    BulkSubscribeAppResponse response = new DaprBulkSubscribeProcessor()
+        .process(null, String.class, entry -> null)
+        .block();
+
+    assertTrue(response.getStatuses().isEmpty());
+  }
+}
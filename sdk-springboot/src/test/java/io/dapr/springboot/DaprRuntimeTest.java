@@ -5,7 +5,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -81,4 +85,67 @@ public class DaprRuntimeTest {
             pubSubName, topicName, match, rule.priority(), secondRoute, deadLetterTopic, metadata));
   }
 
+  @Test
+  public void testRemoveTopicRoute() {
+    DaprRuntime runtime = DaprRuntime.getInstance();
+    List<String> changes = new ArrayList<>();
+    DaprSubscriptionChangeListener listener = new DaprSubscriptionChangeListener() {
+      @Override
+      public void onTopicSubscribed(String pubsubName, String topic) {
+        changes.add("+" + topic);
+      }
+
+      @Override
+      public void onTopicUnsubscribed(String pubsubName, String topic) {
+        changes.add("-" + topic);
+      }
+    };
+    runtime.addSubscriptionChangeListener(listener);
+
+    try {
+      runtime.addSubscribedTopic("dynamic", "orders", "", 0, "orders/default", new HashMap<>());
+      runtime.addSubscribedTopic("dynamic", "orders", "event.type == \"big\"", 1, "orders/big", new HashMap<>());
+      DaprTopicSubscription[] before = runtime.listSubscribedTopics();
+
+      Assertions.assertTrue(runtime.removeTopicRoute("dynamic", "orders", "orders/big"));
+      DaprTopicSubscription subscription = findSubscription(runtime, "dynamic", "orders");
+      Assertions.assertEquals("orders/default", subscription.getRoute());
+      Assertions.assertNull(subscription.getRoutes());
+      // Previously listed subscriptions are not affected by later changes.
+      Assertions.assertEquals(1, findSubscription(before, "dynamic", "orders").getRoutes().getRules().size());
+
+      Assertions.assertTrue(runtime.removeTopicRoute("dynamic", "orders", "orders/default"));
+      Assertions.assertNull(findSubscription(runtime, "dynamic", "orders"));
+      Assertions.assertFalse(runtime.removeSubscribedTopic("dynamic", "orders"));
+      Assertions.assertEquals(List.of("+orders", "-orders"), changes);
+    } finally {
+      runtime.removeSubscriptionChangeListener(listener);
+    }
+  }
+
+  @Test
+  public void testConcurrentRegistration() {
+    DaprRuntime runtime = DaprRuntime.getInstance();
+
+    IntStream.range(0, 200).parallel().forEach(i -> runtime.addSubscribedTopic(
+        "concurrent", "topic-" + (i % 10), "event.id == " + i, i, "route-" + i, new HashMap<>()));
+
+    for (int i = 0; i < 10; i++) {
+      Assertions.assertEquals(20,
+          findSubscription(runtime, "concurrent", "topic-" + i).getRoutes().getRules().size());
+      Assertions.assertTrue(runtime.removeSubscribedTopic("concurrent", "topic-" + i));
+    }
+  }
+
+  private static DaprTopicSubscription findSubscription(DaprRuntime runtime, String pubsubName, String topic) {
+    return findSubscription(runtime.listSubscribedTopics(), pubsubName, topic);
+  }
+
+  private static DaprTopicSubscription findSubscription(DaprTopicSubscription[] subscriptions, String pubsubName,
+                                                        String topic) {
+    return Arrays.stream(subscriptions)
+        .filter(s -> s.getPubsubName().equals(pubsubName) && s.getTopic().equals(topic))
+        .findFirst()
+        .orElse(null);
+  }
 }
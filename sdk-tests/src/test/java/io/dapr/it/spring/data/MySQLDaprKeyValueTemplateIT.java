@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -172,6 +173,20 @@ public class MySQLDaprKeyValueTemplateIT {
     assertEquals(index, items.size());
   }
 
+  @Test
+  public void testFindInRangeWithSortDaprKeyValueTemplate() {
+    for (int i = 0; i < 5; i++) {
+      keyValueTemplate.insert(new TestType(i, "test"));
+    }
+
+    Iterable<TestType> page = keyValueTemplate.findInRange(1, 2, Sort.by(Sort.Direction.DESC, "id"), TestType.class);
+
+    List<Integer> ids = new ArrayList<>();
+    page.forEach(item -> ids.add(item.getId()));
+
+    assertThat(ids).containsExactly(3, 2);
+  }
+
   @Test
   public void testUpdateDaprKeyValueTemplate() {
     int itemId = 2;
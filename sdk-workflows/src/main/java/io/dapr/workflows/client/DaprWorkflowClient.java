@@ -13,22 +13,31 @@ limitations under the License.
 
 package io.dapr.workflows.client;
 
+import com.microsoft.durabletask.DataConverter;
 import com.microsoft.durabletask.DurableTaskClient;
 import com.microsoft.durabletask.DurableTaskGrpcClientBuilder;
 import com.microsoft.durabletask.OrchestrationMetadata;
+import com.microsoft.durabletask.OrchestrationStatusQueryResult;
 import com.microsoft.durabletask.PurgeResult;
 import io.dapr.config.Properties;
 import io.dapr.utils.NetworkUtils;
 import io.dapr.workflows.Workflow;
+import io.dapr.workflows.codec.WorkflowPayloadCodec;
 import io.dapr.workflows.internal.ApiTokenClientInterceptor;
+import io.dapr.workflows.internal.PayloadCodecDataConverter;
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import javax.annotation.Nullable;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
  * Defines client operations for managing Dapr Workflow instances.
@@ -39,6 +48,8 @@ public class DaprWorkflowClient implements AutoCloseable {
 
   private DurableTaskClient innerClient;
   private ManagedChannel grpcChannel;
+  private WorkflowInstanceWatcher instanceWatcher;
+  private PayloadCodecDataConverter payloadCodec;
 
   /**
    * Public constructor for DaprWorkflowClient. This layer constructs the GRPC Channel.
@@ -53,16 +64,29 @@ public class DaprWorkflowClient implements AutoCloseable {
    * @param properties Properties for the GRPC Channel.
    */
   public DaprWorkflowClient(Properties properties) {
-    this(NetworkUtils.buildGrpcManagedChannel(properties, WORKFLOW_INTERCEPTOR));
+    this(NetworkUtils.buildGrpcManagedChannel(properties, WORKFLOW_INTERCEPTOR), null);
+  }
+
+  /**
+   * Public constructor for DaprWorkflowClient. This layer constructs the GRPC Channel.
+   * The codec must match the one configured on the workflow runtime.
+   *
+   * @param properties   Properties for the GRPC Channel.
+   * @param payloadCodec Codec applied to workflow inputs, outputs and events.
+   */
+  public DaprWorkflowClient(Properties properties, WorkflowPayloadCodec payloadCodec) {
+    this(NetworkUtils.buildGrpcManagedChannel(properties, WORKFLOW_INTERCEPTOR),
+        new PayloadCodecDataConverter(payloadCodec));
   }
 
   /**
    * Private Constructor that passes a created DurableTaskClient and the new GRPC channel.
    *
-   * @param grpcChannel ManagedChannel for GRPC channel.
+   * @param grpcChannel   ManagedChannel for GRPC channel.
+   * @param dataConverter Optional DataConverter for payloads, null for the default one.
    */
-  private DaprWorkflowClient(ManagedChannel grpcChannel) {
-    this(createDurableTaskClient(grpcChannel), grpcChannel);
+  private DaprWorkflowClient(ManagedChannel grpcChannel, PayloadCodecDataConverter dataConverter) {
+    this(createDurableTaskClient(grpcChannel, dataConverter), grpcChannel, dataConverter);
   }
 
   /**
@@ -72,20 +96,38 @@ public class DaprWorkflowClient implements AutoCloseable {
    * @param grpcChannel ManagedChannel for instance variable setting.
    */
   private DaprWorkflowClient(DurableTaskClient innerClient, ManagedChannel grpcChannel) {
+    this(innerClient, grpcChannel, null);
+  }
+
+  /**
+   * Private Constructor for DaprWorkflowClient.
+   *
+   * @param innerClient  DurableTaskGrpcClient with GRPC Channel set up.
+   * @param grpcChannel  ManagedChannel for instance variable setting.
+   * @param payloadCodec Optional codec applied to payloads, null for none.
+   */
+  private DaprWorkflowClient(DurableTaskClient innerClient, ManagedChannel grpcChannel,
+                             PayloadCodecDataConverter payloadCodec) {
     this.innerClient = innerClient;
     this.grpcChannel = grpcChannel;
+    this.payloadCodec = payloadCodec;
   }
 
   /**
    * Static method to create the DurableTaskClient.
    *
-   * @param grpcChannel ManagedChannel for GRPC.
+   * @param grpcChannel   ManagedChannel for GRPC.
+   * @param dataConverter Optional DataConverter for payloads, null for the default one.
    * @return a new instance of a DurableTaskClient with a GRPC channel.
    */
-  private static DurableTaskClient createDurableTaskClient(ManagedChannel grpcChannel) {
-    return new DurableTaskGrpcClientBuilder()
-        .grpcChannel(grpcChannel)
-        .build();
+  private static DurableTaskClient createDurableTaskClient(ManagedChannel grpcChannel, DataConverter dataConverter) {
+    DurableTaskGrpcClientBuilder builder = new DurableTaskGrpcClientBuilder()
+        .grpcChannel(grpcChannel);
+    if (dataConverter != null) {
+      builder.dataConverter(dataConverter);
+    }
+
+    return builder.build();
   }
 
   /**
@@ -137,6 +179,43 @@ public class DaprWorkflowClient implements AutoCloseable {
         options.getNewOrchestrationInstanceOptions());
   }
 
+  /**
+   * Schedules a new workflow without blocking the calling thread.
+   *
+   * @param <T>     any Workflow type
+   * @param clazz   Class extending Workflow to start an instance of.
+   * @param options the options for the new workflow, including input, instance ID, etc.
+   * @return a Mono emitting the instance ID of the new workflow.
+   */
+  public <T extends Workflow> Mono<String> scheduleNewWorkflowAsync(Class<T> clazz, NewWorkflowOptions options) {
+    return Mono.fromCallable(() -> this.scheduleNewWorkflow(clazz, options))
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * Schedules many new workflows, keeping up to <code>maxParallelism</code> schedule requests in flight
+   * on the shared gRPC channel.
+   *
+   * <p>Instance IDs are emitted in the same order as the options, as soon as each workflow is scheduled,
+   * so callers can track progress. Scheduling stops at the first failure.
+   *
+   * @param <T>            any Workflow type
+   * @param clazz          Class extending Workflow to start instances of.
+   * @param options        the options for each new workflow.
+   * @param maxParallelism maximum number of schedule requests in flight.
+   * @return a Flux emitting the instance ID of each new workflow.
+   */
+  public <T extends Workflow> Flux<String> scheduleNewWorkflows(Class<T> clazz,
+                                                                Iterable<NewWorkflowOptions> options,
+                                                                int maxParallelism) {
+    if (maxParallelism <= 0) {
+      throw new IllegalArgumentException("Max parallelism must be greater than zero.");
+    }
+
+    return Flux.fromIterable(options)
+        .flatMapSequential(o -> this.scheduleNewWorkflowAsync(clazz, o), maxParallelism);
+  }
+
   /**
    * Terminates the workflow associated with the provided instance id.
    *
@@ -217,6 +296,53 @@ public class DaprWorkflowClient implements AutoCloseable {
     return metadata == null ? null : new WorkflowInstanceStatus(metadata);
   }
 
+  /**
+   * Waits for a workflow to start running without blocking the calling thread.
+   *
+   * <p>All pending waits of this client share a single background poller, which checks each instance on an
+   * adaptive interval, so waiting on many workflows costs neither a thread nor a tight poll loop per instance.
+   *
+   * @param instanceId          the unique ID of the workflow instance to wait for
+   * @param timeout             the amount of time to wait for the workflow instance to start
+   * @param getInputsAndOutputs true to fetch the workflow instance's
+   *                            inputs, outputs, and custom status, or false to omit them
+   * @return a Mono emitting the workflow instance metadata, or erroring with a {@link TimeoutException}
+   *         when the workflow instance is not started within the specified amount of time
+   */
+  public Mono<WorkflowInstanceStatus> waitForInstanceStartAsync(String instanceId, Duration timeout,
+                                                                boolean getInputsAndOutputs) {
+    return Mono.fromFuture(() -> this.getInstanceWatcher().waitForStart(instanceId, timeout, getInputsAndOutputs))
+        .map(WorkflowInstanceStatus::new);
+  }
+
+  /**
+   * Waits for a workflow to complete without blocking the calling thread.
+   *
+   * <p>All pending waits of this client share a single background poller, which checks each instance on an
+   * adaptive interval, so waiting on many workflows costs neither a thread nor a tight poll loop per instance.
+   *
+   * @param instanceId          the unique ID of the workflow instance to wait for
+   * @param timeout             the amount of time to wait for the workflow instance to complete
+   * @param getInputsAndOutputs true to fetch the workflow instance's inputs, outputs, and custom
+   *                            status, or false to omit them
+   * @return a Mono emitting the workflow instance metadata, or erroring with a {@link TimeoutException}
+   *         when the workflow instance is not completed within the specified amount of time
+   */
+  public Mono<WorkflowInstanceStatus> waitForInstanceCompletionAsync(String instanceId, Duration timeout,
+                                                                     boolean getInputsAndOutputs) {
+    return Mono.fromFuture(
+        () -> this.getInstanceWatcher().waitForCompletion(instanceId, timeout, getInputsAndOutputs))
+        .map(WorkflowInstanceStatus::new);
+  }
+
+  private synchronized WorkflowInstanceWatcher getInstanceWatcher() {
+    if (this.instanceWatcher == null) {
+      this.instanceWatcher = new WorkflowInstanceWatcher(this.innerClient);
+    }
+
+    return this.instanceWatcher;
+  }
+
   /**
    * Sends an event notification message to awaiting workflow instance.
    *
@@ -230,16 +356,100 @@ public class DaprWorkflowClient implements AutoCloseable {
 
   /**
    * Purges workflow instance state from the workflow state store.
+   * With a payload codec, the input and output of the instance are also discarded from wherever the codec keeps
+   * them.
    *
    * @param workflowInstanceId The unique ID of the workflow instance to purge.
    * @return Return true if the workflow state was found and purged successfully otherwise false.
    */
   public boolean purgeInstance(String workflowInstanceId) {
+    OrchestrationMetadata metadata = this.payloadCodec == null
+        ? null
+        : this.innerClient.getInstanceMetadata(workflowInstanceId, true);
     PurgeResult result = this.innerClient.purgeInstance(workflowInstanceId);
-    if (result != null) {
-      return result.getDeletedInstanceCount() > 0;
+    if ((result == null) || (result.getDeletedInstanceCount() == 0)) {
+      return false;
+    }
+
+    if ((metadata != null) && metadata.isInstanceFound()) {
+      this.payloadCodec.discard(metadata.getSerializedInput());
+      this.payloadCodec.discard(metadata.getSerializedOutput());
+    }
+    return true;
+  }
+
+  /**
+   * Purges all workflow instances matching the given criteria from the workflow state store.
+   * Payloads kept outside the workflow history by a payload codec are not discarded; purge the instances one by
+   * one with {@link #purgeInstances(Iterable, int)} to discard them too.
+   *
+   * @param criteria the filter selecting the workflow instances to purge.
+   * @return a Mono emitting the number of purged workflow instances.
+   */
+  public Mono<Integer> purgeInstances(WorkflowInstancePurgeCriteria criteria) {
+    return Mono.fromCallable(() -> {
+      PurgeResult result = this.innerClient.purgeInstances(criteria.toPurgeInstanceCriteria());
+      return result == null ? 0 : result.getDeletedInstanceCount();
+    }).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * Purges the given workflow instances, keeping up to <code>maxParallelism</code> purge requests in flight.
+   *
+   * @param workflowInstanceIds the unique IDs of the workflow instances to purge.
+   * @param maxParallelism      maximum number of purge requests in flight.
+   * @return a Mono emitting the number of purged workflow instances.
+   */
+  public Mono<Integer> purgeInstances(Iterable<String> workflowInstanceIds, int maxParallelism) {
+    if (maxParallelism <= 0) {
+      throw new IllegalArgumentException("Max parallelism must be greater than zero.");
     }
-    return false;
+
+    return Flux.fromIterable(workflowInstanceIds)
+        .flatMap(id -> Mono.fromCallable(() -> this.purgeInstance(id))
+            .subscribeOn(Schedulers.boundedElastic()), maxParallelism)
+        .filter(purged -> purged)
+        .count()
+        .map(Long::intValue);
+  }
+
+  /**
+   * Fetches a single page of workflow instances matching the given query.
+   *
+   * @param query the filter and paging options; its continuation token selects the page.
+   * @return the page of matching workflow instances and the token of the next page.
+   */
+  public WorkflowInstanceQueryResult queryInstances(WorkflowInstanceQuery query) {
+    return this.queryPage(query, query.getContinuationToken());
+  }
+
+  /**
+   * Fetches all workflow instances matching the given query, page by page.
+   *
+   * <p>Pages are fetched lazily following the continuation token; the next page is requested while
+   * the current one is being consumed.
+   *
+   * @param query the filter and paging options.
+   * @return a Flux emitting every matching workflow instance.
+   */
+  public Flux<WorkflowInstanceStatus> queryAllInstances(WorkflowInstanceQuery query) {
+    return this.queryPageAsync(query, query.getContinuationToken())
+        .expand(page -> page.hasMore() ? this.queryPageAsync(query, page.getContinuationToken()) : Mono.empty())
+        .concatMapIterable(WorkflowInstanceQueryResult::getInstances);
+  }
+
+  private Mono<WorkflowInstanceQueryResult> queryPageAsync(WorkflowInstanceQuery query, String continuationToken) {
+    return Mono.fromCallable(() -> this.queryPage(query, continuationToken))
+        .subscribeOn(Schedulers.boundedElastic());
+  }
+
+  private WorkflowInstanceQueryResult queryPage(WorkflowInstanceQuery query, String continuationToken) {
+    OrchestrationStatusQueryResult result =
+        this.innerClient.queryInstances(query.toOrchestrationStatusQuery(continuationToken));
+    List<WorkflowInstanceStatus> instances = result.getOrchestrationState().stream()
+        .map(WorkflowInstanceStatus::new)
+        .collect(Collectors.toList());
+    return new WorkflowInstanceQueryResult(instances, result.getContinuationToken());
   }
 
   public void createTaskHub(boolean recreateIfExists) {
@@ -254,6 +464,13 @@ public class DaprWorkflowClient implements AutoCloseable {
    * Closes the inner DurableTask client and shutdown the GRPC channel.
    */
   public void close() throws InterruptedException {
+    synchronized (this) {
+      if (this.instanceWatcher != null) {
+        this.instanceWatcher.close();
+        this.instanceWatcher = null;
+      }
+    }
+
     try {
       if (this.innerClient != null) {
         this.innerClient.close();
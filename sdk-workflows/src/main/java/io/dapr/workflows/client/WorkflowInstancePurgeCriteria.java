@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.client;
+
+import com.microsoft.durabletask.PurgeInstanceCriteria;
+import io.dapr.workflows.runtime.WorkflowRuntimeStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Filter used to purge many workflow instances at once.
+ */
+public class WorkflowInstancePurgeCriteria {
+
+  private List<WorkflowRuntimeStatus> runtimeStatuses = Collections.emptyList();
+
+  private Instant createdTimeFrom;
+
+  private Instant createdTimeTo;
+
+  private Duration timeout;
+
+  /**
+   * Sets the runtime statuses of the instances to purge. An empty list matches all terminal statuses.
+   *
+   * @param runtimeStatuses the runtime statuses to match
+   * @return this {@link WorkflowInstancePurgeCriteria} object
+   */
+  public WorkflowInstancePurgeCriteria setRuntimeStatuses(List<WorkflowRuntimeStatus> runtimeStatuses) {
+    this.runtimeStatuses = runtimeStatuses == null
+        ? Collections.emptyList()
+        : Collections.unmodifiableList(new ArrayList<>(runtimeStatuses));
+    return this;
+  }
+
+  /**
+   * Sets the inclusive lower bound of the instance creation time.
+   *
+   * @param createdTimeFrom the earliest creation time to match
+   * @return this {@link WorkflowInstancePurgeCriteria} object
+   */
+  public WorkflowInstancePurgeCriteria setCreatedTimeFrom(Instant createdTimeFrom) {
+    this.createdTimeFrom = createdTimeFrom;
+    return this;
+  }
+
+  /**
+   * Sets the inclusive upper bound of the instance creation time.
+   *
+   * @param createdTimeTo the latest creation time to match
+   * @return this {@link WorkflowInstancePurgeCriteria} object
+   */
+  public WorkflowInstancePurgeCriteria setCreatedTimeTo(Instant createdTimeTo) {
+    this.createdTimeTo = createdTimeTo;
+    return this;
+  }
+
+  /**
+   * Sets the maximum amount of time the purge operation may take.
+   *
+   * @param timeout the purge timeout
+   * @return this {@link WorkflowInstancePurgeCriteria} object
+   */
+  public WorkflowInstancePurgeCriteria setTimeout(Duration timeout) {
+    this.timeout = timeout;
+    return this;
+  }
+
+  public List<WorkflowRuntimeStatus> getRuntimeStatuses() {
+    return runtimeStatuses;
+  }
+
+  public Instant getCreatedTimeFrom() {
+    return createdTimeFrom;
+  }
+
+  public Instant getCreatedTimeTo() {
+    return createdTimeTo;
+  }
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+
+  /**
+   * Converts this filter into durable task purge criteria.
+   *
+   * @return the durable task purge criteria
+   */
+  PurgeInstanceCriteria toPurgeInstanceCriteria() {
+    PurgeInstanceCriteria criteria = new PurgeInstanceCriteria()
+        .setRuntimeStatusList(WorkflowRuntimeStatus.toOrchestrationRuntimeStatus(this.runtimeStatuses))
+        .setCreatedTimeFrom(this.createdTimeFrom)
+        .setCreatedTimeTo(this.createdTimeTo);
+    if (this.timeout != null) {
+      criteria.setTimeout(this.timeout);
+    }
+
+    return criteria;
+  }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.client;
+
+import com.microsoft.durabletask.OrchestrationStatusQuery;
+import io.dapr.workflows.runtime.WorkflowRuntimeStatus;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Filter and paging options used to query workflow instances.
+ */
+public class WorkflowInstanceQuery {
+
+  private List<WorkflowRuntimeStatus> runtimeStatuses = Collections.emptyList();
+
+  private Instant createdTimeFrom;
+
+  private Instant createdTimeTo;
+
+  private String instanceIdPrefix;
+
+  private int pageSize = 100;
+
+  private String continuationToken;
+
+  private boolean fetchInputsAndOutputs;
+
+  /**
+   * Sets the runtime statuses to match. An empty list matches all statuses.
+   *
+   * @param runtimeStatuses the runtime statuses to match
+   * @return this {@link WorkflowInstanceQuery} object
+   */
+  public WorkflowInstanceQuery setRuntimeStatuses(List<WorkflowRuntimeStatus> runtimeStatuses) {
+    this.runtimeStatuses = runtimeStatuses == null
+        ? Collections.emptyList()
+        : Collections.unmodifiableList(new ArrayList<>(runtimeStatuses));
+    return this;
+  }
+
+  /**
+   * Sets the inclusive lower bound of the instance creation time.
+   *
+   * @param createdTimeFrom the earliest creation time to match
+   * @return this {@link WorkflowInstanceQuery} object
+   */
+  public WorkflowInstanceQuery setCreatedTimeFrom(Instant createdTimeFrom) {
+    this.createdTimeFrom = createdTimeFrom;
+    return this;
+  }
+
+  /**
+   * Sets the inclusive upper bound of the instance creation time.
+   *
+   * @param createdTimeTo the latest creation time to match
+   * @return this {@link WorkflowInstanceQuery} object
+   */
+  public WorkflowInstanceQuery setCreatedTimeTo(Instant createdTimeTo) {
+    this.createdTimeTo = createdTimeTo;
+    return this;
+  }
+
+  /**
+   * Sets the prefix instance IDs must start with.
+   *
+   * @param instanceIdPrefix the instance ID prefix to match
+   * @return this {@link WorkflowInstanceQuery} object
+   */
+  public WorkflowInstanceQuery setInstanceIdPrefix(String instanceIdPrefix) {
+    this.instanceIdPrefix = instanceIdPrefix;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of instances returned per page.
+   *
+   * @param pageSize the page size, greater than zero
+   * @return this {@link WorkflowInstanceQuery} object
+   */
+  public WorkflowInstanceQuery setPageSize(int pageSize) {
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be greater than zero.");
+    }
+
+    this.pageSize = pageSize;
+    return this;
+  }
+
+  /**
+   * Sets the continuation token returned by a previous page, to fetch the next page.
+   *
+   * @param continuationToken the continuation token of the previous page
+   * @return this {@link WorkflowInstanceQuery} object
+   */
+  public WorkflowInstanceQuery setContinuationToken(String continuationToken) {
+    this.continuationToken = continuationToken;
+    return this;
+  }
+
+  /**
+   * Sets whether inputs, outputs and custom status are fetched with each instance.
+   *
+   * @param fetchInputsAndOutputs true to fetch inputs and outputs
+   * @return this {@link WorkflowInstanceQuery} object
+   */
+  public WorkflowInstanceQuery setFetchInputsAndOutputs(boolean fetchInputsAndOutputs) {
+    this.fetchInputsAndOutputs = fetchInputsAndOutputs;
+    return this;
+  }
+
+  public List<WorkflowRuntimeStatus> getRuntimeStatuses() {
+    return runtimeStatuses;
+  }
+
+  public Instant getCreatedTimeFrom() {
+    return createdTimeFrom;
+  }
+
+  public Instant getCreatedTimeTo() {
+    return createdTimeTo;
+  }
+
+  public String getInstanceIdPrefix() {
+    return instanceIdPrefix;
+  }
+
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  public String getContinuationToken() {
+    return continuationToken;
+  }
+
+  public boolean isFetchInputsAndOutputs() {
+    return fetchInputsAndOutputs;
+  }
+
+  /**
+   * Converts this query into a durable task query for the given page.
+   *
+   * @param continuationToken the continuation token of the page to fetch
+   * @return the durable task query
+   */
+  OrchestrationStatusQuery toOrchestrationStatusQuery(String continuationToken) {
+    return new OrchestrationStatusQuery()
+        .setRuntimeStatusList(WorkflowRuntimeStatus.toOrchestrationRuntimeStatus(this.runtimeStatuses))
+        .setCreatedTimeFrom(this.createdTimeFrom)
+        .setCreatedTimeTo(this.createdTimeTo)
+        .setInstanceIdPrefix(this.instanceIdPrefix)
+        .setMaxInstanceCount(this.pageSize)
+        .setContinuationToken(continuationToken)
+        .setFetchInputsAndOutputs(this.fetchInputsAndOutputs);
+  }
+}
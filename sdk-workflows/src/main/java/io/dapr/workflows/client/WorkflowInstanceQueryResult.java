@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.client;
+
+import javax.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of workflow instances returned by a query.
+ */
+public class WorkflowInstanceQueryResult {
+
+  private final List<WorkflowInstanceStatus> instances;
+
+  @Nullable
+  private final String continuationToken;
+
+  /**
+   * Class constructor.
+   *
+   * @param instances         the workflow instances in this page
+   * @param continuationToken the token to fetch the next page, or null if this is the last page
+   */
+  public WorkflowInstanceQueryResult(List<WorkflowInstanceStatus> instances, @Nullable String continuationToken) {
+    this.instances = Collections.unmodifiableList(instances);
+    this.continuationToken = continuationToken;
+  }
+
+  public List<WorkflowInstanceStatus> getInstances() {
+    return instances;
+  }
+
+  @Nullable
+  public String getContinuationToken() {
+    return continuationToken;
+  }
+
+  /**
+   * Checks whether more pages are available.
+   *
+   * @return true if another page can be fetched with the continuation token
+   */
+  public boolean hasMore() {
+    return continuationToken != null && !continuationToken.isEmpty();
+  }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.client;
+
+import com.microsoft.durabletask.DurableTaskClient;
+import com.microsoft.durabletask.OrchestrationMetadata;
+import com.microsoft.durabletask.OrchestrationRuntimeStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Watches many workflow instances from a single background thread, completing a future once each
+ * instance reaches the awaited state.
+ *
+ * <p>Each instance is polled on its own adaptive interval: the interval starts small, doubles while the
+ * instance status stays the same and resets whenever it changes. Waiters on the same instance share one
+ * request per poll, and the requests of a poll run concurrently on a small bounded pool. A failed request
+ * backs the instance off like an unchanged status; the wait keeps going until its own timeout, which then
+ * carries the last failure as its cause.
+ */
+final class WorkflowInstanceWatcher implements AutoCloseable {
+
+  static final Duration DEFAULT_MIN_POLL_INTERVAL = Duration.ofMillis(100);
+
+  static final Duration DEFAULT_MAX_POLL_INTERVAL = Duration.ofSeconds(5);
+
+  static final int DEFAULT_MAX_CONCURRENT_LOOKUPS = 8;
+
+  private final DurableTaskClient client;
+
+  private final long minPollIntervalNanos;
+
+  private final long maxPollIntervalNanos;
+
+  private final Set<Watch> watches = ConcurrentHashMap.newKeySet();
+
+  private final ScheduledExecutorService scheduler;
+
+  private final ExecutorService lookupExecutor;
+
+  private ScheduledFuture<?> pollTask;
+
+  WorkflowInstanceWatcher(DurableTaskClient client) {
+    this(client, DEFAULT_MIN_POLL_INTERVAL, DEFAULT_MAX_POLL_INTERVAL);
+  }
+
+  WorkflowInstanceWatcher(DurableTaskClient client, Duration minPollInterval, Duration maxPollInterval) {
+    this(client, minPollInterval, maxPollInterval, DEFAULT_MAX_CONCURRENT_LOOKUPS);
+  }
+
+  WorkflowInstanceWatcher(DurableTaskClient client, Duration minPollInterval, Duration maxPollInterval,
+                          int maxConcurrentLookups) {
+    this.client = client;
+    this.minPollIntervalNanos = minPollInterval.toNanos();
+    this.maxPollIntervalNanos = maxPollInterval.toNanos();
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      Thread thread = new Thread(r, "dapr-workflow-instance-watcher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.lookupExecutor = Executors.newFixedThreadPool(maxConcurrentLookups, r -> {
+      Thread thread = new Thread(r, "dapr-workflow-instance-lookup");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Waits for a workflow instance to leave the Pending state.
+   *
+   * @param instanceId          the unique ID of the workflow instance to wait for
+   * @param timeout             the amount of time to wait
+   * @param getInputsAndOutputs true to fetch the instance's inputs, outputs, and custom status
+   * @return a future completed with the instance metadata, or with a {@link TimeoutException}
+   */
+  CompletableFuture<OrchestrationMetadata> waitForStart(String instanceId, Duration timeout,
+                                                        boolean getInputsAndOutputs) {
+    return watch(instanceId, false, timeout, getInputsAndOutputs);
+  }
+
+  /**
+   * Waits for a workflow instance to reach a terminal state.
+   *
+   * @param instanceId          the unique ID of the workflow instance to wait for
+   * @param timeout             the amount of time to wait
+   * @param getInputsAndOutputs true to fetch the instance's inputs, outputs, and custom status
+   * @return a future completed with the instance metadata, or with a {@link TimeoutException}
+   */
+  CompletableFuture<OrchestrationMetadata> waitForCompletion(String instanceId, Duration timeout,
+                                                             boolean getInputsAndOutputs) {
+    return watch(instanceId, true, timeout, getInputsAndOutputs);
+  }
+
+  /**
+   * Gets the number of pending waits.
+   *
+   * @return number of instances still being watched.
+   */
+  int getWatchCount() {
+    return this.watches.size();
+  }
+
+  @Override
+  public void close() {
+    this.scheduler.shutdownNow();
+    this.lookupExecutor.shutdownNow();
+    for (Watch watch : this.watches) {
+      watch.future.cancel(false);
+    }
+    this.watches.clear();
+  }
+
+  private CompletableFuture<OrchestrationMetadata> watch(String instanceId, boolean completion, Duration timeout,
+                                                         boolean getInputsAndOutputs) {
+    long now = System.nanoTime();
+    Watch watch = new Watch(instanceId, completion, getInputsAndOutputs, now + timeout.toNanos(), now,
+        this.minPollIntervalNanos);
+    synchronized (this) {
+      this.watches.add(watch);
+      if (this.pollTask == null) {
+        this.pollTask = this.scheduler.scheduleWithFixedDelay(
+            this::poll, 0, this.minPollIntervalNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    return watch.future;
+  }
+
+  private void poll() {
+    long now = System.nanoTime();
+    Map<String, List<Watch>> due = new HashMap<>();
+    for (Watch watch : this.watches) {
+      if (watch.future.isDone()) {
+        this.watches.remove(watch);
+        continue;
+      }
+
+      if (now - watch.deadline >= 0) {
+        TimeoutException timeout = new TimeoutException(String.format(
+            "Workflow instance '%s' did not %s within the timeout.",
+            watch.instanceId, watch.completion ? "complete" : "start"));
+        if (watch.lastError != null) {
+          timeout.initCause(watch.lastError);
+        }
+        watch.future.completeExceptionally(timeout);
+        this.watches.remove(watch);
+        continue;
+      }
+
+      if (now - watch.nextPollAt >= 0) {
+        due.computeIfAbsent(watch.instanceId + "|" + watch.getInputsAndOutputs, k -> new ArrayList<>()).add(watch);
+      }
+    }
+
+    List<List<Watch>> groups = new ArrayList<>(due.values());
+    List<CompletableFuture<OrchestrationMetadata>> lookups = new ArrayList<>(groups.size());
+    try {
+      for (List<Watch> group : groups) {
+        Watch watch = group.get(0);
+        lookups.add(CompletableFuture.supplyAsync(
+            () -> this.client.getInstanceMetadata(watch.instanceId, watch.getInputsAndOutputs), this.lookupExecutor));
+      }
+      CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0])).get();
+    } catch (RejectedExecutionException e) {
+      // Closed while polling.
+      return;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    } catch (ExecutionException e) {
+      // Failed lookups are handled per instance below.
+    }
+
+    now = System.nanoTime();
+    for (int i = 0; i < groups.size(); i++) {
+      long polledAt = now;
+      List<Watch> group = groups.get(i);
+      lookups.get(i).handle((metadata, error) -> {
+        for (Watch watch : group) {
+          this.update(watch, metadata, error instanceof CompletionException ? error.getCause() : error, polledAt);
+        }
+        return null;
+      });
+    }
+
+    synchronized (this) {
+      if (this.watches.isEmpty() && this.pollTask != null) {
+        this.pollTask.cancel(false);
+        this.pollTask = null;
+      }
+    }
+  }
+
+  private void update(Watch watch, OrchestrationMetadata metadata, Throwable error, long now) {
+    if (error != null) {
+      watch.lastError = error;
+      watch.pollInterval = Math.min(watch.pollInterval * 2, this.maxPollIntervalNanos);
+      watch.nextPollAt = now + watch.pollInterval;
+      return;
+    }
+
+    watch.lastError = null;
+    if (watch.isSatisfiedBy(metadata)) {
+      watch.future.complete(metadata);
+      this.watches.remove(watch);
+      return;
+    }
+
+    OrchestrationRuntimeStatus status = metadata == null ? null : metadata.getRuntimeStatus();
+    if (status != watch.lastStatus) {
+      watch.lastStatus = status;
+      watch.pollInterval = this.minPollIntervalNanos;
+    } else {
+      watch.pollInterval = Math.min(watch.pollInterval * 2, this.maxPollIntervalNanos);
+    }
+    watch.nextPollAt = now + watch.pollInterval;
+  }
+
+  private static final class Watch {
+
+    private final CompletableFuture<OrchestrationMetadata> future = new CompletableFuture<>();
+
+    private final String instanceId;
+
+    private final boolean completion;
+
+    private final boolean getInputsAndOutputs;
+
+    private final long deadline;
+
+    private long nextPollAt;
+
+    private long pollInterval;
+
+    private OrchestrationRuntimeStatus lastStatus;
+
+    private Throwable lastError;
+
+    private Watch(String instanceId, boolean completion, boolean getInputsAndOutputs, long deadline,
+                  long nextPollAt, long pollInterval) {
+      this.instanceId = instanceId;
+      this.completion = completion;
+      this.getInputsAndOutputs = getInputsAndOutputs;
+      this.deadline = deadline;
+      this.nextPollAt = nextPollAt;
+      this.pollInterval = pollInterval;
+    }
+
+    private boolean isSatisfiedBy(OrchestrationMetadata metadata) {
+      if (metadata == null || !metadata.isInstanceFound()) {
+        return false;
+      }
+
+      if (this.completion) {
+        return metadata.isCompleted();
+      }
+
+      return metadata.getRuntimeStatus() != OrchestrationRuntimeStatus.PENDING;
+    }
+  }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.codec;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.domain.SaveStateRequest;
+import io.dapr.client.domain.State;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Offloads large workflow payloads to a Dapr state store, keeping only a reference in the workflow history.
+ *
+ * <p>Payloads at least as large as the threshold are saved under a key and replaced by a JSON string holding a
+ * marker and that key. Smaller payloads are kept inline. Offloaded payloads are read back from the state store
+ * when the history is replayed, all those of a work item in one bulk read, so the store should be close to the
+ * application.
+ *
+ * <p>Payloads written by the workflow runtime are saved under a key derived from the workflow instance and the
+ * task writing them, so retried work items overwrite their payloads. They are deleted once the workflow
+ * instance completes or, for its input and output, when the instance is purged through the workflow client.
+ */
+public class ClaimCheckPayloadCodec implements WorkflowPayloadCodec {
+
+  /**
+   * Default minimum payload size, in characters, for a payload to be offloaded.
+   */
+  public static final int DEFAULT_THRESHOLD = 64 * 1024;
+
+  private static final String PREFIX = "\"dapr:claim-check:";
+
+  private static final String DEFAULT_KEY_PREFIX = "dapr-workflow-payload-";
+
+  private final DaprClient daprClient;
+
+  private final String storeName;
+
+  private final int threshold;
+
+  private final Map<String, String> metadata;
+
+  /**
+   * Creates a codec offloading payloads of at least {@link #DEFAULT_THRESHOLD} characters.
+   *
+   * @param daprClient client used to access the state store
+   * @param storeName  name of the state store holding offloaded payloads
+   */
+  public ClaimCheckPayloadCodec(DaprClient daprClient, String storeName) {
+    this(daprClient, storeName, DEFAULT_THRESHOLD, null);
+  }
+
+  /**
+   * Creates a codec offloading payloads of at least the given size.
+   *
+   * @param daprClient client used to access the state store
+   * @param storeName  name of the state store holding offloaded payloads
+   * @param threshold  minimum payload size, in characters, for a payload to be offloaded
+   * @param ttl        optional time to live of offloaded payloads, or null to keep them until deleted
+   */
+  public ClaimCheckPayloadCodec(DaprClient daprClient, String storeName, int threshold, Duration ttl) {
+    if (daprClient == null) {
+      throw new IllegalArgumentException("Dapr client cannot be null.");
+    }
+    if ((storeName == null) || storeName.trim().isEmpty()) {
+      throw new IllegalArgumentException("State store name cannot be null or empty.");
+    }
+
+    this.daprClient = daprClient;
+    this.storeName = storeName;
+    this.threshold = threshold;
+    this.metadata = ttl == null
+        ? Collections.emptyMap()
+        : Collections.singletonMap("ttlInSeconds", String.valueOf(ttl.getSeconds()));
+  }
+
+  @Override
+  public String encode(String payload) {
+    return this.encode(payload, UUID.randomUUID().toString());
+  }
+
+  @Override
+  public String encode(String payload, String id) {
+    if (payload.length() < this.threshold) {
+      return payload;
+    }
+
+    String key = DEFAULT_KEY_PREFIX + id;
+    State<String> state = new State<>(key, payload, null, this.metadata, null);
+    this.daprClient.saveBulkState(new SaveStateRequest(this.storeName).setStates(state)).block();
+    return PREFIX + key + "\"";
+  }
+
+  @Override
+  public String decode(String payload) {
+    String key = getKey(payload);
+    if (key == null) {
+      return payload;
+    }
+
+    State<String> state = this.daprClient.getState(this.storeName, key, String.class).block();
+    if ((state == null) || (state.getValue() == null)) {
+      throw notFound(key);
+    }
+
+    return state.getValue();
+  }
+
+  @Override
+  public List<String> decodeAll(List<String> payloads) {
+    List<String> keys = payloads.stream()
+        .map(ClaimCheckPayloadCodec::getKey)
+        .filter(Objects::nonNull)
+        .distinct()
+        .collect(Collectors.toList());
+    if (keys.isEmpty()) {
+      return new ArrayList<>(payloads);
+    }
+
+    List<State<String>> states = this.daprClient.getBulkState(this.storeName, keys, String.class).block();
+    Map<String, String> values = new HashMap<>();
+    for (State<String> state : states == null ? Collections.<State<String>>emptyList() : states) {
+      if (state.getValue() != null) {
+        values.put(state.getKey(), state.getValue());
+      }
+    }
+
+    List<String> decoded = new ArrayList<>(payloads.size());
+    for (String payload : payloads) {
+      String key = getKey(payload);
+      if (key == null) {
+        decoded.add(payload);
+      } else if (values.containsKey(key)) {
+        decoded.add(values.get(key));
+      } else {
+        throw notFound(key);
+      }
+    }
+    return decoded;
+  }
+
+  @Override
+  public void discard(String payload) {
+    String key = getKey(payload);
+    if (key != null) {
+      this.daprClient.deleteState(this.storeName, key).block();
+    }
+  }
+
+  private IllegalStateException notFound(String key) {
+    return new IllegalStateException(
+        String.format("Workflow payload '%s' not found in state store '%s'.", key, this.storeName));
+  }
+
+  private static String getKey(String payload) {
+    if (!payload.startsWith(PREFIX) || !payload.endsWith("\"")) {
+      return null;
+    }
+
+    return payload.substring(PREFIX.length(), payload.length() - 1);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses workflow payloads with gzip.
+ *
+ * <p>Compressed payloads are stored as a JSON string holding a marker and the Base64 encoded bytes, so the
+ * history stays valid JSON. Payloads smaller than the configured minimum size are left uncompressed.
+ */
+public class GzipPayloadCodec implements WorkflowPayloadCodec {
+
+  /**
+   * Default minimum payload size, in characters, for compression to be applied.
+   */
+  public static final int DEFAULT_MIN_SIZE = 1024;
+
+  private static final String PREFIX = "\"dapr:gzip:";
+
+  private final int minSize;
+
+  /**
+   * Creates a codec compressing payloads of at least {@link #DEFAULT_MIN_SIZE} characters.
+   */
+  public GzipPayloadCodec() {
+    this(DEFAULT_MIN_SIZE);
+  }
+
+  /**
+   * Creates a codec compressing payloads of at least the given size.
+   *
+   * @param minSize minimum payload size, in characters, for compression to be applied
+   */
+  public GzipPayloadCodec(int minSize) {
+    if (minSize < 0) {
+      throw new IllegalArgumentException("Minimum size cannot be negative.");
+    }
+
+    this.minSize = minSize;
+  }
+
+  @Override
+  public String encode(String payload) {
+    if (payload.length() < this.minSize) {
+      return payload;
+    }
+
+    ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length() / 4 + 32);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+      gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to compress workflow payload.", e);
+    }
+
+    return PREFIX + Base64.getEncoder().encodeToString(compressed.toByteArray()) + "\"";
+  }
+
+  @Override
+  public String decode(String payload) {
+    if (!payload.startsWith(PREFIX) || !payload.endsWith("\"")) {
+      return payload;
+    }
+
+    byte[] compressed = Base64.getDecoder().decode(payload.substring(PREFIX.length(), payload.length() - 1));
+    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to decompress workflow payload.", e);
+    }
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.codec;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Transforms serialized workflow payloads (inputs, outputs, activity results and event data) before they
+ * are written to the workflow history, and back when they are read.
+ *
+ * <p>Encoded payloads must be distinguishable from plain serialized payloads, so that history written
+ * before a codec was configured can still be read: {@link #decode(String)} must return any payload it did
+ * not encode unchanged.
+ */
+public interface WorkflowPayloadCodec {
+
+  /**
+   * Encodes a serialized payload.
+   *
+   * @param payload the serialized payload, never null
+   * @return the encoded payload
+   */
+  String encode(String payload);
+
+  /**
+   * Encodes a serialized payload written by the workflow runtime. The id is the same every time the work item
+   * writing the payload is retried or replayed, so codecs storing payloads outside the history can overwrite
+   * them instead of leaking a copy per attempt.
+   *
+   * @param payload the serialized payload, never null
+   * @param id      identifier of the payload, unique across workflow instances
+   * @return the encoded payload
+   */
+  default String encode(String payload, String id) {
+    return encode(payload);
+  }
+
+  /**
+   * Decodes a payload previously encoded by this codec, returning any other payload unchanged.
+   *
+   * @param payload the payload read from the workflow history, never null
+   * @return the serialized payload
+   */
+  String decode(String payload);
+
+  /**
+   * Decodes several payloads at once, such as the history of a workflow being replayed. Codecs reading payloads
+   * from outside the history should override it to fetch them in a single round-trip.
+   *
+   * @param payloads the payloads read from the workflow history, never null
+   * @return the serialized payloads, in the same order
+   */
+  default List<String> decodeAll(List<String> payloads) {
+    return payloads.stream().map(this::decode).collect(Collectors.toList());
+  }
+
+  /**
+   * Releases whatever a payload previously encoded by this codec holds outside the workflow history, once the
+   * history no longer references it. Any other payload is ignored.
+   *
+   * @param payload the payload read from the workflow history, never null
+   */
+  default void discard(String payload) {
+  }
+
+  /**
+   * Chains this codec with another one: payloads are encoded by this codec first, then by the next one.
+   *
+   * @param next the codec applied after this one
+   * @return the chained codec
+   */
+  default WorkflowPayloadCodec andThen(WorkflowPayloadCodec next) {
+    WorkflowPayloadCodec first = this;
+    return new WorkflowPayloadCodec() {
+      @Override
+      public String encode(String payload) {
+        return next.encode(first.encode(payload));
+      }
+
+      @Override
+      public String encode(String payload, String id) {
+        return next.encode(first.encode(payload, id), id);
+      }
+
+      @Override
+      public String decode(String payload) {
+        return first.decode(next.decode(payload));
+      }
+
+      @Override
+      public List<String> decodeAll(List<String> payloads) {
+        return first.decodeAll(next.decodeAll(payloads));
+      }
+
+      @Override
+      public void discard(String payload) {
+        first.discard(next.decode(payload));
+        next.discard(payload);
+      }
+    };
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.internal;
+
+import com.google.protobuf.StringValue;
+import com.microsoft.durabletask.DataConverter;
+import com.microsoft.durabletask.JacksonDataConverter;
+import io.dapr.workflows.codec.WorkflowPayloadCodec;
+
+import java.util.List;
+
+/**
+ * Data converter applying a {@link WorkflowPayloadCodec} on top of the default JSON serialization.
+ */
+public class PayloadCodecDataConverter implements DataConverter {
+
+  private final DataConverter delegate = new JacksonDataConverter();
+
+  private final WorkflowPayloadCodec codec;
+
+  public PayloadCodecDataConverter(WorkflowPayloadCodec codec) {
+    this.codec = codec;
+  }
+
+  @Override
+  public String serialize(Object value) {
+    return this.encode(this.delegate.serialize(value));
+  }
+
+  @Override
+  public <T> T deserialize(String data, Class<T> target) {
+    return this.delegate.deserialize(this.decode(data), target);
+  }
+
+  /**
+   * Encodes a serialized payload, passing null through.
+   *
+   * @param payload serialized payload
+   * @return encoded payload
+   */
+  public String encode(String payload) {
+    return payload == null ? null : this.codec.encode(payload);
+  }
+
+  /**
+   * Encodes a payload field of a workflow history message.
+   *
+   * @param payload payload field
+   * @return encoded payload field
+   */
+  public StringValue encode(StringValue payload) {
+    return StringValue.of(this.codec.encode(payload.getValue()));
+  }
+
+  /**
+   * Encodes a payload field written by the workflow runtime, under an id that is stable across retries.
+   *
+   * @param payload payload field
+   * @param id      identifier of the payload
+   * @return encoded payload field
+   */
+  public StringValue encode(StringValue payload, String id) {
+    return StringValue.of(this.codec.encode(payload.getValue(), id));
+  }
+
+  /**
+   * Decodes a payload read from the workflow history, passing null through.
+   *
+   * @param payload payload read from the history
+   * @return serialized payload
+   */
+  public String decode(String payload) {
+    return payload == null ? null : this.codec.decode(payload);
+  }
+
+  /**
+   * Decodes a payload field of a workflow history message.
+   *
+   * @param payload payload field
+   * @return decoded payload field
+   */
+  public StringValue decode(StringValue payload) {
+    return StringValue.of(this.codec.decode(payload.getValue()));
+  }
+
+  /**
+   * Decodes several payloads read from the workflow history at once.
+   *
+   * @param payloads payloads read from the history, none of them null
+   * @return serialized payloads, in the same order
+   */
+  public List<String> decodeAll(List<String> payloads) {
+    return this.codec.decodeAll(payloads);
+  }
+
+  /**
+   * Releases a payload that is no longer referenced by any workflow history, ignoring null.
+   *
+   * @param payload payload read from the history
+   */
+  public void discard(String payload) {
+    if (payload != null) {
+      this.codec.discard(payload);
+    }
+  }
+}
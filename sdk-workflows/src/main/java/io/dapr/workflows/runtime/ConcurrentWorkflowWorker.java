@@ -0,0 +1,565 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.runtime;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StringValue;
+import com.microsoft.durabletask.DataConverter;
+import com.microsoft.durabletask.JacksonDataConverter;
+import com.microsoft.durabletask.OrchestrationRunner;
+import com.microsoft.durabletask.TaskActivity;
+import com.microsoft.durabletask.TaskActivityFactory;
+import com.microsoft.durabletask.TaskOrchestration;
+import com.microsoft.durabletask.TaskOrchestrationFactory;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.ActivityRequest;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.ActivityResponse;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.CompleteOrchestrationAction;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.GetWorkItemsRequest;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.HistoryEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestrationInstance;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestrationStatus;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorAction;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorRequest;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorResponse;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.WorkItem;
+import com.microsoft.durabletask.implementation.protobuf.TaskHubSidecarServiceGrpc;
+import io.dapr.client.metrics.DaprMetrics;
+import io.dapr.workflows.internal.PayloadCodecDataConverter;
+import io.grpc.Channel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Worker that receives work items from the sidecar and dispatches them to an executor, bounding how many
+ * workflow and activity work items run at the same time.
+ */
+final class ConcurrentWorkflowWorker implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentWorkflowWorker.class);
+
+  private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+  private static final String TRANSPORT = "workflow";
+
+  private static final String WORKFLOW_API = "orchestration";
+
+  private static final String ACTIVITY_API = "activity";
+
+  private final Map<String, TaskOrchestrationFactory> workflowFactories;
+
+  private final Map<String, TaskActivityFactory> activityFactories;
+
+  private final TaskHubSidecarServiceGrpc.TaskHubSidecarServiceBlockingStub sidecarClient;
+
+  private final DataConverter dataConverter;
+
+  private final PayloadCodecDataConverter payloadCodec;
+
+  private final DecodedPayloadCache decodedPayloads = new DecodedPayloadCache(DecodedPayloadCache.DEFAULT_MAX_CHARS);
+
+  private final ExecutorService executorService;
+
+  private final boolean shutdownExecutorOnClose;
+
+  private final Semaphore workflowPermits;
+
+  private final Semaphore activityPermits;
+
+  private final AtomicInteger inFlightWorkflows = new AtomicInteger();
+
+  private final AtomicInteger inFlightActivities = new AtomicInteger();
+
+  private final DaprMetrics metrics;
+
+  private volatile Thread workerThread;
+
+  private volatile boolean closed;
+
+  /**
+   * Constructor for ConcurrentWorkflowWorker.
+   *
+   * @param channel                 gRPC channel to the sidecar.
+   * @param workflowFactories       registered workflows, by name.
+   * @param activityFactories       registered activities, by name.
+   * @param maxConcurrentWorkflows  maximum number of workflow work items executing at the same time.
+   * @param maxConcurrentActivities maximum number of activity work items executing at the same time.
+   * @param executorService         executor running the work items.
+   * @param shutdownExecutorOnClose whether the executor is owned by this worker and must be shut down on close.
+   * @param payloadCodec            optional codec applied to payloads read from and written to the history.
+   * @param metrics                 recorder of the number of work items in flight.
+   */
+  ConcurrentWorkflowWorker(
+      Channel channel,
+      Map<String, TaskOrchestrationFactory> workflowFactories,
+      Map<String, TaskActivityFactory> activityFactories,
+      int maxConcurrentWorkflows,
+      int maxConcurrentActivities,
+      ExecutorService executorService,
+      boolean shutdownExecutorOnClose,
+      PayloadCodecDataConverter payloadCodec,
+      DaprMetrics metrics) {
+    this.sidecarClient = TaskHubSidecarServiceGrpc.newBlockingStub(channel);
+    this.workflowFactories = new HashMap<>(workflowFactories);
+    this.activityFactories = new HashMap<>(activityFactories);
+    this.workflowPermits = new Semaphore(maxConcurrentWorkflows);
+    this.activityPermits = new Semaphore(maxConcurrentActivities);
+    this.executorService = executorService;
+    this.shutdownExecutorOnClose = shutdownExecutorOnClose;
+    this.payloadCodec = payloadCodec;
+    this.metrics = metrics == null ? DaprMetrics.NOOP : metrics;
+    this.dataConverter = new JacksonDataConverter();
+  }
+
+  /**
+   * Starts receiving work items on a background thread.
+   */
+  void start() {
+    Thread thread = new Thread(this::startAndBlock, "dapr-workflow-worker");
+    thread.setDaemon(true);
+    this.workerThread = thread;
+    thread.start();
+  }
+
+  /**
+   * Receives work items on the calling thread until the worker is closed or the thread is interrupted.
+   */
+  void startAndBlock() {
+    if (this.workerThread == null) {
+      this.workerThread = Thread.currentThread();
+    }
+
+    while (!this.closed && !Thread.currentThread().isInterrupted()) {
+      try {
+        Iterator<WorkItem> workItems = this.sidecarClient.getWorkItems(GetWorkItemsRequest.newBuilder().build());
+        while (workItems.hasNext()) {
+          dispatch(workItems.next());
+        }
+      } catch (StatusRuntimeException e) {
+        if (e.getStatus().getCode() == Status.Code.UNAVAILABLE) {
+          LOGGER.info("The sidecar is unavailable. Will continue retrying.");
+        } else if (e.getStatus().getCode() == Status.Code.CANCELLED) {
+          LOGGER.info("Workflow worker has disconnected from the sidecar.");
+        } else {
+          LOGGER.warn("Unexpected failure receiving workflow work items.", e);
+        }
+      } catch (RejectedExecutionException e) {
+        if (this.closed) {
+          return;
+        }
+
+        LOGGER.warn("Workflow work item was rejected by the executor.", e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+
+      if (this.closed) {
+        return;
+      }
+
+      try {
+        Thread.sleep(RECONNECT_DELAY_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Gets the number of workflow work items currently executing.
+   *
+   * @return Number of workflow work items in flight.
+   */
+  int getInFlightWorkflows() {
+    return this.inFlightWorkflows.get();
+  }
+
+  /**
+   * Gets the number of activity work items currently executing.
+   *
+   * @return Number of activity work items in flight.
+   */
+  int getInFlightActivities() {
+    return this.inFlightActivities.get();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() {
+    this.closed = true;
+    Thread thread = this.workerThread;
+    if ((thread != null) && (thread != Thread.currentThread())) {
+      thread.interrupt();
+    }
+
+    if (this.shutdownExecutorOnClose) {
+      this.executorService.shutdown();
+      try {
+        if (!this.executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+          this.executorService.shutdownNow();
+        }
+      } catch (InterruptedException e) {
+        this.executorService.shutdownNow();
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void dispatch(WorkItem workItem) throws InterruptedException {
+    switch (workItem.getRequestCase()) {
+      case ORCHESTRATORREQUEST:
+        OrchestratorRequest orchestratorRequest = workItem.getOrchestratorRequest();
+        submit(this.workflowPermits, this.inFlightWorkflows, WORKFLOW_API, () -> runWorkflow(orchestratorRequest));
+        break;
+      case ACTIVITYREQUEST:
+        ActivityRequest activityRequest = workItem.getActivityRequest();
+        submit(this.activityPermits, this.inFlightActivities, ACTIVITY_API, () -> runActivity(activityRequest));
+        break;
+      default:
+        LOGGER.warn("Received and dropped an unknown '{}' work-item from the sidecar.", workItem.getRequestCase());
+        break;
+    }
+  }
+
+  /**
+   * Runs a work item once a permit is available. Blocking here keeps the sidecar stream from
+   * delivering more work than the worker is allowed to run.
+   */
+  private void submit(Semaphore permits, AtomicInteger inFlight, String api, Runnable task)
+      throws InterruptedException {
+    permits.acquire();
+    this.metrics.inFlight(TRANSPORT, api, inFlight.incrementAndGet());
+    try {
+      this.executorService.execute(() -> {
+        try {
+          task.run();
+        } catch (StatusRuntimeException e) {
+          LOGGER.warn("Failed to report workflow work item result to the sidecar.", e);
+        } catch (Throwable e) {
+          LOGGER.error("Unexpected failure running a workflow work item.", e);
+        } finally {
+          this.metrics.inFlight(TRANSPORT, api, inFlight.decrementAndGet());
+          permits.release();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      this.metrics.inFlight(TRANSPORT, api, inFlight.decrementAndGet());
+      permits.release();
+      throw e;
+    }
+  }
+
+  private void runWorkflow(OrchestratorRequest request) {
+    String name = getWorkflowName(request);
+    TaskOrchestrationFactory factory = name == null ? null : this.workflowFactories.get(name);
+    TaskOrchestration workflow;
+    if (factory != null) {
+      workflow = factory.create();
+    } else {
+      workflow = ctx -> {
+        throw new IllegalStateException(String.format("A workflow named '%s' is not registered.", name));
+      };
+    }
+
+    OrchestratorResponse response;
+    try {
+      OrchestratorRequest decodedRequest = this.payloadCodec == null ? request : decodePayloads(request);
+      response = OrchestratorResponse.parseFrom(
+          OrchestrationRunner.loadAndRun(decodedRequest.toByteArray(), workflow));
+      if (this.payloadCodec != null) {
+        response = encodePayloads(request, response);
+      }
+    } catch (Throwable e) {
+      // Without a response the work item would stay pending until the sidecar delivers it again, so the failure is
+      // reported as the outcome of the workflow, like an exception thrown by the workflow itself.
+      LOGGER.warn("Failed to run workflow instance '{}'.", request.getInstanceId(), e);
+      response = toFailedResponse(request, e);
+    }
+
+    this.sidecarClient.completeOrchestratorTask(response);
+
+    if (this.payloadCodec != null) {
+      discardPayloads(request, response);
+    }
+  }
+
+  private static OrchestratorResponse toFailedResponse(OrchestratorRequest request, Throwable failure) {
+    if (failure instanceof InvalidProtocolBufferException) {
+      failure = new IllegalStateException("Unable to parse workflow execution result.", failure);
+    }
+
+    CompleteOrchestrationAction completion = CompleteOrchestrationAction.newBuilder()
+        .setOrchestrationStatus(OrchestrationStatus.ORCHESTRATION_STATUS_FAILED)
+        .setFailureDetails(WorkItemUtils.toFailureDetails(failure))
+        .build();
+    return OrchestratorResponse.newBuilder()
+        .setInstanceId(request.getInstanceId())
+        .addActions(OrchestratorAction.newBuilder().setCompleteOrchestration(completion))
+        .build();
+  }
+
+  /**
+   * Decodes the history payloads a workflow deserializes, since workflows run with the default converter. Payloads
+   * decoded for a previous work item of the instance are taken from the cache, and the others are decoded together,
+   * so a replay does not read the whole history from the codec again.
+   */
+  private OrchestratorRequest decodePayloads(OrchestratorRequest request) {
+    String instanceId = request.getInstanceId();
+    Map<String, String> decoded = new HashMap<>();
+    Set<String> misses = new LinkedHashSet<>();
+    for (List<HistoryEvent> events : List.of(request.getPastEventsList(), request.getNewEventsList())) {
+      for (HistoryEvent event : events) {
+        decodePayloads(event, payload -> {
+          String cached = this.decodedPayloads.get(instanceId, payload);
+          if (cached != null) {
+            decoded.put(payload, cached);
+          } else {
+            misses.add(payload);
+          }
+          return payload;
+        });
+      }
+    }
+
+    if (!misses.isEmpty()) {
+      List<String> payloads = new ArrayList<>(misses);
+      List<String> values = this.payloadCodec.decodeAll(payloads);
+      for (int i = 0; i < payloads.size(); i++) {
+        String payload = payloads.get(i);
+        String value = values.get(i);
+        decoded.put(payload, value);
+        if (!payload.equals(value)) {
+          this.decodedPayloads.put(instanceId, payload, value);
+        }
+      }
+    }
+
+    OrchestratorRequest.Builder builder = request.toBuilder();
+    for (int i = 0; i < builder.getPastEventsCount(); i++) {
+      builder.setPastEvents(i, decodePayloads(builder.getPastEvents(i), decoded::get));
+    }
+    for (int i = 0; i < builder.getNewEventsCount(); i++) {
+      builder.setNewEvents(i, decodePayloads(builder.getNewEvents(i), decoded::get));
+    }
+    return builder.build();
+  }
+
+  private static HistoryEvent decodePayloads(HistoryEvent event, UnaryOperator<String> decoder) {
+    HistoryEvent.Builder builder = event.toBuilder();
+    switch (event.getEventTypeCase()) {
+      case EXECUTIONSTARTED:
+        if (event.getExecutionStarted().hasInput()) {
+          builder.getExecutionStartedBuilder()
+              .setInput(decode(event.getExecutionStarted().getInput(), decoder));
+        }
+        break;
+      case TASKCOMPLETED:
+        if (event.getTaskCompleted().hasResult()) {
+          builder.getTaskCompletedBuilder().setResult(decode(event.getTaskCompleted().getResult(), decoder));
+        }
+        break;
+      case SUBORCHESTRATIONINSTANCECOMPLETED:
+        if (event.getSubOrchestrationInstanceCompleted().hasResult()) {
+          builder.getSubOrchestrationInstanceCompletedBuilder()
+              .setResult(decode(event.getSubOrchestrationInstanceCompleted().getResult(), decoder));
+        }
+        break;
+      case EVENTRAISED:
+        if (event.getEventRaised().hasInput()) {
+          builder.getEventRaisedBuilder().setInput(decode(event.getEventRaised().getInput(), decoder));
+        }
+        break;
+      default:
+        return event;
+    }
+    return builder.build();
+  }
+
+  private static StringValue decode(StringValue payload, UnaryOperator<String> decoder) {
+    return StringValue.of(decoder.apply(payload.getValue()));
+  }
+
+  /**
+   * Encodes the payloads a workflow writes to the history, under ids derived from the actions writing them so
+   * that replaying or retrying the work item writes the same payloads again.
+   */
+  private OrchestratorResponse encodePayloads(OrchestratorRequest request, OrchestratorResponse response) {
+    String executionId = getPayloadId(request.getInstanceId(), request.getExecutionId().getValue());
+    OrchestratorResponse.Builder builder = response.toBuilder();
+    for (int i = 0; i < builder.getActionsCount(); i++) {
+      OrchestratorAction action = builder.getActions(i);
+      OrchestratorAction.Builder actionBuilder = builder.getActionsBuilder(i);
+      String actionId = getPayloadId(executionId, action.getOrchestratorActionTypeCase().name().toLowerCase(),
+          String.valueOf(action.getId()));
+      switch (action.getOrchestratorActionTypeCase()) {
+        case SCHEDULETASK:
+          if (action.getScheduleTask().hasInput()) {
+            actionBuilder.getScheduleTaskBuilder()
+                .setInput(this.payloadCodec.encode(action.getScheduleTask().getInput(), actionId));
+          }
+          break;
+        case CREATESUBORCHESTRATION:
+          if (action.getCreateSubOrchestration().hasInput()) {
+            actionBuilder.getCreateSubOrchestrationBuilder()
+                .setInput(this.payloadCodec.encode(action.getCreateSubOrchestration().getInput(), actionId));
+          }
+          break;
+        case SENDEVENT:
+          if (action.getSendEvent().hasData()) {
+            actionBuilder.getSendEventBuilder()
+                .setData(this.payloadCodec.encode(action.getSendEvent().getData(), actionId));
+          }
+          break;
+        case COMPLETEORCHESTRATION:
+          if (action.getCompleteOrchestration().hasResult()) {
+            actionBuilder.getCompleteOrchestrationBuilder()
+                .setResult(this.payloadCodec.encode(action.getCompleteOrchestration().getResult(), actionId));
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    return builder.build();
+  }
+
+  /**
+   * Releases the payloads of a completed workflow execution that nothing reads anymore: activity inputs and
+   * results, and received events. The input stays until the instance is purged, unless the workflow continued
+   * as new, and payloads carried over to the next execution are kept. Payloads owned by child workflows and
+   * events sent to other workflows are left to their receivers.
+   */
+  private void discardPayloads(OrchestratorRequest request, OrchestratorResponse response) {
+    CompleteOrchestrationAction completion = null;
+    for (OrchestratorAction action : response.getActionsList()) {
+      if (action.hasCompleteOrchestration()) {
+        completion = action.getCompleteOrchestration();
+      }
+    }
+    if (completion == null) {
+      return;
+    }
+
+    this.decodedPayloads.remove(request.getInstanceId());
+    boolean continuedAsNew =
+        completion.getOrchestrationStatus() == OrchestrationStatus.ORCHESTRATION_STATUS_CONTINUED_AS_NEW;
+    Set<String> kept = new HashSet<>();
+    kept.add(completion.getResult().getValue());
+    for (HistoryEvent event : completion.getCarryoverEventsList()) {
+      kept.add(event.getEventRaised().getInput().getValue());
+    }
+
+    Set<String> discarded = new HashSet<>();
+    for (List<HistoryEvent> events : List.of(request.getPastEventsList(), request.getNewEventsList())) {
+      for (HistoryEvent event : events) {
+        if (event.hasTaskScheduled() && event.getTaskScheduled().hasInput()) {
+          discarded.add(event.getTaskScheduled().getInput().getValue());
+        } else if (event.hasTaskCompleted() && event.getTaskCompleted().hasResult()) {
+          discarded.add(event.getTaskCompleted().getResult().getValue());
+        } else if (event.hasEventRaised() && event.getEventRaised().hasInput()) {
+          discarded.add(event.getEventRaised().getInput().getValue());
+        } else if (continuedAsNew && event.hasExecutionStarted() && event.getExecutionStarted().hasInput()) {
+          discarded.add(event.getExecutionStarted().getInput().getValue());
+        }
+      }
+    }
+    discarded.removeAll(kept);
+
+    for (String payload : discarded) {
+      try {
+        this.payloadCodec.discard(payload);
+      } catch (RuntimeException e) {
+        LOGGER.warn("Failed to discard a payload of workflow instance '{}'.", request.getInstanceId(), e);
+      }
+    }
+  }
+
+  private void runActivity(ActivityRequest request) {
+    ActivityResponse.Builder response = ActivityResponse.newBuilder()
+        .setInstanceId(request.getOrchestrationInstance().getInstanceId())
+        .setTaskId(request.getTaskId());
+
+    try {
+      TaskActivityFactory factory = this.activityFactories.get(request.getName());
+      if (factory == null) {
+        throw new IllegalStateException(
+            String.format("A workflow activity named '%s' is not registered.", request.getName()));
+      }
+
+      String input = request.getInput().getValue();
+      if ((this.payloadCodec != null) && request.hasInput()) {
+        input = this.payloadCodec.decode(input);
+      }
+
+      TaskActivity activity = factory.create();
+      Object output = activity.run(WorkItemUtils.newActivityContext(request.getName(), input, this.dataConverter));
+      String serializedOutput = this.dataConverter.serialize(output);
+      if (serializedOutput != null) {
+        StringValue result = StringValue.of(serializedOutput);
+        if (this.payloadCodec != null) {
+          OrchestrationInstance instance = request.getOrchestrationInstance();
+          result = this.payloadCodec.encode(result, getPayloadId(instance.getInstanceId(),
+              instance.getExecutionId().getValue(), "result", String.valueOf(request.getTaskId())));
+        }
+        response.setResult(result);
+      }
+    } catch (Throwable e) {
+      response.setFailureDetails(WorkItemUtils.toFailureDetails(e));
+    }
+
+    this.sidecarClient.completeActivityTask(response.build());
+  }
+
+  private static String getPayloadId(String... parts) {
+    return Arrays.stream(parts).filter(part -> !part.isEmpty()).collect(Collectors.joining(":"));
+  }
+
+  private static String getWorkflowName(OrchestratorRequest request) {
+    for (HistoryEvent event : request.getPastEventsList()) {
+      if (event.hasExecutionStarted()) {
+        return event.getExecutionStarted().getName();
+      }
+    }
+
+    for (HistoryEvent event : request.getNewEventsList()) {
+      if (event.hasExecutionStarted()) {
+        return event.getExecutionStarted().getName();
+      }
+    }
+
+    return null;
+  }
+}
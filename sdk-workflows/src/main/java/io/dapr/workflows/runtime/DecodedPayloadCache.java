@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.runtime;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Payloads of running workflow instances already decoded by the payload codec, so that replaying the history of an
+ * instance only decodes the payloads added since its previous work item. The cache holds a bounded number of
+ * characters, dropping the least recently run instance first, and an instance is dropped once it completes.
+ */
+final class DecodedPayloadCache {
+
+  /**
+   * Default maximum number of characters held, encoded and decoded payloads included.
+   */
+  static final long DEFAULT_MAX_CHARS = 16L * 1024 * 1024;
+
+  private final long maxChars;
+
+  private final Map<String, Map<String, String>> instances = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long chars;
+
+  DecodedPayloadCache(long maxChars) {
+    this.maxChars = maxChars;
+  }
+
+  /**
+   * Gets a decoded payload of an instance.
+   *
+   * @param instanceId Workflow instance the payload was read from.
+   * @param payload    Payload as read from the history.
+   * @return The decoded payload, or null if not cached.
+   */
+  synchronized String get(String instanceId, String payload) {
+    Map<String, String> payloads = this.instances.get(instanceId);
+    return payloads == null ? null : payloads.get(payload);
+  }
+
+  /**
+   * Caches a decoded payload of an instance, unless it alone exceeds the cache size.
+   *
+   * @param instanceId Workflow instance the payload was read from.
+   * @param payload    Payload as read from the history.
+   * @param decoded    Decoded payload.
+   */
+  synchronized void put(String instanceId, String payload, String decoded) {
+    long size = size(payload, decoded);
+    if (size > this.maxChars) {
+      return;
+    }
+
+    String previous = this.instances.computeIfAbsent(instanceId, key -> new HashMap<>()).put(payload, decoded);
+    this.chars += size - (previous == null ? 0 : size(payload, previous));
+
+    Iterator<Map<String, String>> eldest = this.instances.values().iterator();
+    while (this.chars > this.maxChars && eldest.hasNext()) {
+      this.chars -= size(eldest.next());
+      eldest.remove();
+    }
+  }
+
+  /**
+   * Drops the payloads of an instance.
+   *
+   * @param instanceId Workflow instance.
+   */
+  synchronized void remove(String instanceId) {
+    Map<String, String> payloads = this.instances.remove(instanceId);
+    if (payloads != null) {
+      this.chars -= size(payloads);
+    }
+  }
+
+  private static long size(Map<String, String> payloads) {
+    long size = 0;
+    for (Map.Entry<String, String> entry : payloads.entrySet()) {
+      size += size(entry.getKey(), entry.getValue());
+    }
+    return size;
+  }
+
+  private static long size(String payload, String decoded) {
+    return (long) payload.length() + decoded.length();
+  }
+}
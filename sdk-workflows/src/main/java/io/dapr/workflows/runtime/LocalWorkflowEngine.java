@@ -0,0 +1,760 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.runtime;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import com.microsoft.durabletask.DataConverter;
+import com.microsoft.durabletask.JacksonDataConverter;
+import com.microsoft.durabletask.OrchestrationRunner;
+import com.microsoft.durabletask.TaskActivityFactory;
+import com.microsoft.durabletask.TaskOrchestrationFactory;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.CompleteOrchestrationAction;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.CreateSubOrchestrationAction;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.EventRaisedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.EventSentEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.ExecutionCompletedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.ExecutionStartedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.HistoryEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestrationInstance;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestrationStatus;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorAction;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorRequest;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorResponse;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorStartedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.ParentInstanceInfo;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.ScheduleTaskAction;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.SendEventAction;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.SubOrchestrationInstanceCompletedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.SubOrchestrationInstanceCreatedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.SubOrchestrationInstanceFailedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.TaskCompletedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.TaskFailedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.TaskFailureDetails;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.TaskScheduledEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.TimerCreatedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.TimerFiredEvent;
+import io.dapr.workflows.Workflow;
+import io.dapr.workflows.WorkflowActivity;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-process workflow engine that runs workflows and activities on the calling thread, without a sidecar.
+ *
+ * <p>Workflows are executed with the same replay semantics as the workflow runtime: every step replays the
+ * recorded history of the instance before handling the new events. Activities, external events, child
+ * workflows, {@code continueAsNew} and retries configured with a
+ * {@link io.dapr.workflows.WorkflowTaskRetryPolicy} are supported.
+ *
+ * <p>Time is virtual: durable timers only fire when the clock is moved forward by {@link #advanceTime(Duration)}
+ * or {@link #runUntilCompleted(String)}, so a workflow sleeping for days completes immediately.
+ *
+ * <p>This class is not thread-safe.
+ */
+public class LocalWorkflowEngine {
+
+  private final DataConverter dataConverter = new JacksonDataConverter();
+
+  private final Map<String, TaskOrchestrationFactory> workflowFactories = new HashMap<>();
+
+  private final Map<String, TaskActivityFactory> activityFactories = new HashMap<>();
+
+  private final Map<String, Instance> instances = new HashMap<>();
+
+  private final Set<Instance> readyInstances = new LinkedHashSet<>();
+
+  private final Deque<ActivityWorkItem> activityQueue = new ArrayDeque<>();
+
+  private final PriorityQueue<Timer> timers = new PriorityQueue<>(
+      Comparator.comparing((Timer timer) -> timer.fireAt).thenComparingLong(timer -> timer.sequence));
+
+  private long timerSequence;
+
+  private Instant currentTime;
+
+  /**
+   * Constructs a LocalWorkflowEngine whose virtual clock starts at the current time.
+   */
+  public LocalWorkflowEngine() {
+    this(Instant.now());
+  }
+
+  /**
+   * Constructs a LocalWorkflowEngine.
+   *
+   * @param startTime Initial value of the virtual clock.
+   */
+  public LocalWorkflowEngine(Instant startTime) {
+    if (startTime == null) {
+      throw new IllegalArgumentException("Start time cannot be null.");
+    }
+
+    this.currentTime = startTime;
+  }
+
+  /**
+   * Registers a Workflow object.
+   *
+   * @param <T>   any Workflow type
+   * @param clazz the class being registered
+   * @return the LocalWorkflowEngine
+   */
+  public <T extends Workflow> LocalWorkflowEngine registerWorkflow(Class<T> clazz) {
+    TaskOrchestrationFactory factory = new WorkflowClassWrapper<>(clazz);
+    this.workflowFactories.put(factory.getName(), factory);
+    return this;
+  }
+
+  /**
+   * Registers a Workflow object.
+   *
+   * @param <T>      any Workflow type
+   * @param instance the workflow instance being registered
+   * @return the LocalWorkflowEngine
+   */
+  public <T extends Workflow> LocalWorkflowEngine registerWorkflow(T instance) {
+    TaskOrchestrationFactory factory = new WorkflowInstanceWrapper<>(instance);
+    this.workflowFactories.put(factory.getName(), factory);
+    return this;
+  }
+
+  /**
+   * Registers an Activity object.
+   *
+   * @param <T>   any WorkflowActivity type
+   * @param clazz the class being registered
+   * @return the LocalWorkflowEngine
+   */
+  public <T extends WorkflowActivity> LocalWorkflowEngine registerActivity(Class<T> clazz) {
+    TaskActivityFactory factory = new WorkflowActivityClassWrapper<>(clazz);
+    this.activityFactories.put(factory.getName(), factory);
+    return this;
+  }
+
+  /**
+   * Registers an Activity object.
+   *
+   * @param <T>      any WorkflowActivity type
+   * @param instance the activity instance being registered
+   * @return the LocalWorkflowEngine
+   */
+  public <T extends WorkflowActivity> LocalWorkflowEngine registerActivity(T instance) {
+    TaskActivityFactory factory = new WorkflowActivityInstanceWrapper<>(instance);
+    this.activityFactories.put(factory.getName(), factory);
+    return this;
+  }
+
+  /**
+   * Schedules a new workflow without input. The workflow runs on the next call to one of the run methods.
+   *
+   * @param <T>   any Workflow type
+   * @param clazz Class extending Workflow to start an instance of.
+   * @return the randomly-generated instance ID for new Workflow instance.
+   */
+  public <T extends Workflow> String scheduleNewWorkflow(Class<T> clazz) {
+    return this.scheduleNewWorkflow(clazz, null);
+  }
+
+  /**
+   * Schedules a new workflow. The workflow runs on the next call to one of the run methods.
+   *
+   * @param <T>   any Workflow type
+   * @param clazz Class extending Workflow to start an instance of.
+   * @param input the input to pass to the scheduled workflow instance. Must be serializable.
+   * @return the randomly-generated instance ID for new Workflow instance.
+   */
+  public <T extends Workflow> String scheduleNewWorkflow(Class<T> clazz, Object input) {
+    return this.scheduleNewWorkflow(clazz, input, UUID.randomUUID().toString());
+  }
+
+  /**
+   * Schedules a new workflow with a specified instance ID. The workflow runs on the next call to one of the
+   * run methods.
+   *
+   * @param <T>        any Workflow type
+   * @param clazz      Class extending Workflow to start an instance of.
+   * @param input      the input to pass to the scheduled workflow instance. Must be serializable.
+   * @param instanceId the unique ID of the workflow instance to schedule
+   * @return the <code>instanceId</code> parameter value.
+   * @throws IllegalStateException if a workflow instance with the same ID is still running.
+   */
+  public <T extends Workflow> String scheduleNewWorkflow(Class<T> clazz, Object input, String instanceId) {
+    if (instanceId == null || instanceId.isEmpty()) {
+      throw new IllegalArgumentException("Instance ID cannot be null or empty.");
+    }
+
+    this.startInstance(clazz.getCanonicalName(), this.dataConverter.serialize(input), instanceId, null, 0, 0);
+    return instanceId;
+  }
+
+  /**
+   * Sends an event notification message to a waiting workflow instance.
+   * Events sent to completed instances are discarded.
+   *
+   * @param instanceId   the ID of the workflow instance that will handle the event.
+   * @param eventName    the name of the event. Event names are case-insensitive.
+   * @param eventPayload the serializable data payload to include with the event.
+   */
+  public void raiseEvent(String instanceId, String eventName, Object eventPayload) {
+    Instance instance = this.getInstance(instanceId);
+    if (!instance.isCompleted()) {
+      instance.addEvent(this.eventRaised(eventName, this.dataConverter.serialize(eventPayload)));
+    }
+  }
+
+  /**
+   * Terminates a running workflow instance.
+   *
+   * @param instanceId the unique ID of the workflow instance to terminate.
+   * @param output     the optional output to set for the terminated workflow instance.
+   */
+  public void terminateWorkflow(String instanceId, Object output) {
+    Instance instance = this.getInstance(instanceId);
+    if (!instance.isCompleted()) {
+      instance.finish(WorkflowRuntimeStatus.TERMINATED, this.dataConverter.serialize(output), null);
+    }
+  }
+
+  /**
+   * Removes a completed workflow instance and its history.
+   *
+   * @param instanceId the unique ID of the workflow instance to purge.
+   * @return true if the instance was purged, false if it does not exist or is still running.
+   */
+  public boolean purgeInstance(String instanceId) {
+    Instance instance = this.instances.get(instanceId);
+    if (instance == null || !instance.isCompleted()) {
+      return false;
+    }
+
+    this.instances.remove(instanceId);
+    return true;
+  }
+
+  /**
+   * Fetches a snapshot of a workflow instance's state.
+   *
+   * @param instanceId the unique ID of the workflow instance to fetch
+   * @return a snapshot of the workflow instance, or null if no such instance exists
+   */
+  public LocalWorkflowInstanceStatus getInstanceState(String instanceId) {
+    Instance instance = this.instances.get(instanceId);
+    return instance == null ? null : instance.snapshot();
+  }
+
+  /**
+   * Gets the current value of the virtual clock.
+   *
+   * @return the virtual time
+   */
+  public Instant getCurrentTime() {
+    return this.currentTime;
+  }
+
+  /**
+   * Runs workflows and activities until every instance is waiting for a timer or an external event.
+   * The virtual clock does not move.
+   */
+  public void runUntilIdle() {
+    this.fireDueTimers();
+    while (!this.activityQueue.isEmpty() || !this.readyInstances.isEmpty()) {
+      // Completing all pending activities first lets a workflow handle their results in a single replay.
+      while (!this.activityQueue.isEmpty()) {
+        this.runActivity(this.activityQueue.poll());
+      }
+
+      List<Instance> ready = new ArrayList<>(this.readyInstances);
+      this.readyInstances.clear();
+      for (Instance instance : ready) {
+        this.runWorkflowStep(instance);
+      }
+
+      this.fireDueTimers();
+    }
+  }
+
+  /**
+   * Moves the virtual clock forward, firing due timers in order and running the resulting work.
+   *
+   * @param duration the amount of virtual time to advance
+   */
+  public void advanceTime(Duration duration) {
+    if (duration == null || duration.isNegative()) {
+      throw new IllegalArgumentException("Duration cannot be null or negative.");
+    }
+
+    Instant target = this.currentTime.plus(duration);
+    this.runUntilIdle();
+    while (!this.timers.isEmpty() && !this.timers.peek().fireAt.isAfter(target)) {
+      this.advanceTo(this.timers.peek().fireAt);
+      this.runUntilIdle();
+    }
+
+    this.advanceTo(target);
+  }
+
+  /**
+   * Runs a workflow instance to completion, moving the virtual clock to the next timer whenever no other
+   * work is pending.
+   *
+   * @param instanceId the unique ID of the workflow instance to run
+   * @return a snapshot of the completed workflow instance
+   * @throws IllegalStateException if the instance is waiting for an external event that was not raised.
+   */
+  public LocalWorkflowInstanceStatus runUntilCompleted(String instanceId) {
+    Instance instance = this.getInstance(instanceId);
+    this.runUntilIdle();
+    while (!instance.isCompleted()) {
+      if (this.timers.isEmpty()) {
+        throw new IllegalStateException(
+            String.format("Workflow instance '%s' is waiting for an external event.", instanceId));
+      }
+
+      this.advanceTo(this.timers.peek().fireAt);
+      this.runUntilIdle();
+    }
+
+    return instance.snapshot();
+  }
+
+  private Instance getInstance(String instanceId) {
+    Instance instance = this.instances.get(instanceId);
+    if (instance == null) {
+      throw new IllegalArgumentException(String.format("Workflow instance '%s' not found.", instanceId));
+    }
+
+    return instance;
+  }
+
+  private void startInstance(String name, String input, String instanceId, Instance parent, int parentGeneration,
+                             int parentTaskId) {
+    Instance existing = this.instances.get(instanceId);
+    if (existing != null && !existing.isCompleted()) {
+      throw new IllegalStateException(String.format("Workflow instance '%s' already exists.", instanceId));
+    }
+
+    Instance instance = new Instance(instanceId, name, parent, parentGeneration, parentTaskId);
+    this.instances.put(instanceId, instance);
+    instance.start(input);
+  }
+
+  private void advanceTo(Instant time) {
+    if (time.isAfter(this.currentTime)) {
+      this.currentTime = time;
+    }
+  }
+
+  private void fireDueTimers() {
+    while (!this.timers.isEmpty() && !this.timers.peek().fireAt.isAfter(this.currentTime)) {
+      Timer timer = this.timers.poll();
+      if (timer.instance.isCurrent(timer.generation)) {
+        // Workflows only consider a timer elapsed once their current time is past its fire time, as it always
+        // is when a sidecar delivers the timer.
+        Instant stepTime = timer.fireAt.plusMillis(1);
+        if (timer.instance.minStepTime == null || stepTime.isAfter(timer.instance.minStepTime)) {
+          timer.instance.minStepTime = stepTime;
+        }
+        timer.instance.addEvent(this.newEvent(-1)
+            .setTimerFired(TimerFiredEvent.newBuilder()
+                .setTimerId(timer.timerId)
+                .setFireAt(toTimestamp(timer.fireAt)))
+            .build());
+      }
+    }
+  }
+
+  private void runWorkflowStep(Instance instance) {
+    if (instance.isCompleted() || instance.pendingEvents.isEmpty()) {
+      return;
+    }
+
+    List<HistoryEvent> newEvents = new ArrayList<>(instance.pendingEvents.size() + 1);
+    Instant stepTime = this.currentTime;
+    if (instance.minStepTime != null && instance.minStepTime.isAfter(stepTime)) {
+      stepTime = instance.minStepTime;
+    }
+    newEvents.add(HistoryEvent.newBuilder()
+        .setEventId(-1)
+        .setTimestamp(toTimestamp(stepTime))
+        .setOrchestratorStarted(OrchestratorStartedEvent.getDefaultInstance())
+        .build());
+    newEvents.addAll(instance.pendingEvents);
+    instance.pendingEvents.clear();
+
+    OrchestratorRequest request = OrchestratorRequest.newBuilder()
+        .setInstanceId(instance.instanceId)
+        .addAllPastEvents(instance.history)
+        .addAllNewEvents(newEvents)
+        .build();
+    instance.history.addAll(newEvents);
+    instance.runtimeStatus = WorkflowRuntimeStatus.RUNNING;
+    instance.lastUpdatedAt = this.currentTime;
+
+    OrchestratorResponse response;
+    try {
+      TaskOrchestrationFactory factory = this.workflowFactories.get(instance.name);
+      if (factory == null) {
+        throw new IllegalStateException(String.format("A workflow named '%s' is not registered.", instance.name));
+      }
+
+      response = OrchestratorResponse.parseFrom(
+          OrchestrationRunner.loadAndRun(request.toByteArray(), factory.create()));
+    } catch (InvalidProtocolBufferException e) {
+      throw new IllegalStateException("Unable to parse workflow execution result.", e);
+    } catch (RuntimeException e) {
+      instance.finish(WorkflowRuntimeStatus.FAILED, null, WorkItemUtils.toFailureDetails(e));
+      return;
+    }
+
+    if (response.hasCustomStatus()) {
+      instance.customStatus = response.getCustomStatus().getValue();
+    }
+
+    int generation = instance.generation;
+    for (OrchestratorAction action : response.getActionsList()) {
+      if (!instance.isCurrent(generation)) {
+        break;
+      }
+
+      this.applyAction(instance, action);
+    }
+  }
+
+  private void applyAction(Instance instance, OrchestratorAction action) {
+    int id = action.getId();
+    switch (action.getOrchestratorActionTypeCase()) {
+      case SCHEDULETASK:
+        ScheduleTaskAction task = action.getScheduleTask();
+        TaskScheduledEvent.Builder scheduled = TaskScheduledEvent.newBuilder().setName(task.getName());
+        if (task.hasInput()) {
+          scheduled.setInput(task.getInput());
+        }
+        instance.history.add(this.newEvent(id).setTaskScheduled(scheduled).build());
+        this.activityQueue.add(new ActivityWorkItem(instance, instance.generation, id, task));
+        break;
+      case CREATETIMER:
+        Timestamp fireAt = action.getCreateTimer().getFireAt();
+        instance.history.add(this.newEvent(id)
+            .setTimerCreated(TimerCreatedEvent.newBuilder().setFireAt(fireAt))
+            .build());
+        this.timers.add(new Timer(toInstant(fireAt), this.timerSequence++, instance, instance.generation, id));
+        break;
+      case CREATESUBORCHESTRATION:
+        CreateSubOrchestrationAction child = action.getCreateSubOrchestration();
+        String childId = child.getInstanceId().isEmpty() ? UUID.randomUUID().toString() : child.getInstanceId();
+        SubOrchestrationInstanceCreatedEvent.Builder created = SubOrchestrationInstanceCreatedEvent.newBuilder()
+            .setInstanceId(childId)
+            .setName(child.getName());
+        if (child.hasInput()) {
+          created.setInput(child.getInput());
+        }
+        instance.history.add(this.newEvent(id).setSubOrchestrationInstanceCreated(created).build());
+        try {
+          this.startInstance(child.getName(), child.hasInput() ? child.getInput().getValue() : null, childId,
+              instance, instance.generation, id);
+        } catch (IllegalStateException e) {
+          instance.addEvent(this.newEvent(-1)
+              .setSubOrchestrationInstanceFailed(SubOrchestrationInstanceFailedEvent.newBuilder()
+                  .setTaskScheduledId(id)
+                  .setFailureDetails(WorkItemUtils.toFailureDetails(e)))
+              .build());
+        }
+        break;
+      case SENDEVENT:
+        SendEventAction send = action.getSendEvent();
+        String targetId = send.getInstance().getInstanceId();
+        EventSentEvent.Builder sent = EventSentEvent.newBuilder().setInstanceId(targetId).setName(send.getName());
+        if (send.hasData()) {
+          sent.setInput(send.getData());
+        }
+        instance.history.add(this.newEvent(id).setEventSent(sent).build());
+        Instance target = this.instances.get(targetId);
+        if (target != null && !target.isCompleted()) {
+          target.addEvent(this.eventRaised(send.getName(), send.hasData() ? send.getData().getValue() : null));
+        }
+        break;
+      case COMPLETEORCHESTRATION:
+        this.completeWorkflow(instance, action.getCompleteOrchestration());
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void completeWorkflow(Instance instance, CompleteOrchestrationAction completion) {
+    String result = completion.hasResult() ? completion.getResult().getValue() : null;
+    OrchestrationStatus status = completion.getOrchestrationStatus();
+    if (status == OrchestrationStatus.ORCHESTRATION_STATUS_CONTINUED_AS_NEW) {
+      instance.continueAsNew(result, completion.getCarryoverEventsList());
+      return;
+    }
+
+    ExecutionCompletedEvent.Builder completed = ExecutionCompletedEvent.newBuilder().setOrchestrationStatus(status);
+    if (completion.hasResult()) {
+      completed.setResult(completion.getResult());
+    }
+    if (completion.hasFailureDetails()) {
+      completed.setFailureDetails(completion.getFailureDetails());
+    }
+    instance.history.add(this.newEvent(-1).setExecutionCompleted(completed).build());
+
+    if (status == OrchestrationStatus.ORCHESTRATION_STATUS_FAILED) {
+      instance.finish(WorkflowRuntimeStatus.FAILED, result, completion.getFailureDetails());
+    } else if (status == OrchestrationStatus.ORCHESTRATION_STATUS_TERMINATED) {
+      instance.finish(WorkflowRuntimeStatus.TERMINATED, result, null);
+    } else {
+      instance.finish(WorkflowRuntimeStatus.COMPLETED, result, null);
+    }
+  }
+
+  private void runActivity(ActivityWorkItem workItem) {
+    if (!workItem.instance.isCurrent(workItem.generation)) {
+      return;
+    }
+
+    ScheduleTaskAction task = workItem.task;
+    HistoryEvent.Builder result = this.newEvent(-1);
+    try {
+      TaskActivityFactory factory = this.activityFactories.get(task.getName());
+      if (factory == null) {
+        throw new IllegalStateException(
+            String.format("A workflow activity named '%s' is not registered.", task.getName()));
+      }
+
+      Object output = factory.create().run(
+          WorkItemUtils.newActivityContext(
+              task.getName(), task.hasInput() ? task.getInput().getValue() : null, this.dataConverter));
+      TaskCompletedEvent.Builder completed = TaskCompletedEvent.newBuilder().setTaskScheduledId(workItem.taskId);
+      String serializedOutput = this.dataConverter.serialize(output);
+      if (serializedOutput != null) {
+        completed.setResult(StringValue.of(serializedOutput));
+      }
+      result.setTaskCompleted(completed);
+    } catch (Exception e) {
+      result.setTaskFailed(TaskFailedEvent.newBuilder()
+          .setTaskScheduledId(workItem.taskId)
+          .setFailureDetails(WorkItemUtils.toFailureDetails(e)));
+    }
+
+    workItem.instance.addEvent(result.build());
+  }
+
+  private HistoryEvent eventRaised(String name, String input) {
+    EventRaisedEvent.Builder raised = EventRaisedEvent.newBuilder().setName(name);
+    if (input != null) {
+      raised.setInput(StringValue.of(input));
+    }
+
+    return this.newEvent(-1).setEventRaised(raised).build();
+  }
+
+  private HistoryEvent.Builder newEvent(int eventId) {
+    return HistoryEvent.newBuilder()
+        .setEventId(eventId)
+        .setTimestamp(toTimestamp(this.currentTime));
+  }
+
+  private static Timestamp toTimestamp(Instant instant) {
+    return Timestamp.newBuilder()
+        .setSeconds(instant.getEpochSecond())
+        .setNanos(instant.getNano())
+        .build();
+  }
+
+  private static Instant toInstant(Timestamp timestamp) {
+    return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+  }
+
+  private final class Instance {
+
+    private final String instanceId;
+
+    private final String name;
+
+    private final Instance parent;
+
+    private final int parentGeneration;
+
+    private final int parentTaskId;
+
+    private final Instant createdAt;
+
+    private final List<HistoryEvent> history = new ArrayList<>();
+
+    private List<HistoryEvent> pendingEvents = new ArrayList<>();
+
+    private int generation;
+
+    private WorkflowRuntimeStatus runtimeStatus = WorkflowRuntimeStatus.PENDING;
+
+    private Instant lastUpdatedAt;
+
+    private Instant minStepTime;
+
+    private String input;
+
+    private String output;
+
+    private String customStatus;
+
+    private TaskFailureDetails failureDetails;
+
+    private Instance(String instanceId, String name, Instance parent, int parentGeneration, int parentTaskId) {
+      this.instanceId = instanceId;
+      this.name = name;
+      this.parent = parent;
+      this.parentGeneration = parentGeneration;
+      this.parentTaskId = parentTaskId;
+      this.createdAt = currentTime;
+      this.lastUpdatedAt = currentTime;
+    }
+
+    private boolean isCompleted() {
+      return this.runtimeStatus == WorkflowRuntimeStatus.COMPLETED
+          || this.runtimeStatus == WorkflowRuntimeStatus.FAILED
+          || this.runtimeStatus == WorkflowRuntimeStatus.TERMINATED;
+    }
+
+    private boolean isCurrent(int generation) {
+      return this.generation == generation && !this.isCompleted() && instances.get(this.instanceId) == this;
+    }
+
+    private void addEvent(HistoryEvent event) {
+      this.pendingEvents.add(event);
+      readyInstances.add(this);
+    }
+
+    private void start(String input) {
+      this.input = input;
+      ExecutionStartedEvent.Builder started = ExecutionStartedEvent.newBuilder()
+          .setName(this.name)
+          .setOrchestrationInstance(OrchestrationInstance.newBuilder().setInstanceId(this.instanceId));
+      if (input != null) {
+        started.setInput(StringValue.of(input));
+      }
+      if (this.parent != null) {
+        started.setParentInstance(ParentInstanceInfo.newBuilder()
+            .setTaskScheduledId(this.parentTaskId)
+            .setName(StringValue.of(this.parent.name))
+            .setOrchestrationInstance(OrchestrationInstance.newBuilder().setInstanceId(this.parent.instanceId)));
+      }
+
+      this.addEvent(newEvent(-1).setExecutionStarted(started).build());
+    }
+
+    private void continueAsNew(String input, List<HistoryEvent> carryoverEvents) {
+      // Events that arrived for the previous execution are dropped unless the workflow carried them over.
+      this.generation++;
+      this.history.clear();
+      this.pendingEvents = new ArrayList<>();
+      this.start(input);
+      this.pendingEvents.addAll(carryoverEvents);
+    }
+
+    private void finish(WorkflowRuntimeStatus status, String output, TaskFailureDetails failureDetails) {
+      this.runtimeStatus = status;
+      this.output = output;
+      this.failureDetails = failureDetails;
+      this.lastUpdatedAt = currentTime;
+      this.pendingEvents.clear();
+      readyInstances.remove(this);
+
+      if (this.parent == null || !this.parent.isCurrent(this.parentGeneration)) {
+        return;
+      }
+
+      HistoryEvent.Builder event = newEvent(-1);
+      if (status == WorkflowRuntimeStatus.COMPLETED) {
+        SubOrchestrationInstanceCompletedEvent.Builder completed = SubOrchestrationInstanceCompletedEvent.newBuilder()
+            .setTaskScheduledId(this.parentTaskId);
+        if (output != null) {
+          completed.setResult(StringValue.of(output));
+        }
+        event.setSubOrchestrationInstanceCompleted(completed);
+      } else {
+        TaskFailureDetails details = failureDetails != null ? failureDetails : TaskFailureDetails.newBuilder()
+            .setErrorType(IllegalStateException.class.getName())
+            .setErrorMessage(String.format("Workflow instance '%s' was terminated.", this.instanceId))
+            .build();
+        event.setSubOrchestrationInstanceFailed(SubOrchestrationInstanceFailedEvent.newBuilder()
+            .setTaskScheduledId(this.parentTaskId)
+            .setFailureDetails(details));
+      }
+      this.parent.addEvent(event.build());
+    }
+
+    private LocalWorkflowInstanceStatus snapshot() {
+      boolean failed = this.failureDetails != null;
+      return new LocalWorkflowInstanceStatus(dataConverter, this.instanceId, this.name, this.runtimeStatus,
+          this.createdAt, this.lastUpdatedAt, this.input, this.output, this.customStatus,
+          failed ? this.failureDetails.getErrorType() : null,
+          failed ? this.failureDetails.getErrorMessage() : null,
+          failed && this.failureDetails.hasStackTrace() ? this.failureDetails.getStackTrace().getValue() : null,
+          this.history.size());
+    }
+  }
+
+  private static final class ActivityWorkItem {
+
+    private final Instance instance;
+
+    private final int generation;
+
+    private final int taskId;
+
+    private final ScheduleTaskAction task;
+
+    private ActivityWorkItem(Instance instance, int generation, int taskId, ScheduleTaskAction task) {
+      this.instance = instance;
+      this.generation = generation;
+      this.taskId = taskId;
+      this.task = task;
+    }
+  }
+
+  private static final class Timer {
+
+    private final Instant fireAt;
+
+    private final long sequence;
+
+    private final Instance instance;
+
+    private final int generation;
+
+    private final int timerId;
+
+    private Timer(Instant fireAt, long sequence, Instance instance, int generation, int timerId) {
+      this.fireAt = fireAt;
+      this.sequence = sequence;
+      this.instance = instance;
+      this.generation = generation;
+      this.timerId = timerId;
+    }
+  }
+}
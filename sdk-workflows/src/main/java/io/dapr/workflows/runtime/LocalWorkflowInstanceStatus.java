@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.runtime;
+
+import com.microsoft.durabletask.DataConverter;
+
+import java.time.Instant;
+
+/**
+ * Represents a snapshot of a workflow instance run by a {@link LocalWorkflowEngine}.
+ */
+public class LocalWorkflowInstanceStatus {
+
+  private final DataConverter dataConverter;
+
+  private final String instanceId;
+
+  private final String name;
+
+  private final WorkflowRuntimeStatus runtimeStatus;
+
+  private final Instant createdAt;
+
+  private final Instant lastUpdatedAt;
+
+  private final String serializedInput;
+
+  private final String serializedOutput;
+
+  private final String serializedCustomStatus;
+
+  private final String failureErrorType;
+
+  private final String failureErrorMessage;
+
+  private final String failureStackTrace;
+
+  private final int historyLength;
+
+  LocalWorkflowInstanceStatus(DataConverter dataConverter, String instanceId, String name,
+                              WorkflowRuntimeStatus runtimeStatus, Instant createdAt, Instant lastUpdatedAt,
+                              String serializedInput, String serializedOutput, String serializedCustomStatus,
+                              String failureErrorType, String failureErrorMessage, String failureStackTrace,
+                              int historyLength) {
+    this.dataConverter = dataConverter;
+    this.instanceId = instanceId;
+    this.name = name;
+    this.runtimeStatus = runtimeStatus;
+    this.createdAt = createdAt;
+    this.lastUpdatedAt = lastUpdatedAt;
+    this.serializedInput = serializedInput;
+    this.serializedOutput = serializedOutput;
+    this.serializedCustomStatus = serializedCustomStatus;
+    this.failureErrorType = failureErrorType;
+    this.failureErrorMessage = failureErrorMessage;
+    this.failureStackTrace = failureStackTrace;
+    this.historyLength = historyLength;
+  }
+
+  /**
+   * Gets the unique ID of the workflow instance.
+   *
+   * @return the unique ID of the workflow instance
+   */
+  public String getInstanceId() {
+    return this.instanceId;
+  }
+
+  /**
+   * Gets the name of the workflow.
+   *
+   * @return the name of the workflow
+   */
+  public String getName() {
+    return this.name;
+  }
+
+  /**
+   * Gets the current runtime status of the workflow instance.
+   *
+   * @return the current runtime status
+   */
+  public WorkflowRuntimeStatus getRuntimeStatus() {
+    return this.runtimeStatus;
+  }
+
+  /**
+   * Gets the virtual time at which the workflow instance was created.
+   *
+   * @return the instance creation time
+   */
+  public Instant getCreatedAt() {
+    return this.createdAt;
+  }
+
+  /**
+   * Gets the virtual time at which the workflow instance last updated its state.
+   *
+   * @return the instance last updated time
+   */
+  public Instant getLastUpdatedAt() {
+    return this.lastUpdatedAt;
+  }
+
+  /**
+   * Gets the workflow instance's serialized input, if any.
+   *
+   * @return the serialized input or null
+   */
+  public String getSerializedInput() {
+    return this.serializedInput;
+  }
+
+  /**
+   * Gets the workflow instance's serialized output, if any.
+   *
+   * @return the serialized output or null
+   */
+  public String getSerializedOutput() {
+    return this.serializedOutput;
+  }
+
+  /**
+   * Gets the workflow instance's serialized custom status, if any.
+   *
+   * @return the serialized custom status or null
+   */
+  public String getSerializedCustomStatus() {
+    return this.serializedCustomStatus;
+  }
+
+  /**
+   * Gets the error type of a failed workflow instance, which is the namespace-qualified exception type name.
+   *
+   * @return the error type or null if the instance did not fail
+   */
+  public String getFailureErrorType() {
+    return this.failureErrorType;
+  }
+
+  /**
+   * Gets the error message of a failed workflow instance.
+   *
+   * @return the error message or null if the instance did not fail
+   */
+  public String getFailureErrorMessage() {
+    return this.failureErrorMessage;
+  }
+
+  /**
+   * Gets the stack trace of a failed workflow instance.
+   *
+   * @return the stack trace or null if the instance did not fail
+   */
+  public String getFailureStackTrace() {
+    return this.failureStackTrace;
+  }
+
+  /**
+   * Gets the number of events in the history of the current execution, which every replay reads.
+   *
+   * @return the number of history events
+   */
+  public int getHistoryLength() {
+    return this.historyLength;
+  }
+
+  /**
+   * Gets a value indicating whether the workflow instance was running at the time this snapshot was taken.
+   *
+   * @return true if the workflow was running, false otherwise
+   */
+  public boolean isRunning() {
+    return this.runtimeStatus == WorkflowRuntimeStatus.RUNNING;
+  }
+
+  /**
+   * Gets a value indicating whether the workflow instance was completed, failed or terminated at the time
+   * this snapshot was taken.
+   *
+   * @return true if the workflow was in a terminal state, false otherwise
+   */
+  public boolean isCompleted() {
+    return this.runtimeStatus == WorkflowRuntimeStatus.COMPLETED
+        || this.runtimeStatus == WorkflowRuntimeStatus.FAILED
+        || this.runtimeStatus == WorkflowRuntimeStatus.TERMINATED;
+  }
+
+  /**
+   * Deserializes the workflow's input into an object of the specified type.
+   *
+   * @param type the class associated with the type to deserialize the input data into
+   * @param <T>  the type to deserialize the input data into
+   * @return the deserialized input value
+   */
+  public <T> T readInputAs(Class<T> type) {
+    return this.read(this.serializedInput, type);
+  }
+
+  /**
+   * Deserializes the workflow's output into an object of the specified type.
+   *
+   * @param type the class associated with the type to deserialize the output data into
+   * @param <T>  the type to deserialize the output data into
+   * @return the deserialized output value
+   */
+  public <T> T readOutputAs(Class<T> type) {
+    return this.read(this.serializedOutput, type);
+  }
+
+  /**
+   * Deserializes the workflow's custom status into an object of the specified type.
+   *
+   * @param type the class associated with the type to deserialize the custom status into
+   * @param <T>  the type to deserialize the custom status into
+   * @return the deserialized custom status
+   */
+  public <T> T readCustomStatusAs(Class<T> type) {
+    return this.read(this.serializedCustomStatus, type);
+  }
+
+  private <T> T read(String data, Class<T> type) {
+    if (data == null || data.isEmpty()) {
+      return null;
+    }
+
+    return this.dataConverter.deserialize(data, type);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("[Name: '%s', ID: '%s', RuntimeStatus: %s, CreatedAt: %s, LastUpdatedAt: %s]",
+        this.name, this.instanceId, this.runtimeStatus, this.createdAt, this.lastUpdatedAt);
+  }
+}
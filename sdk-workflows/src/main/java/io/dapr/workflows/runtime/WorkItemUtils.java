@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.runtime;
+
+import com.google.protobuf.StringValue;
+import com.microsoft.durabletask.DataConverter;
+import com.microsoft.durabletask.TaskActivityContext;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.TaskFailureDetails;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+/**
+ * Helpers shared by the components that execute workflow work items outside of the durabletask worker.
+ */
+final class WorkItemUtils {
+
+  private WorkItemUtils() {
+  }
+
+  /**
+   * Describes a failure the way durabletask records it in the workflow history.
+   *
+   * @param failure The failure.
+   * @return Failure details, with the stack trace.
+   */
+  static TaskFailureDetails toFailureDetails(Throwable failure) {
+    StringWriter stackTrace = new StringWriter();
+    failure.printStackTrace(new PrintWriter(stackTrace));
+    return TaskFailureDetails.newBuilder()
+        .setErrorType(failure.getClass().getName())
+        .setErrorMessage(failure.getMessage() == null ? "" : failure.getMessage())
+        .setStackTrace(StringValue.of(stackTrace.toString()))
+        .build();
+  }
+
+  /**
+   * Creates the context passed to an activity.
+   *
+   * @param name          Name of the activity.
+   * @param rawInput      Serialized input of the activity, or null.
+   * @param dataConverter Converter deserializing the input.
+   * @return Activity context.
+   */
+  static TaskActivityContext newActivityContext(String name, String rawInput, DataConverter dataConverter) {
+    return new ActivityContext(name, rawInput, dataConverter);
+  }
+
+  private static final class ActivityContext implements TaskActivityContext {
+
+    private final String name;
+
+    private final String rawInput;
+
+    private final DataConverter dataConverter;
+
+    private ActivityContext(String name, String rawInput, DataConverter dataConverter) {
+      this.name = name;
+      this.rawInput = rawInput;
+      this.dataConverter = dataConverter;
+    }
+
+    @Override
+    public String getName() {
+      return this.name;
+    }
+
+    @Override
+    public <T> T getInput(Class<T> targetType) {
+      if (this.rawInput == null || this.rawInput.isEmpty()) {
+        return null;
+      }
+
+      return this.dataConverter.deserialize(this.rawInput, targetType);
+    }
+  }
+}
@@ -22,10 +22,16 @@ public class WorkflowRuntime implements AutoCloseable {
 
   private DurableTaskGrpcWorker worker;
 
+  private ConcurrentWorkflowWorker concurrentWorker;
+
   public WorkflowRuntime(DurableTaskGrpcWorker worker) {
     this.worker = worker;
   }
 
+  WorkflowRuntime(ConcurrentWorkflowWorker concurrentWorker) {
+    this.concurrentWorker = concurrentWorker;
+  }
+
   /**
    * Start the Workflow runtime processing items and block.
    *
@@ -40,6 +46,15 @@ public class WorkflowRuntime implements AutoCloseable {
    * @param block block the thread if true
    */
   public void start(boolean block) {
+    if (this.concurrentWorker != null) {
+      if (block) {
+        this.concurrentWorker.startAndBlock();
+      } else {
+        this.concurrentWorker.start();
+      }
+      return;
+    }
+
     if (block) {
       this.worker.startAndBlock();
     } else {
@@ -47,6 +62,24 @@ public class WorkflowRuntime implements AutoCloseable {
     }
   }
 
+  /**
+   * Gets the number of workflow work items currently being executed by this runtime.
+   *
+   * @return Number of in-flight workflow work items.
+   */
+  public int getInFlightWorkflowCount() {
+    return this.concurrentWorker == null ? 0 : this.concurrentWorker.getInFlightWorkflows();
+  }
+
+  /**
+   * Gets the number of activity work items currently being executed by this runtime.
+   *
+   * @return Number of in-flight activity work items.
+   */
+  public int getInFlightActivityCount() {
+    return this.concurrentWorker == null ? 0 : this.concurrentWorker.getInFlightActivities();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -56,5 +89,10 @@ public class WorkflowRuntime implements AutoCloseable {
       this.worker.close();
       this.worker = null;
     }
+
+    if (this.concurrentWorker != null) {
+      this.concurrentWorker.close();
+      this.concurrentWorker = null;
+    }
   }
 }
\ No newline at end of file
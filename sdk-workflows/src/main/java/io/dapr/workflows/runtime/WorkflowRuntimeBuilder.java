@@ -14,18 +14,29 @@ limitations under the License.
 package io.dapr.workflows.runtime;
 
 import com.microsoft.durabletask.DurableTaskGrpcWorkerBuilder;
+import com.microsoft.durabletask.TaskActivityFactory;
+import com.microsoft.durabletask.TaskOrchestrationFactory;
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.config.Properties;
 import io.dapr.utils.NetworkUtils;
 import io.dapr.workflows.Workflow;
 import io.dapr.workflows.WorkflowActivity;
+import io.dapr.workflows.codec.WorkflowPayloadCodec;
 import io.dapr.workflows.internal.ApiTokenClientInterceptor;
+import io.dapr.workflows.internal.PayloadCodecDataConverter;
 import io.grpc.ClientInterceptor;
 import io.grpc.ManagedChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class WorkflowRuntimeBuilder {
   private static final ClientInterceptor WORKFLOW_INTERCEPTOR = new ApiTokenClientInterceptor();
@@ -35,7 +46,16 @@ public class WorkflowRuntimeBuilder {
   private final Set<String> activities = new HashSet<>();
   private final Set<String> activitySet = Collections.synchronizedSet(new HashSet<>());
   private final Set<String> workflowSet = Collections.synchronizedSet(new HashSet<>());
+  private final Map<String, TaskOrchestrationFactory> workflowFactories = new HashMap<>();
+  private final Map<String, TaskActivityFactory> activityFactories = new HashMap<>();
+  private final ManagedChannel managedChannel;
   private final DurableTaskGrpcWorkerBuilder builder;
+  private Integer maxConcurrentWorkflows;
+  private Integer maxConcurrentActivities;
+  private ExecutorService executorService;
+  private boolean shutdownExecutorOnClose;
+  private PayloadCodecDataConverter payloadCodec;
+  private DaprMetrics metrics = DaprMetrics.NOOP;
 
   /**
    * Constructs the WorkflowRuntimeBuilder.
@@ -58,8 +78,8 @@ public class WorkflowRuntimeBuilder {
   }
 
   private WorkflowRuntimeBuilder(Properties properties, Logger logger) {
-    ManagedChannel managedChannel = NetworkUtils.buildGrpcManagedChannel(properties, WORKFLOW_INTERCEPTOR);
-    this.builder = new DurableTaskGrpcWorkerBuilder().grpcChannel(managedChannel);
+    this.managedChannel = NetworkUtils.buildGrpcManagedChannel(properties, WORKFLOW_INTERCEPTOR);
+    this.builder = new DurableTaskGrpcWorkerBuilder().grpcChannel(this.managedChannel);
     this.logger = logger;
   }
 
@@ -72,7 +92,9 @@ public class WorkflowRuntimeBuilder {
     if (instance == null) {
       synchronized (WorkflowRuntime.class) {
         if (instance == null) {
-          instance = new WorkflowRuntime(this.builder.build());
+          instance = this.usesConcurrentWorker()
+              ? new WorkflowRuntime(this.buildConcurrentWorker())
+              : new WorkflowRuntime(this.builder.build());
         }
       }
     }
@@ -92,7 +114,7 @@ public class WorkflowRuntimeBuilder {
    * @return the WorkflowRuntimeBuilder
    */
   public <T extends Workflow> WorkflowRuntimeBuilder registerWorkflow(Class<T> clazz) {
-    this.builder.addOrchestration(new WorkflowClassWrapper<>(clazz));
+    this.addWorkflow(new WorkflowClassWrapper<>(clazz));
     this.workflowSet.add(clazz.getCanonicalName());
     this.workflows.add(clazz.getSimpleName());
 
@@ -111,7 +133,7 @@ public class WorkflowRuntimeBuilder {
   public <T extends Workflow> WorkflowRuntimeBuilder registerWorkflow(T instance) {
     Class<T> clazz = (Class<T>) instance.getClass();
 
-    this.builder.addOrchestration(new WorkflowInstanceWrapper<>(instance));
+    this.addWorkflow(new WorkflowInstanceWrapper<>(instance));
     this.workflowSet.add(clazz.getCanonicalName());
     this.workflows.add(clazz.getSimpleName());
 
@@ -128,7 +150,7 @@ public class WorkflowRuntimeBuilder {
    * @return the WorkflowRuntimeBuilder
    */
   public <T extends WorkflowActivity> WorkflowRuntimeBuilder registerActivity(Class<T> clazz) {
-    this.builder.addActivity(new WorkflowActivityClassWrapper<>(clazz));
+    this.addActivity(new WorkflowActivityClassWrapper<>(clazz));
     this.activitySet.add(clazz.getCanonicalName());
     this.activities.add(clazz.getSimpleName());
 
@@ -147,7 +169,7 @@ public class WorkflowRuntimeBuilder {
   public <T extends WorkflowActivity> WorkflowRuntimeBuilder registerActivity(T instance) {
     Class<T> clazz = (Class<T>) instance.getClass();
 
-    this.builder.addActivity(new WorkflowActivityInstanceWrapper<>(instance));
+    this.addActivity(new WorkflowActivityInstanceWrapper<>(instance));
     this.activitySet.add(clazz.getCanonicalName());
     this.activities.add(clazz.getSimpleName());
 
@@ -156,4 +178,159 @@ public class WorkflowRuntimeBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of workflow work items executed at the same time.
+   * Defaults to the number of available processors once concurrency is configured, since replaying a workflow is
+   * CPU-bound.
+   *
+   * @param maxConcurrentWorkflows Maximum number of concurrent workflow work items, greater than zero.
+   * @return the WorkflowRuntimeBuilder
+   */
+  public WorkflowRuntimeBuilder withMaxConcurrentWorkflows(int maxConcurrentWorkflows) {
+    if (maxConcurrentWorkflows <= 0) {
+      throw new IllegalArgumentException("Max concurrent workflows must be greater than zero.");
+    }
+
+    this.maxConcurrentWorkflows = maxConcurrentWorkflows;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of activity work items executed at the same time.
+   * Activities registered as instances are shared between executions and must be thread-safe when this is
+   * greater than one. Unbounded by default once concurrency is configured: the executor bounds the activities, and
+   * virtual threads can run thousands of I/O-bound activities at once.
+   *
+   * @param maxConcurrentActivities Maximum number of concurrent activity work items, greater than zero.
+   * @return the WorkflowRuntimeBuilder
+   */
+  public WorkflowRuntimeBuilder withMaxConcurrentActivities(int maxConcurrentActivities) {
+    if (maxConcurrentActivities <= 0) {
+      throw new IllegalArgumentException("Max concurrent activities must be greater than zero.");
+    }
+
+    this.maxConcurrentActivities = maxConcurrentActivities;
+    return this;
+  }
+
+  /**
+   * Sets the executor used to run workflow and activity work items.
+   * The executor is not shut down when the runtime is closed.
+   *
+   * @param executorService Executor running the work items.
+   * @return the WorkflowRuntimeBuilder
+   */
+  public WorkflowRuntimeBuilder withExecutorService(ExecutorService executorService) {
+    if (executorService == null) {
+      throw new IllegalArgumentException("Executor service cannot be null.");
+    }
+
+    this.executorService = executorService;
+    this.shutdownExecutorOnClose = false;
+    return this;
+  }
+
+  /**
+   * Runs workflow and activity work items on virtual threads, one per work item.
+   * Requires a Java runtime with virtual threads (Java 21+).
+   *
+   * @return the WorkflowRuntimeBuilder
+   * @throws IllegalStateException if the Java runtime does not support virtual threads.
+   */
+  public WorkflowRuntimeBuilder withVirtualThreads() {
+    try {
+      this.executorService = (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Virtual threads are not supported by this Java runtime.", e);
+    }
+
+    this.shutdownExecutorOnClose = true;
+    return this;
+  }
+
+  /**
+   * Sets the codec applied to workflow inputs, outputs and events before they are written to the history,
+   * e.g. to compress large payloads or offload them to a state store.
+   * Clients scheduling or inspecting these workflows must be configured with the same codec.
+   * The codec is applied where work items are received from and reported to the sidecar, never while a workflow
+   * is replayed, so workflows configured with a codec always run on the concurrent worker.
+   *
+   * @param payloadCodec Codec applied to payloads.
+   * @return the WorkflowRuntimeBuilder
+   */
+  public WorkflowRuntimeBuilder withPayloadCodec(WorkflowPayloadCodec payloadCodec) {
+    if (payloadCodec == null) {
+      throw new IllegalArgumentException("Payload codec cannot be null.");
+    }
+
+    this.payloadCodec = new PayloadCodecDataConverter(payloadCodec);
+    return this;
+  }
+
+  /**
+   * Sets the recorder of the number of workflow and activity work items in flight, reported every time it changes.
+   * Only used once concurrency is configured.
+   *
+   * @param metrics Metrics recorder, or null to record nothing.
+   * @return the WorkflowRuntimeBuilder
+   */
+  public WorkflowRuntimeBuilder withMetrics(DaprMetrics metrics) {
+    this.metrics = metrics == null ? DaprMetrics.NOOP : metrics;
+    return this;
+  }
+
+  private void addWorkflow(TaskOrchestrationFactory factory) {
+    this.builder.addOrchestration(factory);
+    this.workflowFactories.put(factory.getName(), factory);
+  }
+
+  private void addActivity(TaskActivityFactory factory) {
+    this.builder.addActivity(factory);
+    this.activityFactories.put(factory.getName(), factory);
+  }
+
+  private boolean usesConcurrentWorker() {
+    return (this.maxConcurrentWorkflows != null)
+        || (this.maxConcurrentActivities != null)
+        || (this.executorService != null)
+        || (this.payloadCodec != null);
+  }
+
+  ConcurrentWorkflowWorker buildConcurrentWorker() {
+    int workflows = this.maxConcurrentWorkflows == null
+        ? Runtime.getRuntime().availableProcessors()
+        : this.maxConcurrentWorkflows;
+    int activities = this.maxConcurrentActivities == null ? Integer.MAX_VALUE : this.maxConcurrentActivities;
+    ExecutorService executor = this.executorService;
+    boolean shutdownOnClose = this.shutdownExecutorOnClose;
+    if (executor == null) {
+      executor = Executors.newCachedThreadPool(new WorkItemThreadFactory());
+      shutdownOnClose = true;
+    }
+
+    return new ConcurrentWorkflowWorker(
+        this.managedChannel,
+        this.workflowFactories,
+        this.activityFactories,
+        workflows,
+        activities,
+        executor,
+        shutdownOnClose,
+        this.payloadCodec,
+        this.metrics);
+  }
+
+  private static final class WorkItemThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "dapr-workflow-work-item-" + this.threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
 }
@@ -16,9 +16,18 @@ package io.dapr.workflows.client;
 import com.microsoft.durabletask.DurableTaskClient;
 import com.microsoft.durabletask.OrchestrationMetadata;
 import com.microsoft.durabletask.OrchestrationRuntimeStatus;
+import com.microsoft.durabletask.OrchestrationStatusQuery;
+import com.microsoft.durabletask.OrchestrationStatusQueryResult;
+import com.microsoft.durabletask.PurgeInstanceCriteria;
+import com.microsoft.durabletask.PurgeResult;
+import io.dapr.config.Properties;
 import io.dapr.workflows.Workflow;
 import io.dapr.workflows.WorkflowContext;
 import io.dapr.workflows.WorkflowStub;
+import io.dapr.workflows.codec.GzipPayloadCodec;
+import io.dapr.workflows.codec.WorkflowPayloadCodec;
+import io.dapr.workflows.internal.PayloadCodecDataConverter;
+import io.dapr.workflows.runtime.WorkflowRuntimeStatus;
 import io.grpc.ManagedChannel;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,12 +36,17 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Constructor;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -55,7 +69,8 @@ public class DaprWorkflowClientTest {
   public static void beforeAll() {
     constructor =
         Constructor.class.cast(Arrays.stream(DaprWorkflowClient.class.getDeclaredConstructors())
-            .filter(c -> c.getParameters().length == 2).map(c -> {
+            .filter(c -> c.getParameters().length == 2 && c.getParameterTypes()[0] == DurableTaskClient.class)
+            .map(c -> {
               c.setAccessible(true);
               return c;
             }).findFirst().get());
@@ -192,6 +207,25 @@ public class DaprWorkflowClientTest {
     assertEquals(result.getInstanceId(), expectedMetadata.getInstanceId());
   }
 
+  @Test
+  public void waitForInstanceAsync() {
+    String instanceId = "TestWorkflowInstanceId";
+    OrchestrationMetadata expectedMetadata = mock(OrchestrationMetadata.class);
+    when(expectedMetadata.getInstanceId()).thenReturn(instanceId);
+    when(expectedMetadata.isInstanceFound()).thenReturn(true);
+    when(expectedMetadata.isCompleted()).thenReturn(true);
+    when(expectedMetadata.getRuntimeStatus()).thenReturn(OrchestrationRuntimeStatus.COMPLETED);
+    when(mockInnerClient.getInstanceMetadata(instanceId, true)).thenReturn(expectedMetadata);
+
+    WorkflowInstanceStatus started = client.waitForInstanceStartAsync(instanceId, Duration.ofSeconds(10), true)
+        .block();
+    WorkflowInstanceStatus completed = client.waitForInstanceCompletionAsync(instanceId, Duration.ofSeconds(10), true)
+        .block();
+
+    assertEquals(instanceId, started.getInstanceId());
+    assertEquals(instanceId, completed.getInstanceId());
+  }
+
   @Test
   public void raiseEvent() {
     String expectedInstanceId = "TestWorkflowInstanceId";
@@ -209,6 +243,83 @@ public class DaprWorkflowClientTest {
     verify(mockInnerClient, times(1)).purgeInstance(expectedArgument);
   }
 
+  @Test
+  public void scheduleNewWorkflows() {
+    String expectedName = TestWorkflow.class.getCanonicalName();
+    List<NewWorkflowOptions> options = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      NewWorkflowOptions option = new NewWorkflowOptions().setInstanceId("instance-" + i);
+      when(mockInnerClient.scheduleNewOrchestrationInstance(expectedName,
+          option.getNewOrchestrationInstanceOptions())).thenReturn("instance-" + i);
+      options.add(option);
+    }
+
+    List<String> instanceIds = client.scheduleNewWorkflows(TestWorkflow.class, options, 4).collectList().block();
+
+    assertEquals(20, instanceIds.size());
+    for (int i = 0; i < 20; i++) {
+      assertEquals("instance-" + i, instanceIds.get(i));
+    }
+    assertThrows(IllegalArgumentException.class, () -> client.scheduleNewWorkflows(TestWorkflow.class, options, 0));
+  }
+
+  @Test
+  public void queryAllInstancesFollowsContinuationToken() {
+    OrchestrationMetadata first = mock(OrchestrationMetadata.class);
+    when(first.getInstanceId()).thenReturn("first");
+    OrchestrationMetadata second = mock(OrchestrationMetadata.class);
+    when(second.getInstanceId()).thenReturn("second");
+    OrchestrationStatusQueryResult firstPage = mock(OrchestrationStatusQueryResult.class);
+    when(firstPage.getOrchestrationState()).thenReturn(List.of(first));
+    when(firstPage.getContinuationToken()).thenReturn("token");
+    OrchestrationStatusQueryResult secondPage = mock(OrchestrationStatusQueryResult.class);
+    when(secondPage.getOrchestrationState()).thenReturn(List.of(second));
+    when(mockInnerClient.queryInstances(any())).thenAnswer(invocation -> {
+      OrchestrationStatusQuery query = invocation.getArgument(0);
+      assertEquals(List.of(OrchestrationRuntimeStatus.COMPLETED), query.getRuntimeStatusList());
+      assertEquals(10, query.getMaxInstanceCount());
+      return query.getContinuationToken() == null ? firstPage : secondPage;
+    });
+
+    WorkflowInstanceQuery query = new WorkflowInstanceQuery()
+        .setRuntimeStatuses(List.of(WorkflowRuntimeStatus.COMPLETED))
+        .setPageSize(10);
+    WorkflowInstanceQueryResult page = client.queryInstances(query);
+    List<WorkflowInstanceStatus> all = client.queryAllInstances(query).collectList().block();
+
+    assertTrue(page.hasMore());
+    assertEquals("token", page.getContinuationToken());
+    assertEquals(1, page.getInstances().size());
+    assertEquals(2, all.size());
+    assertEquals("first", all.get(0).getInstanceId());
+    assertEquals("second", all.get(1).getInstanceId());
+  }
+
+  @Test
+  public void purgeInstancesByCriteria() throws TimeoutException {
+    PurgeResult result = mock(PurgeResult.class);
+    when(result.getDeletedInstanceCount()).thenReturn(3);
+    when(mockInnerClient.purgeInstances(any())).thenReturn(result);
+
+    WorkflowInstancePurgeCriteria criteria = new WorkflowInstancePurgeCriteria()
+        .setRuntimeStatuses(List.of(WorkflowRuntimeStatus.FAILED))
+        .setCreatedTimeTo(Instant.now())
+        .setTimeout(Duration.ofSeconds(30));
+
+    assertEquals(3, client.purgeInstances(criteria).block());
+    verify(mockInnerClient, times(1)).purgeInstances(any(PurgeInstanceCriteria.class));
+  }
+
+  @Test
+  public void purgeInstancesByIds() {
+    PurgeResult purged = mock(PurgeResult.class);
+    when(purged.getDeletedInstanceCount()).thenReturn(1);
+    when(mockInnerClient.purgeInstance(any())).thenReturn(purged);
+    when(mockInnerClient.purgeInstance("missing")).thenReturn(null);
+
+    assertEquals(2, client.purgeInstances(List.of("a", "b", "missing"), 2).block());
+  }
+
   @Test
   public void createTaskHub() {
     boolean expectedArgument = true;
@@ -222,6 +333,51 @@ public class DaprWorkflowClientTest {
     verify(mockInnerClient, times(1)).deleteTaskHub();
   }
 
+  @Test
+  public void createWithPayloadCodec() {
+    DaprWorkflowClient codecClient = new DaprWorkflowClient(new Properties(), new GzipPayloadCodec());
+    assertDoesNotThrow(codecClient::close);
+  }
+
+  @Test
+  public void purgeInstanceDiscardsCodecPayloads() throws Exception {
+    List<String> discarded = new ArrayList<>();
+    WorkflowPayloadCodec codec = new WorkflowPayloadCodec() {
+      @Override
+      public String encode(String payload) {
+        return payload;
+      }
+
+      @Override
+      public String decode(String payload) {
+        return payload;
+      }
+
+      @Override
+      public void discard(String payload) {
+        discarded.add(payload);
+      }
+    };
+    Constructor<?> codecConstructor = Arrays.stream(DaprWorkflowClient.class.getDeclaredConstructors())
+        .filter(c -> c.getParameters().length == 3)
+        .findFirst().get();
+    codecConstructor.setAccessible(true);
+    DaprWorkflowClient codecClient = (DaprWorkflowClient) codecConstructor.newInstance(mockInnerClient,
+        mockGrpcChannel, new PayloadCodecDataConverter(codec));
+
+    OrchestrationMetadata metadata = mock(OrchestrationMetadata.class);
+    when(metadata.isInstanceFound()).thenReturn(true);
+    when(metadata.getSerializedInput()).thenReturn("\"input\"");
+    when(metadata.getSerializedOutput()).thenReturn("\"output\"");
+    when(mockInnerClient.getInstanceMetadata("instance", true)).thenReturn(metadata);
+    PurgeResult purged = mock(PurgeResult.class);
+    when(purged.getDeletedInstanceCount()).thenReturn(1);
+    when(mockInnerClient.purgeInstance("instance")).thenReturn(purged);
+
+    assertTrue(codecClient.purgeInstance("instance"));
+    assertEquals(List.of("\"input\"", "\"output\""), discarded);
+  }
+
   @Test
   public void close() throws InterruptedException {
     client.close();
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.client;
+
+import com.microsoft.durabletask.DurableTaskClient;
+import com.microsoft.durabletask.OrchestrationMetadata;
+import com.microsoft.durabletask.OrchestrationRuntimeStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WorkflowInstanceWatcherTest {
+
+  private DurableTaskClient client;
+
+  private WorkflowInstanceWatcher watcher;
+
+  @BeforeEach
+  public void setUp() {
+    client = mock(DurableTaskClient.class);
+    watcher = new WorkflowInstanceWatcher(client, Duration.ofMillis(5), Duration.ofMillis(20));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    watcher.close();
+  }
+
+  @Test
+  public void completesWhenInstanceReachesTerminalState() throws Exception {
+    OrchestrationMetadata running = metadata(OrchestrationRuntimeStatus.RUNNING, false);
+    OrchestrationMetadata completed = metadata(OrchestrationRuntimeStatus.COMPLETED, true);
+    when(client.getInstanceMetadata("instance", true)).thenReturn(running, running, completed);
+
+    CompletableFuture<OrchestrationMetadata> result = watcher.waitForCompletion("instance", Duration.ofSeconds(5), true);
+
+    assertSame(completed, result.get(5, TimeUnit.SECONDS));
+    waitForIdle();
+  }
+
+  @Test
+  public void completesWhenInstanceStarts() throws Exception {
+    OrchestrationMetadata pending = metadata(OrchestrationRuntimeStatus.PENDING, false);
+    OrchestrationMetadata running = metadata(OrchestrationRuntimeStatus.RUNNING, false);
+    when(client.getInstanceMetadata("instance", false)).thenReturn(pending, running);
+
+    CompletableFuture<OrchestrationMetadata> result = watcher.waitForStart("instance", Duration.ofSeconds(5), false);
+
+    assertSame(running, result.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void timesOutWhenInstanceNeverCompletes() {
+    OrchestrationMetadata running = metadata(OrchestrationRuntimeStatus.RUNNING, false);
+    when(client.getInstanceMetadata(eq("instance"), anyBoolean())).thenReturn(running);
+
+    CompletableFuture<OrchestrationMetadata> result =
+        watcher.waitForCompletion("instance", Duration.ofMillis(200), false);
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(TimeoutException.class, e.getCause());
+  }
+
+  @Test
+  public void backsOffWhileStatusIsUnchanged() throws Exception {
+    WorkflowInstanceWatcher slowWatcher = new WorkflowInstanceWatcher(client, Duration.ofMillis(5),
+        Duration.ofSeconds(1));
+    try {
+      OrchestrationMetadata running = metadata(OrchestrationRuntimeStatus.RUNNING, false);
+      when(client.getInstanceMetadata("instance", false)).thenReturn(running);
+
+      CompletableFuture<OrchestrationMetadata> result =
+          slowWatcher.waitForCompletion("instance", Duration.ofMillis(500), false);
+
+      assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+      // Without backoff a 5ms interval would poll ~100 times in 500ms.
+      verify(client, atMost(10)).getInstanceMetadata("instance", false);
+    } finally {
+      slowWatcher.close();
+    }
+  }
+
+  @Test
+  public void keepsWatchingThroughFailedLookups() throws Exception {
+    OrchestrationMetadata running = metadata(OrchestrationRuntimeStatus.RUNNING, false);
+    when(client.getInstanceMetadata("instance", true))
+        .thenThrow(new IllegalStateException("unavailable"))
+        .thenReturn(running);
+
+    CompletableFuture<OrchestrationMetadata> result = watcher.waitForStart("instance", Duration.ofSeconds(5), true);
+
+    assertSame(running, result.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void timesOutWithLastLookupFailure() {
+    when(client.getInstanceMetadata(eq("instance"), anyBoolean())).thenThrow(new IllegalStateException("boom"));
+
+    CompletableFuture<OrchestrationMetadata> result = watcher.waitForStart("instance", Duration.ofMillis(200), true);
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(TimeoutException.class, e.getCause());
+    assertInstanceOf(IllegalStateException.class, e.getCause().getCause());
+    // Failed lookups back off instead of retrying every 5ms.
+    verify(client, atMost(20)).getInstanceMetadata("instance", true);
+  }
+
+  @Test
+  public void looksUpInstancesConcurrently() throws Exception {
+    // A long fixed interval makes both instances due in the same poll, whichever poll first sees the second one.
+    WorkflowInstanceWatcher slowWatcher = new WorkflowInstanceWatcher(client, Duration.ofSeconds(1),
+        Duration.ofSeconds(1));
+    try {
+      OrchestrationMetadata running = metadata(OrchestrationRuntimeStatus.RUNNING, false);
+      OrchestrationMetadata completed = metadata(OrchestrationRuntimeStatus.COMPLETED, true);
+      AtomicInteger inFlight = new AtomicInteger();
+      AtomicBoolean overlapped = new AtomicBoolean();
+      Answer<OrchestrationMetadata> lookup = invocation -> {
+        inFlight.incrementAndGet();
+        try {
+          for (int i = 0; i < 500 && !overlapped.get(); i++) {
+            overlapped.compareAndSet(false, inFlight.get() == 2);
+            Thread.sleep(1);
+          }
+          return overlapped.get() ? completed : running;
+        } finally {
+          inFlight.decrementAndGet();
+        }
+      };
+      when(client.getInstanceMetadata("first", false)).thenAnswer(lookup);
+      when(client.getInstanceMetadata("second", false)).thenAnswer(lookup);
+
+      CompletableFuture<OrchestrationMetadata> first =
+          slowWatcher.waitForCompletion("first", Duration.ofSeconds(5), false);
+      CompletableFuture<OrchestrationMetadata> second =
+          slowWatcher.waitForCompletion("second", Duration.ofSeconds(5), false);
+
+      assertSame(completed, first.get(5, TimeUnit.SECONDS));
+      assertSame(completed, second.get(5, TimeUnit.SECONDS));
+      assertTrue(overlapped.get());
+    } finally {
+      slowWatcher.close();
+    }
+  }
+
+  @Test
+  public void closeCancelsPendingWaits() {
+    OrchestrationMetadata running = metadata(OrchestrationRuntimeStatus.RUNNING, false);
+    when(client.getInstanceMetadata(eq("instance"), anyBoolean())).thenReturn(running);
+
+    CompletableFuture<OrchestrationMetadata> result = watcher.waitForCompletion("instance", Duration.ofMinutes(1), true);
+    watcher.close();
+
+    assertTrue(result.isCancelled());
+    assertEquals(0, watcher.getWatchCount());
+  }
+
+  private void waitForIdle() throws InterruptedException {
+    for (int i = 0; i < 100 && watcher.getWatchCount() > 0; i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(0, watcher.getWatchCount());
+  }
+
+  private static OrchestrationMetadata metadata(OrchestrationRuntimeStatus status, boolean completed) {
+    OrchestrationMetadata metadata = mock(OrchestrationMetadata.class);
+    when(metadata.isInstanceFound()).thenReturn(true);
+    when(metadata.getRuntimeStatus()).thenReturn(status);
+    when(metadata.isCompleted()).thenReturn(completed);
+    return metadata;
+  }
+}
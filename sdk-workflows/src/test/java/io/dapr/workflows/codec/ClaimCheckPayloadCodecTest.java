@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.codec;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.domain.SaveStateRequest;
+import io.dapr.client.domain.State;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public class ClaimCheckPayloadCodecTest {
+
+  private DaprClient daprClient;
+
+  @BeforeEach
+  public void setUp() {
+    daprClient = mock(DaprClient.class);
+  }
+
+  @Test
+  public void smallPayloadsStayInline() {
+    ClaimCheckPayloadCodec codec = new ClaimCheckPayloadCodec(daprClient, "store");
+    String payload = "\"small\"";
+
+    assertSame(payload, codec.encode(payload));
+    verifyNoInteractions(daprClient);
+  }
+
+  @Test
+  public void largePayloadsAreOffloaded() {
+    when(daprClient.saveBulkState(any(SaveStateRequest.class))).thenReturn(Mono.empty());
+    ClaimCheckPayloadCodec codec = new ClaimCheckPayloadCodec(daprClient, "store", 4, Duration.ofMinutes(1));
+
+    String reference = codec.encode("\"large\"");
+
+    ArgumentCaptor<SaveStateRequest> captor = ArgumentCaptor.forClass(SaveStateRequest.class);
+    verify(daprClient).saveBulkState(captor.capture());
+    SaveStateRequest request = captor.getValue();
+    assertEquals("store", request.getStoreName());
+    State<?> state = request.getStates().get(0);
+    assertEquals("\"large\"", state.getValue());
+    assertEquals("60", state.getMetadata().get("ttlInSeconds"));
+    assertEquals("\"dapr:claim-check:" + state.getKey() + "\"", reference);
+  }
+
+  @Test
+  public void runtimePayloadsAreOffloadedUnderTheirId() {
+    when(daprClient.saveBulkState(any(SaveStateRequest.class))).thenReturn(Mono.empty());
+    ClaimCheckPayloadCodec codec = new ClaimCheckPayloadCodec(daprClient, "store", 4, null);
+
+    String reference = codec.encode("\"large\"", "instance:result:3");
+
+    assertEquals("\"dapr:claim-check:dapr-workflow-payload-instance:result:3\"", reference);
+    assertEquals(reference, codec.encode("\"large\"", "instance:result:3"));
+  }
+
+  @Test
+  public void discardDeletesOffloadedPayloads() {
+    when(daprClient.deleteState("store", "key")).thenReturn(Mono.empty());
+    ClaimCheckPayloadCodec codec = new ClaimCheckPayloadCodec(daprClient, "store");
+
+    codec.discard("\"dapr:claim-check:key\"");
+    codec.discard("\"inline\"");
+
+    verify(daprClient).deleteState("store", "key");
+    verify(daprClient, never()).deleteState("store", "\"inline\"");
+  }
+
+  @Test
+  public void referencesAreResolved() {
+    when(daprClient.getState("store", "key", String.class))
+        .thenReturn(Mono.just(new State<>("key", "\"large\"", "etag")));
+    ClaimCheckPayloadCodec codec = new ClaimCheckPayloadCodec(daprClient, "store");
+
+    assertEquals("\"large\"", codec.decode("\"dapr:claim-check:key\""));
+  }
+
+  @Test
+  public void missingPayloadFails() {
+    when(daprClient.getState("store", "key", String.class))
+        .thenReturn(Mono.just(new State<>("key", (String) null, "etag")));
+    ClaimCheckPayloadCodec codec = new ClaimCheckPayloadCodec(daprClient, "store");
+
+    assertThrows(IllegalStateException.class, () -> codec.decode("\"dapr:claim-check:key\""));
+  }
+
+  @Test
+  public void referencesAreResolvedInOneBulkRead() {
+    when(daprClient.getBulkState("store", List.of("a", "b"), String.class))
+        .thenReturn(Mono.just(List.of(
+            new State<>("a", "\"large-a\"", "etag"), new State<>("b", "\"large-b\"", "etag"))));
+    ClaimCheckPayloadCodec codec = new ClaimCheckPayloadCodec(daprClient, "store");
+
+    List<String> decoded = codec.decodeAll(List.of(
+        "\"dapr:claim-check:a\"", "\"inline\"", "\"dapr:claim-check:b\"", "\"dapr:claim-check:a\""));
+
+    assertEquals(List.of("\"large-a\"", "\"inline\"", "\"large-b\"", "\"large-a\""), decoded);
+    verify(daprClient, never()).getState(any(String.class), any(String.class), any(Class.class));
+  }
+
+  @Test
+  public void missingPayloadFailsBulkRead() {
+    when(daprClient.getBulkState("store", List.of("a"), String.class))
+        .thenReturn(Mono.just(List.of(new State<>("a", (String) null, "etag"))));
+    ClaimCheckPayloadCodec codec = new ClaimCheckPayloadCodec(daprClient, "store");
+
+    assertThrows(IllegalStateException.class, () -> codec.decodeAll(List.of("\"dapr:claim-check:a\"")));
+  }
+
+  @Test
+  public void decodePassesThroughInlinePayloads() {
+    ClaimCheckPayloadCodec codec = new ClaimCheckPayloadCodec(daprClient, "store");
+
+    assertEquals("\"inline\"", codec.decode("\"inline\""));
+    verify(daprClient, never()).getState(any(String.class), any(String.class), any(Class.class));
+  }
+
+  @Test
+  public void invalidArgumentsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new ClaimCheckPayloadCodec(null, "store"));
+    assertThrows(IllegalArgumentException.class, () -> new ClaimCheckPayloadCodec(daprClient, " "));
+  }
+}
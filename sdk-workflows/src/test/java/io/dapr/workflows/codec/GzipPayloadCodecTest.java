@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.codec;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GzipPayloadCodecTest {
+
+  @Test
+  public void smallPayloadsAreNotCompressed() {
+    GzipPayloadCodec codec = new GzipPayloadCodec();
+    String payload = "\"small\"";
+
+    assertSame(payload, codec.encode(payload));
+  }
+
+  @Test
+  public void largePayloadsRoundTrip() {
+    GzipPayloadCodec codec = new GzipPayloadCodec();
+    String payload = "{\"value\":\"" + "abc".repeat(1000) + "\"}";
+
+    String encoded = codec.encode(payload);
+
+    assertTrue(encoded.startsWith("\"dapr:gzip:"));
+    assertTrue(encoded.length() < payload.length());
+    assertEquals(payload, codec.decode(encoded));
+  }
+
+  @Test
+  public void decodePassesThroughUnencodedPayloads() {
+    GzipPayloadCodec codec = new GzipPayloadCodec();
+
+    assertEquals("\"dapr:other\"", codec.decode("\"dapr:other\""));
+    assertEquals("42", codec.decode("42"));
+  }
+
+  @Test
+  public void negativeMinSizeIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new GzipPayloadCodec(-1));
+  }
+
+  @Test
+  public void chainedCodecsRoundTrip() {
+    WorkflowPayloadCodec brackets = new WorkflowPayloadCodec() {
+      @Override
+      public String encode(String payload) {
+        return "[" + payload + "]";
+      }
+
+      @Override
+      public String decode(String payload) {
+        return payload.startsWith("[") ? payload.substring(1, payload.length() - 1) : payload;
+      }
+    };
+    WorkflowPayloadCodec codec = brackets.andThen(new GzipPayloadCodec(0));
+
+    String encoded = codec.encode("\"value\"");
+
+    assertTrue(encoded.startsWith("\"dapr:gzip:"));
+    assertEquals("\"value\"", codec.decode(encoded));
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.internal;
+
+import com.google.protobuf.StringValue;
+import io.dapr.workflows.codec.GzipPayloadCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PayloadCodecDataConverterTest {
+
+  private final PayloadCodecDataConverter converter = new PayloadCodecDataConverter(new GzipPayloadCodec(0));
+
+  @Test
+  public void serializedValuesRoundTrip() {
+    String serialized = converter.serialize(Map.of("key", "value"));
+
+    assertTrue(serialized.startsWith("\"dapr:gzip:"));
+    assertEquals(Map.of("key", "value"), converter.deserialize(serialized, Map.class));
+  }
+
+  @Test
+  public void unencodedValuesAreDeserialized() {
+    assertEquals("value", converter.deserialize("\"value\"", String.class));
+  }
+
+  @Test
+  public void nullPayloadsPassThrough() {
+    assertNull(converter.encode((String) null));
+    assertNull(converter.decode((String) null));
+  }
+
+  @Test
+  public void protobufPayloadsRoundTrip() {
+    StringValue encoded = converter.encode(StringValue.of("\"value\""));
+
+    assertEquals("\"value\"", converter.decode(encoded).getValue());
+  }
+}
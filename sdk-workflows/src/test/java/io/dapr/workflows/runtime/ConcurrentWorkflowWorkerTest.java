@@ -0,0 +1,464 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.runtime;
+
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import com.microsoft.durabletask.TaskActivityFactory;
+import com.microsoft.durabletask.TaskOrchestrationFactory;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.ActivityRequest;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.ActivityResponse;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.CompleteOrchestrationAction;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.CompleteTaskResponse;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.EventRaisedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.ExecutionStartedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.GetWorkItemsRequest;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.HistoryEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestrationInstance;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestrationStatus;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorAction;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorRequest;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorResponse;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.OrchestratorStartedEvent;
+import com.microsoft.durabletask.implementation.protobuf.OrchestratorService.WorkItem;
+import com.microsoft.durabletask.implementation.protobuf.TaskHubSidecarServiceGrpc;
+import io.dapr.client.metrics.DaprMetrics;
+import io.dapr.workflows.Workflow;
+import io.dapr.workflows.WorkflowActivity;
+import io.dapr.workflows.WorkflowActivityContext;
+import io.dapr.workflows.WorkflowStub;
+import io.dapr.workflows.codec.GzipPayloadCodec;
+import io.dapr.workflows.codec.WorkflowPayloadCodec;
+import io.dapr.workflows.internal.PayloadCodecDataConverter;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentWorkflowWorkerTest {
+
+  private static final AtomicInteger RUNNING = new AtomicInteger();
+
+  private static final AtomicInteger MAX_RUNNING = new AtomicInteger();
+
+  private final List<WorkItem> workItems = new CopyOnWriteArrayList<>();
+
+  private final List<ActivityResponse> activityResponses = new CopyOnWriteArrayList<>();
+
+  private final List<OrchestratorResponse> workflowResponses = new CopyOnWriteArrayList<>();
+
+  private CountDownLatch completions;
+
+  private Server server;
+
+  private ManagedChannel channel;
+
+  private PayloadCodecDataConverter payloadCodec;
+
+  private final Map<String, Integer> maxInFlight = new ConcurrentHashMap<>();
+
+  private final DaprMetrics metrics = new DaprMetrics() {
+    @Override
+    public void inFlight(String transport, String api, int count) {
+      maxInFlight.merge(transport + "/" + api, count, Math::max);
+    }
+  };
+
+  public static class SlowActivity implements WorkflowActivity {
+    @Override
+    public Object run(WorkflowActivityContext ctx) {
+      int running = RUNNING.incrementAndGet();
+      MAX_RUNNING.accumulateAndGet(running, Math::max);
+      try {
+        Thread.sleep(200);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        RUNNING.decrementAndGet();
+      }
+
+      return ctx.getInput(String.class).toUpperCase();
+    }
+  }
+
+  public static class EchoWorkflow implements Workflow {
+    @Override
+    public WorkflowStub create() {
+      return ctx -> ctx.complete(ctx.getInput(String.class));
+    }
+  }
+
+  public static class WaitingWorkflow implements Workflow {
+    @Override
+    public WorkflowStub create() {
+      return ctx -> ctx.complete(
+          ctx.getInput(String.class) + " " + ctx.waitForExternalEvent("go", String.class).await());
+    }
+  }
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    RUNNING.set(0);
+    MAX_RUNNING.set(0);
+
+    String serverName = InProcessServerBuilder.generateName();
+    server = InProcessServerBuilder.forName(serverName)
+        .addService(new TaskHubSidecarServiceGrpc.TaskHubSidecarServiceImplBase() {
+          @Override
+          public void getWorkItems(GetWorkItemsRequest request, StreamObserver<WorkItem> responseObserver) {
+            workItems.forEach(responseObserver::onNext);
+          }
+
+          @Override
+          public void completeActivityTask(ActivityResponse request,
+                                           StreamObserver<CompleteTaskResponse> responseObserver) {
+            activityResponses.add(request);
+            responseObserver.onNext(CompleteTaskResponse.getDefaultInstance());
+            responseObserver.onCompleted();
+            completions.countDown();
+          }
+
+          @Override
+          public void completeOrchestratorTask(OrchestratorResponse request,
+                                               StreamObserver<CompleteTaskResponse> responseObserver) {
+            workflowResponses.add(request);
+            responseObserver.onNext(CompleteTaskResponse.getDefaultInstance());
+            responseObserver.onCompleted();
+            completions.countDown();
+          }
+        })
+        .build()
+        .start();
+    channel = InProcessChannelBuilder.forName(serverName).build();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    channel.shutdownNow();
+    server.shutdownNow();
+  }
+
+  @Test
+  public void activitiesRunConcurrentlyUpToLimit() throws Exception {
+    TaskActivityFactory activity = new WorkflowActivityClassWrapper<>(SlowActivity.class);
+    for (int i = 0; i < 6; i++) {
+      workItems.add(activityWorkItem(activity.getName(), i));
+    }
+    completions = new CountDownLatch(6);
+
+    try (ConcurrentWorkflowWorker worker = newWorker(Map.of(), Map.of(activity.getName(), activity), 2)) {
+      worker.start();
+
+      assertTrue(completions.await(10, TimeUnit.SECONDS));
+      // The in-flight count is released right after the result is reported to the sidecar.
+      for (int i = 0; i < 100 && worker.getInFlightActivities() > 0; i++) {
+        Thread.sleep(10);
+      }
+      assertEquals(0, worker.getInFlightActivities());
+    }
+
+    assertEquals(2, MAX_RUNNING.get());
+    assertEquals(2, maxInFlight.get("workflow/activity"));
+    assertEquals(6, activityResponses.size());
+    for (ActivityResponse response : activityResponses) {
+      assertFalse(response.hasFailureDetails());
+      assertEquals("\"INPUT-" + response.getTaskId() + "\"", response.getResult().getValue());
+    }
+  }
+
+  @Test
+  public void unknownActivityReportsFailure() throws Exception {
+    workItems.add(activityWorkItem("missing", 7));
+    completions = new CountDownLatch(1);
+
+    try (ConcurrentWorkflowWorker worker = newWorker(Map.of(), Map.of(), 1)) {
+      worker.start();
+
+      assertTrue(completions.await(10, TimeUnit.SECONDS));
+    }
+
+    ActivityResponse response = activityResponses.get(0);
+    assertEquals(7, response.getTaskId());
+    assertEquals(IllegalStateException.class.getName(), response.getFailureDetails().getErrorType());
+  }
+
+  @Test
+  public void workflowIsDispatchedByName() throws Exception {
+    workItems.add(WorkItem.newBuilder().setOrchestratorRequest(echoRequest("\"hello\"")).build());
+    completions = new CountDownLatch(1);
+
+    TaskOrchestrationFactory workflow = new WorkflowClassWrapper<>(EchoWorkflow.class);
+    try (ConcurrentWorkflowWorker worker = newWorker(Map.of(workflow.getName(), workflow), Map.of(), 1)) {
+      worker.start();
+
+      assertTrue(completions.await(10, TimeUnit.SECONDS));
+    }
+
+    OrchestratorResponse response = workflowResponses.get(0);
+    assertEquals("instance-1", response.getInstanceId());
+    OrchestratorAction action = response.getActions(response.getActionsCount() - 1);
+    assertEquals("\"hello\"", action.getCompleteOrchestration().getResult().getValue());
+  }
+
+  @Test
+  public void workflowPayloadsAreEncodedWithCodec() throws Exception {
+    payloadCodec = new PayloadCodecDataConverter(new GzipPayloadCodec(0));
+    String input = "\"" + "x".repeat(2048) + "\"";
+    workItems.add(WorkItem.newBuilder().setOrchestratorRequest(echoRequest(payloadCodec.encode(input))).build());
+    completions = new CountDownLatch(1);
+
+    TaskOrchestrationFactory workflow = new WorkflowClassWrapper<>(EchoWorkflow.class);
+    try (ConcurrentWorkflowWorker worker = newWorker(Map.of(workflow.getName(), workflow), Map.of(), 1)) {
+      worker.start();
+
+      assertTrue(completions.await(10, TimeUnit.SECONDS));
+    }
+
+    OrchestratorResponse response = workflowResponses.get(0);
+    String result = response.getActions(response.getActionsCount() - 1).getCompleteOrchestration().getResult()
+        .getValue();
+    assertTrue(result.length() < input.length());
+    assertEquals(input, payloadCodec.decode(result));
+  }
+
+  @Test
+  public void activityPayloadsAreEncodedWithCodec() throws Exception {
+    payloadCodec = new PayloadCodecDataConverter(new GzipPayloadCodec(0));
+    TaskActivityFactory activity = new WorkflowActivityClassWrapper<>(SlowActivity.class);
+    workItems.add(activityWorkItem(activity.getName(), 3));
+    completions = new CountDownLatch(1);
+
+    try (ConcurrentWorkflowWorker worker = newWorker(Map.of(), Map.of(activity.getName(), activity), 1)) {
+      worker.start();
+
+      assertTrue(completions.await(10, TimeUnit.SECONDS));
+    }
+
+    ActivityResponse response = activityResponses.get(0);
+    assertTrue(response.getResult().getValue().startsWith("\"dapr:gzip:"));
+    assertEquals("\"INPUT-3\"", payloadCodec.decode(response.getResult().getValue()));
+  }
+
+  private OrchestratorRequest echoRequest(String input) {
+    TaskOrchestrationFactory workflow = new WorkflowClassWrapper<>(EchoWorkflow.class);
+    Timestamp now = Timestamp.newBuilder().setSeconds(System.currentTimeMillis() / 1000).build();
+    return OrchestratorRequest.newBuilder()
+        .setInstanceId("instance-1")
+        .addNewEvents(HistoryEvent.newBuilder()
+            .setEventId(-1)
+            .setTimestamp(now)
+            .setOrchestratorStarted(OrchestratorStartedEvent.getDefaultInstance()))
+        .addNewEvents(HistoryEvent.newBuilder()
+            .setEventId(-1)
+            .setTimestamp(now)
+            .setExecutionStarted(ExecutionStartedEvent.newBuilder()
+                .setName(workflow.getName())
+                .setInput(StringValue.of(input))
+                .setOrchestrationInstance(OrchestrationInstance.newBuilder().setInstanceId("instance-1"))))
+        .build();
+  }
+
+  @Test
+  public void activityResultsAreEncodedUnderTaskId() throws Exception {
+    RecordingCodec codec = new RecordingCodec();
+    payloadCodec = new PayloadCodecDataConverter(codec);
+    TaskActivityFactory activity = new WorkflowActivityClassWrapper<>(SlowActivity.class);
+    workItems.add(activityWorkItem(activity.getName(), 3));
+    completions = new CountDownLatch(1);
+
+    try (ConcurrentWorkflowWorker worker = newWorker(Map.of(), Map.of(activity.getName(), activity), 1)) {
+      worker.start();
+
+      assertTrue(completions.await(10, TimeUnit.SECONDS));
+    }
+
+    assertEquals(List.of("instance:result:3"), codec.encodedIds);
+    assertEquals("\"enc:\"INPUT-3\"\"", activityResponses.get(0).getResult().getValue());
+  }
+
+  @Test
+  public void completedWorkflowDiscardsReceivedEvents() throws Exception {
+    RecordingCodec codec = new RecordingCodec();
+    payloadCodec = new PayloadCodecDataConverter(codec);
+    OrchestratorRequest request = echoRequest(codec.encode("\"hello\"")).toBuilder()
+        .setExecutionId(StringValue.of("exec-1"))
+        .addNewEvents(HistoryEvent.newBuilder()
+            .setEventId(-1)
+            .setEventRaised(EventRaisedEvent.newBuilder()
+                .setName("ignored")
+                .setInput(StringValue.of(codec.encode("\"event\"")))))
+        .build();
+    workItems.add(WorkItem.newBuilder().setOrchestratorRequest(request).build());
+    completions = new CountDownLatch(1);
+
+    TaskOrchestrationFactory workflow = new WorkflowClassWrapper<>(EchoWorkflow.class);
+    try (ConcurrentWorkflowWorker worker = newWorker(Map.of(workflow.getName(), workflow), Map.of(), 1)) {
+      worker.start();
+
+      assertTrue(completions.await(10, TimeUnit.SECONDS));
+    }
+
+    OrchestratorResponse response = workflowResponses.get(0);
+    OrchestratorAction completion = response.getActions(response.getActionsCount() - 1);
+    assertEquals(List.of("instance-1:exec-1:completeorchestration:" + completion.getId()), codec.encodedIds);
+    // The input stays readable by clients until the instance is purged.
+    assertEquals(List.of(codec.encode("\"event\"")), codec.discarded);
+  }
+
+  @Test
+  public void replayOnlyDecodesNewPayloads() throws Exception {
+    RecordingCodec codec = new RecordingCodec();
+    payloadCodec = new PayloadCodecDataConverter(codec);
+    TaskOrchestrationFactory workflow = new WorkflowClassWrapper<>(WaitingWorkflow.class);
+    Timestamp now = Timestamp.newBuilder().setSeconds(System.currentTimeMillis() / 1000).build();
+    OrchestratorRequest started = OrchestratorRequest.newBuilder()
+        .setInstanceId("instance-1")
+        .addNewEvents(HistoryEvent.newBuilder()
+            .setEventId(-1)
+            .setTimestamp(now)
+            .setOrchestratorStarted(OrchestratorStartedEvent.getDefaultInstance()))
+        .addNewEvents(HistoryEvent.newBuilder()
+            .setEventId(-1)
+            .setTimestamp(now)
+            .setExecutionStarted(ExecutionStartedEvent.newBuilder()
+                .setName(workflow.getName())
+                .setInput(StringValue.of(codec.encode("\"hello\"")))
+                .setOrchestrationInstance(OrchestrationInstance.newBuilder().setInstanceId("instance-1"))))
+        .build();
+    OrchestratorRequest resumed = OrchestratorRequest.newBuilder()
+        .setInstanceId("instance-1")
+        .addAllPastEvents(started.getNewEventsList())
+        .addNewEvents(HistoryEvent.newBuilder()
+            .setEventId(-1)
+            .setTimestamp(now)
+            .setOrchestratorStarted(OrchestratorStartedEvent.getDefaultInstance()))
+        .addNewEvents(HistoryEvent.newBuilder()
+            .setEventId(-1)
+            .setTimestamp(now)
+            .setEventRaised(EventRaisedEvent.newBuilder()
+                .setName("go")
+                .setInput(StringValue.of(codec.encode("\"world\"")))))
+        .build();
+    workItems.add(WorkItem.newBuilder().setOrchestratorRequest(started).build());
+    workItems.add(WorkItem.newBuilder().setOrchestratorRequest(resumed).build());
+    completions = new CountDownLatch(2);
+
+    try (ConcurrentWorkflowWorker worker = newWorker(Map.of(workflow.getName(), workflow), Map.of(), 1)) {
+      worker.start();
+
+      assertTrue(completions.await(10, TimeUnit.SECONDS));
+    }
+
+    // The input decoded for the first work item is not decoded again when the history is replayed.
+    assertEquals(List.of(List.of(codec.encode("\"hello\"")), List.of(codec.encode("\"world\""))), codec.decoded);
+    OrchestratorResponse response = workflowResponses.get(1);
+    assertEquals("\"hello world\"", codec.decode(response.getActions(response.getActionsCount() - 1)
+        .getCompleteOrchestration().getResult().getValue()));
+  }
+
+  @Test
+  public void codecFailureFailsWorkflow() throws Exception {
+    payloadCodec = new PayloadCodecDataConverter(new RecordingCodec() {
+      @Override
+      public String decode(String payload) {
+        throw new IllegalStateException("Payload store unavailable");
+      }
+    });
+    workItems.add(WorkItem.newBuilder().setOrchestratorRequest(echoRequest("\"hello\"")).build());
+    completions = new CountDownLatch(1);
+
+    TaskOrchestrationFactory workflow = new WorkflowClassWrapper<>(EchoWorkflow.class);
+    try (ConcurrentWorkflowWorker worker = newWorker(Map.of(workflow.getName(), workflow), Map.of(), 1)) {
+      worker.start();
+
+      assertTrue(completions.await(10, TimeUnit.SECONDS));
+    }
+
+    OrchestratorResponse response = workflowResponses.get(0);
+    assertEquals("instance-1", response.getInstanceId());
+    CompleteOrchestrationAction completion = response.getActions(0).getCompleteOrchestration();
+    assertEquals(OrchestrationStatus.ORCHESTRATION_STATUS_FAILED, completion.getOrchestrationStatus());
+    assertEquals("Payload store unavailable", completion.getFailureDetails().getErrorMessage());
+  }
+
+  private ConcurrentWorkflowWorker newWorker(Map<String, TaskOrchestrationFactory> workflows,
+                                             Map<String, TaskActivityFactory> activities,
+                                             int maxConcurrentActivities) {
+    return new ConcurrentWorkflowWorker(channel, workflows, activities, 1, maxConcurrentActivities,
+        Executors.newCachedThreadPool(), true, payloadCodec, metrics);
+  }
+
+  private static WorkItem activityWorkItem(String name, int taskId) {
+    return WorkItem.newBuilder()
+        .setActivityRequest(ActivityRequest.newBuilder()
+            .setName(name)
+            .setTaskId(taskId)
+            .setInput(StringValue.of("\"input-" + taskId + "\""))
+            .setOrchestrationInstance(OrchestrationInstance.newBuilder().setInstanceId("instance")))
+        .build();
+  }
+
+  private static class RecordingCodec implements WorkflowPayloadCodec {
+
+    private final List<String> encodedIds = new CopyOnWriteArrayList<>();
+
+    private final List<String> discarded = new CopyOnWriteArrayList<>();
+
+    private final List<List<String>> decoded = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String encode(String payload) {
+      return "\"enc:" + payload + "\"";
+    }
+
+    @Override
+    public String encode(String payload, String id) {
+      this.encodedIds.add(id);
+      return encode(payload);
+    }
+
+    @Override
+    public String decode(String payload) {
+      return payload.startsWith("\"enc:") ? payload.substring(5, payload.length() - 1) : payload;
+    }
+
+    @Override
+    public List<String> decodeAll(List<String> payloads) {
+      this.decoded.add(payloads);
+      return WorkflowPayloadCodec.super.decodeAll(payloads);
+    }
+
+    @Override
+    public void discard(String payload) {
+      this.discarded.add(payload);
+    }
+  }
+}
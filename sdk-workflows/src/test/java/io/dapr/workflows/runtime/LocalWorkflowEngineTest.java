@@ -0,0 +1,312 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.workflows.runtime;
+
+import com.microsoft.durabletask.TaskCanceledException;
+import io.dapr.workflows.Workflow;
+import io.dapr.workflows.WorkflowActivity;
+import io.dapr.workflows.WorkflowActivityContext;
+import io.dapr.workflows.WorkflowStub;
+import io.dapr.workflows.WorkflowTaskOptions;
+import io.dapr.workflows.WorkflowTaskRetryPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalWorkflowEngineTest {
+
+  private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+  private static final String UPPER_CASE = UpperCaseActivity.class.getCanonicalName();
+
+  private LocalWorkflowEngine engine;
+
+  public static class UpperCaseActivity implements WorkflowActivity {
+    @Override
+    public Object run(WorkflowActivityContext ctx) {
+      return ctx.getInput(String.class).toUpperCase();
+    }
+  }
+
+  public static class FlakyActivity implements WorkflowActivity {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    private final int failures;
+
+    public FlakyActivity(int failures) {
+      this.failures = failures;
+    }
+
+    @Override
+    public Object run(WorkflowActivityContext ctx) {
+      if (attempts.incrementAndGet() <= failures) {
+        throw new IllegalStateException("attempt " + attempts.get() + " failed");
+      }
+
+      return attempts.get();
+    }
+  }
+
+  public static class ActivityWorkflow implements Workflow {
+    @Override
+    public WorkflowStub create() {
+      return ctx -> ctx.complete(ctx.callActivity(UPPER_CASE, ctx.getInput(String.class), String.class).await());
+    }
+  }
+
+  public static class SleepingWorkflow implements Workflow {
+    @Override
+    public WorkflowStub create() {
+      return ctx -> {
+        ctx.createTimer(Duration.ofDays(2)).await();
+        ctx.complete(ctx.getCurrentInstant().toString());
+      };
+    }
+  }
+
+  public static class ApprovalWorkflow implements Workflow {
+    @Override
+    public WorkflowStub create() {
+      return ctx -> {
+        try {
+          ctx.complete(ctx.waitForExternalEvent("approval", Duration.ofHours(1), String.class).await());
+        } catch (TaskCanceledException e) {
+          ctx.complete("timed out");
+        }
+      };
+    }
+  }
+
+  public static class WaitingWorkflow implements Workflow {
+    @Override
+    public WorkflowStub create() {
+      return ctx -> ctx.complete(ctx.waitForExternalEvent("approval", String.class).await());
+    }
+  }
+
+  public static class ParentWorkflow implements Workflow {
+    @Override
+    public WorkflowStub create() {
+      return ctx -> ctx.complete("parent:" + ctx.callChildWorkflow(ActivityWorkflow.class.getCanonicalName(),
+          ctx.getInput(String.class), String.class).await());
+    }
+  }
+
+  public static class CounterWorkflow implements Workflow {
+    @Override
+    public WorkflowStub create() {
+      return ctx -> {
+        int count = ctx.getInput(Integer.class);
+        if (count < 10) {
+          ctx.createTimer(Duration.ofMinutes(1)).await();
+          ctx.continueAsNew(count + 1);
+          return;
+        }
+
+        ctx.complete(count);
+      };
+    }
+  }
+
+  public static class RetryWorkflow implements Workflow {
+    @Override
+    public WorkflowStub create() {
+      return ctx -> {
+        WorkflowTaskRetryPolicy retryPolicy = WorkflowTaskRetryPolicy.newBuilder()
+            .setMaxNumberOfAttempts(3)
+            .setFirstRetryInterval(Duration.ofMinutes(1))
+            .setRetryTimeout(Duration.ofHours(1))
+            .build();
+        ctx.complete(ctx.callActivity(FlakyActivity.class.getCanonicalName(), null,
+            new WorkflowTaskOptions(retryPolicy), Integer.class).await());
+      };
+    }
+  }
+
+  @BeforeEach
+  public void setUp() {
+    engine = new LocalWorkflowEngine(START)
+        .registerWorkflow(ActivityWorkflow.class)
+        .registerWorkflow(SleepingWorkflow.class)
+        .registerWorkflow(ApprovalWorkflow.class)
+        .registerWorkflow(WaitingWorkflow.class)
+        .registerWorkflow(ParentWorkflow.class)
+        .registerWorkflow(CounterWorkflow.class)
+        .registerWorkflow(new RetryWorkflow())
+        .registerActivity(UpperCaseActivity.class);
+  }
+
+  @Test
+  public void runsActivities() {
+    String instanceId = engine.scheduleNewWorkflow(ActivityWorkflow.class, "hello");
+    assertEquals(WorkflowRuntimeStatus.PENDING, engine.getInstanceState(instanceId).getRuntimeStatus());
+
+    engine.runUntilIdle();
+
+    LocalWorkflowInstanceStatus status = engine.getInstanceState(instanceId);
+    assertEquals(WorkflowRuntimeStatus.COMPLETED, status.getRuntimeStatus());
+    assertTrue(status.isCompleted());
+    assertEquals("hello", status.readInputAs(String.class));
+    assertEquals("HELLO", status.readOutputAs(String.class));
+    assertEquals(ActivityWorkflow.class.getCanonicalName(), status.getName());
+    assertTrue(status.getHistoryLength() > 0);
+  }
+
+  @Test
+  public void timersUseVirtualTime() {
+    String instanceId = engine.scheduleNewWorkflow(SleepingWorkflow.class);
+
+    engine.runUntilIdle();
+    assertTrue(engine.getInstanceState(instanceId).isRunning());
+
+    engine.advanceTime(Duration.ofDays(1));
+    assertTrue(engine.getInstanceState(instanceId).isRunning());
+    assertEquals(START.plus(Duration.ofDays(1)), engine.getCurrentTime());
+
+    LocalWorkflowInstanceStatus status = engine.runUntilCompleted(instanceId);
+    Instant completedAt = Instant.parse(status.readOutputAs(String.class));
+    assertFalse(completedAt.isBefore(START.plus(Duration.ofDays(2))));
+    assertTrue(completedAt.isBefore(START.plus(Duration.ofDays(2)).plusSeconds(1)));
+    assertEquals(START.plus(Duration.ofDays(2)), engine.getCurrentTime());
+  }
+
+  @Test
+  public void deliversExternalEvents() {
+    String instanceId = engine.scheduleNewWorkflow(ApprovalWorkflow.class);
+    engine.runUntilIdle();
+
+    engine.raiseEvent(instanceId, "approval", "approved");
+
+    assertEquals("approved", engine.runUntilCompleted(instanceId).readOutputAs(String.class));
+    assertEquals(START, engine.getCurrentTime());
+  }
+
+  @Test
+  public void externalEventTimesOut() {
+    String instanceId = engine.scheduleNewWorkflow(ApprovalWorkflow.class);
+
+    assertEquals("timed out", engine.runUntilCompleted(instanceId).readOutputAs(String.class));
+    assertEquals(START.plus(Duration.ofHours(1)), engine.getCurrentTime());
+  }
+
+  @Test
+  public void runUntilCompletedFailsWhenWaitingForEvent() {
+    String instanceId = engine.scheduleNewWorkflow(WaitingWorkflow.class);
+
+    assertThrows(IllegalStateException.class, () -> engine.runUntilCompleted(instanceId));
+
+    engine.raiseEvent(instanceId, "approval", "late");
+    assertEquals("late", engine.runUntilCompleted(instanceId).readOutputAs(String.class));
+  }
+
+  @Test
+  public void runsChildWorkflows() {
+    String instanceId = engine.scheduleNewWorkflow(ParentWorkflow.class, "child");
+
+    assertEquals("parent:CHILD", engine.runUntilCompleted(instanceId).readOutputAs(String.class));
+  }
+
+  @Test
+  public void continueAsNewResetsHistory() {
+    String instanceId = engine.scheduleNewWorkflow(CounterWorkflow.class, 0);
+
+    LocalWorkflowInstanceStatus status = engine.runUntilCompleted(instanceId);
+
+    assertEquals(10, status.readOutputAs(Integer.class));
+    // Each timer is delivered one millisecond after it is due, as a sidecar would never deliver it early.
+    assertFalse(engine.getCurrentTime().isBefore(START.plus(Duration.ofMinutes(10))));
+    assertTrue(engine.getCurrentTime().isBefore(START.plus(Duration.ofMinutes(10)).plusSeconds(1)));
+    assertTrue(status.getHistoryLength() < 10);
+  }
+
+  @Test
+  public void retriesActivitiesWithVirtualTime() {
+    engine.registerActivity(new FlakyActivity(2));
+    String instanceId = engine.scheduleNewWorkflow(RetryWorkflow.class);
+
+    LocalWorkflowInstanceStatus status = engine.runUntilCompleted(instanceId);
+
+    assertEquals(WorkflowRuntimeStatus.COMPLETED, status.getRuntimeStatus());
+    assertEquals(3, status.readOutputAs(Integer.class));
+    assertFalse(engine.getCurrentTime().isBefore(START.plus(Duration.ofMinutes(2))));
+  }
+
+  @Test
+  public void failsWhenRetriesAreExhausted() {
+    engine.registerActivity(new FlakyActivity(5));
+    String instanceId = engine.scheduleNewWorkflow(RetryWorkflow.class);
+
+    LocalWorkflowInstanceStatus status = engine.runUntilCompleted(instanceId);
+
+    assertEquals(WorkflowRuntimeStatus.FAILED, status.getRuntimeStatus());
+    assertNotNull(status.getFailureErrorType());
+    assertNotNull(status.getFailureStackTrace());
+  }
+
+  @Test
+  public void unregisteredWorkflowFails() {
+    LocalWorkflowEngine empty = new LocalWorkflowEngine(START);
+    String instanceId = empty.scheduleNewWorkflow(ActivityWorkflow.class, "x");
+
+    LocalWorkflowInstanceStatus status = empty.runUntilCompleted(instanceId);
+
+    assertEquals(WorkflowRuntimeStatus.FAILED, status.getRuntimeStatus());
+    assertEquals(IllegalStateException.class.getName(), status.getFailureErrorType());
+  }
+
+  @Test
+  public void unregisteredActivityFailsWorkflow() {
+    LocalWorkflowEngine noActivities = new LocalWorkflowEngine(START).registerWorkflow(ActivityWorkflow.class);
+    String instanceId = noActivities.scheduleNewWorkflow(ActivityWorkflow.class, "x");
+
+    assertEquals(WorkflowRuntimeStatus.FAILED, noActivities.runUntilCompleted(instanceId).getRuntimeStatus());
+  }
+
+  @Test
+  public void terminateAndPurge() {
+    String instanceId = engine.scheduleNewWorkflow(WaitingWorkflow.class, null, "waiting");
+    engine.runUntilIdle();
+    assertThrows(IllegalStateException.class,
+        () -> engine.scheduleNewWorkflow(WaitingWorkflow.class, null, "waiting"));
+    assertFalse(engine.purgeInstance(instanceId));
+
+    engine.terminateWorkflow(instanceId, "stopped");
+
+    LocalWorkflowInstanceStatus status = engine.getInstanceState(instanceId);
+    assertEquals(WorkflowRuntimeStatus.TERMINATED, status.getRuntimeStatus());
+    assertEquals("stopped", status.readOutputAs(String.class));
+    assertNull(status.getFailureErrorType());
+    assertTrue(engine.purgeInstance(instanceId));
+    assertNull(engine.getInstanceState(instanceId));
+    assertThrows(IllegalArgumentException.class, () -> engine.raiseEvent(instanceId, "approval", "late"));
+  }
+
+  @Test
+  public void invalidArgumentsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new LocalWorkflowEngine(null));
+    assertThrows(IllegalArgumentException.class, () -> engine.scheduleNewWorkflow(ActivityWorkflow.class, null, ""));
+    assertThrows(IllegalArgumentException.class, () -> engine.advanceTime(Duration.ofSeconds(-1)));
+  }
+}
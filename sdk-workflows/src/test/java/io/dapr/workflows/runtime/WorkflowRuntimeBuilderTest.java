@@ -16,10 +16,13 @@ import io.dapr.workflows.Workflow;
 import io.dapr.workflows.WorkflowActivity;
 import io.dapr.workflows.WorkflowActivityContext;
 import io.dapr.workflows.WorkflowStub;
+import io.dapr.workflows.codec.GzipPayloadCodec;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -27,6 +30,8 @@ import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
 
 public class WorkflowRuntimeBuilderTest {
   public static class TestWorkflow implements Workflow {
@@ -75,6 +80,56 @@ public class WorkflowRuntimeBuilderTest {
     });
   }
 
+  @Test
+  public void concurrencyOptionsTest() {
+    assertDoesNotThrow(() -> new WorkflowRuntimeBuilder()
+        .withMaxConcurrentWorkflows(4)
+        .withMaxConcurrentActivities(100)
+        .withExecutorService(Executors.newFixedThreadPool(2)));
+    assertThrows(IllegalArgumentException.class, () -> new WorkflowRuntimeBuilder().withMaxConcurrentWorkflows(0));
+    assertThrows(IllegalArgumentException.class, () -> new WorkflowRuntimeBuilder().withMaxConcurrentActivities(-1));
+    assertThrows(IllegalArgumentException.class, () -> new WorkflowRuntimeBuilder().withExecutorService(null));
+  }
+
+  @Test
+  public void buildConcurrentWorkerTest() {
+    WorkflowRuntimeBuilder builder = new WorkflowRuntimeBuilder()
+        .registerWorkflow(TestWorkflow.class)
+        .registerActivity(TestActivity.class)
+        .withMaxConcurrentActivities(10);
+
+    try (WorkflowRuntime runtime = new WorkflowRuntime(builder.buildConcurrentWorker())) {
+      assertDoesNotThrow(() -> runtime.start(false));
+      assertEquals(0, runtime.getInFlightWorkflowCount());
+      assertEquals(0, runtime.getInFlightActivityCount());
+    }
+  }
+
+  @Test
+  public void payloadCodecTest() {
+    assertDoesNotThrow(() -> new WorkflowRuntimeBuilder().withPayloadCodec(new GzipPayloadCodec()));
+    assertThrows(IllegalArgumentException.class, () -> new WorkflowRuntimeBuilder().withPayloadCodec(null));
+
+    WorkflowRuntimeBuilder builder = new WorkflowRuntimeBuilder()
+        .registerWorkflow(TestWorkflow.class)
+        .withPayloadCodec(new GzipPayloadCodec())
+        .withMaxConcurrentWorkflows(2);
+    try (WorkflowRuntime runtime = new WorkflowRuntime(builder.buildConcurrentWorker())) {
+      assertDoesNotThrow(() -> runtime.start(false));
+    }
+  }
+
+  @Test
+  public void virtualThreadsRequireSupportedRuntime() {
+    boolean supported = Arrays.stream(Executors.class.getMethods())
+        .anyMatch(m -> m.getName().equals("newVirtualThreadPerTaskExecutor"));
+    if (supported) {
+      assertDoesNotThrow(() -> new WorkflowRuntimeBuilder().withVirtualThreads());
+    } else {
+      assertThrows(IllegalStateException.class, () -> new WorkflowRuntimeBuilder().withVirtualThreads());
+    }
+  }
+
   @Test
   public void loggingOutputTest() {
     // Set the output stream for log capturing
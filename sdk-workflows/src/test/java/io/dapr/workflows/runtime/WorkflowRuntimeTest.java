@@ -16,9 +16,16 @@ package io.dapr.workflows.runtime;
 
 import com.microsoft.durabletask.DurableTaskGrpcWorker;
 import com.microsoft.durabletask.DurableTaskGrpcWorkerBuilder;
+import io.grpc.ManagedChannel;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+import java.util.concurrent.Executors;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class WorkflowRuntimeTest {
 
@@ -30,6 +37,20 @@ public class WorkflowRuntimeTest {
     }
   }
 
+  @Test
+  public void startConcurrentWorkerTest() {
+    ManagedChannel channel = InProcessChannelBuilder.forName(InProcessServerBuilder.generateName()).build();
+    ConcurrentWorkflowWorker worker = new ConcurrentWorkflowWorker(
+        channel, Map.of(), Map.of(), 1, 1, Executors.newSingleThreadExecutor(), true, null, null);
+    try (WorkflowRuntime runtime = new WorkflowRuntime(worker)) {
+      assertDoesNotThrow(() -> runtime.start(false));
+      assertEquals(0, runtime.getInFlightWorkflowCount());
+      assertEquals(0, runtime.getInFlightActivityCount());
+    } finally {
+      channel.shutdownNow();
+    }
+  }
+
   @Test
   public void closeWithoutStarting() {
     DurableTaskGrpcWorker worker = new DurableTaskGrpcWorkerBuilder().build();
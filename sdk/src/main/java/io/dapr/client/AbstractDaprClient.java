@@ -30,6 +30,7 @@ import io.dapr.client.domain.InvokeBindingRequest;
 import io.dapr.client.domain.InvokeMethodRequest;
 import io.dapr.client.domain.LockRequest;
 import io.dapr.client.domain.PublishEventRequest;
+import io.dapr.client.domain.QueryStateItem;
 import io.dapr.client.domain.QueryStateRequest;
 import io.dapr.client.domain.QueryStateResponse;
 import io.dapr.client.domain.SaveStateRequest;
@@ -407,6 +408,14 @@ abstract class AbstractDaprClient implements DaprClient, DaprPreviewClient {
     return this.queryState(request, TypeRef.get(clazz));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<QueryStateItem<T>> queryStateAll(QueryStateRequest request, Class<T> clazz) {
+    return this.queryStateAll(request, TypeRef.get(clazz));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -627,6 +636,17 @@ abstract class AbstractDaprClient implements DaprClient, DaprPreviewClient {
     return this.subscribeConfiguration(request);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ConfigurationView watchConfiguration(SubscribeConfigurationRequest request) {
+    ConfigurationView view = new ConfigurationView(
+        this, request, ConfigurationView.DEFAULT_MIN_BACKOFF, ConfigurationView.DEFAULT_MAX_BACKOFF);
+    view.start();
+    return view;
+  }
+
   /**
    * {@inheritDoc}
    */
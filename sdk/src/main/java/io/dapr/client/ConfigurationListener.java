@@ -0,0 +1,28 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+/**
+ * Callback interface to receive the changes of a configuration item watched by a {@link ConfigurationView}.
+ * @param <T> Type the value of the item is converted to.
+ */
+public interface ConfigurationListener<T> {
+
+  /**
+   * Processes a new value of a configuration item.
+   * @param key Key of the configuration item.
+   * @param value New value, converted.
+   */
+  void onChange(String key, T value);
+}
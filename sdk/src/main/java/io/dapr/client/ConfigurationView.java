@@ -0,0 +1,307 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.ConfigurationItem;
+import io.dapr.client.domain.GetConfigurationRequest;
+import io.dapr.client.domain.SubscribeConfigurationRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Local view of configuration items, loaded once and kept up to date by a configuration subscription. Reads are
+ * served from an immutable snapshot replaced on every change, so they never wait for the sidecar nor for a lock.
+ * If the subscription fails or completes, the items are loaded again and the subscription is resumed with an
+ * exponential backoff.
+ */
+public class ConfigurationView implements Closeable {
+
+  /**
+   * Default delay before resubscribing after the first failure.
+   */
+  static final Duration DEFAULT_MIN_BACKOFF = Duration.ofSeconds(1);
+
+  /**
+   * Default maximum delay between resubscriptions.
+   */
+  static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(30);
+
+  private static final Duration UNSUBSCRIBE_TIMEOUT = Duration.ofSeconds(5);
+
+  private final Logger logger = LoggerFactory.getLogger(ConfigurationView.class);
+
+  private final DaprClient client;
+
+  private final SubscribeConfigurationRequest request;
+
+  private final Duration minBackoff;
+
+  private final Duration maxBackoff;
+
+  private final List<Registration<?>> listeners = new CopyOnWriteArrayList<>();
+
+  private final Sinks.Empty<Void> loaded = Sinks.empty();
+
+  private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap(), 0);
+
+  private volatile String subscriptionId;
+
+  private volatile Disposable subscription;
+
+  ConfigurationView(DaprClient client, SubscribeConfigurationRequest request, Duration minBackoff,
+                    Duration maxBackoff) {
+    String storeName = request.getStoreName();
+    if (storeName == null || storeName.trim().isEmpty()) {
+      throw new IllegalArgumentException("Configuration Store Name can not be null or empty.");
+    }
+
+    this.client = client;
+    this.request = request;
+    this.minBackoff = minBackoff;
+    this.maxBackoff = maxBackoff;
+  }
+
+  /**
+   * Loads the configuration items and starts applying their updates.
+   */
+  void start() {
+    this.subscription = Flux.defer(this::connect)
+        .concatWith(Mono.error(() -> new IllegalStateException("Configuration subscription has completed")))
+        .retryWhen(Retry.backoff(Long.MAX_VALUE, this.minBackoff)
+            .maxBackoff(this.maxBackoff)
+            .transientErrors(true)
+            .filter(throwable -> !(throwable instanceof IllegalArgumentException))
+            .doBeforeRetry(signal -> logger.warn("Configuration subscription to store {} failed, resubscribing",
+                this.request.getStoreName(), signal.failure())))
+        .subscribe(
+            ignored -> { },
+            throwable -> logger.error("Configuration subscription to store {} stopped",
+                this.request.getStoreName(), throwable));
+  }
+
+  /**
+   * Gets a configuration item.
+   * @param key Key of the configuration item.
+   * @return The configuration item, or null if unknown.
+   */
+  public ConfigurationItem getItem(String key) {
+    return this.snapshot.items.get(key);
+  }
+
+  /**
+   * Gets the value of a configuration item.
+   * @param key Key of the configuration item.
+   * @return The value, or null if the item is unknown.
+   */
+  public String getValue(String key) {
+    ConfigurationItem item = getItem(key);
+    return item == null ? null : item.getValue();
+  }
+
+  /**
+   * Gets the value of a configuration item, converted.
+   * @param key Key of the configuration item.
+   * @param converter Converts the value of the item, e.g. {@code Boolean::parseBoolean}.
+   * @param defaultValue Value returned if the item is unknown or has no value.
+   * @param <T> Type the value is converted to.
+   * @return The converted value, or the default value.
+   */
+  public <T> T getValue(String key, Function<String, T> converter, T defaultValue) {
+    String value = getValue(key);
+    return value == null ? defaultValue : converter.apply(value);
+  }
+
+  /**
+   * Gets every configuration item known.
+   * @return Unmodifiable map of the configuration items, by key.
+   */
+  public Map<String, ConfigurationItem> getItems() {
+    return this.snapshot.items;
+  }
+
+  /**
+   * Gets the version of this view, incremented every time an item changes.
+   * @return The version of this view, 0 until the first items are known.
+   */
+  public long getVersion() {
+    return this.snapshot.version;
+  }
+
+  /**
+   * Waits for the configuration items to be loaded.
+   * @return Mono that completes once the items have been loaded for the first time.
+   */
+  public Mono<Void> ready() {
+    return this.loaded.asMono();
+  }
+
+  /**
+   * Listens to the changes of a configuration item.
+   * @param key Key of the configuration item.
+   * @param converter Converts the value of the item, e.g. {@code Integer::valueOf}.
+   * @param listener Called with the converted value every time the item changes.
+   * @param <T> Type the value is converted to.
+   * @return Disposable that removes the listener.
+   */
+  public <T> Disposable addListener(String key, Function<String, T> converter, ConfigurationListener<T> listener) {
+    Registration<T> registration = new Registration<>(key, converter, listener);
+    this.listeners.add(registration);
+    return () -> this.listeners.remove(registration);
+  }
+
+  /**
+   * Stops applying updates and unsubscribes from the configuration store.
+   */
+  @Override
+  public void close() {
+    Disposable subscription = this.subscription;
+    if (subscription != null) {
+      subscription.dispose();
+    }
+
+    String id = this.subscriptionId;
+    if (id != null) {
+      this.client.unsubscribeConfiguration(id, this.request.getStoreName())
+          .timeout(UNSUBSCRIBE_TIMEOUT)
+          .onErrorResume(throwable -> {
+            logger.warn("Could not unsubscribe from configuration store {}", this.request.getStoreName(), throwable);
+            return Mono.empty();
+          })
+          .block();
+    }
+  }
+
+  private Flux<Update> connect() {
+    GetConfigurationRequest getRequest = new GetConfigurationRequest(this.request.getStoreName(),
+        this.request.getKeys()).setMetadata(this.request.getMetadata());
+    // Keys updated by the subscription are newer than the ones in the initial load, whichever arrives first.
+    Set<String> subscribedKeys = new HashSet<>();
+
+    return Flux.merge(
+            this.client.subscribeConfiguration(this.request)
+                .map(response -> new Update(response.getSubscriptionId(), response.getItems(), false)),
+            this.client.getConfiguration(getRequest)
+                .map(items -> new Update(null, items, true)))
+        .doOnNext(update -> apply(update, subscribedKeys));
+  }
+
+  private void apply(Update update, Set<String> subscribedKeys) {
+    if (update.subscriptionId != null && !update.subscriptionId.isEmpty()) {
+      this.subscriptionId = update.subscriptionId;
+    }
+
+    Snapshot current = this.snapshot;
+    Map<String, ConfigurationItem> changes = new HashMap<>();
+    update.items.forEach((key, item) -> {
+      if (!update.initial) {
+        subscribedKeys.add(key);
+      } else if (subscribedKeys.contains(key)) {
+        return;
+      }
+
+      ConfigurationItem previous = current.items.get(key);
+      if (previous == null
+          || !Objects.equals(previous.getValue(), item.getValue())
+          || !Objects.equals(previous.getVersion(), item.getVersion())) {
+        changes.put(key, item);
+      }
+    });
+
+    if (!changes.isEmpty()) {
+      Map<String, ConfigurationItem> items = new HashMap<>(current.items);
+      items.putAll(changes);
+      this.snapshot = new Snapshot(Collections.unmodifiableMap(items), current.version + 1);
+      changes.forEach(this::notifyListeners);
+    }
+
+    if (update.initial) {
+      this.loaded.tryEmitEmpty();
+    }
+  }
+
+  private void notifyListeners(String key, ConfigurationItem item) {
+    for (Registration<?> registration : this.listeners) {
+      if (registration.key.equals(key)) {
+        try {
+          registration.onChange(item.getValue());
+        } catch (RuntimeException e) {
+          logger.warn("Configuration listener for key {} failed", key, e);
+        }
+      }
+    }
+  }
+
+  private static final class Snapshot {
+
+    private final Map<String, ConfigurationItem> items;
+
+    private final long version;
+
+    private Snapshot(Map<String, ConfigurationItem> items, long version) {
+      this.items = items;
+      this.version = version;
+    }
+  }
+
+  private static final class Update {
+
+    private final String subscriptionId;
+
+    private final Map<String, ConfigurationItem> items;
+
+    private final boolean initial;
+
+    private Update(String subscriptionId, Map<String, ConfigurationItem> items, boolean initial) {
+      this.subscriptionId = subscriptionId;
+      this.items = items == null ? Collections.emptyMap() : items;
+      this.initial = initial;
+    }
+  }
+
+  private static final class Registration<T> {
+
+    private final String key;
+
+    private final Function<String, T> converter;
+
+    private final ConfigurationListener<T> listener;
+
+    private Registration(String key, Function<String, T> converter, ConfigurationListener<T> listener) {
+      this.key = key;
+      this.converter = converter;
+      this.listener = listener;
+    }
+
+    private void onChange(String value) {
+      this.listener.onChange(this.key, value == null ? null : this.converter.apply(value));
+    }
+  }
+}
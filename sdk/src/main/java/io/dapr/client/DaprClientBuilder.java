@@ -13,6 +13,8 @@ limitations under the License.
 
 package io.dapr.client;
 
+import io.dapr.client.domain.SecretCacheOptions;
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.config.Properties;
 import io.dapr.config.Property;
@@ -53,6 +55,16 @@ public class DaprClientBuilder {
    */
   private ResiliencyOptions resiliencyOptions;
 
+  /**
+   * Metrics recorder for the calls made by DaprClient.
+   */
+  private DaprMetrics metrics = DaprMetrics.NOOP;
+
+  /**
+   * Options of the client-side secret cache, if any.
+   */
+  private SecretCacheOptions secretCacheOptions;
+
   /**
    * Creates a constructor for DaprClient.
    *
@@ -112,6 +124,29 @@ public class DaprClientBuilder {
     return this;
   }
 
+  /**
+   * Enables a client-side cache in front of the secrets API.
+   *
+   * @param options Secret cache options, or null to call the sidecar for every secret.
+   * @return This instance.
+   */
+  public DaprClientBuilder withSecretCacheOptions(SecretCacheOptions options) {
+    this.secretCacheOptions = options;
+    return this;
+  }
+
+  /**
+   * Sets the metrics recorder for every gRPC and HTTP call made by DaprClient.
+   *
+   * @param metrics Metrics recorder, or null to record nothing.
+   * @return This instance.
+   */
+  public DaprClientBuilder withMetrics(DaprMetrics metrics) {
+    this.metrics = metrics == null ? DaprMetrics.NOOP : metrics;
+    this.daprHttpBuilder.withMetrics(this.metrics);
+    return this;
+  }
+
   /**
    * Allow to set up properties override for static properties.
    * @param property that we want to override
@@ -174,6 +209,8 @@ public class DaprClientBuilder {
         this.objectSerializer,
         this.stateSerializer,
         this.resiliencyOptions,
-        properties.getValue(Properties.API_TOKEN));
+        properties.getValue(Properties.API_TOKEN),
+        this.metrics,
+        this.secretCacheOptions);
   }
 }
@@ -13,6 +13,8 @@ limitations under the License.
 
 package io.dapr.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Strings;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Empty;
@@ -38,6 +40,8 @@ import io.dapr.client.domain.HttpEndpointMetadata;
 import io.dapr.client.domain.HttpExtension;
 import io.dapr.client.domain.InvokeBindingRequest;
 import io.dapr.client.domain.InvokeMethodRequest;
+import io.dapr.client.domain.LazyQueryStateItem;
+import io.dapr.client.domain.LazyState;
 import io.dapr.client.domain.LockRequest;
 import io.dapr.client.domain.PublishEventRequest;
 import io.dapr.client.domain.QueryStateItem;
@@ -45,6 +49,7 @@ import io.dapr.client.domain.QueryStateRequest;
 import io.dapr.client.domain.QueryStateResponse;
 import io.dapr.client.domain.RuleMetadata;
 import io.dapr.client.domain.SaveStateRequest;
+import io.dapr.client.domain.SecretCacheOptions;
 import io.dapr.client.domain.State;
 import io.dapr.client.domain.StateOptions;
 import io.dapr.client.domain.SubscribeConfigurationRequest;
@@ -55,10 +60,17 @@ import io.dapr.client.domain.UnlockRequest;
 import io.dapr.client.domain.UnlockResponseStatus;
 import io.dapr.client.domain.UnsubscribeConfigurationRequest;
 import io.dapr.client.domain.UnsubscribeConfigurationResponse;
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.exceptions.DaprException;
+import io.dapr.internal.cache.SecretCache;
 import io.dapr.internal.exceptions.DaprHttpException;
 import io.dapr.internal.grpc.DaprClientGrpcInterceptors;
+import io.dapr.internal.resiliency.AdaptiveConcurrencyLimiter;
+import io.dapr.internal.resiliency.BulkheadPolicy;
+import io.dapr.internal.resiliency.CircuitBreakerPolicy;
+import io.dapr.internal.resiliency.HedgingPolicy;
+import io.dapr.internal.resiliency.RetryBudget;
 import io.dapr.internal.resiliency.RetryPolicy;
 import io.dapr.internal.resiliency.TimeoutPolicy;
 import io.dapr.serializer.DaprObjectSerializer;
@@ -79,6 +91,8 @@ import io.dapr.v1.DaprProtos.RegisteredComponents;
 import io.grpc.Channel;
 import io.grpc.Metadata;
 import io.grpc.stub.AbstractStub;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -86,6 +100,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
 import reactor.util.context.ContextView;
 import reactor.util.retry.Retry;
 
@@ -100,6 +115,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -116,6 +133,16 @@ import static io.dapr.internal.exceptions.DaprHttpException.parseHttpStatusCode;
  */
 public class DaprClientImpl extends AbstractDaprClient {
 
+  /**
+   * HTTP methods that can be retried after a timeout or a 503, as repeating them has no further effect.
+   */
+  private static final Set<String> IDEMPOTENT_HTTP_METHODS = Set.of(
+      DaprHttp.HttpMethods.GET.name(),
+      DaprHttp.HttpMethods.HEAD.name(),
+      DaprHttp.HttpMethods.PUT.name(),
+      DaprHttp.HttpMethods.DELETE.name(),
+      DaprHttp.HttpMethods.OPTIONS.name());
+
   private final Logger logger;
 
   /**
@@ -129,7 +156,24 @@ public class DaprClientImpl extends AbstractDaprClient {
   private final RetryPolicy retryPolicy;
 
   /**
-   * The async gRPC stub.
+   * Deadline of each HTTP call, gRPC calls get theirs from the interceptor.
+   */
+  private final TimeoutPolicy timeoutPolicy;
+
+  /**
+   * Hedging of idempotent reads (optional).
+   */
+  private final HedgingPolicy hedgingPolicy;
+
+  private final SecretCache secretCache;
+
+  /**
+   * Adaptive concurrency limit of the HTTP calls, gRPC calls are limited by the interceptor (optional).
+   */
+  private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+  /**
+   * The async gRPC stub, with the Dapr interceptor already installed.
    */
   private final DaprGrpc.DaprStub asyncStub;
 
@@ -200,6 +244,60 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprObjectSerializer stateSerializer,
       ResiliencyOptions resiliencyOptions,
       String daprApiToken) {
+    this(channel, asyncStub, httpClient, objectSerializer, stateSerializer, resiliencyOptions, daprApiToken,
+        DaprMetrics.NOOP);
+  }
+
+  /**
+   * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
+   *
+   * @param channel           Facade for the managed GRPC channel
+   * @param asyncStub         async gRPC stub
+   * @param httpClient        client for http service invocation
+   * @param objectSerializer  Serializer for transient request/response objects.
+   * @param stateSerializer   Serializer for state objects.
+   * @param resiliencyOptions Client-level override for resiliency options.
+   * @param daprApiToken      Dapr API Token.
+   * @param metrics           Metrics recorder for every gRPC call.
+   * @see DaprClientBuilder
+   */
+  DaprClientImpl(
+      GrpcChannelFacade channel,
+      DaprGrpc.DaprStub asyncStub,
+      DaprHttp httpClient,
+      DaprObjectSerializer objectSerializer,
+      DaprObjectSerializer stateSerializer,
+      ResiliencyOptions resiliencyOptions,
+      String daprApiToken,
+      DaprMetrics metrics) {
+    this(channel, asyncStub, httpClient, objectSerializer, stateSerializer, resiliencyOptions, daprApiToken, metrics,
+        null);
+  }
+
+  /**
+   * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
+   *
+   * @param channel           Facade for the managed GRPC channel
+   * @param asyncStub         async gRPC stub
+   * @param httpClient        client for http service invocation
+   * @param objectSerializer  Serializer for transient request/response objects.
+   * @param stateSerializer   Serializer for state objects.
+   * @param resiliencyOptions Client-level override for resiliency options.
+   * @param daprApiToken      Dapr API Token.
+   * @param metrics           Metrics recorder for every gRPC call.
+   * @param secretCacheOptions Client-side cache for the secrets API (optional).
+   * @see DaprClientBuilder
+   */
+  DaprClientImpl(
+      GrpcChannelFacade channel,
+      DaprGrpc.DaprStub asyncStub,
+      DaprHttp httpClient,
+      DaprObjectSerializer objectSerializer,
+      DaprObjectSerializer stateSerializer,
+      ResiliencyOptions resiliencyOptions,
+      String daprApiToken,
+      DaprMetrics metrics,
+      SecretCacheOptions secretCacheOptions) {
     this(
         channel,
         asyncStub,
@@ -207,8 +305,17 @@ public class DaprClientImpl extends AbstractDaprClient {
         objectSerializer,
         stateSerializer,
         new TimeoutPolicy(resiliencyOptions == null ? null : resiliencyOptions.getTimeout()),
-        new RetryPolicy(resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries()),
-        daprApiToken);
+        new RetryPolicy(
+            resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries(),
+            metrics,
+            RetryBudget.fromOptions(resiliencyOptions)),
+        CircuitBreakerPolicy.fromOptions(resiliencyOptions),
+        BulkheadPolicy.fromOptions(resiliencyOptions),
+        HedgingPolicy.fromOptions(resiliencyOptions),
+        AdaptiveConcurrencyLimiter.fromOptions(resiliencyOptions, metrics),
+        SecretCache.fromOptions(secretCacheOptions),
+        daprApiToken,
+        metrics);
   }
 
   /**
@@ -221,7 +328,13 @@ public class DaprClientImpl extends AbstractDaprClient {
    * @param stateSerializer   Serializer for state objects.
    * @param timeoutPolicy     Client-level timeout policy.
    * @param retryPolicy       Client-level retry policy.
+   * @param circuitBreakerPolicy Client-level circuit breaker policy (optional).
+   * @param bulkheadPolicy    Client-level bulkhead policy (optional).
+   * @param hedgingPolicy     Client-level hedging policy for idempotent reads (optional).
+   * @param concurrencyLimiter Client-level adaptive concurrency limiter (optional).
+   * @param secretCache       Client-side cache for the secrets API (optional).
    * @param daprApiToken      Dapr API Token.
+   * @param metrics           Metrics recorder for every gRPC call.
    * @see DaprClientBuilder
    */
   private DaprClientImpl(
@@ -232,13 +345,25 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprObjectSerializer stateSerializer,
       TimeoutPolicy timeoutPolicy,
       RetryPolicy retryPolicy,
-      String daprApiToken) {
+      CircuitBreakerPolicy circuitBreakerPolicy,
+      BulkheadPolicy bulkheadPolicy,
+      HedgingPolicy hedgingPolicy,
+      AdaptiveConcurrencyLimiter concurrencyLimiter,
+      SecretCache secretCache,
+      String daprApiToken,
+      DaprMetrics metrics) {
     super(objectSerializer, stateSerializer);
     this.channel = channel;
-    this.asyncStub = asyncStub;
     this.httpClient = httpClient;
     this.retryPolicy = retryPolicy;
-    this.grpcInterceptors = new DaprClientGrpcInterceptors(daprApiToken, timeoutPolicy);
+    this.timeoutPolicy = timeoutPolicy;
+    this.hedgingPolicy = hedgingPolicy;
+    this.concurrencyLimiter = concurrencyLimiter;
+    this.secretCache = secretCache;
+    this.grpcInterceptors = new DaprClientGrpcInterceptors(
+        daprApiToken, timeoutPolicy, metrics, circuitBreakerPolicy, bulkheadPolicy, concurrencyLimiter);
+    // Installed once, each call only sets its own options on the stub.
+    this.asyncStub = asyncStub == null ? null : this.grpcInterceptors.install(asyncStub);
     this.logger = LoggerFactory.getLogger(DaprClientImpl.class);
   }
 
@@ -447,8 +572,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       SubscriptionListener<T> listener,
       TypeRef<T> type,
       DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
-    var interceptedStub = this.grpcInterceptors.intercept(this.asyncStub);
-    Subscription<T> subscription = new Subscription<>(interceptedStub, request, listener, response -> {
+    Subscription<T> subscription = new Subscription<>(this.asyncStub, request, listener, response -> {
       if (response.getEventMessage() == null) {
         return null;
       }
@@ -519,16 +643,42 @@ public class DaprClientImpl extends AbstractDaprClient {
       } else {
         headers.put(io.dapr.client.domain.Metadata.CONTENT_TYPE, objectSerializer.getContentType());
       }
-      Mono<DaprHttp.Response> response = Mono.deferContextual(
-          context -> this.httpClient.invokeApi(httpMethod, pathSegments.toArray(new String[0]),
-              httpExtension.getQueryParams(), serializedRequestBody, headers, context)
-      );
+      Mono<DaprHttp.Response> response = invokeHttpApi(httpMethod, pathSegments.toArray(new String[0]),
+          httpExtension.getQueryParams(), serializedRequestBody, headers);
       return response.flatMap(r -> getMonoForHttpResponse(type, r));
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
     }
   }
 
+  /**
+   * Invokes an HTTP API with the same timeout, retry, hedging and concurrency policies as the gRPC calls. The deadline
+   * applies to each attempt, like the gRPC deadline does. Only GET calls are hedged, and timeouts and 503 answers are
+   * only retried for idempotent methods.
+   */
+  private Mono<DaprHttp.Response> invokeHttpApi(
+      String method,
+      String[] pathSegments,
+      Map<String, List<String>> urlParameters,
+      byte[] content,
+      Map<String, String> headers) {
+    Mono<DaprHttp.Response> response = Mono.deferContextual(
+        context -> this.httpClient.invokeApi(method, pathSegments, urlParameters, content, headers, context));
+    Mono<DaprHttp.Response> attempt = timeoutPolicy.apply(response);
+    if (this.concurrencyLimiter != null) {
+      attempt = this.concurrencyLimiter.apply(pathSegments[1], attempt);
+    }
+    if (DaprHttp.HttpMethods.GET.name().equals(method)) {
+      // Latencies differ per target app, e.g. invoke/orders/GET, so each gets its own hedge delay. The method path is
+      // left out, as it may hold ids and would then never gather enough latencies.
+      attempt = hedge(String.join("/", pathSegments[1], pathSegments[2], method), attempt);
+    }
+
+    return retryPolicy.apply(attempt, IDEMPOTENT_HTTP_METHODS.contains(method))
+        .onErrorMap(TimeoutException.class,
+            e -> new DaprException("DEADLINE_EXCEEDED", "HTTP call to Dapr timed out", e));
+  }
+
   private <T> Mono<T> getMonoForHttpResponse(TypeRef<T> type, DaprHttp.Response r) {
     try {
       if (type == null) {
@@ -637,7 +787,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       return Mono.deferContextual(
           context ->
-              this.<DaprProtos.GetStateResponse>createMono(
+              this.<DaprProtos.GetStateResponse>createHedgedMono("GetState",
                   it -> intercept(context, asyncStub).getState(envelope, it)
               )
       ).map(
@@ -664,6 +814,8 @@ public class DaprClientImpl extends AbstractDaprClient {
       final List<String> keys = request.getKeys();
       final int parallelism = request.getParallelism();
       final Map<String, String> metadata = request.getMetadata();
+      final boolean lazyValues = request.isLazyValues();
+      final int deserializationParallelism = request.getDeserializationParallelism();
       if ((stateStoreName == null) || (stateStoreName.trim().isEmpty())) {
         throw new IllegalArgumentException("State store name cannot be null or empty.");
       }
@@ -674,6 +826,9 @@ public class DaprClientImpl extends AbstractDaprClient {
       if (parallelism < 0) {
         throw new IllegalArgumentException("Parallelism cannot be negative.");
       }
+      if (deserializationParallelism < 1) {
+        throw new IllegalArgumentException("Deserialization parallelism must be positive.");
+      }
       DaprProtos.GetBulkStateRequest.Builder builder = DaprProtos.GetBulkStateRequest.newBuilder()
           .setStoreName(stateStoreName)
           .addAllKeys(keys)
@@ -688,20 +843,29 @@ public class DaprClientImpl extends AbstractDaprClient {
           context -> this.<DaprProtos.GetBulkStateResponse>createMono(it -> intercept(context, asyncStub)
               .getBulkState(envelope, it)
           )
-      ).map(
-          it ->
-              it
-                  .getItemsList()
-                  .stream()
-                  .map(b -> {
-                    try {
-                      return buildStateKeyValue(b, type);
-                    } catch (Exception e) {
-                      throw DaprException.propagate(e);
-                    }
-                  })
-                  .collect(Collectors.toList())
-      );
+      ).flatMap(it -> {
+        if (lazyValues || deserializationParallelism == 1 || it.getItemsCount() <= 1) {
+          return Mono.just(it
+              .getItemsList()
+              .stream()
+              .map(b -> buildStateKeyValue(b, type, lazyValues))
+              .collect(Collectors.toList()));
+        }
+
+        // One contiguous chunk per worker, so the scheduler hop is paid per chunk rather than per value, then the
+        // chunks are concatenated back in the order of the response.
+        List<DaprProtos.BulkStateItem> items = it.getItemsList();
+        int chunks = Math.min(deserializationParallelism, items.size());
+        return Flux.range(0, chunks)
+            .flatMapSequential(chunk -> Mono.fromCallable(() -> items
+                .subList(chunk * items.size() / chunks, (chunk + 1) * items.size() / chunks)
+                .stream()
+                .map(b -> buildStateKeyValue(b, type, false))
+                .collect(Collectors.toList()))
+                .subscribeOn(Schedulers.parallel()), chunks)
+            .flatMapIterable(Function.identity())
+            .collectList();
+      });
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
     }
@@ -709,7 +873,8 @@ public class DaprClientImpl extends AbstractDaprClient {
 
   private <T> State<T> buildStateKeyValue(
       DaprProtos.BulkStateItem item,
-      TypeRef<T> type) throws IOException {
+      TypeRef<T> type,
+      boolean lazyValue) {
     String key = item.getKey();
     String error = item.getError();
     if (!Strings.isNullOrEmpty(error)) {
@@ -721,14 +886,15 @@ public class DaprClientImpl extends AbstractDaprClient {
       etag = null;
     }
 
-    T value = null;
-    if (type != null) {
-      ByteString payload = item.getData();
-      byte[] data = payload == null ? null : payload.toByteArray();
-      value = stateSerializer.deserialize(data, type);
+    if (lazyValue) {
+      return new LazyState<>(key, () -> deserializeState(item.getData(), type), etag, item.getMetadataMap(), null);
     }
 
-    return new State<>(key, value, etag, item.getMetadataMap(), null);
+    try {
+      return new State<>(key, deserializeState(item.getData(), type), etag, item.getMetadataMap(), null);
+    } catch (IOException e) {
+      throw DaprException.propagate(e);
+    }
   }
 
   private <T> State<T> buildStateKeyValue(
@@ -750,6 +916,15 @@ public class DaprClientImpl extends AbstractDaprClient {
     return new State<>(requestedKey, value, etag, response.getMetadataMap(), stateOptions);
   }
 
+  private <T> T deserializeState(ByteString payload, TypeRef<T> type) throws IOException {
+    if (type == null) {
+      return null;
+    }
+
+    byte[] data = payload == null ? null : payload.toByteArray();
+    return stateSerializer.deserialize(data, type);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -923,9 +1098,16 @@ public class DaprClientImpl extends AbstractDaprClient {
     }
     DaprProtos.GetSecretRequest req = requestBuilder.build();
 
-    return Mono.deferContextual(
-        context -> this.<DaprProtos.GetSecretResponse>createMono(it -> intercept(context, asyncStub).getSecret(req, it))
+    Mono<Map<String, String>> call = Mono.deferContextual(
+        context -> this.<DaprProtos.GetSecretResponse>createHedgedMono("GetSecret",
+            it -> intercept(context, asyncStub).getSecret(req, it))
     ).map(DaprProtos.GetSecretResponse::getDataMap);
+
+    if (this.secretCache != null && this.secretCache.isCached(secretStoreName)) {
+      return this.secretCache.getSecret(secretStoreName, key, metadata, call);
+    }
+
+    return call;
   }
 
   /**
@@ -948,7 +1130,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       DaprProtos.GetBulkSecretRequest envelope = builder.build();
 
-      return Mono.deferContextual(
+      Mono<Map<String, Map<String, String>>> call = Mono.deferContextual(
           context ->
               this.<DaprProtos.GetBulkSecretResponse>createMono(
                   it -> intercept(context, asyncStub).getBulkSecret(envelope, it)
@@ -963,6 +1145,12 @@ public class DaprClientImpl extends AbstractDaprClient {
             .stream()
             .collect(Collectors.toMap(Map.Entry::getKey, s -> s.getValue().getSecretsMap()));
       });
+
+      if (this.secretCache != null && this.secretCache.isCached(storeName)) {
+        return this.secretCache.getBulkSecret(storeName, metadata, call);
+      }
+
+      return call;
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
     }
@@ -1065,50 +1253,15 @@ public class DaprClientImpl extends AbstractDaprClient {
   @Override
   public <T> Mono<QueryStateResponse<T>> queryState(QueryStateRequest request, TypeRef<T> type) {
     try {
-      if (request == null) {
-        throw new IllegalArgumentException("Query state request cannot be null.");
-      }
-      final String storeName = request.getStoreName();
+      DaprProtos.QueryStateRequest envelope = buildQueryStateEnvelope(request);
       final Map<String, String> metadata = request.getMetadata();
-      if ((storeName == null) || (storeName.trim().isEmpty())) {
-        throw new IllegalArgumentException("State store name cannot be null or empty.");
-      }
-
-      String queryString;
-      if (request.getQuery() != null) {
-        queryString = JSON_REQUEST_MAPPER.writeValueAsString(request.getQuery());
-      } else if (request.getQueryString() != null) {
-        queryString = request.getQueryString();
-      } else {
-        throw new IllegalArgumentException("Both query and queryString fields are not set.");
-      }
 
-      DaprProtos.QueryStateRequest.Builder builder = DaprProtos.QueryStateRequest.newBuilder()
-          .setStoreName(storeName)
-          .setQuery(queryString);
-      if (metadata != null) {
-        builder.putAllMetadata(metadata);
-      }
-
-      DaprProtos.QueryStateRequest envelope = builder.build();
-
-      return Mono.deferContextual(
-          context -> this.<DaprProtos.QueryStateResponse>createMono(
-              it -> intercept(context, asyncStub).queryStateAlpha1(envelope, it)
-          )
-      ).map(
+      return queryStatePage(envelope).map(
           it -> {
-            Map<String, String> resultMeta = it.getMetadataMap();
             String token = it.getToken();
             List<QueryStateItem<T>> res = it.getResultsList()
                 .stream()
-                .map(v -> {
-                  try {
-                    return buildQueryStateKeyValue(v, type);
-                  } catch (Exception e) {
-                    throw DaprException.propagate(e);
-                  }
-                })
+                .map(v -> buildQueryStateKeyValue(v, type, request.isLazyValues()))
                 .collect(Collectors.toList());
             return new QueryStateResponse<>(res, token).setMetadata(metadata);
           });
@@ -1117,26 +1270,102 @@ public class DaprClientImpl extends AbstractDaprClient {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<QueryStateItem<T>> queryStateAll(QueryStateRequest request, TypeRef<T> type) {
+    try {
+      DaprProtos.QueryStateRequest envelope = buildQueryStateEnvelope(request);
+
+      return queryStatePage(envelope)
+          .expand(page -> page.getToken().isEmpty() || page.getResultsCount() == 0
+              ? Mono.empty()
+              : Mono.defer(() -> queryStatePage(withPageToken(envelope, page.getToken()))))
+          // A page is requested once the items of the previous one are consumed. Expanding a page already fetches
+          // the next one, so I/O overlaps with consumption while at most one page is held ahead.
+          .concatMap(page -> Flux.fromIterable(page.getResultsList()), 0)
+          .map(item -> buildQueryStateKeyValue(item, type, request.isLazyValues()));
+    } catch (Exception ex) {
+      return DaprException.wrapFlux(ex);
+    }
+  }
+
+  private DaprProtos.QueryStateRequest buildQueryStateEnvelope(QueryStateRequest request) throws IOException {
+    if (request == null) {
+      throw new IllegalArgumentException("Query state request cannot be null.");
+    }
+    final String storeName = request.getStoreName();
+    final Map<String, String> metadata = request.getMetadata();
+    if ((storeName == null) || (storeName.trim().isEmpty())) {
+      throw new IllegalArgumentException("State store name cannot be null or empty.");
+    }
+
+    String queryString;
+    if (request.getQuery() != null) {
+      queryString = JSON_REQUEST_MAPPER.writeValueAsString(request.getQuery());
+    } else if (request.getQueryString() != null) {
+      queryString = request.getQueryString();
+    } else {
+      throw new IllegalArgumentException("Both query and queryString fields are not set.");
+    }
+
+    DaprProtos.QueryStateRequest.Builder builder = DaprProtos.QueryStateRequest.newBuilder()
+        .setStoreName(storeName)
+        .setQuery(queryString);
+    if (metadata != null) {
+      builder.putAllMetadata(metadata);
+    }
+
+    return builder.build();
+  }
+
+  private Mono<DaprProtos.QueryStateResponse> queryStatePage(DaprProtos.QueryStateRequest envelope) {
+    return Mono.deferContextual(
+        context -> this.<DaprProtos.QueryStateResponse>createMono(
+            it -> intercept(context, asyncStub).queryStateAlpha1(envelope, it)
+        )
+    );
+  }
+
+  /**
+   * Copies a query request, continuing from the page identified by the token.
+   */
+  private static DaprProtos.QueryStateRequest withPageToken(DaprProtos.QueryStateRequest envelope, String token) {
+    try {
+      ObjectNode query = (ObjectNode) JSON_REQUEST_MAPPER.readTree(envelope.getQuery());
+      JsonNode page = query.get("page");
+      ObjectNode pageNode = page instanceof ObjectNode ? (ObjectNode) page : query.putObject("page");
+      pageNode.put("token", token);
+      return envelope.toBuilder().setQuery(JSON_REQUEST_MAPPER.writeValueAsString(query)).build();
+    } catch (IOException e) {
+      throw DaprException.propagate(e);
+    }
+  }
+
   private <T> QueryStateItem<T> buildQueryStateKeyValue(
       DaprProtos.QueryStateItem item,
-      TypeRef<T> type) throws IOException {
+      TypeRef<T> type,
+      boolean lazyValue) {
     String key = item.getKey();
     String error = item.getError();
     if (!Strings.isNullOrEmpty(error)) {
       return new QueryStateItem<>(key, null, error);
     }
-    ByteString payload = item.getData();
-    byte[] data = payload == null ? null : payload.toByteArray();
-    T value = null;
-    if (type != null) {
-      value = stateSerializer.deserialize(data, type);
-    }
 
     String etag = item.getEtag();
     if (etag.equals("")) {
       etag = null;
     }
-    return new QueryStateItem<>(key, value, etag);
+    if (lazyValue) {
+      return new LazyQueryStateItem<>(key, () -> deserializeState(item.getData(), type), etag);
+    }
+
+    try {
+      return new QueryStateItem<>(key, deserializeState(item.getData(), type), etag);
+    } catch (IOException e) {
+      throw DaprException.propagate(e);
+    }
   }
 
   /**
@@ -1148,6 +1377,9 @@ public class DaprClientImpl extends AbstractDaprClient {
   @Override
   public void close() throws Exception {
     DaprException.wrap(() -> {
+      if (secretCache != null) {
+        secretCache.clear();
+      }
       if (channel != null) {
         channel.close();
       }
@@ -1200,7 +1432,7 @@ public class DaprClientImpl extends AbstractDaprClient {
   private Mono<Map<String, ConfigurationItem>> getConfiguration(DaprProtos.GetConfigurationRequest envelope) {
     return Mono.deferContextual(
         context ->
-            this.<DaprProtos.GetConfigurationResponse>createMono(
+            this.<DaprProtos.GetConfigurationResponse>createHedgedMono("GetConfiguration",
                 it -> intercept(context, asyncStub).getConfiguration(envelope, it)
             )
     ).map(
@@ -1306,27 +1538,27 @@ public class DaprClientImpl extends AbstractDaprClient {
   }
 
   /**
-   * Populates GRPC client with interceptors for telemetry.
+   * Populates GRPC client with the per-call options for telemetry.
    *
    * @param context Reactor's context.
-   * @param client  GRPC client for Dapr.
-   * @return Client after adding interceptors.
+   * @param client  GRPC client for Dapr, with the Dapr interceptor installed.
+   * @return Client for a single call.
    */
   private DaprGrpc.DaprStub intercept(ContextView context, DaprGrpc.DaprStub client) {
-    return this.grpcInterceptors.intercept(client, context);
+    return this.grpcInterceptors.withCallOptions(client, null, context, null);
   }
 
   /**
-   * Populates GRPC client with interceptors for telemetry.
+   * Populates GRPC client with the per-call options for telemetry.
    *
    * @param context Reactor's context.
-   * @param client  GRPC client for Dapr.
+   * @param client  GRPC client for Dapr, with the Dapr interceptor installed.
    * @param metadataConsumer Consumer of gRPC metadata.
-   * @return Client after adding interceptors.
+   * @return Client for a single call.
    */
   private DaprGrpc.DaprStub intercept(
       ContextView context, DaprGrpc.DaprStub client, Consumer<Metadata> metadataConsumer) {
-    return this.grpcInterceptors.intercept(client, context, metadataConsumer);
+    return this.grpcInterceptors.withCallOptions(client, null, context, metadataConsumer);
   }
 
   private <T> Mono<T> createMono(Consumer<StreamObserver<T>> consumer) {
@@ -1339,6 +1571,19 @@ public class DaprClientImpl extends AbstractDaprClient {
             createStreamObserver(sink, metadata))).run()));
   }
 
+  /**
+   * Creates a Mono for an idempotent read, which the hedging policy may call more than once.
+   */
+  private <T> Mono<T> createHedgedMono(String api, Consumer<StreamObserver<T>> consumer) {
+    return retryPolicy.apply(hedge(api,
+        Mono.create(sink -> DaprException.wrap(() -> consumer.accept(
+            createStreamObserver(sink, null))).run())));
+  }
+
+  private <T> Mono<T> hedge(String api, Mono<T> call) {
+    return this.hedgingPolicy == null ? call : this.hedgingPolicy.apply(api, call);
+  }
+
   private <T> Flux<T> createFlux(Consumer<StreamObserver<T>> consumer) {
     return this.createFlux(null, consumer);
   }
@@ -1349,9 +1594,18 @@ public class DaprClientImpl extends AbstractDaprClient {
   }
 
   private <T> StreamObserver<T> createStreamObserver(MonoSink<T> sink, Metadata grpcMetadata) {
-    return new StreamObserver<T>() {
+    return new ClientResponseObserver<Object, T>() {
+      private volatile boolean hasValue;
+
+      @Override
+      public void beforeStart(ClientCallStreamObserver<Object> requestStream) {
+        // Cancels the gRPC call when the Mono is cancelled, e.g. by a hedged call answering first.
+        sink.onCancel(() -> requestStream.cancel("Cancelled by the caller", null));
+      }
+
       @Override
       public void onNext(T value) {
+        hasValue = true;
         sink.success(value);
       }
 
@@ -1362,7 +1616,10 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       @Override
       public void onCompleted() {
-        sink.success();
+        // An empty success would drop a value not yet requested by the subscriber.
+        if (!hasValue) {
+          sink.success();
+        }
       }
     };
   }
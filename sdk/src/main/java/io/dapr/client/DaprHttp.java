@@ -15,6 +15,7 @@ package io.dapr.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dapr.client.domain.Metadata;
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.exceptions.DaprError;
 import io.dapr.exceptions.DaprException;
 import io.dapr.internal.exceptions.DaprHttpException;
@@ -64,6 +65,16 @@ public class DaprHttp implements AutoCloseable {
    */
   private static final String DEFAULT_HTTP_SCHEME = "http";
 
+  /**
+   * Transport tag for metrics.
+   */
+  private static final String TRANSPORT = "http";
+
+  /**
+   * Status recorded when the caller cancels a request.
+   */
+  private static final String CANCELLED = "CANCELLED";
+
   /**
    * Context entries allowed to be in HTTP Headers.
    */
@@ -155,6 +166,11 @@ public class DaprHttp implements AutoCloseable {
    */
   private final HttpClient httpClient;
 
+  /**
+   * Metrics recorder for all API calls.
+   */
+  private final DaprMetrics metrics;
+
   /**
    * Creates a new instance of {@link DaprHttp}.
    *
@@ -164,10 +180,26 @@ public class DaprHttp implements AutoCloseable {
    * @param httpClient RestClient used for all API calls in this new instance.
    */
   DaprHttp(String hostname, int port, String daprApiToken, Duration readTimeout, HttpClient httpClient) {
-    this.uri = URI.create(DEFAULT_HTTP_SCHEME + "://" + hostname + ":" + port);
-    this.daprApiToken = daprApiToken;
-    this.readTimeout = readTimeout;
-    this.httpClient = httpClient;
+    this(hostname, port, daprApiToken, readTimeout, httpClient, DaprMetrics.NOOP);
+  }
+
+  /**
+   * Creates a new instance of {@link DaprHttp}.
+   *
+   * @param hostname   Hostname for calling Dapr. (e.g. "127.0.0.1")
+   * @param port       Port for calling Dapr. (e.g. 3500)
+   * @param readTimeout HTTP request read timeout
+   * @param httpClient RestClient used for all API calls in this new instance.
+   * @param metrics    Metrics recorder for all API calls.
+   */
+  DaprHttp(
+      String hostname,
+      int port,
+      String daprApiToken,
+      Duration readTimeout,
+      HttpClient httpClient,
+      DaprMetrics metrics) {
+    this(DEFAULT_HTTP_SCHEME + "://" + hostname + ":" + port, daprApiToken, readTimeout, httpClient, metrics);
   }
 
   /**
@@ -178,10 +210,23 @@ public class DaprHttp implements AutoCloseable {
    * @param httpClient RestClient used for all API calls in this new instance.
    */
   DaprHttp(String uri, String daprApiToken, Duration readTimeout, HttpClient httpClient) {
+    this(uri, daprApiToken, readTimeout, httpClient, DaprMetrics.NOOP);
+  }
+
+  /**
+   * Creates a new instance of {@link DaprHttp}.
+   *
+   * @param uri        Endpoint for calling Dapr.
+   * @param readTimeout HTTP request read timeout
+   * @param httpClient RestClient used for all API calls in this new instance.
+   * @param metrics    Metrics recorder for all API calls.
+   */
+  DaprHttp(String uri, String daprApiToken, Duration readTimeout, HttpClient httpClient, DaprMetrics metrics) {
     this.uri = URI.create(uri);
     this.daprApiToken = daprApiToken;
     this.readTimeout = readTimeout;
     this.httpClient = httpClient;
+    this.metrics = metrics == null ? DaprMetrics.NOOP : metrics;
   }
 
   /**
@@ -247,8 +292,24 @@ public class DaprHttp implements AutoCloseable {
       Map<String, String> headers,
       ContextView context) {
     // fromCallable() is needed so the invocation does not happen early, causing a hot mono.
-    return Mono.fromCallable(() -> doInvokeApi(method, headers, pathSegments, urlParameters, content, context))
-        .flatMap(Mono::fromFuture);
+    Mono<Response> response =
+        Mono.fromCallable(() -> doInvokeApi(method, headers, pathSegments, urlParameters, content, context))
+            .flatMap(Mono::fromFuture);
+    if (this.metrics == DaprMetrics.NOOP) {
+      return response;
+    }
+
+    return Mono.defer(() -> {
+      DaprMetrics.Call call = this.metrics.start(TRANSPORT, getApiName(pathSegments));
+      call.requestSize(content == null ? 0 : content.length);
+      return response
+          .doOnNext(r -> {
+            call.responseSize(r.getBody().length);
+            call.end(String.valueOf(r.getStatusCode()));
+          })
+          .doOnError(e -> call.end(getStatus(e)))
+          .doOnCancel(() -> call.end(CANCELLED));
+    });
   }
 
   /**
@@ -315,6 +376,25 @@ public class DaprHttp implements AutoCloseable {
         .thenApply(this::createResponse);
   }
 
+  /**
+   * Low cardinality name of the API behind a path, e.g. "invoke" for "/v1.0/invoke/app/method/m".
+   */
+  private static String getApiName(String[] pathSegments) {
+    if (pathSegments.length > 1 && pathSegments[0].startsWith("v1.0")) {
+      return pathSegments[1];
+    }
+
+    return pathSegments.length > 0 ? pathSegments[0] : "";
+  }
+
+  private static String getStatus(Throwable throwable) {
+    if (throwable instanceof DaprException && ((DaprException) throwable).getHttpStatusCode() > 0) {
+      return String.valueOf(((DaprException) throwable).getHttpStatusCode());
+    }
+
+    return throwable.getClass().getSimpleName();
+  }
+
   private static String getContentType(Map<String, String> headers) {
     String result = headers != null ? headers.get(Metadata.CONTENT_TYPE) : null;
 
@@ -13,6 +13,7 @@ limitations under the License.
 
 package io.dapr.client;
 
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.config.Properties;
 
 import java.net.http.HttpClient;
@@ -39,6 +40,21 @@ public class DaprHttpBuilder {
    */
   private static final Object LOCK = new Object();
 
+  /**
+   * Metrics recorder for the calls made by the client.
+   */
+  private DaprMetrics metrics = DaprMetrics.NOOP;
+
+  /**
+   * Sets the metrics recorder for the calls made by the client.
+   * @param metrics Metrics recorder.
+   * @return This instance.
+   */
+  public DaprHttpBuilder withMetrics(DaprMetrics metrics) {
+    this.metrics = metrics == null ? DaprMetrics.NOOP : metrics;
+    return this;
+  }
+
   /**
    * Build an instance of the Http client based on the provided setup.
    * @param properties to configure the DaprHttp client
@@ -73,12 +89,12 @@ public class DaprHttpBuilder {
     Duration readTimeout = Duration.ofSeconds(properties.getValue(HTTP_CLIENT_READ_TIMEOUT_SECONDS));
 
     if ((endpoint != null) && !endpoint.isEmpty()) {
-      return new DaprHttp(endpoint, apiToken, readTimeout, HTTP_CLIENT);
+      return new DaprHttp(endpoint, apiToken, readTimeout, HTTP_CLIENT, metrics);
     }
 
     String sidecarIp = properties.getValue(SIDECAR_IP);
     int port = properties.getValue(HTTP_PORT);
 
-    return new DaprHttp(sidecarIp, port, apiToken, readTimeout, HTTP_CLIENT);
+    return new DaprHttp(sidecarIp, port, apiToken, readTimeout, HTTP_CLIENT, metrics);
   }
 }
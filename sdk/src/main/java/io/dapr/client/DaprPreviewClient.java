@@ -18,12 +18,15 @@ import io.dapr.client.domain.BulkPublishRequest;
 import io.dapr.client.domain.BulkPublishResponse;
 import io.dapr.client.domain.BulkPublishResponseFailedEntry;
 import io.dapr.client.domain.LockRequest;
+import io.dapr.client.domain.QueryStateItem;
 import io.dapr.client.domain.QueryStateRequest;
 import io.dapr.client.domain.QueryStateResponse;
+import io.dapr.client.domain.SubscribeConfigurationRequest;
 import io.dapr.client.domain.UnlockRequest;
 import io.dapr.client.domain.UnlockResponseStatus;
 import io.dapr.client.domain.query.Query;
 import io.dapr.utils.TypeRef;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -152,6 +155,28 @@ public interface DaprPreviewClient extends AutoCloseable {
    */
   <T> Mono<QueryStateResponse<T>> queryState(QueryStateRequest request, TypeRef<T> type);
 
+  /**
+   * Query for all the states matching a query request, following the pagination token from page to page.
+   * Pages are fetched as the items are consumed, one page ahead, so the results do not need to fit in memory.
+   *
+   * @param request Query request object.
+   * @param clazz The type needed as return for the call.
+   * @param <T> The Type of the return, use byte[] to skip serialization.
+   * @return A Flux of the items of every page.
+   */
+  <T> Flux<QueryStateItem<T>> queryStateAll(QueryStateRequest request, Class<T> clazz);
+
+  /**
+   * Query for all the states matching a query request, following the pagination token from page to page.
+   * Pages are fetched as the items are consumed, one page ahead, so the results do not need to fit in memory.
+   *
+   * @param request Query request object.
+   * @param type The type needed as return for the call.
+   * @param <T> The Type of the return, use byte[] to skip serialization.
+   * @return A Flux of the items of every page.
+   */
+  <T> Flux<QueryStateItem<T>> queryStateAll(QueryStateRequest request, TypeRef<T> type);
+
   /**
    * Publish multiple events to Dapr in a single request.
    *
@@ -268,4 +293,12 @@ public interface DaprPreviewClient extends AutoCloseable {
    */
   <T> Subscription subscribeToEvents(
       String pubsubName, String topic, SubscriptionListener<T> listener, TypeRef<T> type);
+
+  /**
+   * Keeps a local view of configuration items: loads them once, then applies every update of a configuration
+   * subscription, resubscribing with backoff if the subscription fails.
+   * @param request Request for the configuration items to watch.
+   * @return A started view of the configuration items, to be closed once no longer needed.
+   */
+  ConfigurationView watchConfiguration(SubscribeConfigurationRequest request);
 }
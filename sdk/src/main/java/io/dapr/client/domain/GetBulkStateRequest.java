@@ -31,6 +31,10 @@ public class GetBulkStateRequest {
 
   private int parallelism = 1;
 
+  private boolean lazyValues;
+
+  private int deserializationParallelism = 1;
+
   /**
    * Constructor for GetBulkStateRequest.
    *
@@ -64,6 +68,37 @@ public class GetBulkStateRequest {
     return this;
   }
 
+  public boolean isLazyValues() {
+    return lazyValues;
+  }
+
+  /**
+   * Returns {@link LazyState} items, whose values are only deserialized when read.
+   *
+   * @param lazyValues Whether values are deserialized on first access.
+   * @return This instance.
+   */
+  public GetBulkStateRequest setLazyValues(boolean lazyValues) {
+    this.lazyValues = lazyValues;
+    return this;
+  }
+
+  public int getDeserializationParallelism() {
+    return deserializationParallelism;
+  }
+
+  /**
+   * Deserializes the values of the response on up to this number of threads of the parallel scheduler.
+   * Worth it for wide responses only, ignored with lazy values.
+   *
+   * @param deserializationParallelism Maximum number of values deserialized concurrently.
+   * @return This instance.
+   */
+  public GetBulkStateRequest setDeserializationParallelism(int deserializationParallelism) {
+    this.deserializationParallelism = deserializationParallelism;
+    return this;
+  }
+
   public Map<String, String> getMetadata() {
     return metadata;
   }
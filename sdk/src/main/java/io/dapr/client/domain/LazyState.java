@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * State whose value is deserialized on the first call to {@link #getValue()}, then memoized.
+ * Reading only the keys, etags or metadata of a bulk response never pays for deserializing the values.
+ *
+ * @param <T> The type of the value of the state.
+ */
+public class LazyState<T> extends State<T> {
+
+  private final LazyValue<T> value;
+
+  /**
+   * Create an immutable state with a lazily deserialized value.
+   *
+   * @param key      - The key of the state.
+   * @param loader   - Deserializes the value of the state, called at most once.
+   * @param etag     - The etag of the state - for some state stores (like redis) only numbers are supported.
+   * @param metadata - The metadata of the state.
+   * @param options  - REQUIRED when saving a state.
+   */
+  public LazyState(String key, Callable<T> loader, String etag, Map<String, String> metadata, StateOptions options) {
+    super(key, null, etag, metadata, options);
+    this.value = new LazyValue<>(loader);
+  }
+
+  /**
+   * Retrieves the Value of the state, deserializing it on the first call.
+   *
+   * @return The value of the state
+   */
+  @Override
+  public T getValue() {
+    return value.get();
+  }
+
+  /**
+   * Compares the deserialized value, like any other state.
+   */
+  @Override
+  public boolean equals(Object o) {
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "StateKeyValue{"
+        + "key='" + getKey() + "'"
+        + ", value=" + value
+        + ", etag='" + getEtag() + "'"
+        + ", metadata={'" + (getMetadata() != null ? getMetadata().toString() : null) + "'}"
+        + ", error='" + getError() + "'"
+        + ", options={'" + (getOptions() != null ? getOptions().toString() : null) + "'}"
+        + "}";
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import io.dapr.exceptions.DaprException;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Value computed on first access and memoized, so a state value nobody reads is never deserialized.
+ *
+ * @param <T> The type of the value.
+ */
+final class LazyValue<T> {
+
+  private Callable<T> loader;
+
+  private volatile T value;
+
+  private volatile boolean loaded;
+
+  LazyValue(Callable<T> loader) {
+    this.loader = loader;
+  }
+
+  T get() {
+    if (!loaded) {
+      synchronized (this) {
+        if (!loaded) {
+          try {
+            value = loader.call();
+          } catch (Exception e) {
+            throw DaprException.propagate(e);
+          }
+          // The loader keeps the raw payload alive, which is not needed anymore.
+          loader = null;
+          loaded = true;
+        }
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Describes the value without deserializing it.
+   */
+  @Override
+  public String toString() {
+    return loaded ? String.valueOf(value) : "<not deserialized>";
+  }
+}
@@ -159,7 +159,7 @@ public class QueryStateItem<T> {
   public String toString() {
     return "QueryStateItem{"
         + "key='" + key + "'"
-        + ", value=" + value
+        + ", value=" + getValue()
         + ", etag='" + etag + "'"
         + ", error='" + error + "'"
         + "}";
@@ -31,6 +31,9 @@ public class QueryStateRequest {
   @JsonIgnore
   private Map<String, String> metadata;
 
+  @JsonIgnore
+  private boolean lazyValues;
+
   public QueryStateRequest(String storeName) {
     this.storeName = storeName;
   }
@@ -89,4 +92,19 @@ public class QueryStateRequest {
     this.metadata = metadata == null ? null : Collections.unmodifiableMap(metadata);
     return this;
   }
+
+  public boolean isLazyValues() {
+    return lazyValues;
+  }
+
+  /**
+   * Returns {@link LazyQueryStateItem} results, whose values are only deserialized when read.
+   *
+   * @param lazyValues Whether values are deserialized on first access.
+   * @return This request object for fluent API.
+   */
+  public QueryStateRequest setLazyValues(boolean lazyValues) {
+    this.lazyValues = lazyValues;
+    return this;
+  }
 }
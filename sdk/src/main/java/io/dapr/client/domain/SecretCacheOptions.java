@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.domain;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Options of the client-side cache in front of the secrets API. Secrets are only cached for stores with a TTL.
+ */
+public final class SecretCacheOptions {
+
+  private Duration ttl;
+
+  private final Map<String, Duration> storeTtls = new HashMap<>();
+
+  private Double refreshAheadRatio;
+
+  private Integer maxEntries;
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public Map<String, Duration> getStoreTtls() {
+    return Collections.unmodifiableMap(storeTtls);
+  }
+
+  /**
+   * Caches the secrets of every store for this long.
+   *
+   * @param ttl Time a cached secret is served for.
+   * @return This instance.
+   */
+  public SecretCacheOptions setTtl(Duration ttl) {
+    this.ttl = ttl;
+    return this;
+  }
+
+  /**
+   * Caches the secrets of one store for this long, overriding the TTL of every store. A zero TTL disables the cache
+   * for this store.
+   *
+   * @param storeName Name of the secret store.
+   * @param ttl Time a cached secret of this store is served for.
+   * @return This instance.
+   */
+  public SecretCacheOptions setTtl(String storeName, Duration ttl) {
+    if (ttl == null) {
+      this.storeTtls.remove(storeName);
+    } else {
+      this.storeTtls.put(storeName, ttl);
+    }
+    return this;
+  }
+
+  public Double getRefreshAheadRatio() {
+    return refreshAheadRatio;
+  }
+
+  /**
+   * Refreshes a cached secret in the background once this fraction of its TTL has elapsed, so readers keep being
+   * served from memory. Defaults to 0.8.
+   *
+   * @param refreshAheadRatio Fraction of the TTL, between 0 and 1.
+   * @return This instance.
+   */
+  public SecretCacheOptions setRefreshAheadRatio(Double refreshAheadRatio) {
+    this.refreshAheadRatio = refreshAheadRatio;
+    return this;
+  }
+
+  public Integer getMaxEntries() {
+    return maxEntries;
+  }
+
+  /**
+   * Limits the number of cached secrets and bulk secret responses. Defaults to 1024.
+   *
+   * @param maxEntries Maximum number of entries.
+   * @return This instance.
+   */
+  public SecretCacheOptions setMaxEntries(Integer maxEntries) {
+    this.maxEntries = maxEntries;
+    return this;
+  }
+}
@@ -262,7 +262,7 @@ public class State<T> {
   public String toString() {
     return "StateKeyValue{"
         + "key='" + key + "'"
-        + ", value=" + value
+        + ", value=" + getValue()
         + ", etag='" + etag + "'"
         + ", metadata={'" + (metadata != null ? metadata.toString() : null) + "'}"
         + ", error='" + error + "'"
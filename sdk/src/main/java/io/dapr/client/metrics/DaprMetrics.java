@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client.metrics;
+
+/**
+ * Service provider interface to record metrics of the calls made by the SDK.
+ * All tags are low cardinality: transport ({@code grpc}, {@code http} or {@code actor}), API (e.g. {@code SaveState}),
+ * component (state store, pubsub, actor type) and status.
+ * Every method has a no-op default, so implementations only override what they export.
+ */
+public interface DaprMetrics {
+
+  /**
+   * Implementation that records nothing, used when no metrics are configured.
+   */
+  DaprMetrics NOOP = new DaprMetrics() {
+  };
+
+  /**
+   * Starts recording a call. The returned handle must be ended exactly once.
+   *
+   * @param transport Transport used for the call: grpc, http or actor.
+   * @param api Name of the API being called.
+   * @return Handle for the call in progress.
+   */
+  default Call start(String transport, String api) {
+    return Call.NOOP;
+  }
+
+  /**
+   * Records that a failed call is going to be retried.
+   *
+   * @param status Status of the failed attempt.
+   */
+  default void retry(String status) {
+  }
+
+  /**
+   * Records a new concurrency limit of an API, set by the adaptive concurrency limiter.
+   *
+   * @param api Name of the API.
+   * @param limit Maximum number of concurrent calls.
+   */
+  default void concurrencyLimit(String api, int limit) {
+  }
+
+  /**
+   * Records the number of work items of a kind being executed, e.g. workflow activities. Called every time it
+   * changes, so implementations can publish it as a gauge.
+   *
+   * @param transport Transport the work items were received from, e.g. workflow.
+   * @param api Kind of work item, e.g. orchestration or activity.
+   * @param count Number of work items in flight.
+   */
+  default void inFlight(String transport, String api, int count) {
+  }
+
+  /**
+   * Call in progress.
+   */
+  interface Call {
+
+    /**
+     * Handle that records nothing.
+     */
+    Call NOOP = new Call() {
+    };
+
+    /**
+     * Sets the component targeted by the call, such as the state store or the pubsub.
+     *
+     * @param name Component name.
+     */
+    default void component(String name) {
+    }
+
+    /**
+     * Records the size of the request payload.
+     *
+     * @param bytes Size in bytes.
+     */
+    default void requestSize(long bytes) {
+    }
+
+    /**
+     * Records the size of the response payload.
+     *
+     * @param bytes Size in bytes.
+     */
+    default void responseSize(long bytes) {
+    }
+
+    /**
+     * Ends the call.
+     *
+     * @param status Status of the call, such as the gRPC status code or the HTTP status code.
+     */
+    default void end(String status) {
+    }
+  }
+}
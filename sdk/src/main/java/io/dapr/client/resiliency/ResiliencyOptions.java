@@ -14,6 +14,9 @@ limitations under the License.
 package io.dapr.client.resiliency;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Resiliency policy for SDK communication to Dapr API.
@@ -24,6 +27,28 @@ public final class ResiliencyOptions {
 
   private Integer maxRetries;
 
+  private Double retryBudgetRatio;
+
+  private Double circuitBreakerFailureRateThreshold;
+
+  private Integer circuitBreakerWindowSize;
+
+  private Duration circuitBreakerOpenDuration;
+
+  private Duration circuitBreakerSlowCallDuration;
+
+  private Integer maxConcurrentCalls;
+
+  private Integer maxConcurrencyLimit;
+
+  private final Map<String, Integer> maxConcurrencyLimits = new HashMap<>();
+
+  private Duration hedgeDelay;
+
+  private Double hedgeLatencyPercentile;
+
+  private Double hedgeBudgetRatio;
+
   public Duration getTimeout() {
     return timeout;
   }
@@ -41,4 +66,176 @@ public final class ResiliencyOptions {
     this.maxRetries = maxRetries;
     return this;
   }
+
+  public Double getRetryBudgetRatio() {
+    return retryBudgetRatio;
+  }
+
+  /**
+   * Limits retries to a ratio of the calls made, e.g. 0.2 for at most 20% extra calls. Unlimited by default.
+   *
+   * @param retryBudgetRatio Retries allowed per call.
+   * @return This instance.
+   */
+  public ResiliencyOptions setRetryBudgetRatio(Double retryBudgetRatio) {
+    this.retryBudgetRatio = retryBudgetRatio;
+    return this;
+  }
+
+  public Double getCircuitBreakerFailureRateThreshold() {
+    return circuitBreakerFailureRateThreshold;
+  }
+
+  /**
+   * Enables a circuit breaker per API, which fails fast once the failure rate reaches this threshold.
+   *
+   * @param circuitBreakerFailureRateThreshold Failure rate in percent, e.g. 50.
+   * @return This instance.
+   */
+  public ResiliencyOptions setCircuitBreakerFailureRateThreshold(Double circuitBreakerFailureRateThreshold) {
+    this.circuitBreakerFailureRateThreshold = circuitBreakerFailureRateThreshold;
+    return this;
+  }
+
+  public Integer getCircuitBreakerWindowSize() {
+    return circuitBreakerWindowSize;
+  }
+
+  /**
+   * Sets the number of calls the failure rate of the circuit breaker is computed over. Defaults to 20.
+   *
+   * @param circuitBreakerWindowSize Number of calls.
+   * @return This instance.
+   */
+  public ResiliencyOptions setCircuitBreakerWindowSize(Integer circuitBreakerWindowSize) {
+    this.circuitBreakerWindowSize = circuitBreakerWindowSize;
+    return this;
+  }
+
+  public Duration getCircuitBreakerOpenDuration() {
+    return circuitBreakerOpenDuration;
+  }
+
+  /**
+   * Sets how long an open circuit breaker fails fast before letting a probe call through. Defaults to 10 seconds.
+   *
+   * @param circuitBreakerOpenDuration Open duration.
+   * @return This instance.
+   */
+  public ResiliencyOptions setCircuitBreakerOpenDuration(Duration circuitBreakerOpenDuration) {
+    this.circuitBreakerOpenDuration = circuitBreakerOpenDuration;
+    return this;
+  }
+
+  public Duration getCircuitBreakerSlowCallDuration() {
+    return circuitBreakerSlowCallDuration;
+  }
+
+  /**
+   * Sets the duration from which a call counts as a failure for the circuit breaker. Not set by default.
+   *
+   * @param circuitBreakerSlowCallDuration Slow call duration.
+   * @return This instance.
+   */
+  public ResiliencyOptions setCircuitBreakerSlowCallDuration(Duration circuitBreakerSlowCallDuration) {
+    this.circuitBreakerSlowCallDuration = circuitBreakerSlowCallDuration;
+    return this;
+  }
+
+  public Integer getMaxConcurrentCalls() {
+    return maxConcurrentCalls;
+  }
+
+  /**
+   * Enables a bulkhead per API, which rejects calls beyond this number of concurrent calls.
+   *
+   * @param maxConcurrentCalls Maximum concurrent calls per API.
+   * @return This instance.
+   */
+  public ResiliencyOptions setMaxConcurrentCalls(Integer maxConcurrentCalls) {
+    this.maxConcurrentCalls = maxConcurrentCalls;
+    return this;
+  }
+
+  public Integer getMaxConcurrencyLimit() {
+    return maxConcurrencyLimit;
+  }
+
+  public Map<String, Integer> getMaxConcurrencyLimits() {
+    return Collections.unmodifiableMap(maxConcurrencyLimits);
+  }
+
+  /**
+   * Enables an adaptive concurrency limit per API, which grows while the sidecar keeps up and shrinks when it signals
+   * overload. Calls beyond the current limit are rejected.
+   *
+   * @param maxConcurrencyLimit Upper bound of the limit of each API.
+   * @return This instance.
+   */
+  public ResiliencyOptions setMaxConcurrencyLimit(Integer maxConcurrencyLimit) {
+    this.maxConcurrencyLimit = maxConcurrencyLimit;
+    return this;
+  }
+
+  /**
+   * Sets the upper bound of the adaptive concurrency limit of one API, e.g. {@code GetState} or {@code invoke}.
+   *
+   * @param api Name of the API.
+   * @param maxConcurrencyLimit Upper bound of the limit of this API.
+   * @return This instance.
+   */
+  public ResiliencyOptions setMaxConcurrencyLimit(String api, Integer maxConcurrencyLimit) {
+    if (maxConcurrencyLimit == null) {
+      this.maxConcurrencyLimits.remove(api);
+    } else {
+      this.maxConcurrencyLimits.put(api, maxConcurrencyLimit);
+    }
+    return this;
+  }
+
+  public Duration getHedgeDelay() {
+    return hedgeDelay;
+  }
+
+  /**
+   * Enables hedging of idempotent reads: a second identical call is fired if the first one has not answered after
+   * this delay. Also used as the delay until the latency percentile is known, if one is set.
+   *
+   * @param hedgeDelay Hedge delay.
+   * @return This instance.
+   */
+  public ResiliencyOptions setHedgeDelay(Duration hedgeDelay) {
+    this.hedgeDelay = hedgeDelay;
+    return this;
+  }
+
+  public Double getHedgeLatencyPercentile() {
+    return hedgeLatencyPercentile;
+  }
+
+  /**
+   * Enables hedging of idempotent reads with a delay learned per API, as this percentile of the recent latencies.
+   *
+   * @param hedgeLatencyPercentile Latency percentile, e.g. 95.
+   * @return This instance.
+   */
+  public ResiliencyOptions setHedgeLatencyPercentile(Double hedgeLatencyPercentile) {
+    this.hedgeLatencyPercentile = hedgeLatencyPercentile;
+    return this;
+  }
+
+  public Double getHedgeBudgetRatio() {
+    return hedgeBudgetRatio;
+  }
+
+  /**
+   * Limits hedged calls to a ratio of the calls made. Defaults to 0.1, at most 10% extra calls.
+   *
+   * @param hedgeBudgetRatio Hedged calls allowed per call.
+   * @return This instance.
+   */
+  public ResiliencyOptions setHedgeBudgetRatio(Double hedgeBudgetRatio) {
+    this.hedgeBudgetRatio = hedgeBudgetRatio;
+    return this;
+  }
 }
@@ -0,0 +1,335 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.cache;
+
+import io.dapr.client.domain.SecretCacheOptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side cache in front of the secrets API. A cached secret is served from memory until its TTL elapses, and is
+ * refreshed in the background a little before, so readers do not wait for the sidecar. Concurrent misses on the same
+ * secret share a single call. Values are kept as character arrays, which are zeroed when an entry is replaced,
+ * evicted or cleared; the strings handed to callers are fresh copies and never interned.
+ */
+public final class SecretCache {
+
+  /**
+   * Default fraction of the TTL after which a cached secret is refreshed in the background.
+   */
+  public static final double DEFAULT_REFRESH_AHEAD_RATIO = 0.8;
+
+  /**
+   * Default maximum number of cached entries.
+   */
+  public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+  private final Duration ttl;
+
+  private final Map<String, Duration> storeTtls;
+
+  private final double refreshAheadRatio;
+
+  private final int maxEntries;
+
+  private final LongSupplier clock;
+
+  private final ConcurrentMap<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<CacheKey, Mono<Map<String, Map<String, String>>>> loads = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a secret cache.
+   * @param ttl TTL of the secrets of every store (optional).
+   * @param storeTtls TTL per secret store, overriding the TTL of every store.
+   * @param refreshAheadRatio Fraction of the TTL after which a cached secret is refreshed in the background.
+   * @param maxEntries Maximum number of cached entries.
+   */
+  public SecretCache(Duration ttl, Map<String, Duration> storeTtls, double refreshAheadRatio, int maxEntries) {
+    this(ttl, storeTtls, refreshAheadRatio, maxEntries, System::nanoTime);
+  }
+
+  /**
+   * Instantiates a secret cache with the given clock.
+   * @param ttl TTL of the secrets of every store (optional).
+   * @param storeTtls TTL per secret store, overriding the TTL of every store.
+   * @param refreshAheadRatio Fraction of the TTL after which a cached secret is refreshed in the background.
+   * @param maxEntries Maximum number of cached entries.
+   * @param clock Current time in nanoseconds, like {@link System#nanoTime()}.
+   */
+  public SecretCache(
+      Duration ttl, Map<String, Duration> storeTtls, double refreshAheadRatio, int maxEntries, LongSupplier clock) {
+    if (ttl != null && ttl.isNegative()) {
+      throw new IllegalArgumentException("Secret cache TTL cannot be negative");
+    }
+
+    if (storeTtls.values().stream().anyMatch(Duration::isNegative)) {
+      throw new IllegalArgumentException("Secret cache TTL cannot be negative");
+    }
+
+    if (refreshAheadRatio <= 0 || refreshAheadRatio > 1) {
+      throw new IllegalArgumentException("Secret cache refresh ahead ratio must be between 0 and 1");
+    }
+
+    if (maxEntries < 1) {
+      throw new IllegalArgumentException("Secret cache must allow at least one entry");
+    }
+
+    this.ttl = ttl;
+    this.storeTtls = new HashMap<>(storeTtls);
+    this.refreshAheadRatio = refreshAheadRatio;
+    this.maxEntries = maxEntries;
+    this.clock = clock;
+  }
+
+  /**
+   * Creates the secret cache configured in the options.
+   * @param options Secret cache options (optional).
+   * @return Secret cache, or null if not configured.
+   */
+  public static SecretCache fromOptions(SecretCacheOptions options) {
+    if (options == null) {
+      return null;
+    }
+
+    return new SecretCache(
+        options.getTtl(),
+        options.getStoreTtls(),
+        options.getRefreshAheadRatio() == null ? DEFAULT_REFRESH_AHEAD_RATIO : options.getRefreshAheadRatio(),
+        options.getMaxEntries() == null ? DEFAULT_MAX_ENTRIES : options.getMaxEntries());
+  }
+
+  /**
+   * Tells whether the secrets of a store are cached.
+   * @param storeName Name of the secret store.
+   * @return true if the store has a positive TTL.
+   */
+  public boolean isCached(String storeName) {
+    Duration storeTtl = getTtl(storeName);
+    return storeTtl != null && !storeTtl.isZero();
+  }
+
+  /**
+   * Serves a secret from the cache, calling the sidecar on a miss.
+   * @param storeName Name of the secret store.
+   * @param key Key of the secret.
+   * @param metadata Metadata of the request (optional).
+   * @param call Call to the sidecar for this secret.
+   * @return the secret.
+   */
+  public Mono<Map<String, String>> getSecret(
+      String storeName, String key, Map<String, String> metadata, Mono<Map<String, String>> call) {
+    return get(new CacheKey(storeName, key, metadata), call.map(secret -> Collections.singletonMap(key, secret)))
+        .map(secrets -> secrets.get(key));
+  }
+
+  /**
+   * Serves every secret of a store from the cache, calling the sidecar on a miss.
+   * @param storeName Name of the secret store.
+   * @param metadata Metadata of the request (optional).
+   * @param call Call to the sidecar for the secrets of this store.
+   * @return the secrets, by key.
+   */
+  public Mono<Map<String, Map<String, String>>> getBulkSecret(
+      String storeName, Map<String, String> metadata, Mono<Map<String, Map<String, String>>> call) {
+    return get(new CacheKey(storeName, null, metadata), call);
+  }
+
+  /**
+   * Zeroes and removes every cached secret.
+   */
+  public void clear() {
+    for (CacheKey key : this.entries.keySet()) {
+      Entry entry = this.entries.remove(key);
+      if (entry != null) {
+        entry.wipe();
+      }
+    }
+  }
+
+  private Mono<Map<String, Map<String, String>>> get(CacheKey key, Mono<Map<String, Map<String, String>>> call) {
+    return Mono.deferContextual(context -> {
+      long now = this.clock.getAsLong();
+      Entry entry = this.entries.get(key);
+      Map<String, Map<String, String>> secrets = entry == null || now >= entry.expiresAt ? null : entry.read();
+      if (secrets == null) {
+        return load(key, call);
+      }
+
+      if (now >= entry.refreshAt && entry.refreshing.compareAndSet(false, true)) {
+        // A failed refresh keeps serving the cached secret until it expires, and is tried again on the next read.
+        // The refresh runs with the reader's context, so tracing and auth metadata still reach the sidecar.
+        load(key, call)
+            .contextWrite(context)
+            .subscribeOn(Schedulers.parallel())
+            .subscribe(ignored -> { }, throwable -> entry.refreshing.set(false));
+      }
+
+      return Mono.just(secrets);
+    });
+  }
+
+  private Mono<Map<String, Map<String, String>>> load(CacheKey key, Mono<Map<String, Map<String, String>>> call) {
+    return this.loads.computeIfAbsent(key, k -> {
+      AtomicReference<Mono<Map<String, Map<String, String>>>> self = new AtomicReference<>();
+      Mono<Map<String, Map<String, String>>> load = call
+          .doOnNext(secrets -> put(k, secrets))
+          .doFinally(signal -> this.loads.remove(k, self.get()))
+          .cache();
+      self.set(load);
+      return load;
+    });
+  }
+
+  private void put(CacheKey key, Map<String, Map<String, String>> secrets) {
+    Duration storeTtl = getTtl(key.storeName);
+    if (storeTtl == null || storeTtl.isZero()) {
+      return;
+    }
+
+    long now = this.clock.getAsLong();
+    long ttlNanos = storeTtl.toNanos();
+    Entry entry = new Entry(secrets, now + (long) (ttlNanos * this.refreshAheadRatio), now + ttlNanos);
+    Entry previous = this.entries.put(key, entry);
+    if (previous != null) {
+      previous.wipe();
+    }
+
+    if (this.entries.size() > this.maxEntries) {
+      evict(now);
+    }
+  }
+
+  private void evict(long now) {
+    this.entries.forEach((key, entry) -> {
+      if (now >= entry.expiresAt && this.entries.remove(key, entry)) {
+        entry.wipe();
+      }
+    });
+
+    while (this.entries.size() > this.maxEntries) {
+      Map.Entry<CacheKey, Entry> oldest = this.entries.entrySet().stream()
+          .min((a, b) -> Long.compare(a.getValue().expiresAt, b.getValue().expiresAt))
+          .orElse(null);
+      if (oldest == null) {
+        return;
+      }
+
+      if (this.entries.remove(oldest.getKey(), oldest.getValue())) {
+        oldest.getValue().wipe();
+      }
+    }
+  }
+
+  private Duration getTtl(String storeName) {
+    return this.storeTtls.getOrDefault(storeName, this.ttl);
+  }
+
+  private static final class CacheKey {
+
+    private final String storeName;
+
+    private final String key;
+
+    private final Map<String, String> metadata;
+
+    private CacheKey(String storeName, String key, Map<String, String> metadata) {
+      this.storeName = storeName;
+      this.key = key;
+      this.metadata = metadata == null ? Collections.emptyMap() : new HashMap<>(metadata);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      CacheKey that = (CacheKey) o;
+      return Objects.equals(storeName, that.storeName)
+          && Objects.equals(key, that.key)
+          && Objects.equals(metadata, that.metadata);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(storeName, key, metadata);
+    }
+  }
+
+  private static final class Entry {
+
+    private final Map<String, Map<String, char[]>> secrets = new HashMap<>();
+
+    private final long refreshAt;
+
+    private final long expiresAt;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private boolean wiped;
+
+    private Entry(Map<String, Map<String, String>> secrets, long refreshAt, long expiresAt) {
+      secrets.forEach((key, values) -> {
+        Map<String, char[]> copy = new HashMap<>();
+        values.forEach((name, value) -> copy.put(name, value == null ? null : value.toCharArray()));
+        this.secrets.put(key, copy);
+      });
+      this.refreshAt = refreshAt;
+      this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Copies the cached secrets out.
+     * @return the secrets, or null if this entry has been wiped meanwhile.
+     */
+    private synchronized Map<String, Map<String, String>> read() {
+      if (this.wiped) {
+        return null;
+      }
+
+      Map<String, Map<String, String>> result = new HashMap<>();
+      this.secrets.forEach((key, values) -> {
+        Map<String, String> copy = new HashMap<>();
+        values.forEach((name, value) -> copy.put(name, value == null ? null : new String(value)));
+        result.put(key, Collections.unmodifiableMap(copy));
+      });
+      return Collections.unmodifiableMap(result);
+    }
+
+    private synchronized void wipe() {
+      this.wiped = true;
+      this.secrets.values().forEach(values -> values.values().forEach(value -> {
+        if (value != null) {
+          Arrays.fill(value, '\0');
+        }
+      }));
+      this.secrets.clear();
+    }
+  }
+}
@@ -13,11 +13,11 @@ limitations under the License.
 
 package io.dapr.internal.grpc;
 
-import io.dapr.internal.grpc.interceptors.DaprApiTokenInterceptor;
-import io.dapr.internal.grpc.interceptors.DaprAppIdInterceptor;
-import io.dapr.internal.grpc.interceptors.DaprMetadataReceiverInterceptor;
-import io.dapr.internal.grpc.interceptors.DaprTimeoutInterceptor;
-import io.dapr.internal.grpc.interceptors.DaprTracingInterceptor;
+import io.dapr.client.metrics.DaprMetrics;
+import io.dapr.internal.grpc.interceptors.DaprClientInterceptor;
+import io.dapr.internal.resiliency.AdaptiveConcurrencyLimiter;
+import io.dapr.internal.resiliency.BulkheadPolicy;
+import io.dapr.internal.resiliency.CircuitBreakerPolicy;
 import io.dapr.internal.resiliency.TimeoutPolicy;
 import io.grpc.Metadata;
 import io.grpc.stub.AbstractStub;
@@ -31,9 +31,7 @@ import java.util.function.Consumer;
  */
 public class DaprClientGrpcInterceptors {
 
-  private final String daprApiToken;
-
-  private final TimeoutPolicy timeoutPolicy;
+  private final DaprClientInterceptor interceptor;
 
   /**
    * Instantiates a holder of all gRPC interceptors.
@@ -48,8 +46,98 @@ public class DaprClientGrpcInterceptors {
    * @param timeoutPolicy Timeout Policy.
    */
   public DaprClientGrpcInterceptors(String daprApiToken, TimeoutPolicy timeoutPolicy) {
-    this.daprApiToken = daprApiToken;
-    this.timeoutPolicy = timeoutPolicy;
+    this(daprApiToken, timeoutPolicy, DaprMetrics.NOOP);
+  }
+
+  /**
+   * Instantiates a holder of all gRPC interceptors.
+   * @param daprApiToken Dapr API token.
+   * @param timeoutPolicy Timeout Policy.
+   * @param metrics Metrics recorder for every call.
+   */
+  public DaprClientGrpcInterceptors(String daprApiToken, TimeoutPolicy timeoutPolicy, DaprMetrics metrics) {
+    this(daprApiToken, timeoutPolicy, metrics, null, null);
+  }
+
+  /**
+   * Instantiates a holder of all gRPC interceptors.
+   * @param daprApiToken Dapr API token.
+   * @param timeoutPolicy Timeout Policy.
+   * @param metrics Metrics recorder for every call.
+   * @param circuitBreakerPolicy Circuit breaker for unary calls (optional).
+   * @param bulkheadPolicy Bulkhead for unary calls (optional).
+   */
+  public DaprClientGrpcInterceptors(
+      String daprApiToken,
+      TimeoutPolicy timeoutPolicy,
+      DaprMetrics metrics,
+      CircuitBreakerPolicy circuitBreakerPolicy,
+      BulkheadPolicy bulkheadPolicy) {
+    this(daprApiToken, timeoutPolicy, metrics, circuitBreakerPolicy, bulkheadPolicy, null);
+  }
+
+  /**
+   * Instantiates a holder of all gRPC interceptors.
+   * @param daprApiToken Dapr API token.
+   * @param timeoutPolicy Timeout Policy.
+   * @param metrics Metrics recorder for every call.
+   * @param circuitBreakerPolicy Circuit breaker for unary calls (optional).
+   * @param bulkheadPolicy Bulkhead for unary calls (optional).
+   * @param concurrencyLimiter Adaptive concurrency limit for unary calls (optional).
+   */
+  public DaprClientGrpcInterceptors(
+      String daprApiToken,
+      TimeoutPolicy timeoutPolicy,
+      DaprMetrics metrics,
+      CircuitBreakerPolicy circuitBreakerPolicy,
+      BulkheadPolicy bulkheadPolicy,
+      AdaptiveConcurrencyLimiter concurrencyLimiter) {
+    this.interceptor = new DaprClientInterceptor(
+        daprApiToken, timeoutPolicy, metrics, circuitBreakerPolicy, bulkheadPolicy, concurrencyLimiter);
+  }
+
+  /**
+   * Installs the shared Dapr interceptor on a gRPC async stub, without any per-call option.
+   * The returned stub is meant to be kept and passed to
+   * {@link #withCallOptions(AbstractStub, String, ContextView, Consumer)} on each call, so no interceptor is
+   * allocated per call.
+   * @param client gRPC client
+   * @param <T> async client type
+   * @return async client instance with the Dapr interceptor
+   */
+  public <T extends AbstractStub<T>> T install(final T client) {
+    if (client == null) {
+      throw new IllegalArgumentException("client cannot be null");
+    }
+
+    return client.withInterceptors(this.interceptor);
+  }
+
+  /**
+   * Sets the per-call options read by the Dapr interceptor on a stub returned by {@link #install(AbstractStub)}.
+   * @param client gRPC client with the Dapr interceptor installed
+   * @param appId Application ID to invoke (optional).
+   * @param context Reactor context for tracing (optional).
+   * @param metadataConsumer Consumer of the gRPC metadata (optional).
+   * @param <T> async client type
+   * @return async client instance for a single call
+   */
+  public <T extends AbstractStub<T>> T withCallOptions(
+      final T client,
+      final String appId,
+      final ContextView context,
+      final Consumer<Metadata> metadataConsumer) {
+    T stub = client;
+    if (appId != null) {
+      stub = stub.withOption(DaprClientInterceptor.APP_ID, appId);
+    }
+    if (context != null) {
+      stub = stub.withOption(DaprClientInterceptor.CONTEXT, context);
+    }
+    if (metadataConsumer != null) {
+      stub = stub.withOption(DaprClientInterceptor.METADATA_CONSUMER, metadataConsumer);
+    }
+    return stub;
   }
 
   /**
@@ -117,16 +205,7 @@ public class DaprClientGrpcInterceptors {
       final T client,
       final ContextView context,
       final Consumer<Metadata> metadataConsumer) {
-    if (client == null) {
-      throw new IllegalArgumentException("client cannot be null");
-    }
-
-    return client.withInterceptors(
-        new DaprAppIdInterceptor(appId),
-        new DaprApiTokenInterceptor(this.daprApiToken),
-        new DaprTimeoutInterceptor(this.timeoutPolicy),
-        new DaprTracingInterceptor(context),
-        new DaprMetadataReceiverInterceptor(metadataConsumer));
+    return withCallOptions(install(client), appId, context, metadataConsumer);
   }
 
 }
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageLite;
+import io.dapr.client.Headers;
+import io.dapr.client.metrics.DaprMetrics;
+import io.dapr.internal.opencensus.GrpcHelper;
+import io.dapr.internal.resiliency.AdaptiveConcurrencyLimiter;
+import io.dapr.internal.resiliency.BulkheadPolicy;
+import io.dapr.internal.resiliency.CallNotPermittedException;
+import io.dapr.internal.resiliency.CircuitBreakerPolicy;
+import io.dapr.internal.resiliency.TimeoutPolicy;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ClientInterceptors;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import reactor.util.context.ContextView;
+
+import java.util.function.Consumer;
+
+/**
+ * Single, stateless interceptor that applies everything Dapr needs on a gRPC call: app id, API token, timeout,
+ * tracing headers, response metadata consumer, metrics, circuit breaker, bulkhead and concurrency limit. It is
+ * installed once on a stub; values that change from call to call are read from the {@link CallOptions} of the call, see
+ * {@link #APP_ID}, {@link #CONTEXT} and {@link #METADATA_CONSUMER}.
+ */
+public class DaprClientInterceptor implements ClientInterceptor {
+
+  /**
+   * Application ID to invoke.
+   */
+  public static final CallOptions.Key<String> APP_ID = CallOptions.Key.create("dapr-app-id");
+
+  /**
+   * Reactor's context to read tracing information from.
+   */
+  public static final CallOptions.Key<ContextView> CONTEXT = CallOptions.Key.create("dapr-context");
+
+  /**
+   * Consumer of the response headers.
+   */
+  public static final CallOptions.Key<Consumer<Metadata>> METADATA_CONSUMER =
+      CallOptions.Key.create("dapr-metadata-consumer");
+
+  private static final Metadata.Key<String> APP_ID_KEY =
+      Metadata.Key.of("dapr-app-id", Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final Metadata.Key<String> API_TOKEN_KEY =
+      Metadata.Key.of(Headers.DAPR_API_TOKEN, Metadata.ASCII_STRING_MARSHALLER);
+
+  /**
+   * Request fields holding the component a call targets, in lookup order.
+   */
+  private static final String[] COMPONENT_FIELDS = {"store_name", "pubsub_name"};
+
+  private static final String TRANSPORT = "grpc";
+
+  private final String token;
+
+  private final TimeoutPolicy timeoutPolicy;
+
+  private final DaprMetrics metrics;
+
+  private final CircuitBreakerPolicy circuitBreakerPolicy;
+
+  private final BulkheadPolicy bulkheadPolicy;
+
+  private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+  /**
+   * Instantiates the interceptor.
+   * @param token Dapr API Token (optional).
+   * @param timeoutPolicy Timeout Policy (optional).
+   */
+  public DaprClientInterceptor(String token, TimeoutPolicy timeoutPolicy) {
+    this(token, timeoutPolicy, DaprMetrics.NOOP);
+  }
+
+  /**
+   * Instantiates the interceptor.
+   * @param token Dapr API Token (optional).
+   * @param timeoutPolicy Timeout Policy (optional).
+   * @param metrics Metrics recorder.
+   */
+  public DaprClientInterceptor(String token, TimeoutPolicy timeoutPolicy, DaprMetrics metrics) {
+    this(token, timeoutPolicy, metrics, null, null);
+  }
+
+  /**
+   * Instantiates the interceptor.
+   * @param token Dapr API Token (optional).
+   * @param timeoutPolicy Timeout Policy (optional).
+   * @param metrics Metrics recorder.
+   * @param circuitBreakerPolicy Circuit breaker for unary calls (optional).
+   * @param bulkheadPolicy Bulkhead for unary calls (optional).
+   */
+  public DaprClientInterceptor(
+      String token,
+      TimeoutPolicy timeoutPolicy,
+      DaprMetrics metrics,
+      CircuitBreakerPolicy circuitBreakerPolicy,
+      BulkheadPolicy bulkheadPolicy) {
+    this(token, timeoutPolicy, metrics, circuitBreakerPolicy, bulkheadPolicy, null);
+  }
+
+  /**
+   * Instantiates the interceptor.
+   * @param token Dapr API Token (optional).
+   * @param timeoutPolicy Timeout Policy (optional).
+   * @param metrics Metrics recorder.
+   * @param circuitBreakerPolicy Circuit breaker for unary calls (optional).
+   * @param bulkheadPolicy Bulkhead for unary calls (optional).
+   * @param concurrencyLimiter Adaptive concurrency limit for unary calls (optional).
+   */
+  public DaprClientInterceptor(
+      String token,
+      TimeoutPolicy timeoutPolicy,
+      DaprMetrics metrics,
+      CircuitBreakerPolicy circuitBreakerPolicy,
+      BulkheadPolicy bulkheadPolicy,
+      AdaptiveConcurrencyLimiter concurrencyLimiter) {
+    this.token = token;
+    this.timeoutPolicy = timeoutPolicy;
+    this.metrics = metrics == null ? DaprMetrics.NOOP : metrics;
+    this.circuitBreakerPolicy = circuitBreakerPolicy;
+    this.bulkheadPolicy = bulkheadPolicy;
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor,
+      CallOptions options,
+      Channel channel) {
+    final String appId = options.getOption(APP_ID);
+    final ContextView context = options.getOption(CONTEXT);
+    final Consumer<Metadata> metadataConsumer = options.getOption(METADATA_CONSUMER);
+    final String api = methodDescriptor.getBareMethodName();
+    final DaprMetrics.Call call = this.metrics == DaprMetrics.NOOP ? null : this.metrics.start(TRANSPORT, api);
+    // Streams are long-lived, only unary calls go through the circuit breaker, the bulkhead and the limiter.
+    final boolean guarded = methodDescriptor.getType() == MethodDescriptor.MethodType.UNARY
+        && (this.circuitBreakerPolicy != null || this.bulkheadPolicy != null || this.concurrencyLimiter != null);
+    CallOptions callOptions = this.timeoutPolicy == null ? options : this.timeoutPolicy.apply(options);
+    ClientCall<ReqT, RespT> clientCall = channel.newCall(methodDescriptor, callOptions);
+    // Permits are only taken when the call starts, so calls that are never started or cancelled before starting
+    // hold none, and every call that took them releases them when it closes.
+    return new ClientInterceptors.CheckedForwardingClientCall<>(clientCall) {
+      @Override
+      public void sendMessage(ReqT message) {
+        if (call != null) {
+          recordRequest(call, message);
+        }
+        super.sendMessage(message);
+      }
+
+      @Override
+      protected void checkedStart(final Listener<RespT> responseListener, final Metadata metadata) {
+        long circuitBreakerPermit = 0;
+        if (guarded) {
+          try {
+            circuitBreakerPermit = admit(api);
+          } catch (StatusRuntimeException rejection) {
+            if (call != null) {
+              call.end(rejection.getStatus().getCode().name());
+            }
+            // Closes the call with the rejection without reaching the sidecar.
+            throw rejection;
+          }
+        }
+
+        final long permit = circuitBreakerPermit;
+        final long startNanos = guarded ? System.nanoTime() : 0;
+        if (appId != null) {
+          metadata.put(APP_ID_KEY, appId);
+        }
+        if (token != null) {
+          metadata.put(API_TOKEN_KEY, token);
+        }
+        if (context != null) {
+          GrpcHelper.populateMetadata(context, metadata);
+        }
+        if (metadataConsumer == null && call == null && !guarded) {
+          delegate().start(responseListener, metadata);
+          return;
+        }
+
+        Listener<RespT> listener = new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(
+            responseListener) {
+          @Override
+          public void onHeaders(Metadata headers) {
+            responseListener.onHeaders(headers);
+            if (metadataConsumer != null) {
+              metadataConsumer.accept(headers);
+            }
+          }
+
+          @Override
+          public void onMessage(RespT message) {
+            if (call != null && message instanceof MessageLite) {
+              call.responseSize(((MessageLite) message).getSerializedSize());
+            }
+            responseListener.onMessage(message);
+          }
+
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            if (guarded) {
+              release(api, permit, status, System.nanoTime() - startNanos);
+            }
+            if (call != null) {
+              call.end(status.getCode().name());
+            }
+            responseListener.onClose(status, trailers);
+          }
+        };
+
+        try {
+          delegate().start(listener, metadata);
+        } catch (RuntimeException e) {
+          Status status = Status.fromThrowable(e);
+          if (guarded) {
+            release(api, permit, status, System.nanoTime() - startNanos);
+          }
+          if (call != null) {
+            call.end(status.getCode().name());
+          }
+          throw e;
+        }
+      }
+    };
+  }
+
+  /**
+   * Acquires the bulkhead, concurrency limit and circuit breaker permits of a call.
+   * @return Circuit breaker permit of the call.
+   * @throws StatusRuntimeException with the status to fail the call with if it cannot proceed.
+   */
+  private long admit(String api) {
+    if (this.bulkheadPolicy != null && !this.bulkheadPolicy.tryAcquire(api)) {
+      String message = "Too many concurrent calls to " + api;
+      throw Status.RESOURCE_EXHAUSTED.withDescription(message).withCause(new CallNotPermittedException(message))
+          .asRuntimeException();
+    }
+
+    if (this.concurrencyLimiter != null && !this.concurrencyLimiter.tryAcquire(api)) {
+      if (this.bulkheadPolicy != null) {
+        this.bulkheadPolicy.release(api);
+      }
+      String message = "Concurrency limit reached for " + api;
+      throw Status.RESOURCE_EXHAUSTED.withDescription(message).withCause(new CallNotPermittedException(message))
+          .asRuntimeException();
+    }
+
+    if (this.circuitBreakerPolicy == null) {
+      return 0;
+    }
+
+    long permit = this.circuitBreakerPolicy.tryAcquire(api);
+    if (permit == CircuitBreakerPolicy.NOT_PERMITTED) {
+      if (this.bulkheadPolicy != null) {
+        this.bulkheadPolicy.release(api);
+      }
+      if (this.concurrencyLimiter != null) {
+        this.concurrencyLimiter.release(api);
+      }
+      String message = "Circuit breaker is open for " + api;
+      throw Status.UNAVAILABLE.withDescription(message).withCause(new CallNotPermittedException(message))
+          .asRuntimeException();
+    }
+
+    return permit;
+  }
+
+  private void release(String api, long permit, Status status, long elapsedNanos) {
+    if (this.bulkheadPolicy != null) {
+      this.bulkheadPolicy.release(api);
+    }
+    if (this.concurrencyLimiter != null) {
+      this.concurrencyLimiter.onComplete(api, status);
+    }
+    if (this.circuitBreakerPolicy != null) {
+      this.circuitBreakerPolicy.onComplete(api, permit, status, elapsedNanos);
+    }
+  }
+
+  private static void recordRequest(DaprMetrics.Call call, Object message) {
+    if (!(message instanceof Message)) {
+      return;
+    }
+
+    Message request = (Message) message;
+    call.requestSize(request.getSerializedSize());
+    for (String fieldName : COMPONENT_FIELDS) {
+      Descriptors.FieldDescriptor field = request.getDescriptorForType().findFieldByName(fieldName);
+      if (field != null && field.getJavaType() == Descriptors.FieldDescriptor.JavaType.STRING) {
+        call.component((String) request.getField(field));
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.metrics.DaprMetrics;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import io.dapr.exceptions.DaprException;
+import io.grpc.Status;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Adaptive concurrency limiter for SDK communication to Dapr API, with one limit per API. The limit follows an AIMD
+ * scheme: it grows by one after a successful call made while at least half of the limit was in use, and shrinks by
+ * 10% when the sidecar signals overload (unavailable, deadline exceeded, resource exhausted, HTTP 429 or 503).
+ * Calls beyond the limit are rejected without reaching the sidecar, so throughput stays near the point where the
+ * sidecar saturates instead of queueing up until latency collapses.
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+  /**
+   * Default limit of an API before any call completed, capped by the maximum limit.
+   */
+  public static final int DEFAULT_INITIAL_LIMIT = 20;
+
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
+  private static final int HTTP_SERVICE_UNAVAILABLE = 503;
+
+  private final int maxLimit;
+
+  private final Map<String, Integer> maxLimits;
+
+  private final DaprMetrics metrics;
+
+  private final ConcurrentMap<String, Limit> limits = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates an adaptive concurrency limiter.
+   * @param maxLimit Maximum limit of each API.
+   * @param maxLimits Maximum limit of specific APIs, overriding the one above (optional).
+   * @param metrics Metrics recorder notified when a limit changes.
+   */
+  public AdaptiveConcurrencyLimiter(int maxLimit, Map<String, Integer> maxLimits, DaprMetrics metrics) {
+    if (maxLimit <= 0) {
+      throw new IllegalArgumentException("Max concurrency limit must be positive");
+    }
+
+    this.maxLimit = maxLimit;
+    this.maxLimits = maxLimits == null ? Collections.emptyMap() : new HashMap<>(maxLimits);
+    this.metrics = metrics == null ? DaprMetrics.NOOP : metrics;
+  }
+
+  /**
+   * Creates the adaptive concurrency limiter configured in the resiliency options.
+   * @param options Resiliency options (optional).
+   * @param metrics Metrics recorder notified when a limit changes.
+   * @return Adaptive concurrency limiter, or null if not configured.
+   */
+  public static AdaptiveConcurrencyLimiter fromOptions(ResiliencyOptions options, DaprMetrics metrics) {
+    if (options == null || options.getMaxConcurrencyLimit() == null) {
+      return null;
+    }
+
+    return new AdaptiveConcurrencyLimiter(
+        options.getMaxConcurrencyLimit(), options.getMaxConcurrencyLimits(), metrics);
+  }
+
+  /**
+   * Tries to start a call.
+   * @param api API being called.
+   * @return Whether the call can start. If so, {@link #onComplete(String, boolean)} must be called once it completes.
+   */
+  public boolean tryAcquire(String api) {
+    return getLimit(api).tryAcquire();
+  }
+
+  /**
+   * Gives back the permit of a call started by {@link #tryAcquire(String)} that did not reach the sidecar, leaving the
+   * limit unchanged.
+   * @param api API that was not called.
+   */
+  public void release(String api) {
+    getLimit(api).release();
+  }
+
+  /**
+   * Ends a call started by {@link #tryAcquire(String)} and adapts the limit of its API.
+   * @param api API that was called.
+   * @param overloaded Whether the call failed because the sidecar is overloaded.
+   */
+  public void onComplete(String api, boolean overloaded) {
+    int newLimit = getLimit(api).onComplete(overloaded);
+    if (newLimit > 0) {
+      this.metrics.concurrencyLimit(api, newLimit);
+    }
+  }
+
+  /**
+   * Ends a gRPC call started by {@link #tryAcquire(String)}. A call cancelled by the client, e.g. a losing hedge, says
+   * nothing about the sidecar and leaves the limit unchanged.
+   * @param api API that was called.
+   * @param status Status of the call.
+   */
+  public void onComplete(String api, Status status) {
+    if (status.getCode() == Status.Code.CANCELLED) {
+      release(api);
+      return;
+    }
+
+    onComplete(api, isOverloaded(status));
+  }
+
+  /**
+   * Applies the limiter to a call, which fails with a {@link CallNotPermittedException} over the limit.
+   * @param api API being called.
+   * @param call Call
+   * @param <T> Type expected for the call's response
+   * @return call with the concurrency limit applied
+   */
+  public <T> Mono<T> apply(String api, Mono<T> call) {
+    return Mono.defer(() -> {
+      if (!tryAcquire(api)) {
+        String message = "Concurrency limit reached for " + api;
+        return Mono.error(new DaprException(
+            Status.Code.RESOURCE_EXHAUSTED.name(), message, new CallNotPermittedException(message)));
+      }
+
+      AtomicBoolean overloaded = new AtomicBoolean();
+      // Only completed calls adapt the limit, a cancelled one (losing hedge, gone subscriber) just frees its permit.
+      return call
+          .doOnError(throwable -> overloaded.set(isOverloaded(throwable)))
+          .doFinally(signal -> {
+            if (signal == SignalType.CANCEL) {
+              release(api);
+            } else {
+              onComplete(api, overloaded.get());
+            }
+          });
+    });
+  }
+
+  /**
+   * Gets the current limit of an API.
+   * @param api API name.
+   * @return Current limit.
+   */
+  public int getCurrentLimit(String api) {
+    return getLimit(api).current();
+  }
+
+  private Limit getLimit(String api) {
+    return this.limits.computeIfAbsent(api, key -> new Limit(this.maxLimits.getOrDefault(key, this.maxLimit)));
+  }
+
+  private static boolean isOverloaded(Status status) {
+    switch (status.getCode()) {
+      case UNAVAILABLE:
+      case DEADLINE_EXCEEDED:
+      case RESOURCE_EXHAUSTED:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static boolean isOverloaded(Throwable throwable) {
+    while (throwable != null) {
+      if (throwable instanceof TimeoutException) {
+        return true;
+      }
+
+      if (throwable instanceof DaprException) {
+        int httpStatusCode = ((DaprException) throwable).getHttpStatusCode();
+        if (httpStatusCode == HTTP_TOO_MANY_REQUESTS || httpStatusCode == HTTP_SERVICE_UNAVAILABLE) {
+          return true;
+        }
+      }
+
+      throwable = throwable.getCause();
+    }
+    return false;
+  }
+
+  /**
+   * Limit and calls in flight of an API.
+   */
+  private static final class Limit {
+
+    private final int max;
+
+    private double limit;
+
+    private int inFlight;
+
+    private Limit(int max) {
+      this.max = max;
+      this.limit = Math.min(DEFAULT_INITIAL_LIMIT, max);
+    }
+
+    private synchronized int current() {
+      return (int) this.limit;
+    }
+
+    private synchronized boolean tryAcquire() {
+      if (this.inFlight >= (int) this.limit) {
+        return false;
+      }
+
+      this.inFlight++;
+      return true;
+    }
+
+    private synchronized void release() {
+      this.inFlight--;
+    }
+
+    /**
+     * Adapts the limit to the outcome of a call.
+     * @return New limit, or 0 if it did not change.
+     */
+    private synchronized int onComplete(boolean overloaded) {
+      int previous = (int) this.limit;
+      if (overloaded) {
+        this.limit = Math.max(1, this.limit * BACKOFF_RATIO);
+      } else if (this.inFlight * 2 >= previous) {
+        this.limit = Math.min(this.max, this.limit + 1);
+      }
+      this.inFlight--;
+
+      int current = (int) this.limit;
+      return current == previous ? 0 : current;
+    }
+  }
+}
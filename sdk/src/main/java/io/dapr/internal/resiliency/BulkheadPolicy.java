@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.ResiliencyOptions;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulkhead policy for SDK communication to Dapr API: limits the number of concurrent calls per API, so a slow API
+ * cannot take every connection and thread of the client.
+ */
+public final class BulkheadPolicy {
+
+  private final int maxConcurrentCalls;
+
+  private final ConcurrentMap<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a bulkhead policy.
+   * @param maxConcurrentCalls Maximum number of concurrent calls per API.
+   */
+  public BulkheadPolicy(int maxConcurrentCalls) {
+    if (maxConcurrentCalls <= 0) {
+      throw new IllegalArgumentException("Max concurrent calls must be positive");
+    }
+
+    this.maxConcurrentCalls = maxConcurrentCalls;
+  }
+
+  /**
+   * Creates the bulkhead policy configured in the resiliency options.
+   * @param options Resiliency options (optional).
+   * @return Bulkhead policy, or null if not configured.
+   */
+  public static BulkheadPolicy fromOptions(ResiliencyOptions options) {
+    if (options == null || options.getMaxConcurrentCalls() == null) {
+      return null;
+    }
+
+    return new BulkheadPolicy(options.getMaxConcurrentCalls());
+  }
+
+  /**
+   * Tries to start a call.
+   * @param api API being called.
+   * @return Whether the call can start. If so, {@link #release(String)} must be called once it completes.
+   */
+  public boolean tryAcquire(String api) {
+    AtomicInteger counter = inFlight.computeIfAbsent(api, key -> new AtomicInteger());
+    while (true) {
+      int current = counter.get();
+      if (current >= maxConcurrentCalls) {
+        return false;
+      }
+
+      if (counter.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Ends a call started by {@link #tryAcquire(String)}.
+   * @param api API that was called.
+   */
+  public void release(String api) {
+    AtomicInteger counter = inFlight.get(api);
+    if (counter != null) {
+      counter.decrementAndGet();
+    }
+  }
+}
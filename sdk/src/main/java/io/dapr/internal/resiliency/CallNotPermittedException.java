@@ -0,0 +1,29 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+/**
+ * Raised when a call is rejected by the client itself, because the circuit breaker of its API is open or its
+ * bulkhead is full. These calls never reach the sidecar and are not retried.
+ */
+public final class CallNotPermittedException extends RuntimeException {
+
+  /**
+   * Instantiates the exception.
+   * @param message Reason of the rejection.
+   */
+  public CallNotPermittedException(String message) {
+    super(message, null, false, false);
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.ResiliencyOptions;
+import io.grpc.Status;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Circuit breaker policy for SDK communication to Dapr API, with one breaker per API.
+ * A breaker opens when the failure rate over the last calls reaches the threshold; slow calls count as failures.
+ * While open, calls fail fast. Once the open duration has elapsed, a single probe call is let through: the breaker
+ * closes if it succeeds and opens again otherwise.
+ */
+public final class CircuitBreakerPolicy {
+
+  /**
+   * Default number of calls the failure rate is computed over.
+   */
+  public static final int DEFAULT_WINDOW_SIZE = 20;
+
+  /**
+   * Default time a breaker stays open before a probe call.
+   */
+  public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(10);
+
+  /**
+   * Permit returned by {@link #tryAcquire(String)} when the call must fail fast.
+   */
+  public static final long NOT_PERMITTED = -1;
+
+  private final double failureRateThreshold;
+
+  private final int windowSize;
+
+  private final long openNanos;
+
+  private final long slowCallNanos;
+
+  private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+  /**
+   * Instantiates a circuit breaker policy.
+   * @param failureRateThreshold Failure rate, in percent, that opens the breaker.
+   * @param windowSize Number of calls the failure rate is computed over (optional).
+   * @param openDuration Time a breaker stays open before a probe call (optional).
+   * @param slowCallDuration Duration from which a call counts as a failure (optional).
+   */
+  public CircuitBreakerPolicy(
+      double failureRateThreshold,
+      Integer windowSize,
+      Duration openDuration,
+      Duration slowCallDuration) {
+    if (failureRateThreshold <= 0 || failureRateThreshold > 100) {
+      throw new IllegalArgumentException("Failure rate threshold must be in (0, 100]");
+    }
+
+    this.failureRateThreshold = failureRateThreshold;
+    this.windowSize = windowSize == null ? DEFAULT_WINDOW_SIZE : windowSize;
+    this.openNanos = (openDuration == null ? DEFAULT_OPEN_DURATION : openDuration).toNanos();
+    this.slowCallNanos = slowCallDuration == null ? Long.MAX_VALUE : slowCallDuration.toNanos();
+    if (this.windowSize <= 0) {
+      throw new IllegalArgumentException("Circuit breaker window size must be positive");
+    }
+  }
+
+  /**
+   * Creates the circuit breaker policy configured in the resiliency options.
+   * @param options Resiliency options (optional).
+   * @return Circuit breaker policy, or null if not configured.
+   */
+  public static CircuitBreakerPolicy fromOptions(ResiliencyOptions options) {
+    if (options == null || options.getCircuitBreakerFailureRateThreshold() == null) {
+      return null;
+    }
+
+    return new CircuitBreakerPolicy(
+        options.getCircuitBreakerFailureRateThreshold(),
+        options.getCircuitBreakerWindowSize(),
+        options.getCircuitBreakerOpenDuration(),
+        options.getCircuitBreakerSlowCallDuration());
+  }
+
+  /**
+   * Tries to start a call.
+   * @param api API being called.
+   * @return Permit of the call, or {@link #NOT_PERMITTED} if it must fail fast. Once a permitted call completes,
+   *     {@link #onComplete(String, long, Status, long)} must be called with its permit.
+   */
+  public long tryAcquire(String api) {
+    return breakers.computeIfAbsent(api, key -> new CircuitBreaker()).tryAcquire(System.nanoTime());
+  }
+
+  /**
+   * Records the outcome of a call started by {@link #tryAcquire(String)}.
+   * @param api API that was called.
+   * @param permit Permit the call was started with.
+   * @param status Status of the call.
+   * @param elapsedNanos Duration of the call.
+   */
+  public void onComplete(String api, long permit, Status status, long elapsedNanos) {
+    CircuitBreaker breaker = breakers.get(api);
+    if (breaker != null) {
+      breaker.onComplete(permit, isFailure(status) || elapsedNanos >= slowCallNanos, System.nanoTime());
+    }
+  }
+
+  /**
+   * Only errors that point to an unhealthy sidecar or component count as failures, not business errors such as
+   * NOT_FOUND or INVALID_ARGUMENT.
+   */
+  private static boolean isFailure(Status status) {
+    switch (status.getCode()) {
+      case UNAVAILABLE:
+      case DEADLINE_EXCEEDED:
+      case RESOURCE_EXHAUSTED:
+      case INTERNAL:
+      case UNKNOWN:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final class CircuitBreaker {
+
+    private final boolean[] outcomes = new boolean[windowSize];
+
+    private State state = State.CLOSED;
+
+    private int next;
+
+    private int recorded;
+
+    private int failures;
+
+    private long openedAt;
+
+    private boolean probing;
+
+    /**
+     * Incremented on every state change, calls carry the generation they were admitted in as their permit.
+     */
+    private long generation;
+
+    private synchronized long tryAcquire(long now) {
+      switch (state) {
+        case CLOSED:
+          return generation;
+        case OPEN:
+          if (now - openedAt < openNanos) {
+            return NOT_PERMITTED;
+          }
+
+          transition(State.HALF_OPEN);
+          probing = true;
+          return generation;
+        default:
+          if (probing) {
+            return NOT_PERMITTED;
+          }
+
+          probing = true;
+          return generation;
+      }
+    }
+
+    private synchronized void onComplete(long permit, boolean failure, long now) {
+      if (permit != generation) {
+        // Call admitted before the last state change, e.g. a slow call from before the breaker opened completing
+        // while the probe is in flight.
+        return;
+      }
+
+      if (state == State.HALF_OPEN) {
+        probing = false;
+        if (failure) {
+          open(now);
+        } else {
+          transition(State.CLOSED);
+        }
+        return;
+      }
+
+      if (recorded == windowSize && outcomes[next]) {
+        failures--;
+      }
+      outcomes[next] = failure;
+      if (failure) {
+        failures++;
+      }
+      next = (next + 1) % windowSize;
+      recorded = Math.min(recorded + 1, windowSize);
+
+      if (recorded == windowSize && failures * 100.0 / windowSize >= failureRateThreshold) {
+        open(now);
+      }
+    }
+
+    private void open(long now) {
+      transition(State.OPEN);
+      openedAt = now;
+      recorded = 0;
+      failures = 0;
+      next = 0;
+    }
+
+    private void transition(State state) {
+      this.state = state;
+      generation++;
+    }
+  }
+}
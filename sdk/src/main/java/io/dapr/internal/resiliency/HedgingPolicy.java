@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.ResiliencyOptions;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hedging policy for idempotent reads to Dapr API. If a call has not answered after the hedge delay, an identical
+ * call is fired and whichever answers first wins, the other one is cancelled. The delay is either fixed or learned,
+ * per API, as a percentile of the recent latencies. Hedged calls are spent from a budget, so hedging cannot more
+ * than marginally increase the load on the sidecar.
+ */
+public final class HedgingPolicy {
+
+  /**
+   * Default ratio of hedged calls to calls.
+   */
+  public static final double DEFAULT_BUDGET_RATIO = 0.1;
+
+  /**
+   * Number of recent latencies the percentile is computed over.
+   */
+  static final int WINDOW_SIZE = 128;
+
+  /**
+   * Number of latencies needed before the learned delay replaces the fixed one.
+   */
+  static final int MIN_SAMPLES = 20;
+
+  /**
+   * Maximum number of APIs whose latencies are tracked, the least recently called one is forgotten beyond that.
+   */
+  static final int MAX_WINDOWS = 1024;
+
+  private final Duration delay;
+
+  private final Double latencyPercentile;
+
+  private final RetryBudget budget;
+
+  private final Map<String, LatencyWindow> windows = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, LatencyWindow> eldest) {
+      return size() > MAX_WINDOWS;
+    }
+  };
+
+  /**
+   * Instantiates a hedging policy.
+   * @param delay Fixed hedge delay, also used until enough latencies are known (optional).
+   * @param latencyPercentile Percentile of the recent latencies used as hedge delay, e.g. 95 (optional).
+   * @param budgetRatio Hedged calls allowed per call.
+   */
+  public HedgingPolicy(Duration delay, Double latencyPercentile, double budgetRatio) {
+    if (delay == null && latencyPercentile == null) {
+      throw new IllegalArgumentException("Hedging needs a delay or a latency percentile");
+    }
+
+    if (delay != null && delay.isNegative()) {
+      throw new IllegalArgumentException("Hedge delay cannot be negative");
+    }
+
+    if (latencyPercentile != null && (latencyPercentile <= 0 || latencyPercentile > 100)) {
+      throw new IllegalArgumentException("Hedge latency percentile must be between 0 and 100");
+    }
+
+    this.delay = delay;
+    this.latencyPercentile = latencyPercentile;
+    this.budget = new RetryBudget(budgetRatio, RetryBudget.DEFAULT_RESERVE);
+  }
+
+  /**
+   * Creates the hedging policy configured in the resiliency options.
+   * @param options Resiliency options (optional).
+   * @return Hedging policy, or null if not configured.
+   */
+  public static HedgingPolicy fromOptions(ResiliencyOptions options) {
+    if (options == null || (options.getHedgeDelay() == null && options.getHedgeLatencyPercentile() == null)) {
+      return null;
+    }
+
+    return new HedgingPolicy(
+        options.getHedgeDelay(),
+        options.getHedgeLatencyPercentile(),
+        options.getHedgeBudgetRatio() == null ? DEFAULT_BUDGET_RATIO : options.getHedgeBudgetRatio());
+  }
+
+  /**
+   * Applies the hedging policy to an idempotent call.
+   * @param api API being called, the latencies are learned per API.
+   * @param call Call, subscribed once more for the hedged call.
+   * @param <T> Type expected for the call's response
+   * @return call with hedging
+   */
+  public <T> Mono<T> apply(String api, Mono<T> call) {
+    return Mono.defer(() -> {
+      this.budget.onCall();
+      LatencyWindow window = this.latencyPercentile == null ? null : getWindow(api);
+      Duration hedgeDelay = window == null ? this.delay : window.getDelay(this.delay);
+      Mono<T> primary = record(window, call);
+      if (hedgeDelay == null) {
+        return primary;
+      }
+
+      // A failed hedged call leaves the answer to the first call, it only wins with a response.
+      Mono<T> hedge = Mono.delay(hedgeDelay)
+          .flatMap(ignored -> this.budget.tryRetry() ? call : Mono.<T>never())
+          .onErrorResume(throwable -> Mono.never());
+      return Mono.firstWithSignal(primary, hedge);
+    });
+  }
+
+  private synchronized LatencyWindow getWindow(String api) {
+    return this.windows.computeIfAbsent(api, key -> new LatencyWindow());
+  }
+
+  /**
+   * Records the latency of the first call only, not of the hedged answer, which would make the learned delay shrink
+   * as hedges win. When the hedged call wins, the first call is cancelled and the time it had been waiting is
+   * recorded, a lower bound of its latency.
+   */
+  private <T> Mono<T> record(LatencyWindow window, Mono<T> call) {
+    if (window == null) {
+      return call;
+    }
+
+    long start = System.nanoTime();
+    return call
+        .doOnSuccess(ignored -> window.record(System.nanoTime() - start, this.latencyPercentile))
+        .doOnCancel(() -> window.record(System.nanoTime() - start, this.latencyPercentile));
+  }
+
+  /**
+   * Recent latencies of an API.
+   */
+  private static final class LatencyWindow {
+
+    private final long[] latencies = new long[WINDOW_SIZE];
+
+    private int count;
+
+    private int next;
+
+    private volatile long delayNanos = -1;
+
+    private Duration getDelay(Duration defaultDelay) {
+      long current = this.delayNanos;
+      return current < 0 ? defaultDelay : Duration.ofNanos(current);
+    }
+
+    private synchronized void record(long latencyNanos, double percentile) {
+      this.latencies[this.next] = latencyNanos;
+      this.next = (this.next + 1) % WINDOW_SIZE;
+      this.count = Math.min(this.count + 1, WINDOW_SIZE);
+      if (this.count < MIN_SAMPLES) {
+        return;
+      }
+
+      long[] sorted = Arrays.copyOf(this.latencies, this.count);
+      Arrays.sort(sorted);
+      int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+      this.delayNanos = sorted[Math.max(index, 0)];
+    }
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.resiliency;
+
+import io.dapr.client.resiliency.ResiliencyOptions;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits retries to a ratio of the calls made, so a degraded sidecar does not receive a multiple of the regular load.
+ * Every call deposits {@code ratio} tokens and every retry withdraws one, up to a reserve that allows short bursts.
+ */
+public final class RetryBudget {
+
+  /**
+   * Default number of retries that can be spent at once.
+   */
+  public static final int DEFAULT_RESERVE = 10;
+
+  private static final long TOKEN = 1000;
+
+  private final long deposit;
+
+  private final long capacity;
+
+  private final AtomicLong balance;
+
+  /**
+   * Instantiates a retry budget.
+   * @param ratio Retries allowed per call, e.g. 0.2 for at most 20% extra calls.
+   * @param reserve Retries that can be spent at once.
+   */
+  public RetryBudget(double ratio, int reserve) {
+    if (ratio < 0) {
+      throw new IllegalArgumentException("Retry budget ratio cannot be negative");
+    }
+
+    this.deposit = Math.round(ratio * TOKEN);
+    this.capacity = Math.max(reserve, 1) * TOKEN;
+    this.balance = new AtomicLong(this.capacity);
+  }
+
+  /**
+   * Creates the retry budget configured in the resiliency options.
+   * @param options Resiliency options (optional).
+   * @return Retry budget, or null if retries are not limited.
+   */
+  public static RetryBudget fromOptions(ResiliencyOptions options) {
+    if (options == null || options.getRetryBudgetRatio() == null) {
+      return null;
+    }
+
+    return new RetryBudget(options.getRetryBudgetRatio(), DEFAULT_RESERVE);
+  }
+
+  /**
+   * Records a new call, which adds to the budget.
+   */
+  public void onCall() {
+    balance.accumulateAndGet(deposit, (current, added) -> Math.min(capacity, current + added));
+  }
+
+  /**
+   * Withdraws one retry from the budget.
+   * @return Whether the retry is allowed.
+   */
+  public boolean tryRetry() {
+    while (true) {
+      long current = balance.get();
+      if (current < TOKEN) {
+        return false;
+      }
+
+      if (balance.compareAndSet(current, current - TOKEN)) {
+        return true;
+      }
+    }
+  }
+}
@@ -13,6 +13,7 @@ limitations under the License.
 
 package io.dapr.internal.resiliency;
 
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.config.Properties;
 import io.dapr.exceptions.DaprException;
 import io.grpc.Status;
@@ -21,7 +22,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
 import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Retry policy for SDK communication to Dapr API.
@@ -32,14 +36,48 @@ public final class RetryPolicy {
 
   private static final int MAX_BACKOFF_SECONDS = 5;
 
+  /**
+   * Randomizes each backoff by up to this factor, so clients do not retry in lockstep.
+   */
+  private static final double JITTER_FACTOR = 0.5;
+
+  private static final int HTTP_SERVICE_UNAVAILABLE = 503;
+
   private final Retry retrySpec;
 
+  private final Retry nonIdempotentRetrySpec;
+
+  private final RetryBudget retryBudget;
+
   public RetryPolicy() {
     this(null);
   }
 
   public RetryPolicy(Integer maxRetries) {
-    this.retrySpec = buildRetrySpec(maxRetries != null ? maxRetries : Properties.MAX_RETRIES.get());
+    this(maxRetries, DaprMetrics.NOOP);
+  }
+
+  /**
+   * Instantiates a retry policy that reports every retry.
+   * @param maxRetries Maximum number of retries, or null for the configured default.
+   * @param metrics Metrics recorder notified before each retry.
+   */
+  public RetryPolicy(Integer maxRetries, DaprMetrics metrics) {
+    this(maxRetries, metrics, null);
+  }
+
+  /**
+   * Instantiates a retry policy that reports every retry and spends retries from a budget.
+   * @param maxRetries Maximum number of retries, or null for the configured default.
+   * @param metrics Metrics recorder notified before each retry.
+   * @param retryBudget Budget shared by all the calls of a client (optional).
+   */
+  public RetryPolicy(Integer maxRetries, DaprMetrics metrics, RetryBudget retryBudget) {
+    int retries = maxRetries != null ? maxRetries : Properties.MAX_RETRIES.get();
+    DaprMetrics recorder = metrics == null ? DaprMetrics.NOOP : metrics;
+    this.retryBudget = retryBudget;
+    this.retrySpec = buildRetrySpec(retries, recorder, retryBudget, true);
+    this.nonIdempotentRetrySpec = buildRetrySpec(retries, recorder, retryBudget, false);
   }
 
   /**
@@ -49,12 +87,33 @@ public final class RetryPolicy {
    * @return action with retry
    */
   public <T> Mono<T> apply(Mono<T> response) {
-    if (this.retrySpec == null) {
+    return apply(response, true);
+  }
+
+  /**
+   * Applies the retry policy to an expected Mono action.
+   * @param response Response
+   * @param idempotent Whether the action can safely run more than once. Otherwise, HTTP calls are only retried when
+   *     the sidecar could not be reached, since a timed out or rejected call may already have had an effect.
+   * @param <T> Type expected for the action's response
+   * @return action with retry
+   */
+  public <T> Mono<T> apply(Mono<T> response, boolean idempotent) {
+    Retry spec = idempotent ? this.retrySpec : this.nonIdempotentRetrySpec;
+    if (spec == null) {
       return response;
     }
 
-    return response.retryWhen(retrySpec)
+    Mono<T> retried = response.retryWhen(spec)
         .onErrorMap(throwable -> findDaprException(throwable));
+    if (this.retryBudget == null) {
+      return retried;
+    }
+
+    return Mono.defer(() -> {
+      this.retryBudget.onCall();
+      return retried;
+    });
   }
 
   /**
@@ -68,31 +127,54 @@ public final class RetryPolicy {
       return response;
     }
 
-    return response.retryWhen(retrySpec)
+    Flux<T> retried = response.retryWhen(retrySpec)
         .onErrorMap(throwable -> findDaprException(throwable));
+    if (this.retryBudget == null) {
+      return retried;
+    }
+
+    return Flux.defer(() -> {
+      this.retryBudget.onCall();
+      return retried;
+    });
   }
 
-  private static Retry buildRetrySpec(int maxRetries) {
+  private static Retry buildRetrySpec(
+      int maxRetries, DaprMetrics metrics, RetryBudget retryBudget, boolean idempotent) {
     if (maxRetries == 0) {
       return null;
     }
 
-    if (maxRetries < 0) {
-      return Retry.indefinitely()
-          .filter(throwable -> isRetryableGrpcError(throwable));
-    }
-
-    return Retry.backoff(maxRetries, Duration.ofMillis(MIN_BACKOFF_MILLIS))
+    // Unlimited retries also back off, instead of retrying immediately into an unavailable sidecar.
+    return Retry.backoff(maxRetries < 0 ? Long.MAX_VALUE : maxRetries, Duration.ofMillis(MIN_BACKOFF_MILLIS))
         .maxBackoff(Duration.ofSeconds(MAX_BACKOFF_SECONDS))
-        .filter(throwable -> isRetryableGrpcError(throwable));
+        .jitter(JITTER_FACTOR)
+        .filter(throwable -> isRetryableError(throwable, idempotent)
+            && (retryBudget == null || retryBudget.tryRetry()))
+        .doBeforeRetry(signal -> recordRetry(metrics, signal.failure()));
   }
 
-  private static boolean isRetryableGrpcError(Throwable throwable) {
+  private static void recordRetry(DaprMetrics metrics, Throwable throwable) {
     Status grpcStatus = findGrpcStatusCode(throwable);
-    if (grpcStatus == null) {
+    if (grpcStatus != null) {
+      metrics.retry(grpcStatus.getCode().name());
+    } else if (throwable instanceof DaprException && ((DaprException) throwable).getHttpStatusCode() > 0) {
+      metrics.retry(String.valueOf(((DaprException) throwable).getHttpStatusCode()));
+    } else {
+      metrics.retry(throwable.getClass().getSimpleName());
+    }
+  }
+
+  private static boolean isRetryableError(Throwable throwable, boolean idempotent) {
+    if (isNotPermitted(throwable)) {
       return false;
     }
 
+    Status grpcStatus = findGrpcStatusCode(throwable);
+    if (grpcStatus == null) {
+      return isRetryableHttpError(throwable, idempotent);
+    }
+
     switch (grpcStatus.getCode()) {
       case DEADLINE_EXCEEDED:
       case UNAVAILABLE:
@@ -102,6 +184,41 @@ public final class RetryPolicy {
     }
   }
 
+  /**
+   * HTTP calls are retried when the sidecar could not be reached. Idempotent calls are also retried when the sidecar
+   * did not answer in time or answered 503.
+   */
+  private static boolean isRetryableHttpError(Throwable throwable, boolean idempotent) {
+    while (throwable != null) {
+      if (throwable instanceof ConnectException || throwable instanceof HttpConnectTimeoutException) {
+        return true;
+      }
+
+      if (idempotent && throwable instanceof TimeoutException) {
+        return true;
+      }
+
+      if (idempotent && throwable instanceof DaprException
+          && ((DaprException) throwable).getHttpStatusCode() == HTTP_SERVICE_UNAVAILABLE) {
+        return true;
+      }
+
+      throwable = throwable.getCause();
+    }
+    return false;
+  }
+
+  private static boolean isNotPermitted(Throwable throwable) {
+    while (throwable != null) {
+      if (throwable instanceof CallNotPermittedException) {
+        return true;
+      }
+
+      throwable = throwable.getCause();
+    }
+    return false;
+  }
+
   private static Status findGrpcStatusCode(Throwable throwable) {
     while (throwable != null) {
       if (throwable instanceof StatusRuntimeException) {
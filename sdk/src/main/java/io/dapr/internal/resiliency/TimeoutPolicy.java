@@ -15,6 +15,7 @@ package io.dapr.internal.resiliency;
 
 import io.dapr.config.Properties;
 import io.grpc.CallOptions;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -53,4 +54,19 @@ public final class TimeoutPolicy {
 
     return options.withDeadlineAfter(this.timeout.toMillis(), TimeUnit.MILLISECONDS);
   }
+
+  /**
+   * Applies the timeout policy to an HTTP call, which fails with a
+   * {@link java.util.concurrent.TimeoutException} once the deadline elapses.
+   * @param response Response
+   * @param <T> Type expected for the call's response
+   * @return call with timeout policy applied
+   */
+  public <T> Mono<T> apply(Mono<T> response) {
+    if (this.timeout.isZero() || this.timeout.isNegative()) {
+      return response;
+    }
+
+    return response.timeout(this.timeout);
+  }
 }
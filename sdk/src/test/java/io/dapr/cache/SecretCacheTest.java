@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.cache;
+
+import io.dapr.internal.cache.SecretCache;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SecretCacheTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  @Test
+  public void concurrentMissesShareOneCall() {
+    SecretCache cache = new SecretCache(Duration.ofMinutes(1), Collections.emptyMap(), 0.8, 10);
+    AtomicInteger calls = new AtomicInteger();
+    Mono<Map<String, String>> call = Mono.delay(Duration.ofMillis(50))
+        .map(ignored -> Collections.singletonMap("password", "v" + calls.incrementAndGet()));
+
+    Mono<Map<String, String>> first = cache.getSecret("store", "key", null, call);
+    Mono<Map<String, String>> second = cache.getSecret("store", "key", null, call);
+
+    assertEquals(2L, Mono.zip(first, second)
+        .map(results -> results.getT1().equals(results.getT2()) ? 2L : 0L)
+        .block(TIMEOUT));
+    assertEquals("v1", cache.getSecret("store", "key", null, call).block(TIMEOUT).get("password"));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void secretIsRefreshedAheadAndExpires() {
+    AtomicLong now = new AtomicLong();
+    SecretCache cache = new SecretCache(Duration.ofMillis(300), Collections.emptyMap(), 0.2, 10, now::get);
+    AtomicInteger calls = new AtomicInteger();
+    Mono<Map<String, String>> call = Mono.fromCallable(
+        () -> Collections.singletonMap("password", "v" + calls.incrementAndGet()));
+
+    assertEquals("v1", getPassword(cache, call));
+    now.addAndGet(Duration.ofMillis(100).toNanos());
+    // Past the refresh point, the cached value is served while the refresh runs in the background.
+    assertEquals("v1", getPassword(cache, call));
+    awaitPassword(cache, call, "v2");
+    assertEquals(2, calls.get());
+
+    now.addAndGet(Duration.ofMillis(350).toNanos());
+    assertEquals("v3", getPassword(cache, call));
+  }
+
+  @Test
+  public void backgroundRefreshKeepsReaderContext() {
+    AtomicLong now = new AtomicLong();
+    SecretCache cache = new SecretCache(Duration.ofMillis(300), Collections.emptyMap(), 0.2, 10, now::get);
+    AtomicInteger calls = new AtomicInteger();
+    Mono<Map<String, String>> call = Mono.deferContextual(context -> Mono.just(Collections.singletonMap(
+        "password", context.getOrDefault("tenant", "none") + "-" + calls.incrementAndGet())));
+
+    assertEquals("a-1", getPassword(cache, call));
+    now.addAndGet(Duration.ofMillis(100).toNanos());
+    assertEquals("a-1", getPassword(cache, call));
+
+    awaitPassword(cache, call, "a-2");
+  }
+
+  @Test
+  public void failuresAreNotCached() {
+    SecretCache cache = new SecretCache(Duration.ofMinutes(1), Collections.emptyMap(), 0.8, 10);
+    AtomicInteger calls = new AtomicInteger();
+    Mono<Map<String, Map<String, String>>> call = Mono.defer(() -> calls.incrementAndGet() == 1
+        ? Mono.error(new IllegalStateException("unavailable"))
+        : Mono.just(Collections.singletonMap("key", Collections.singletonMap("password", "value"))));
+
+    assertThrows(IllegalStateException.class, () -> cache.getBulkSecret("store", null, call).block(TIMEOUT));
+    assertEquals("value", cache.getBulkSecret("store", null, call).block(TIMEOUT).get("key").get("password"));
+    assertEquals("value", cache.getBulkSecret("store", null, call).block(TIMEOUT).get("key").get("password"));
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  public void entriesAreEvictedAndCleared() {
+    SecretCache cache = new SecretCache(null, Collections.singletonMap("store", Duration.ofMinutes(1)), 0.8, 1);
+    AtomicInteger calls = new AtomicInteger();
+    Mono<Map<String, String>> call = Mono.fromCallable(
+        () -> Collections.singletonMap("password", "v" + calls.incrementAndGet()));
+
+    assertTrue(cache.isCached("store"));
+    assertFalse(cache.isCached("other"));
+
+    cache.getSecret("store", "a", null, call).block(TIMEOUT);
+    cache.getSecret("store", "b", null, call).block(TIMEOUT);
+    cache.getSecret("store", "b", null, call).block(TIMEOUT);
+    assertEquals(2, calls.get());
+    // Only one entry fits, "a" has been evicted.
+    cache.getSecret("store", "a", null, call).block(TIMEOUT);
+    assertEquals(3, calls.get());
+
+    cache.clear();
+    assertEquals("v4", cache.getSecret("store", "a", null, call).block(TIMEOUT).get("password"));
+  }
+
+  @Test
+  public void invalidOptionsAreRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new SecretCache(Duration.ofSeconds(-1), Collections.emptyMap(), 0.8, 10));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SecretCache(Duration.ofSeconds(1), Collections.emptyMap(), 1.5, 10));
+    assertThrows(IllegalArgumentException.class,
+        () -> new SecretCache(Duration.ofSeconds(1), Collections.emptyMap(), 0.8, 0));
+  }
+
+  private static String getPassword(SecretCache cache, Mono<Map<String, String>> call) {
+    return readPassword(cache, call).block(TIMEOUT);
+  }
+
+  private static Mono<String> readPassword(SecretCache cache, Mono<Map<String, String>> call) {
+    return cache.getSecret("store", "key", null, call)
+        .contextWrite(Context.of("tenant", "a"))
+        .map(secret -> secret.get("password"));
+  }
+
+  /**
+   * Waits for the background refresh to land, which only depends on the refresh being scheduled, not on timing.
+   */
+  private static void awaitPassword(SecretCache cache, Mono<Map<String, String>> call, String expected) {
+    readPassword(cache, call)
+        .filter(expected::equals)
+        .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(10)))
+        .block(TIMEOUT);
+  }
+}
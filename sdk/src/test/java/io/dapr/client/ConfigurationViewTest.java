@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.ConfigurationItem;
+import io.dapr.client.domain.GetConfigurationRequest;
+import io.dapr.client.domain.SubscribeConfigurationRequest;
+import io.dapr.client.domain.SubscribeConfigurationResponse;
+import io.dapr.client.domain.UnsubscribeConfigurationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ConfigurationViewTest {
+
+  private static final String CONFIG_STORE_NAME = "MyConfigStore";
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  private DaprClient client;
+
+  private SubscribeConfigurationRequest request;
+
+  @BeforeEach
+  public void setup() {
+    client = mock(DaprClient.class);
+    request = new SubscribeConfigurationRequest(CONFIG_STORE_NAME, List.of("flag", "limit"));
+    when(client.unsubscribeConfiguration(any(String.class), any(String.class)))
+        .thenReturn(Mono.just(new UnsubscribeConfigurationResponse(true, "")));
+  }
+
+  @Test
+  public void updatesAreAppliedOverTheInitialLoad() {
+    Sinks.Many<SubscribeConfigurationResponse> updates = Sinks.many().unicast().onBackpressureBuffer();
+    Sinks.One<Map<String, ConfigurationItem>> load = Sinks.one();
+    when(client.subscribeConfiguration(request)).thenReturn(updates.asFlux());
+    when(client.getConfiguration(any(GetConfigurationRequest.class))).thenReturn(load.asMono());
+    ConfigurationView view = new ConfigurationView(client, request, Duration.ofMillis(10), Duration.ofMillis(10));
+    List<Integer> limits = new ArrayList<>();
+    view.addListener("limit", Integer::valueOf, (key, value) -> limits.add(value));
+    view.start();
+
+    updates.tryEmitNext(response("sub-1", item("limit", "20", "2")));
+    load.tryEmitValue(Map.of("flag", item("flag", "true", "1"), "limit", item("limit", "10", "1")));
+    view.ready().block(TIMEOUT);
+
+    assertEquals(Boolean.TRUE, view.getValue("flag", Boolean::parseBoolean, false));
+    assertEquals("20", view.getValue("limit"));
+    assertEquals(2, view.getVersion());
+
+    updates.tryEmitNext(response("sub-1", item("limit", "30", "3")));
+    updates.tryEmitNext(response("sub-1", item("limit", "30", "3")));
+
+    assertEquals(30, view.getValue("limit", Integer::valueOf, 0));
+    assertEquals(3, view.getVersion());
+    assertEquals(List.of(20, 30), limits);
+    assertNull(view.getItem("unknown"));
+    assertEquals(2, view.getItems().size());
+
+    view.close();
+    verify(client).unsubscribeConfiguration("sub-1", CONFIG_STORE_NAME);
+  }
+
+  @Test
+  public void failedSubscriptionIsResumed() throws Exception {
+    AtomicInteger subscriptions = new AtomicInteger();
+    Sinks.Many<SubscribeConfigurationResponse> updates = Sinks.many().unicast().onBackpressureBuffer();
+    when(client.subscribeConfiguration(request)).thenAnswer(invocation -> subscriptions.incrementAndGet() == 1
+        ? Mono.error(new IllegalStateException("unavailable")).flux()
+        : updates.asFlux());
+    when(client.getConfiguration(any(GetConfigurationRequest.class)))
+        .thenReturn(Mono.just(Map.of("flag", item("flag", "false", "1"))));
+    ConfigurationView view = new ConfigurationView(client, request, Duration.ofMillis(10), Duration.ofMillis(10));
+    List<Boolean> flags = new ArrayList<>();
+    view.addListener("flag", Boolean::valueOf, (key, value) -> flags.add(value)).dispose();
+    view.start();
+
+    view.ready().block(TIMEOUT);
+    // Buffered until the subscription is resumed.
+    updates.tryEmitNext(response("sub-2", item("flag", "true", "2")));
+    for (int i = 0; i < 100 && !"true".equals(view.getValue("flag")); i++) {
+      Thread.sleep(10);
+    }
+
+    assertEquals(2, subscriptions.get());
+    assertEquals("true", view.getValue("flag"));
+    assertEquals(Collections.emptyList(), flags);
+    view.close();
+  }
+
+  @Test
+  public void storeNameIsRequired() {
+    assertThrows(IllegalArgumentException.class, () -> new ConfigurationView(
+        client, new SubscribeConfigurationRequest("", List.of()), Duration.ofMillis(10), Duration.ofMillis(10)));
+  }
+
+  private static ConfigurationItem item(String key, String value, String version) {
+    return new ConfigurationItem(key, value, version);
+  }
+
+  private static SubscribeConfigurationResponse response(String id, ConfigurationItem item) {
+    return new SubscribeConfigurationResponse(id, Map.of(item.getKey(), item));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.internal.grpc.DaprClientGrpcInterceptors;
+import io.dapr.v1.CommonProtos;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprProtos;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.Rule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@EnableRuleMigrationSupport
+public class DaprClientGrpcInterceptorTest {
+
+  private static final Metadata.Key<String> APP_ID_KEY =
+      Metadata.Key.of("dapr-app-id", Metadata.ASCII_STRING_MARSHALLER);
+
+  private static final Metadata.Key<String> API_TOKEN_KEY =
+      Metadata.Key.of(Headers.DAPR_API_TOKEN, Metadata.ASCII_STRING_MARSHALLER);
+
+  @Rule
+  public final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  private final AtomicReference<Metadata> receivedHeaders = new AtomicReference<>();
+
+  private ManagedChannel channel;
+
+  @BeforeEach
+  public void setup() throws Exception {
+    DaprGrpc.DaprImplBase daprImplBase = new DaprGrpc.DaprImplBase() {
+      @Override
+      public void invokeService(DaprProtos.InvokeServiceRequest request,
+                                StreamObserver<CommonProtos.InvokeResponse> responseObserver) {
+        responseObserver.onNext(CommonProtos.InvokeResponse.getDefaultInstance());
+        responseObserver.onCompleted();
+      }
+    };
+    ServerInterceptor headerCapture = new ServerInterceptor() {
+      @Override
+      public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                   Metadata headers,
+                                                                   ServerCallHandler<ReqT, RespT> next) {
+        receivedHeaders.set(headers);
+        return next.startCall(call, headers);
+      }
+    };
+
+    String serverName = InProcessServerBuilder.generateName();
+    grpcCleanup.register(InProcessServerBuilder.forName(serverName)
+        .addService(ServerInterceptors.intercept(daprImplBase, headerCapture))
+        .build().start());
+    channel = grpcCleanup.register(InProcessChannelBuilder.forName(serverName).build());
+  }
+
+  @Test
+  public void interceptorAddsAppIdAndTokenAndConsumesHeaders() {
+    AtomicReference<Metadata> responseHeaders = new AtomicReference<>();
+    DaprClientGrpcInterceptors interceptors = new DaprClientGrpcInterceptors("token", null);
+    DaprGrpc.DaprStub stub = interceptors.intercept(
+        "myapp", DaprGrpc.newStub(channel), Context.empty(), responseHeaders::set);
+
+    invoke(stub);
+
+    assertEquals("myapp", receivedHeaders.get().get(APP_ID_KEY));
+    assertEquals("token", receivedHeaders.get().get(API_TOKEN_KEY));
+    assertNotNull(responseHeaders.get());
+  }
+
+  @Test
+  public void installedInterceptorOnlyAddsTokenWithoutCallOptions() {
+    DaprClientGrpcInterceptors interceptors = new DaprClientGrpcInterceptors("token", null);
+
+    invoke(interceptors.install(DaprGrpc.newStub(channel)));
+
+    assertEquals("token", receivedHeaders.get().get(API_TOKEN_KEY));
+    assertNull(receivedHeaders.get().get(APP_ID_KEY));
+  }
+
+  private static void invoke(DaprGrpc.DaprStub stub) {
+    Mono.<CommonProtos.InvokeResponse>create(sink -> stub.invokeService(
+        DaprProtos.InvokeServiceRequest.getDefaultInstance(),
+        new StreamObserver<>() {
+          @Override
+          public void onNext(CommonProtos.InvokeResponse value) {
+            sink.success(value);
+          }
+
+          @Override
+          public void onError(Throwable t) {
+            sink.error(t);
+          }
+
+          @Override
+          public void onCompleted() {
+          }
+        })).block(Duration.ofSeconds(5));
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.google.protobuf.Empty;
+import io.dapr.client.metrics.DaprMetrics;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprProtos;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@EnableRuleMigrationSupport
+public class DaprClientGrpcMetricsTest {
+
+  @Rule
+  public final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  private final List<String> recorded = new CopyOnWriteArrayList<>();
+
+  private DaprClient client;
+
+  @BeforeEach
+  public void setup() throws Exception {
+    DaprGrpc.DaprImplBase daprImplBase = new DaprGrpc.DaprImplBase() {
+      @Override
+      public void saveState(DaprProtos.SaveStateRequest request, StreamObserver<Empty> responseObserver) {
+        responseObserver.onNext(Empty.getDefaultInstance());
+        responseObserver.onCompleted();
+      }
+
+      @Override
+      public void getState(DaprProtos.GetStateRequest request,
+                           StreamObserver<DaprProtos.GetStateResponse> responseObserver) {
+        responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+      }
+    };
+
+    String serverName = InProcessServerBuilder.generateName();
+    grpcCleanup.register(InProcessServerBuilder.forName(serverName).directExecutor()
+        .addService(daprImplBase)
+        .build().start());
+    ManagedChannel channel = grpcCleanup.register(
+        InProcessChannelBuilder.forName(serverName).directExecutor().build());
+
+    DaprMetrics metrics = new DaprMetrics() {
+      @Override
+      public Call start(String transport, String api) {
+        return new Call() {
+          private String component;
+
+          @Override
+          public void component(String name) {
+            this.component = name;
+          }
+
+          @Override
+          public void end(String status) {
+            recorded.add(String.join("|", transport, api, component, status));
+          }
+        };
+      }
+
+      @Override
+      public void retry(String status) {
+        recorded.add("retry|" + status);
+      }
+    };
+
+    client = new DaprClientImpl(
+        new GrpcChannelFacade(channel),
+        DaprGrpc.newStub(channel),
+        null,
+        new DefaultObjectSerializer(),
+        new DefaultObjectSerializer(),
+        new ResiliencyOptions().setMaxRetries(1),
+        null,
+        metrics);
+  }
+
+  @AfterEach
+  public void teardown() throws Exception {
+    client.close();
+  }
+
+  @Test
+  public void recordsSuccessfulCall() {
+    client.saveState("mystore", "key", "value").block();
+
+    assertEquals(List.of("grpc|SaveState|mystore|OK"), recorded);
+  }
+
+  @Test
+  public void recordsFailedAttemptsAndRetries() {
+    assertThrows(RuntimeException.class, () -> client.getState("mystore", "key", String.class).block());
+
+    assertEquals(List.of(
+        "grpc|GetState|mystore|UNAVAILABLE",
+        "retry|UNAVAILABLE",
+        "grpc|GetState|mystore|UNAVAILABLE"), recorded);
+  }
+}
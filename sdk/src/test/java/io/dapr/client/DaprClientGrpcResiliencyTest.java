@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.google.protobuf.Empty;
+import io.dapr.client.resiliency.ResiliencyOptions;
+import io.dapr.client.metrics.DaprMetrics;
+import io.dapr.exceptions.DaprException;
+import io.dapr.internal.grpc.interceptors.DaprClientInterceptor;
+import io.dapr.internal.resiliency.BulkheadPolicy;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprProtos;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import org.junit.Rule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.migrationsupport.rules.EnableRuleMigrationSupport;
+import reactor.core.Disposable;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnableRuleMigrationSupport
+public class DaprClientGrpcResiliencyTest {
+
+  @Rule
+  public final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
+
+  private final AtomicInteger getStateCalls = new AtomicInteger();
+
+  private final CountDownLatch saveStateLatch = new CountDownLatch(1);
+
+  private final AtomicInteger getSecretCalls = new AtomicInteger();
+
+  private final CountDownLatch getSecretCancelled = new CountDownLatch(1);
+
+  private ManagedChannel channel;
+
+  private DaprClient client;
+
+  @BeforeEach
+  public void setup() throws Exception {
+    DaprGrpc.DaprImplBase daprImplBase = new DaprGrpc.DaprImplBase() {
+      @Override
+      public void getState(DaprProtos.GetStateRequest request,
+                           StreamObserver<DaprProtos.GetStateResponse> responseObserver) {
+        getStateCalls.incrementAndGet();
+        responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+      }
+
+      @Override
+      public void saveState(DaprProtos.SaveStateRequest request, StreamObserver<Empty> responseObserver) {
+        try {
+          saveStateLatch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        responseObserver.onNext(Empty.getDefaultInstance());
+        responseObserver.onCompleted();
+      }
+
+      @Override
+      public void getSecret(DaprProtos.GetSecretRequest request,
+                            StreamObserver<DaprProtos.GetSecretResponse> responseObserver) {
+        if (getSecretCalls.incrementAndGet() == 1) {
+          // Never answers the first call, which is only released by its cancellation.
+          Context.current().addListener(context -> getSecretCancelled.countDown(), Runnable::run);
+          return;
+        }
+
+        responseObserver.onNext(DaprProtos.GetSecretResponse.newBuilder().putData("key", "hedged").build());
+        responseObserver.onCompleted();
+      }
+
+    };
+
+    String serverName = InProcessServerBuilder.generateName();
+    grpcCleanup.register(InProcessServerBuilder.forName(serverName)
+        .addService(daprImplBase)
+        .build().start());
+    channel = grpcCleanup.register(InProcessChannelBuilder.forName(serverName).build());
+
+    ResiliencyOptions options = new ResiliencyOptions()
+        .setCircuitBreakerFailureRateThreshold(100.0)
+        .setCircuitBreakerWindowSize(1)
+        .setCircuitBreakerOpenDuration(Duration.ofMinutes(1))
+        .setMaxConcurrentCalls(1);
+    client = new DaprClientImpl(
+        new GrpcChannelFacade(channel),
+        DaprGrpc.newStub(channel),
+        null,
+        new DefaultObjectSerializer(),
+        new DefaultObjectSerializer(),
+        options,
+        null,
+        null);
+  }
+
+  @AfterEach
+  public void teardown() throws Exception {
+    saveStateLatch.countDown();
+    client.close();
+  }
+
+  @Test
+  public void openCircuitFailsFastWithoutCallingSidecar() {
+    assertThrows(DaprException.class, () -> client.getState("store", "key", String.class).block());
+
+    DaprException exception =
+        assertThrows(DaprException.class, () -> client.getState("store", "key", String.class).block());
+
+    assertEquals("UNAVAILABLE", exception.getErrorCode());
+    assertTrue(exception.getMessage().contains("Circuit breaker is open for GetState"));
+    assertEquals(1, getStateCalls.get());
+  }
+
+  @Test
+  public void fullBulkheadRejectsCall() {
+    Disposable pending = client.saveState("store", "key", "value").subscribe();
+
+    try {
+      DaprException exception =
+          assertThrows(DaprException.class, () -> client.saveState("store", "key", "value").block());
+
+      assertEquals("RESOURCE_EXHAUSTED", exception.getErrorCode());
+    } finally {
+      saveStateLatch.countDown();
+      pending.dispose();
+    }
+  }
+
+  @Test
+  public void callsCancelledBeforeStartingHoldNoPermit() {
+    Channel intercepted = ClientInterceptors.intercept(
+        channel, new DaprClientInterceptor(null, null, DaprMetrics.NOOP, null, new BulkheadPolicy(1)));
+    for (int i = 0; i < 3; i++) {
+      intercepted.newCall(DaprGrpc.getSaveStateMethod(), CallOptions.DEFAULT).cancel("Not needed", null);
+    }
+    saveStateLatch.countDown();
+
+    assertEquals(Empty.getDefaultInstance(),
+        DaprGrpc.newBlockingStub(intercepted).saveState(DaprProtos.SaveStateRequest.getDefaultInstance()));
+  }
+
+  @Test
+  public void slowReadIsHedgedAndCancelled() throws Exception {
+    ResiliencyOptions options = new ResiliencyOptions().setHedgeDelay(Duration.ofMillis(50));
+    try (DaprClient hedgingClient = new DaprClientImpl(
+        new GrpcChannelFacade(channel),
+        DaprGrpc.newStub(channel),
+        null,
+        new DefaultObjectSerializer(),
+        new DefaultObjectSerializer(),
+        options,
+        null,
+        null)) {
+      Map<String, String> secret = hedgingClient.getSecret("vault", "key").block(Duration.ofSeconds(5));
+
+      assertEquals(Map.of("key", "hedged"), secret);
+      assertEquals(2, getSecretCalls.get());
+      assertTrue(getSecretCancelled.await(5, TimeUnit.SECONDS));
+    }
+  }
+}
@@ -24,10 +24,12 @@ import io.dapr.client.domain.DaprMetadata;
 import io.dapr.client.domain.DeleteStateRequest;
 import io.dapr.client.domain.ExecuteStateTransactionRequest;
 import io.dapr.client.domain.GetBulkStateRequest;
+import io.dapr.client.domain.LazyState;
 import io.dapr.client.domain.GetStateRequest;
 import io.dapr.client.domain.InvokeBindingRequest;
 import io.dapr.client.domain.PublishEventRequest;
 import io.dapr.client.domain.RuleMetadata;
+import io.dapr.client.domain.SecretCacheOptions;
 import io.dapr.client.domain.State;
 import io.dapr.client.domain.StateOptions;
 import io.dapr.client.domain.SubscribeConfigurationResponse;
@@ -35,8 +37,10 @@ import io.dapr.client.domain.SubscriptionMetadata;
 import io.dapr.client.domain.TransactionalStateOperation;
 import io.dapr.client.domain.UnsubscribeConfigurationRequest;
 import io.dapr.client.domain.UnsubscribeConfigurationResponse;
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.exceptions.DaprException;
 import io.dapr.utils.TypeRef;
 import io.dapr.v1.CommonProtos;
 import io.dapr.v1.DaprGrpc;
@@ -64,6 +68,7 @@ import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -79,6 +84,7 @@ import static io.dapr.utils.TestUtils.assertThrowsDaprException;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -88,6 +94,7 @@ import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -111,6 +118,7 @@ public class DaprClientGrpcTest {
     daprStub = mock(DaprGrpc.DaprStub.class);
     daprHttp = mock(DaprHttp.class);
     when(daprStub.withInterceptors(any())).thenReturn(daprStub);
+    when(daprStub.withOption(any(), any())).thenReturn(daprStub);
     client = new DaprClientImpl(
         channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer());
     serializer = new ObjectSerializer();
@@ -685,6 +693,69 @@ public class DaprClientGrpcTest {
     assertEquals("not found", result.stream().skip(1).findFirst().get().getError());
   }
 
+  @Test
+  public void getStatesLazyValues() throws IOException {
+    DaprProtos.GetBulkStateResponse responseEnvelope = DaprProtos.GetBulkStateResponse.newBuilder()
+        .addItems(DaprProtos.BulkStateItem.newBuilder()
+            .setData(serialize("hello world"))
+            .setKey("100")
+            .setEtag("1")
+            .build())
+        .addItems(DaprProtos.BulkStateItem.newBuilder()
+            .setData(ByteString.copyFromUtf8("not json"))
+            .setKey("200")
+            .build())
+        .build();
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<DaprProtos.GetBulkStateResponse> observer = (StreamObserver<DaprProtos.GetBulkStateResponse>) invocation.getArguments()[1];
+      observer.onNext(responseEnvelope);
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).getBulkState(any(DaprProtos.GetBulkStateRequest.class), any());
+
+    GetBulkStateRequest request = new GetBulkStateRequest(STATE_STORE_NAME, "100", "200").setLazyValues(true);
+    List<State<Integer>> result = client.getBulkState(request, TypeRef.INT).block();
+
+    // Values are not deserialized until read, an unreadable value only fails when read.
+    assertEquals(2, result.size());
+    assertInstanceOf(LazyState.class, result.get(0));
+    assertEquals("1", result.get(0).getEtag());
+    assertEquals("200", result.get(1).getKey());
+    assertThrows(DaprException.class, () -> result.get(1).getValue());
+  }
+
+  @Test
+  public void getStatesParallelDeserialization() throws IOException {
+    DaprProtos.GetBulkStateResponse.Builder responseBuilder = DaprProtos.GetBulkStateResponse.newBuilder();
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      keys.add(String.valueOf(i));
+      responseBuilder.addItems(DaprProtos.BulkStateItem.newBuilder()
+          .setData(serialize("value-" + i))
+          .setKey(String.valueOf(i))
+          .build());
+    }
+    DaprProtos.GetBulkStateResponse responseEnvelope = responseBuilder.build();
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<DaprProtos.GetBulkStateResponse> observer = (StreamObserver<DaprProtos.GetBulkStateResponse>) invocation.getArguments()[1];
+      observer.onNext(responseEnvelope);
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).getBulkState(any(DaprProtos.GetBulkStateRequest.class), any());
+
+    GetBulkStateRequest request = new GetBulkStateRequest(STATE_STORE_NAME, keys).setDeserializationParallelism(4);
+    List<State<String>> result = client.getBulkState(request, TypeRef.STRING).block();
+
+    assertEquals(keys, result.stream().map(State::getKey).collect(Collectors.toList()));
+    for (int i = 0; i < 50; i++) {
+      assertEquals("value-" + i, result.get(i).getValue());
+    }
+    // More workers than values, one value per chunk.
+    assertEquals(result, client.getBulkState(request.setDeserializationParallelism(64), TypeRef.STRING).block());
+    assertThrows(IllegalArgumentException.class,
+        () -> client.getBulkState(request.setDeserializationParallelism(0), TypeRef.STRING).block());
+  }
+
   @Test
   public void getStatesInteger() throws IOException {
     Map<String, String> metadata = new HashMap<>();
@@ -1604,6 +1675,29 @@ public class DaprClientGrpcTest {
     assertEquals(expectedValue, result.get(expectedKey));
   }
 
+  @Test
+  public void getSecretsCached() {
+    DaprProtos.GetSecretResponse responseEnvelope = buildGetSecretResponse("attributeKey", "Expected secret value");
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<DaprProtos.GetSecretResponse> observer = (StreamObserver<DaprProtos.GetSecretResponse>) invocation.getArguments()[1];
+      observer.onNext(responseEnvelope);
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).getSecret(any(DaprProtos.GetSecretRequest.class), any());
+    client = new DaprClientImpl(channel, daprStub, daprHttp, new DefaultObjectSerializer(),
+        new DefaultObjectSerializer(), null, null, DaprMetrics.NOOP,
+        new SecretCacheOptions().setTtl(Duration.ofMinutes(1)).setTtl("uncached", Duration.ZERO));
+
+    for (int i = 0; i < 3; i++) {
+      assertEquals("Expected secret value", client.getSecret(SECRET_STORE_NAME, "key").block().get("attributeKey"));
+    }
+    client.getSecret(SECRET_STORE_NAME, "key", Collections.singletonMap("version", "2")).block();
+    client.getSecret("uncached", "key").block();
+    client.getSecret("uncached", "key").block();
+
+    verify(daprStub, times(4)).getSecret(any(DaprProtos.GetSecretRequest.class), any());
+  }
+
   @Test
   public void getBulkSecrets() {
     DaprProtos.GetBulkSecretResponse responseEnvelope = buildGetBulkSecretResponse(
@@ -15,6 +15,7 @@ package io.dapr.client;
 import com.fasterxml.jackson.core.JsonParseException;
 import io.dapr.client.domain.HttpExtension;
 import io.dapr.client.domain.InvokeMethodRequest;
+import io.dapr.client.resiliency.ResiliencyOptions;
 import io.dapr.config.Properties;
 import io.dapr.exceptions.DaprException;
 import io.dapr.serializer.DefaultObjectSerializer;
@@ -30,6 +31,7 @@ import reactor.util.context.Context;
 import reactor.util.context.ContextView;
 
 import java.io.IOException;
+import java.net.ConnectException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.http.HttpClient;
@@ -39,6 +41,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -46,11 +49,13 @@ import static io.dapr.utils.TestUtils.assertThrowsDaprException;
 import static io.dapr.utils.TestUtils.findFreePort;
 import static io.dapr.utils.TestUtils.formatIpAddress;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -63,6 +68,7 @@ public class DaprClientHttpTest {
   private static final int HTTP_NOT_FOUND = 404;
   private static final int HTTP_SERVER_ERROR = 500;
   private static final int HTTP_OK = 200;
+  private static final int HTTP_SERVICE_UNAVAILABLE = 503;
   private static final Duration READ_TIMEOUT = Duration.ofSeconds(60);
   
   private String sidecarIp;
@@ -85,15 +91,21 @@ public class DaprClientHttpTest {
   }
 
   private static DaprClient buildDaprClient(DaprHttp daprHttp) {
+    return buildDaprClient(daprHttp, null);
+  }
+
+  private static DaprClient buildDaprClient(DaprHttp daprHttp, ResiliencyOptions resiliencyOptions) {
     GrpcChannelFacade channel = mock(GrpcChannelFacade.class);
     DaprGrpc.DaprStub daprStub = mock(DaprGrpc.DaprStub.class);
     when(daprStub.withInterceptors(any())).thenReturn(daprStub);
+    when(daprStub.withOption(any(), any())).thenReturn(daprStub);
     try {
       doNothing().when(channel).close();
     } catch (IOException e) {
       throw new RuntimeException(e);
     }
-    return new DaprClientImpl(channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer());
+    return new DaprClientImpl(channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer(),
+        resiliencyOptions, null, null);
   }
 
   @Test
@@ -342,6 +354,73 @@ public class DaprClientHttpTest {
     assertEquals(HTTP_SERVER_ERROR, exception.getHttpStatusCode());
   }
 
+  @Test
+  public void invokeServiceRetriesUnavailableAndConnectErrors() {
+    MockHttpResponse unavailable = new MockHttpResponse(HTTP_SERVICE_UNAVAILABLE);
+    MockHttpResponse ok = new MockHttpResponse(EXPECTED_RESULT.getBytes(), HTTP_OK);
+    DaprClient client = buildDaprClient(daprHttp, new ResiliencyOptions().setMaxRetries(2));
+
+    when(httpClient.sendAsync(any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(unavailable))
+        .thenReturn(CompletableFuture.failedFuture(new ConnectException("Connection refused")))
+        .thenReturn(CompletableFuture.completedFuture(ok));
+
+    Mono<byte[]> mono = client.invokeMethod("myapp", "mymethod", "anything", HttpExtension.GET, byte[].class);
+
+    assertEquals(new String(mono.block()), EXPECTED_RESULT);
+    verify(httpClient, times(3)).sendAsync(any(), any());
+  }
+
+  @Test
+  public void invokeServiceDoesNotRetryServerError() {
+    MockHttpResponse serverError = new MockHttpResponse(HTTP_SERVER_ERROR);
+    DaprClient client = buildDaprClient(daprHttp, new ResiliencyOptions().setMaxRetries(2));
+
+    when(httpClient.sendAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(serverError));
+
+    DaprException exception = assertThrows(DaprException.class,
+        () -> client.invokeMethod("myapp", "mymethod", "anything", HttpExtension.POST).block());
+
+    assertEquals(HTTP_SERVER_ERROR, exception.getHttpStatusCode());
+    verify(httpClient, times(1)).sendAsync(any(), any());
+  }
+
+  @Test
+  public void invokeServiceLearnsHedgeDelayPerTarget() {
+    MockHttpResponse ok = new MockHttpResponse(EXPECTED_RESULT.getBytes(), HTTP_OK);
+    DaprClient client = buildDaprClient(daprHttp, new ResiliencyOptions().setHedgeLatencyPercentile(50.0));
+
+    when(httpClient.sendAsync(any(), any())).thenAnswer(invocation -> {
+      HttpRequest request = invocation.getArgument(0);
+      if (request.uri().getPath().contains("/otherapp/")) {
+        return CompletableFuture.supplyAsync(
+            () -> ok, CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS));
+      }
+      return CompletableFuture.completedFuture(ok);
+    });
+
+    for (int i = 0; i < 20; i++) {
+      client.invokeMethod("myapp", "mymethod", null, HttpExtension.GET, byte[].class).block();
+    }
+    // The slow app has not learned a delay yet, it is not hedged with the one learned for the fast app.
+    client.invokeMethod("otherapp", "mymethod", null, HttpExtension.GET, byte[].class).block();
+
+    verify(httpClient, times(21)).sendAsync(any(), any());
+  }
+
+  @Test
+  public void invokeServiceTimesOut() {
+    DaprClient client = buildDaprClient(daprHttp, new ResiliencyOptions().setTimeout(Duration.ofMillis(100)));
+
+    when(httpClient.sendAsync(any(), any())).thenReturn(new CompletableFuture<>());
+
+    DaprException exception = assertThrows(DaprException.class,
+        () -> client.invokeMethod("myapp", "mymethod", "anything", HttpExtension.GET).block());
+
+    assertEquals("DEADLINE_EXCEEDED", exception.getErrorCode());
+    assertInstanceOf(TimeoutException.class, exception.getCause());
+  }
+
   @Test
   public void invokeServiceDaprErrorFromGRPC() {
     byte[] content = "{ \"code\": 7 }".getBytes();
@@ -12,6 +12,7 @@ limitations under the License.
 */
 package io.dapr.client;
 
+import io.dapr.client.metrics.DaprMetrics;
 import io.dapr.config.Properties;
 import io.dapr.exceptions.DaprErrorDetails;
 import io.dapr.exceptions.DaprException;
@@ -35,6 +36,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static io.dapr.utils.TestUtils.formatIpAddress;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -108,6 +110,40 @@ public class DaprHttpTest {
     assertEquals("xyz", request.headers().firstValue(Headers.DAPR_API_TOKEN).get());
   }
 
+  @Test
+  public void invokeApi_recordsMetrics() throws IOException {
+    List<String> recorded = new CopyOnWriteArrayList<>();
+    DaprMetrics metrics = new DaprMetrics() {
+      @Override
+      public Call start(String transport, String api) {
+        return new Call() {
+          @Override
+          public void requestSize(long bytes) {
+            recorded.add("request|" + bytes);
+          }
+
+          @Override
+          public void end(String status) {
+            recorded.add(String.join("|", transport, api, status));
+          }
+        };
+      }
+    };
+    byte[] content = serializer.serialize(EXPECTED_RESULT);
+    when(httpClient.sendAsync(any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(new MockHttpResponse(content, HTTP_OK)))
+        .thenReturn(CompletableFuture.completedFuture(new MockHttpResponse(new byte[0], HTTP_SERVER_ERROR)));
+
+    DaprHttp daprHttp = new DaprHttp(sidecarIp, 3500, daprTokenApi, READ_TIMEOUT, httpClient, metrics);
+    daprHttp.invokeApi("POST", "v1.0/invoke/app/method/hello".split("/"), null, "hi", null, Context.empty())
+        .block();
+    StepVerifier.create(daprHttp.invokeApi("GET", "v1.0/state/store".split("/"), null, null, Context.empty()))
+        .expectError(DaprException.class)
+        .verify();
+
+    assertEquals(List.of("request|2", "http|invoke|200", "request|0", "http|state|500"), recorded);
+  }
+
   @Test
   public void invokeApi_daprApiToken_absent() throws IOException {
     byte[] content = serializer.serialize(EXPECTED_RESULT);
@@ -42,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.stubbing.Answer;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -91,6 +92,7 @@ public class DaprPreviewClientGrpcTest {
 		daprStub = mock(DaprGrpc.DaprStub.class);
 		daprHttp = mock(DaprHttp.class);
 		when(daprStub.withInterceptors(any())).thenReturn(daprStub);
+		when(daprStub.withOption(any(), any())).thenReturn(daprStub);
 		previewClient = new DaprClientImpl(
 				channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer());
 		doNothing().when(channel).close();
@@ -374,6 +376,49 @@ public class DaprPreviewClientGrpcTest {
 		assertEquals( "error data", response.getResults().get(0).getError(), "result must be same");
 	}
 
+	@Test
+	public void queryStateAllFollowsPageTokens() throws JsonProcessingException {
+		List<String> queries = Collections.synchronizedList(new ArrayList<>());
+		Map<String, DaprProtos.QueryStateResponse> pages = new HashMap<>();
+		pages.put("", buildQueryStateResponse(
+				List.of(new QueryStateItem<Object>("1", (Object) "a", null), new QueryStateItem<Object>("2", (Object) "b", null)),
+				"t1"));
+		pages.put("t1", buildQueryStateResponse(List.of(new QueryStateItem<Object>("3", (Object) "c", null)), "t2"));
+		pages.put("t2", buildQueryStateResponse(List.of(new QueryStateItem<Object>("4", (Object) "d", null)), ""));
+		doAnswer(invocation -> {
+			DaprProtos.QueryStateRequest req = invocation.getArgument(0);
+			queries.add(req.getQuery());
+			String token = MAPPER.readTree(req.getQuery()).path("page").path("token").asText();
+
+			StreamObserver<DaprProtos.QueryStateResponse> observer = invocation.getArgument(1);
+			observer.onNext(pages.get(token));
+			observer.onCompleted();
+			return null;
+		}).when(daprStub).queryStateAlpha1(any(DaprProtos.QueryStateRequest.class), any());
+
+		QueryStateRequest request = new QueryStateRequest(QUERY_STORE_NAME)
+				.setQueryString("{\"filter\":{\"EQ\":{\"state\":\"CA\"}},\"page\":{\"limit\":2}}");
+
+		StepVerifier.create(previewClient.queryStateAll(request, String.class).map(QueryStateItem::getValue), 1)
+				.expectNext("a")
+				// The first page is consumed, only the next one is fetched ahead.
+				.then(() -> assertEquals(2, queries.size()))
+				.thenRequest(Long.MAX_VALUE)
+				.expectNext("b", "c", "d")
+				.verifyComplete();
+
+		assertEquals(3, queries.size());
+		assertEquals(2, MAPPER.readTree(queries.get(1)).path("page").path("limit").asInt());
+		assertEquals("CA", MAPPER.readTree(queries.get(2)).path("filter").path("EQ").path("state").asText());
+	}
+
+	@Test
+	public void queryStateAllExceptions() {
+		assertThrows(IllegalArgumentException.class, () -> previewClient.queryStateAll(null, String.class).blockFirst());
+		assertThrows(IllegalArgumentException.class,
+				() -> previewClient.queryStateAll(new QueryStateRequest("storeName"), String.class).blockFirst());
+	}
+
 	@Test
 	public void tryLock() {
 
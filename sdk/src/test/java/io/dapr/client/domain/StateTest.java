@@ -4,11 +4,13 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class StateTest {
 
@@ -106,4 +108,43 @@ public class StateTest {
     assertNotEquals(state1.hashCode(), state4.hashCode());
     assertNotEquals(state1, state4);
   }
+
+  @Test
+  public void testLazyStateDeserializesOnce() {
+    AtomicInteger loads = new AtomicInteger();
+    State<String> state = new LazyState<>(KEY, () -> "value-" + loads.incrementAndGet(), ETAG, METADATA, OPTIONS);
+
+    assertEquals(0, loads.get());
+    assertEquals(KEY, state.getKey());
+    assertEquals(METADATA, state.getMetadata());
+    assertEquals(0, loads.get());
+    assertEquals("value-1", state.getValue());
+    assertEquals("value-1", state.getValue());
+    assertEquals(new State<>(KEY, "value-1", ETAG, METADATA, OPTIONS), state);
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void testLazyStateToStringDoesNotDeserialize() {
+    AtomicInteger loads = new AtomicInteger();
+    State<String> state = new LazyState<>(KEY, () -> "value-" + loads.incrementAndGet(), ETAG, METADATA, OPTIONS);
+
+    assertTrue(state.toString().contains("value=<not deserialized>"));
+    assertEquals(0, loads.get());
+    assertEquals(state.hashCode(), new State<>(KEY, "value-1", ETAG, METADATA, OPTIONS).hashCode());
+    assertEquals(new State<>(KEY, "value-1", ETAG, METADATA, OPTIONS).toString(), state.toString());
+  }
+
+  @Test
+  public void testLazyQueryStateItemComparesDeserializedValue() {
+    AtomicInteger loads = new AtomicInteger();
+    QueryStateItem<Integer> item = new LazyQueryStateItem<>(KEY, loads::incrementAndGet, ETAG);
+
+    assertTrue(item.toString().contains("value=<not deserialized>"));
+    assertEquals(0, loads.get());
+    assertEquals(new QueryStateItem<>(KEY, 1, ETAG), item);
+    assertEquals(new QueryStateItem<>(KEY, 1, ETAG).hashCode(), item.hashCode());
+    assertEquals(new QueryStateItem<>(KEY, 1, ETAG).toString(), item.toString());
+    assertEquals(1, loads.get());
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.resiliency;
+
+import io.dapr.client.metrics.DaprMetrics;
+import io.dapr.exceptions.DaprException;
+import io.dapr.internal.resiliency.AdaptiveConcurrencyLimiter;
+import io.dapr.internal.resiliency.CallNotPermittedException;
+import io.grpc.Status;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+  @Test
+  public void rejectsCallsBeyondLimit() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, null, null);
+
+    assertTrue(limiter.tryAcquire("GetState"));
+    assertTrue(limiter.tryAcquire("GetState"));
+    assertFalse(limiter.tryAcquire("GetState"));
+    assertTrue(limiter.tryAcquire("SaveState"));
+
+    limiter.release("GetState");
+    assertTrue(limiter.tryAcquire("GetState"));
+  }
+
+  @Test
+  public void limitGrowsWhileBusyAndShrinksOnOverload() {
+    List<String> recorded = new CopyOnWriteArrayList<>();
+    DaprMetrics metrics = new DaprMetrics() {
+      @Override
+      public void concurrencyLimit(String api, int limit) {
+        recorded.add(api + "=" + limit);
+      }
+    };
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, Map.of("invoke", 21), metrics);
+    assertEquals(20, limiter.getCurrentLimit("GetState"));
+
+    for (int i = 0; i < 20; i++) {
+      assertTrue(limiter.tryAcquire("GetState"));
+    }
+    limiter.onComplete("GetState", Status.OK);
+    assertEquals(21, limiter.getCurrentLimit("GetState"));
+
+    limiter.onComplete("GetState", Status.UNAVAILABLE);
+    assertEquals(18, limiter.getCurrentLimit("GetState"));
+
+    // Not growing while less than half of the limit is in use.
+    for (int i = 0; i < 17; i++) {
+      limiter.release("GetState");
+    }
+    limiter.onComplete("GetState", Status.OK);
+    assertEquals(18, limiter.getCurrentLimit("GetState"));
+
+    for (int i = 0; i < 20; i++) {
+      assertTrue(limiter.tryAcquire("invoke"));
+    }
+    limiter.onComplete("invoke", false);
+    assertTrue(limiter.tryAcquire("invoke"));
+    limiter.onComplete("invoke", false);
+    assertEquals(21, limiter.getCurrentLimit("invoke"));
+
+    assertEquals(List.of("GetState=21", "GetState=18", "invoke=21"), recorded);
+  }
+
+  @Test
+  public void appliesLimitToReactiveCalls() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, null, null);
+    Sinks.One<String> pending = Sinks.one();
+    Mono<String> first = limiter.apply("invoke", pending.asMono());
+    first.subscribe();
+
+    DaprException exception = assertThrows(DaprException.class,
+        () -> limiter.apply("invoke", Mono.just("second")).block());
+    assertEquals("RESOURCE_EXHAUSTED", exception.getErrorCode());
+    assertInstanceOf(CallNotPermittedException.class, exception.getCause());
+
+    pending.tryEmitValue("first");
+    assertEquals("third", limiter.apply("invoke", Mono.just("third")).block());
+  }
+
+  @Test
+  public void cancelledCallsDoNotAdaptLimit() {
+    AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, null, null);
+    List<Disposable> calls = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      calls.add(limiter.apply("GetState", Mono.never()).subscribe());
+    }
+    assertFalse(limiter.tryAcquire("GetState"));
+
+    calls.forEach(Disposable::dispose);
+
+    // Every cancelled call gave back its permit without growing the limit, though the limit was fully in use.
+    assertEquals(20, limiter.getCurrentLimit("GetState"));
+    for (int i = 0; i < 20; i++) {
+      assertTrue(limiter.tryAcquire("GetState"));
+    }
+
+    limiter.onComplete("GetState", Status.CANCELLED);
+    assertEquals(20, limiter.getCurrentLimit("GetState"));
+    assertTrue(limiter.tryAcquire("GetState"));
+    assertFalse(limiter.tryAcquire("GetState"));
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.resiliency;
+
+import io.dapr.internal.resiliency.BulkheadPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkheadPolicyTest {
+
+  @Test
+  public void limitsConcurrentCallsPerApi() {
+    BulkheadPolicy policy = new BulkheadPolicy(1);
+
+    assertTrue(policy.tryAcquire("GetState"));
+    assertFalse(policy.tryAcquire("GetState"));
+    assertTrue(policy.tryAcquire("SaveState"));
+
+    policy.release("GetState");
+    assertTrue(policy.tryAcquire("GetState"));
+  }
+}
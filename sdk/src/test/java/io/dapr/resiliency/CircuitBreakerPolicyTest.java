@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+
+package io.dapr.resiliency;
+
+import io.dapr.internal.resiliency.CircuitBreakerPolicy;
+import io.grpc.Status;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static io.dapr.internal.resiliency.CircuitBreakerPolicy.NOT_PERMITTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class CircuitBreakerPolicyTest {
+
+  private static final String API = "GetState";
+
+  @Test
+  public void opensOnceFailureRateIsReached() {
+    CircuitBreakerPolicy policy = new CircuitBreakerPolicy(50, 4, Duration.ofMinutes(1), null);
+
+    complete(policy, Status.OK);
+    complete(policy, Status.UNAVAILABLE);
+    complete(policy, Status.OK);
+    long permit = acquire(policy, API);
+    policy.onComplete(API, permit, Status.DEADLINE_EXCEEDED, 0);
+
+    assertEquals(NOT_PERMITTED, policy.tryAcquire(API));
+    acquire(policy, "SaveState");
+  }
+
+  @Test
+  public void businessErrorsDoNotOpen() {
+    CircuitBreakerPolicy policy = new CircuitBreakerPolicy(50, 2, Duration.ofMinutes(1), null);
+
+    complete(policy, Status.NOT_FOUND);
+    complete(policy, Status.INVALID_ARGUMENT);
+
+    acquire(policy, API);
+  }
+
+  @Test
+  public void slowCallsCountAsFailures() {
+    CircuitBreakerPolicy policy = new CircuitBreakerPolicy(100, 1, Duration.ofMinutes(1), Duration.ofMillis(10));
+
+    long permit = acquire(policy, API);
+    policy.onComplete(API, permit, Status.OK, Duration.ofSeconds(1).toNanos());
+
+    assertEquals(NOT_PERMITTED, policy.tryAcquire(API));
+  }
+
+  @Test
+  public void probeClosesBreakerAfterOpenDuration() throws InterruptedException {
+    CircuitBreakerPolicy policy = new CircuitBreakerPolicy(100, 1, Duration.ofMillis(10), null);
+    complete(policy, Status.UNAVAILABLE);
+    assertEquals(NOT_PERMITTED, policy.tryAcquire(API));
+
+    Thread.sleep(20);
+
+    long probe = acquire(policy, API);
+    // Only one probe at a time.
+    assertEquals(NOT_PERMITTED, policy.tryAcquire(API));
+    policy.onComplete(API, probe, Status.OK, 0);
+    acquire(policy, API);
+  }
+
+  @Test
+  public void callsAdmittedBeforeOpeningDoNotDecideTheProbe() throws InterruptedException {
+    CircuitBreakerPolicy policy = new CircuitBreakerPolicy(100, 1, Duration.ofMillis(10), null);
+    long slowCall = acquire(policy, API);
+    complete(policy, Status.UNAVAILABLE);
+    assertEquals(NOT_PERMITTED, policy.tryAcquire(API));
+
+    Thread.sleep(20);
+
+    long probe = acquire(policy, API);
+    // The slow call admitted while closed completes first, it neither closes the breaker nor frees the probe slot.
+    policy.onComplete(API, slowCall, Status.OK, 0);
+    assertEquals(NOT_PERMITTED, policy.tryAcquire(API));
+
+    policy.onComplete(API, probe, Status.UNAVAILABLE, 0);
+    assertEquals(NOT_PERMITTED, policy.tryAcquire(API));
+  }
+
+  private static long acquire(CircuitBreakerPolicy policy, String api) {
+    long permit = policy.tryAcquire(api);
+    assertNotEquals(NOT_PERMITTED, permit);
+    return permit;
+  }
+
+  private static void complete(CircuitBreakerPolicy policy, Status status) {
+    policy.onComplete(API, acquire(policy, API), status, 0);
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.resiliency;
+
+import io.dapr.internal.resiliency.HedgingPolicy;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HedgingPolicyTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  @Test
+  public void slowCallIsHedgedAndCancelled() {
+    HedgingPolicy policy = new HedgingPolicy(Duration.ofMillis(50), null, 1.0);
+    AtomicInteger calls = new AtomicInteger();
+    AtomicBoolean cancelled = new AtomicBoolean();
+    Mono<String> call = Mono.defer(() -> calls.incrementAndGet() == 1
+        ? Mono.<String>never().doOnCancel(() -> cancelled.set(true))
+        : Mono.just("hedged"));
+
+    assertEquals("hedged", policy.apply("GetState", call).block(TIMEOUT));
+    assertEquals(2, calls.get());
+    assertTrue(cancelled.get());
+  }
+
+  @Test
+  public void fastCallIsNotHedged() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(Duration.ofMillis(50), null, 1.0);
+    AtomicInteger calls = new AtomicInteger();
+    Mono<String> call = Mono.fromCallable(() -> "call-" + calls.incrementAndGet());
+
+    assertEquals("call-1", policy.apply("GetState", call).block(TIMEOUT));
+    Thread.sleep(100);
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void failedHedgeLeavesAnswerToFirstCall() {
+    HedgingPolicy policy = new HedgingPolicy(Duration.ofMillis(10), null, 1.0);
+    AtomicInteger calls = new AtomicInteger();
+    Mono<String> call = Mono.defer(() -> calls.incrementAndGet() == 1
+        ? Mono.just("first").delayElement(Duration.ofMillis(100))
+        : Mono.error(new IllegalStateException()));
+
+    assertEquals("first", policy.apply("GetState", call).block(TIMEOUT));
+  }
+
+  @Test
+  public void exhaustedBudgetStopsHedging() {
+    HedgingPolicy policy = new HedgingPolicy(Duration.ofMillis(1), null, 0);
+    AtomicInteger calls = new AtomicInteger();
+    Mono<String> call = Mono.defer(() -> {
+      calls.incrementAndGet();
+      return Mono.just("ok").delayElement(Duration.ofMillis(50));
+    });
+
+    for (int i = 0; i < 15; i++) {
+      policy.apply("GetState", call).block(TIMEOUT);
+    }
+
+    // The reserve of 10 hedged calls is never refilled with a zero ratio.
+    assertEquals(25, calls.get());
+  }
+
+  @Test
+  public void delayIsLearnedFromLatencies() {
+    HedgingPolicy policy = new HedgingPolicy(null, 50.0, 1.0);
+    AtomicInteger calls = new AtomicInteger();
+
+    for (int i = 0; i < 20; i++) {
+      assertEquals("fast", policy.apply("GetState", Mono.fromCallable(() -> {
+        calls.incrementAndGet();
+        return "fast";
+      })).block(TIMEOUT));
+    }
+    assertEquals(20, calls.get());
+
+    AtomicInteger slowCalls = new AtomicInteger();
+    Mono<String> slow = Mono.defer(() -> slowCalls.incrementAndGet() == 1
+        ? Mono.<String>never()
+        : Mono.just("hedged"));
+
+    assertEquals("hedged", policy.apply("GetState", slow).block(TIMEOUT));
+    // Other APIs learn their own delay.
+    assertEquals("fast", policy.apply("GetSecret", Mono.just("fast")).block(TIMEOUT));
+  }
+
+  @Test
+  public void learnedDelayDoesNotShrinkWhenHedgesWin() throws Exception {
+    HedgingPolicy policy = new HedgingPolicy(Duration.ofMillis(30), 50.0, 1.0);
+    // The first call is always slow, while the hedged one answers at once.
+    for (int i = 0; i < 20; i++) {
+      AtomicInteger calls = new AtomicInteger();
+      Mono<String> call = Mono.defer(() -> calls.incrementAndGet() == 1
+          ? Mono.just("first").delayElement(Duration.ofMillis(200))
+          : Mono.just("hedged"));
+      assertEquals("hedged", policy.apply("GetState", call).block(TIMEOUT));
+    }
+
+    // The first calls were still waiting after the fixed delay, so a faster call is not hedged.
+    AtomicInteger calls = new AtomicInteger();
+    Mono<String> call = Mono.fromCallable(() -> "call-" + calls.incrementAndGet())
+        .delayElement(Duration.ofMillis(10));
+    assertEquals("call-1", policy.apply("GetState", call).block(TIMEOUT));
+    Thread.sleep(50);
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  public void needsDelayOrPercentile() {
+    assertThrows(IllegalArgumentException.class, () -> new HedgingPolicy(null, null, 0.1));
+    assertThrows(IllegalArgumentException.class, () -> new HedgingPolicy(null, 100.5, 0.1));
+  }
+}
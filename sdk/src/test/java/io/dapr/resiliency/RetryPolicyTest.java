@@ -13,6 +13,10 @@ limitations under the License.
 
 package io.dapr.resiliency;
 
+import io.dapr.client.metrics.DaprMetrics;
+import io.dapr.exceptions.DaprException;
+import io.dapr.internal.resiliency.CallNotPermittedException;
+import io.dapr.internal.resiliency.RetryBudget;
 import io.dapr.internal.resiliency.RetryPolicy;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -21,6 +25,10 @@ import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.net.ConnectException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -116,6 +124,78 @@ public class RetryPolicyTest {
     assertEquals(1, callCounter.get());
   }
 
+  @Test
+  public void notPermittedCallIsNotRetried() {
+    AtomicInteger callCounter = new AtomicInteger();
+    RuntimeException exception = Status.UNAVAILABLE
+        .withCause(new CallNotPermittedException("Circuit breaker is open"))
+        .asRuntimeException();
+    RetryPolicy policy = new RetryPolicy(3);
+    Mono<String> action = createActionErrorAndReturn(callCounter, Integer.MAX_VALUE, exception);
+
+    StepVerifier
+            .create(policy.apply(action))
+            .expectError(StatusRuntimeException.class)
+            .verify();
+
+    assertEquals(1, callCounter.get());
+  }
+
+  @Test
+  public void exhaustedRetryBudgetStopsRetries() {
+    AtomicInteger callCounter = new AtomicInteger();
+    RetryPolicy policy = new RetryPolicy(3, DaprMetrics.NOOP, new RetryBudget(0, 1));
+    Mono<String> action = createActionErrorAndReturn(callCounter, Integer.MAX_VALUE, RETRYABLE_EXCEPTION);
+
+    StepVerifier
+            .create(policy.apply(action))
+            .expectError(StatusRuntimeException.class)
+            .verify();
+
+    // One retry from the reserve, then the budget is empty.
+    assertEquals(2, callCounter.get());
+  }
+
+  @Test
+  public void timeoutsAndUnavailableAreOnlyRetriedWhenIdempotent() {
+    RuntimeException timeout = Exceptions.propagate(new TimeoutException());
+    RuntimeException unavailable =
+        new DaprException("ERR_DIRECT_INVOKE", "Unavailable", (List<Map<String, Object>>) null, new byte[0], 503);
+    RetryPolicy policy = new RetryPolicy(1);
+
+    for (RuntimeException exception : new RuntimeException[] {timeout, unavailable}) {
+      AtomicInteger idempotentCounter = new AtomicInteger();
+      StepVerifier
+              .create(policy.apply(createActionErrorAndReturn(idempotentCounter, 1, exception), true))
+              .expectNext(SUCCESS_MESSAGE)
+              .expectComplete()
+              .verify();
+      assertEquals(2, idempotentCounter.get());
+
+      AtomicInteger nonIdempotentCounter = new AtomicInteger();
+      StepVerifier
+              .create(policy.apply(createActionErrorAndReturn(nonIdempotentCounter, 1, exception), false))
+              .expectError()
+              .verify();
+      assertEquals(1, nonIdempotentCounter.get());
+    }
+  }
+
+  @Test
+  public void connectFailuresAreRetriedWhenNotIdempotent() {
+    AtomicInteger callCounter = new AtomicInteger();
+    RetryPolicy policy = new RetryPolicy(1);
+    Mono<String> action = createActionErrorAndReturn(
+        callCounter, 1, Exceptions.propagate(new ConnectException("Connection refused")));
+
+    StepVerifier
+            .create(policy.apply(action, false))
+            .expectNext(SUCCESS_MESSAGE)
+            .expectComplete()
+            .verify();
+    assertEquals(2, callCounter.get());
+  }
+
   private static Mono<String> createActionErrorAndReturn(
       AtomicInteger callCounter,
       int firstErrors,
@@ -19,6 +19,7 @@ import io.dapr.spring.boot.autoconfigure.pubsub.DaprPubSubProperties;
 import io.dapr.spring.boot.autoconfigure.statestore.DaprStateStoreProperties;
 import io.dapr.spring.data.DaprKeyValueAdapterResolver;
 import io.dapr.spring.data.DaprKeyValueTemplate;
+import io.dapr.spring.data.DaprMetadataCache;
 import io.dapr.spring.data.KeyValueAdapterResolver;
 import io.dapr.spring.messaging.DaprMessagingTemplate;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -37,17 +38,19 @@ public class ProducerAppConfiguration {
   /**
    * Produce a KeyValueAdapterResolver for Dapr.
    * @param daprClient dapr client
+   * @param metadataCache shared cache of the sidecar metadata
    * @param mapper object mapper
    * @param daprStatestoreProperties properties to configure state store
    * @return KeyValueAdapterResolver
    */
   @Bean
-  public KeyValueAdapterResolver keyValueAdapterResolver(DaprClient daprClient, ObjectMapper mapper,
+  public KeyValueAdapterResolver keyValueAdapterResolver(DaprClient daprClient, DaprMetadataCache metadataCache,
+                                                         ObjectMapper mapper,
                                                          DaprStateStoreProperties daprStatestoreProperties) {
     String storeName = daprStatestoreProperties.getName();
     String bindingName = daprStatestoreProperties.getBinding();
 
-    return new DaprKeyValueAdapterResolver(daprClient, mapper, storeName, bindingName);
+    return new DaprKeyValueAdapterResolver(daprClient, metadataCache, mapper, storeName, bindingName);
   }
 
   @Bean